@@ -7,6 +7,13 @@ import java.util.stream.IntStream;
 
 /**
  * Ring buffer for floats that can constantly update values in a fixed sized array.
+ * <p>
+ * The buffer keeps statistics of its window, the most recently written values up to the capacity,
+ * independent of the read head. Running sums of the values, their squares and their absolute
+ * values are updated as values are written and overwritten, and are recomputed once per pass over
+ * the array to stop rounding errors from accumulating. Minimum and maximum are tracked with
+ * monotonic queues of positions. Writing is amortised O(1), and the mean, variance, minimum and
+ * maximum are read in O(1) without allocating.
  *
  * @author Mate Stodulka
  */
@@ -19,6 +26,17 @@ public class CircularFloatBuffer {
     private final float[] data;
     private volatile int writeSequence, readSequence;
 
+    // Running sums over the window
+    private double sum;
+    private double sumSquares;
+    private double sumAbs;
+    // Monotonic queues of write sequences, values decreasing for the maximum, increasing for the
+    // minimum, stored as ring buffers
+    private final int[] maxQueue;
+    private int maxHead, maxSize;
+    private final int[] minQueue;
+    private int minHead, minSize;
+
     /**
      * Default constructor for a Circular Float Buffer with a given capacity.
      *
@@ -26,9 +44,11 @@ public class CircularFloatBuffer {
      */
     public CircularFloatBuffer(int capacity) {
         this.capacity = (capacity < 1) ? DEFAULT_CAPACITY : capacity;
-        this.data = new float[capacity];
+        this.data = new float[this.capacity];
         this.readSequence = 0;
         this.writeSequence = -1;
+        this.maxQueue = new int[this.capacity];
+        this.minQueue = new int[this.capacity];
     }
 
     /**
@@ -40,8 +60,26 @@ public class CircularFloatBuffer {
      */
     public boolean putNewest(float element) {
         int nextWriteSeq = writeSequence + 1;
-        data[nextWriteSeq % capacity] = element;
+        int index = nextWriteSeq % capacity;
+        if(nextWriteSeq >= capacity) {
+            // Remove the overwritten value from the window
+            float oldest = data[index];
+            sum -= oldest;
+            sumSquares -= (double) oldest * oldest;
+            sumAbs -= Math.abs(oldest);
+        }
+        data[index] = element;
         writeSequence++;
+        if(index == capacity - 1) {
+            // Full pass over the array, recompute the sums to discard rounding errors
+            recomputeSums();
+        }
+        else {
+            sum += element;
+            sumSquares += (double) element * element;
+            sumAbs += Math.abs(element);
+        }
+        updateExtremes(nextWriteSeq, element);
         return true;
     }
 
@@ -98,6 +136,128 @@ public class CircularFloatBuffer {
         return getCurrentSize() >= capacity;
     }
 
+    //region Window statistics
+    /**
+     * Get the number of values in the statistics window, the values written so far up to the
+     * capacity.
+     *
+     * @return  number of values in the window.
+     */
+    public int getWindowSize() {
+        return Math.min(writeSequence + 1, capacity);
+    }
+
+    /**
+     * Get the sum of the values in the window.
+     *
+     * @return  sum of the values, 0 if nothing was written.
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Get the mean of the values in the window.
+     *
+     * @return  mean of the values, NaN if nothing was written.
+     */
+    public double getMean() {
+        int size = getWindowSize();
+        return size == 0 ? Double.NaN : sum / size;
+    }
+
+    /**
+     * Get the mean of the absolute values in the window.
+     *
+     * @return  mean of the absolute values, NaN if nothing was written.
+     */
+    public double getAbsMean() {
+        int size = getWindowSize();
+        return size == 0 ? Double.NaN : sumAbs / size;
+    }
+
+    /**
+     * Get the population variance of the values in the window.
+     *
+     * @return  variance of the values, NaN if nothing was written.
+     */
+    public double getVariance() {
+        int size = getWindowSize();
+        if(size == 0) return Double.NaN;
+        double mean = sum / size;
+        // Rounding can make the difference slightly negative for constant values
+        return Math.max(sumSquares / size - mean * mean, 0);
+    }
+
+    /**
+     * Get the smallest value in the window.
+     *
+     * @return  minimum value, NaN if nothing was written.
+     */
+    public float getMin() {
+        return minSize == 0 ? Float.NaN : data[minQueue[minHead] % capacity];
+    }
+
+    /**
+     * Get the largest value in the window.
+     *
+     * @return  maximum value, NaN if nothing was written.
+     */
+    public float getMax() {
+        return maxSize == 0 ? Float.NaN : data[maxQueue[maxHead] % capacity];
+    }
+
+    /**
+     * Recompute the running sums from the values in the window.
+     */
+    private void recomputeSums() {
+        int size = getWindowSize();
+        double newSum = 0, newSumSquares = 0, newSumAbs = 0;
+        for (int i = 0; i < size; i++) {
+            float value = data[i];
+            newSum += value;
+            newSumSquares += (double) value * value;
+            newSumAbs += Math.abs(value);
+        }
+        this.sum = newSum;
+        this.sumSquares = newSumSquares;
+        this.sumAbs = newSumAbs;
+    }
+
+    /**
+     * Add a newly written value to the minimum and maximum queues, dropping positions which left
+     * the window or can no longer be an extreme.
+     *
+     * @param sequence  write sequence of the value.
+     * @param element   value written.
+     */
+    private void updateExtremes(int sequence, float element) {
+        int oldestInWindow = sequence - capacity + 1;
+        // Maximum queue, values decreasing from head to tail
+        if(maxSize > 0 && maxQueue[maxHead] < oldestInWindow) {
+            maxHead = (maxHead + 1) % capacity;
+            maxSize--;
+        }
+        while (maxSize > 0
+                && data[maxQueue[(maxHead + maxSize - 1) % capacity] % capacity] <= element) {
+            maxSize--;
+        }
+        maxQueue[(maxHead + maxSize) % capacity] = sequence;
+        maxSize++;
+        // Minimum queue, values increasing from head to tail
+        if(minSize > 0 && minQueue[minHead] < oldestInWindow) {
+            minHead = (minHead + 1) % capacity;
+            minSize--;
+        }
+        while (minSize > 0
+                && data[minQueue[(minHead + minSize - 1) % capacity] % capacity] >= element) {
+            minSize--;
+        }
+        minQueue[(minHead + minSize) % capacity] = sequence;
+        minSize++;
+    }
+    //endregion
+
     /**
      * Get a copy of the buffer as a list starting with the oldest element.
      * If the list is not full return null.
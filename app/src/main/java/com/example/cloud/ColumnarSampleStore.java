@@ -0,0 +1,127 @@
+package com.example.cloud;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays store for high rate sensor samples.
+ * <p>
+ * Instead of allocating a protobuf builder for every sample, the timestamps are kept in a growable
+ * long array and every value in a growable float array of its own column. A sample costs 8 bytes
+ * for its timestamp plus 4 bytes per column, and conversion into protobuf messages only happens
+ * when the samples are serialised.
+ * <p>
+ * Samples are appended row by row with {@link ColumnarSampleStore#appendRow(long)} followed by
+ * {@link ColumnarSampleStore#set(int, int, float)} for each column. Once the rows have been
+ * serialised, {@link ColumnarSampleStore#clear()} empties the store while keeping the allocated
+ * arrays, so the capacity does not grow over the course of a recording. The class is not thread
+ * safe.
+ *
+ * @see TrajectoryWriter using the store for IMU and magnetometer data.
+ */
+public class ColumnarSampleStore {
+    // Default capacity for the arrays in case initial capacity is invalid
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    // Number of value columns
+    private final int columnCount;
+    // Timestamps and value columns, indexed by row
+    private long[] timestamps;
+    private final float[][] columns;
+    // Number of rows in the store
+    private int size;
+
+    /**
+     * Public default constructor of the ColumnarSampleStore.
+     *
+     * @param columnCount       number of float values per sample.
+     * @param initialCapacity   number of rows allocated initially, grown when necessary.
+     */
+    public ColumnarSampleStore(int columnCount, int initialCapacity) {
+        int capacity = (initialCapacity < 1) ? DEFAULT_CAPACITY : initialCapacity;
+        this.columnCount = columnCount;
+        this.timestamps = new long[capacity];
+        this.columns = new float[columnCount][capacity];
+        this.size = 0;
+    }
+
+    //region Writing
+    /**
+     * Append a new row with the given timestamp. All values of the row are zero until set.
+     *
+     * @param timestamp timestamp of the sample.
+     * @return          index of the new row, to be used with {@link ColumnarSampleStore#set}.
+     */
+    public int appendRow(long timestamp) {
+        if(size == timestamps.length) {
+            grow();
+        }
+        int row = size++;
+        timestamps[row] = timestamp;
+        for (int c = 0; c < columnCount; c++) {
+            columns[c][row] = 0f;
+        }
+        return row;
+    }
+
+    /**
+     * Set a value of a row.
+     *
+     * @param row       index of the row returned by {@link ColumnarSampleStore#appendRow(long)}.
+     * @param column    index of the column.
+     * @param value     float value to store.
+     */
+    public void set(int row, int column, float value) {
+        columns[column][row] = value;
+    }
+
+    /**
+     * Doubles the capacity of all arrays.
+     */
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = Arrays.copyOf(columns[c], capacity);
+        }
+    }
+
+    /**
+     * Removes all rows from the store.
+     */
+    public void clear() {
+        size = 0;
+    }
+    //endregion
+
+    //region Reading
+    /**
+     * Get the number of rows currently in the store.
+     *
+     * @return  int number of rows.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the timestamp of a row.
+     *
+     * @param row   index of the row.
+     * @return      timestamp of the sample.
+     */
+    public long getTimestamp(int row) {
+        return timestamps[row];
+    }
+
+    /**
+     * Get a value of a row.
+     *
+     * @param row       index of the row.
+     * @param column    index of the column.
+     * @return          float value stored.
+     */
+    public float get(int row, int column) {
+        return columns[column][row];
+    }
+    //endregion
+}
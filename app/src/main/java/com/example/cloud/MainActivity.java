@@ -31,6 +31,8 @@ import androidx.preference.PreferenceManager;
 import com.example.cloud.sensors.Observer;
 import com.example.cloud.sensors.SensorFusion;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The Main Activity of the application, handling setup, permissions and starting all other fragments
  * and processes.
@@ -62,6 +64,8 @@ public class MainActivity extends AppCompatActivity implements Observer {
     private static final int REQUEST_ID_LOCATION_PERMISSION = 98;
     private static final int REQUEST_ID_READ_WRITE_PERMISSION = 97;
     private static final int REQUEST_ID_ACTIVITY_PERMISSION = 96;
+    // Set once recovery of interrupted recordings has started in this process
+    private static boolean recoveryStarted;
     //endregion
 
     //region Instance variables
@@ -127,6 +131,12 @@ public class MainActivity extends AppCompatActivity implements Observer {
         }
         // Handler for global toasts and popups from other classes
         this.httpResponseHandler = new Handler();
+
+        // Rebuild recordings interrupted by the app being killed, once per process
+        if(!recoveryStarted) {
+            recoveryStarted = true;
+            recoverRecordings();
+        }
     }
 
     /**
@@ -477,6 +487,29 @@ public class MainActivity extends AppCompatActivity implements Observer {
         alertDialog.show();
     }
 
+    /**
+     * Turns the recordings left behind by an interrupted session into trajectory files on a
+     * background thread, and adds them and any other trajectory files missing from the catalog to
+     * the {@link TrajectoryCatalog}. The recovered files appear in the list of local trajectories,
+     * from where they can be uploaded, and the user is notified with a toast. Only runs once per
+     * process, as the activity is recreated on every configuration change while segment files of
+     * the current process belong to active writers.
+     *
+     * @see TrajectoryWriter#recover(java.io.File) rebuilding the trajectories.
+     * @see TrajectoryCatalog#reconcile(java.io.File) summarising files missing from the catalog.
+     */
+    private void recoverRecordings() {
+        new Thread(() -> {
+            int recovered = TrajectoryWriter.recover(getFilesDir()).size();
+            TrajectoryCatalog.getInstance(this).reconcile(getFilesDir());
+            if(recovered > 0) {
+                httpResponseHandler.post(() -> Toast.makeText(MainActivity.this,
+                        "Recovered " + recovered + " interrupted recording(s)",
+                        Toast.LENGTH_LONG).show());
+            }
+        }, "TrajectoryRecovery").start();
+    }
+
     /**
      * Prepares global resources when all permissions are granted.
      * Resets the permissions tracking boolean in shared preferences, and initialises the
@@ -549,10 +582,16 @@ public class MainActivity extends AppCompatActivity implements Observer {
      */
     @Override
     public void update(Object[] objList) {
-        assert objList[0] instanceof Boolean;
-        if((Boolean) objList[0]) {
+        assert objList[0] instanceof Integer;
+        int result = (Integer) objList[0];
+        if(result == UploadQueue.UPLOADED) {
             this.httpResponseHandler.post(displayToastTaskSuccess);
         }
+        else if(result == UploadQueue.RETRYING) {
+            long minutes = Math.max(1, TimeUnit.MILLISECONDS.toMinutes((Long) objList[1]));
+            this.httpResponseHandler.post(() -> Toast.makeText(MainActivity.this,
+                    "Upload failed, retrying in " + minutes + " min", Toast.LENGTH_SHORT).show());
+        }
         else {
             this.httpResponseHandler.post(displayToastTaskFailure);
         }
@@ -560,7 +599,7 @@ public class MainActivity extends AppCompatActivity implements Observer {
 
     /**
      * Task that displays positive toast on the main UI thread.
-     * Called when {@link ServerCommunications} successfully uploads a trajectory.
+     * Called when the {@link UploadQueue} successfully uploads a trajectory.
      */
     private final Runnable displayToastTaskSuccess = new Runnable() {
         @Override
@@ -571,7 +610,7 @@ public class MainActivity extends AppCompatActivity implements Observer {
 
     /**
      * Task that displays negative toast on the main UI thread.
-     * Called when {@link ServerCommunications} fails to upload a trajectory.
+     * Called when the {@link UploadQueue} fails to upload a trajectory.
      */
     private final Runnable displayToastTaskFailure = new Runnable() {
         @Override
@@ -0,0 +1,392 @@
+package com.example.cloud;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encoder and decoder for the compact Motion_Block representation of IMU data in traj.proto.
+ * <p>
+ * A block holds consecutive motion samples as packed zigzag varints: timestamps as differences in
+ * milliseconds, and every channel quantised to a multiple of its sensor's resolution and stored as
+ * the difference to the previous sample. Consecutive 100Hz samples differ by few resolution steps,
+ * so most values take one or two bytes instead of a tagged 4 byte float. Decoding reproduces every
+ * value to within half a resolution step, which is below what the sensor can distinguish.
+ * <p>
+ * Blocks are written directly with a {@link CodedOutputStream} from the
+ * {@link ColumnarSampleStore} of the {@link TrajectoryWriter}, without building a
+ * {@link Traj.Motion_Block} per chunk. {@link MotionBlockCodec#parseTrajectory(InputStream)}
+ * parses a trajectory and expands its blocks back into {@link Traj.Motion_Sample}s, so the
+ * processing code only has to handle imu_data.
+ * <p>
+ * The server does not decode Motion_Blocks yet, so the app does not offer compact encoding, and
+ * the writer only produces blocks when created with it explicitly.
+ *
+ * @see TrajectoryWriter writing blocks when compact IMU encoding is enabled.
+ */
+public final class MotionBlockCodec {
+
+    // Field number of imu_blocks in Trajectory
+    public static final int IMU_BLOCKS_FIELD = 18;
+    // Field numbers of Motion_Block
+    private static final int START_TIMESTAMP_FIELD = 1;
+    private static final int TIMESTAMP_DELTA_FIELD = 2;
+    private static final int ACC_RESOLUTION_FIELD = 3;
+    private static final int GYR_RESOLUTION_FIELD = 4;
+    private static final int ROTATION_VECTOR_RESOLUTION_FIELD = 5;
+    // Field number of the first channel, channels follow the column order of the IMU store
+    private static final int FIRST_CHANNEL_FIELD = 6;
+    private static final int CHANNELS = 11;
+
+    // Resolution used if the sensor does not report one
+    private static final float DEFAULT_RESOLUTION = 1e-6f;
+    // Largest quantised magnitude, so that differences always fit into an int
+    private static final float MAX_QUANTISED = 1 << 29;
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private MotionBlockCodec() {}
+
+    //region Encoding
+    /**
+     * Quantisation steps of a block, one per group of channels.
+     */
+    public static final class Resolutions {
+        final float acc;
+        final float gyr;
+        final float rotationVector;
+
+        /**
+         * Creates the resolutions from the sensor information of a trajectory header. Missing or
+         * invalid resolutions are replaced by a conservative default.
+         *
+         * @param header    trajectory with the sensor information.
+         */
+        public Resolutions(Traj.Trajectory header) {
+            this(header.getAccelerometerInfo().getResolution(),
+                    header.getGyroscopeInfo().getResolution(),
+                    header.getRotationVectorInfo().getResolution());
+        }
+
+        Resolutions(float acc, float gyr, float rotationVector) {
+            this.acc = valid(acc);
+            this.gyr = valid(gyr);
+            this.rotationVector = valid(rotationVector);
+        }
+
+        private static float valid(float resolution) {
+            return (resolution > 0 && !Float.isInfinite(resolution)) ? resolution
+                    : DEFAULT_RESOLUTION;
+        }
+    }
+
+    /**
+     * Computes the size of an imu_blocks field, including its tag, holding the given rows.
+     *
+     * @param store         IMU store with the column layout of {@link TrajectoryWriter}.
+     * @param from          first row of the block.
+     * @param to            row after the last row of the block.
+     * @param resolutions   sensor resolutions.
+     * @return              size of the field in bytes.
+     */
+    public static int computeFieldSize(ColumnarSampleStore store, int from, int to,
+                                       Resolutions resolutions) {
+        int size = computeBlockSize(store, from, to, blockResolutions(store, from, to, resolutions));
+        return CodedOutputStream.computeTagSize(IMU_BLOCKS_FIELD)
+                + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    /**
+     * Writes the rows as a single imu_blocks field of a Trajectory message.
+     *
+     * @param out           stream positioned at a field boundary of a Trajectory message.
+     * @param store         IMU store with the column layout of {@link TrajectoryWriter}.
+     * @param from          first row of the block.
+     * @param to            row after the last row of the block.
+     * @param resolutions   sensor resolutions.
+     * @throws IOException  if writing to the stream fails.
+     */
+    public static void writeField(CodedOutputStream out, ColumnarSampleStore store, int from,
+                                  int to, Resolutions resolutions) throws IOException {
+        float[] steps = blockResolutions(store, from, to, resolutions);
+        out.writeTag(IMU_BLOCKS_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(computeBlockSize(store, from, to, steps));
+
+        long start = store.getTimestamp(from);
+        out.writeInt64(START_TIMESTAMP_FIELD, start);
+        out.writeTag(TIMESTAMP_DELTA_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(timestampDataSize(store, from, to));
+        long previous = start;
+        for (int row = from; row < to; row++) {
+            out.writeSInt32NoTag((int) (store.getTimestamp(row) - previous));
+            previous = store.getTimestamp(row);
+        }
+        out.writeFloat(ACC_RESOLUTION_FIELD, steps[TrajectoryWriter.ACC_X]);
+        out.writeFloat(GYR_RESOLUTION_FIELD, steps[TrajectoryWriter.GYR_X]);
+        out.writeFloat(ROTATION_VECTOR_RESOLUTION_FIELD, steps[TrajectoryWriter.ROTATION_VECTOR_X]);
+
+        for (int column = 0; column < CHANNELS; column++) {
+            out.writeTag(FIRST_CHANNEL_FIELD + column, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(channelDataSize(store, from, to, column, steps[column]));
+            int previousValue = 0;
+            for (int row = from; row < to; row++) {
+                int value = quantise(store.get(row, column), steps[column]);
+                out.writeSInt32NoTag(value - previousValue);
+                previousValue = value;
+            }
+        }
+    }
+
+    /**
+     * Computes the size of the Motion_Block message without tag and length.
+     */
+    private static int computeBlockSize(ColumnarSampleStore store, int from, int to,
+                                        float[] steps) {
+        int size = CodedOutputStream.computeInt64Size(START_TIMESTAMP_FIELD, store.getTimestamp(from))
+                + packedSize(TIMESTAMP_DELTA_FIELD, timestampDataSize(store, from, to))
+                + CodedOutputStream.computeFloatSize(ACC_RESOLUTION_FIELD, 0f)
+                + CodedOutputStream.computeFloatSize(GYR_RESOLUTION_FIELD, 0f)
+                + CodedOutputStream.computeFloatSize(ROTATION_VECTOR_RESOLUTION_FIELD, 0f);
+        for (int column = 0; column < CHANNELS; column++) {
+            size += packedSize(FIRST_CHANNEL_FIELD + column,
+                    channelDataSize(store, from, to, column, steps[column]));
+        }
+        return size;
+    }
+
+    private static int packedSize(int field, int dataSize) {
+        return CodedOutputStream.computeTagSize(field)
+                + CodedOutputStream.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+
+    private static int timestampDataSize(ColumnarSampleStore store, int from, int to) {
+        int size = 0;
+        long previous = store.getTimestamp(from);
+        for (int row = from; row < to; row++) {
+            size += CodedOutputStream.computeSInt32SizeNoTag(
+                    (int) (store.getTimestamp(row) - previous));
+            previous = store.getTimestamp(row);
+        }
+        return size;
+    }
+
+    private static int channelDataSize(ColumnarSampleStore store, int from, int to, int column,
+                                       float step) {
+        int size = 0;
+        int previous = 0;
+        for (int row = from; row < to; row++) {
+            int value = quantise(store.get(row, column), step);
+            size += CodedOutputStream.computeSInt32SizeNoTag(value - previous);
+            previous = value;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the quantisation step of every column for a block. The sensor resolution is used
+     * unless a value of the block is so large that its quantised differences could overflow, in
+     * which case the step is coarsened for the block. Values that are not finite are stored as
+     * zero and do not affect the step. Step counts are not quantised.
+     */
+    private static float[] blockResolutions(ColumnarSampleStore store, int from, int to,
+                                            Resolutions resolutions) {
+        float[] steps = new float[CHANNELS];
+        float acc = coarsen(store, from, to, TrajectoryWriter.ACC_X, TrajectoryWriter.ACC_Z,
+                resolutions.acc);
+        float gyr = coarsen(store, from, to, TrajectoryWriter.GYR_X, TrajectoryWriter.GYR_Z,
+                resolutions.gyr);
+        float rotationVector = coarsen(store, from, to, TrajectoryWriter.ROTATION_VECTOR_X,
+                TrajectoryWriter.ROTATION_VECTOR_W, resolutions.rotationVector);
+        for (int column = 0; column < CHANNELS; column++) {
+            if(column <= TrajectoryWriter.ACC_Z) steps[column] = acc;
+            else if(column <= TrajectoryWriter.GYR_Z) steps[column] = gyr;
+            else if(column <= TrajectoryWriter.ROTATION_VECTOR_W) steps[column] = rotationVector;
+            else steps[column] = 1f;
+        }
+        return steps;
+    }
+
+    private static float coarsen(ColumnarSampleStore store, int from, int to, int firstColumn,
+                                 int lastColumn, float resolution) {
+        float max = 0;
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = from; row < to; row++) {
+                float magnitude = Math.abs(store.get(row, column));
+                if(magnitude > max && !Float.isInfinite(magnitude)) max = magnitude;
+            }
+        }
+        return Math.max(resolution, max / MAX_QUANTISED);
+    }
+
+    private static int quantise(float value, float step) {
+        if(Float.isNaN(value) || Float.isInfinite(value)) return 0;
+        return Math.round(value / step);
+    }
+    //endregion
+
+    //region Decoding
+    /**
+     * Parses a serialised Trajectory, expanding any imu_blocks into imu_data samples. Trajectories
+     * without blocks are parsed exactly like {@link Traj.Trajectory#parseFrom(InputStream)}.
+     * <p>
+     * The stream is decoded one field at a time: blocks are expanded as they are read, every other
+     * field is copied into a reused buffer and merged into the builder, so no more than a single
+     * field is held in serialised form at once.
+     *
+     * @param in    stream holding a serialised trajectory, read to the end but not closed.
+     * @return      the parsed trajectory.
+     * @throws IOException  if reading fails or the data is not a valid trajectory.
+     */
+    public static Traj.Trajectory parseTrajectory(InputStream in) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(in);
+        input.setSizeLimit(Integer.MAX_VALUE);
+        Traj.Trajectory.Builder trajectory = Traj.Trajectory.newBuilder();
+        // Samples of the blocks follow the imu_data samples
+        Traj.Trajectory.Builder blockSamples = Traj.Trajectory.newBuilder();
+        FieldBuffer field = new FieldBuffer();
+        CodedOutputStream fieldOutput = CodedOutputStream.newInstance(field);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if(fieldNumber(tag) == IMU_BLOCKS_FIELD
+                    && wireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                blockSamples.addAllImuData(readBlock(input));
+            }
+            else {
+                // Copy the tag and value of a single field and let the generated code parse it
+                field.reset();
+                input.skipField(tag, fieldOutput);
+                fieldOutput.flush();
+                field.mergeInto(trajectory);
+            }
+        }
+        return trajectory.addAllImuData(blockSamples.getImuDataList()).build();
+    }
+
+    /**
+     * Reads the value of an imu_blocks field whose tag has already been read, and decodes the
+     * samples of the block. Allows processing a trajectory one block at a time.
+     *
+     * @param input stream positioned after the tag of the field.
+     * @return      samples of the block in order.
+     * @throws IOException  if the block is malformed.
+     */
+    static List<Traj.Motion_Sample> readBlock(CodedInputStream input) throws IOException {
+        Traj.Trajectory.Builder samples = Traj.Trajectory.newBuilder();
+        int limit = input.pushLimit(input.readRawVarint32());
+        decodeBlock(input, samples);
+        input.popLimit(limit);
+        return samples.getImuDataList();
+    }
+
+    /**
+     * Decodes a single Motion_Block message, adding its samples to the builder.
+     */
+    private static void decodeBlock(CodedInputStream input, Traj.Trajectory.Builder samples)
+            throws IOException {
+        long start = 0;
+        float accResolution = 0, gyrResolution = 0, rotationVectorResolution = 0;
+        IntList timestampDeltas = new IntList();
+        IntList[] channels = new IntList[CHANNELS];
+        for (int column = 0; column < CHANNELS; column++) {
+            channels[column] = new IntList();
+        }
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int field = fieldNumber(tag);
+            if(field == START_TIMESTAMP_FIELD) start = input.readInt64();
+            else if(field == TIMESTAMP_DELTA_FIELD) readSInt32s(input, tag, timestampDeltas);
+            else if(field == ACC_RESOLUTION_FIELD) accResolution = input.readFloat();
+            else if(field == GYR_RESOLUTION_FIELD) gyrResolution = input.readFloat();
+            else if(field == ROTATION_VECTOR_RESOLUTION_FIELD) rotationVectorResolution = input.readFloat();
+            else if(field >= FIRST_CHANNEL_FIELD && field < FIRST_CHANNEL_FIELD + CHANNELS) {
+                readSInt32s(input, tag, channels[field - FIRST_CHANNEL_FIELD]);
+            }
+            else input.skipField(tag);
+        }
+
+        long timestamp = start;
+        int[] values = new int[CHANNELS];
+        for (int i = 0; i < timestampDeltas.size; i++) {
+            timestamp += timestampDeltas.values[i];
+            for (int column = 0; column < CHANNELS; column++) {
+                if(i < channels[column].size) values[column] += channels[column].values[i];
+            }
+            samples.addImuData(Traj.Motion_Sample.newBuilder()
+                    .setRelativeTimestamp(timestamp)
+                    .setAccX(values[TrajectoryWriter.ACC_X] * accResolution)
+                    .setAccY(values[TrajectoryWriter.ACC_Y] * accResolution)
+                    .setAccZ(values[TrajectoryWriter.ACC_Z] * accResolution)
+                    .setGyrX(values[TrajectoryWriter.GYR_X] * gyrResolution)
+                    .setGyrY(values[TrajectoryWriter.GYR_Y] * gyrResolution)
+                    .setGyrZ(values[TrajectoryWriter.GYR_Z] * gyrResolution)
+                    .setRotationVectorX(values[TrajectoryWriter.ROTATION_VECTOR_X] * rotationVectorResolution)
+                    .setRotationVectorY(values[TrajectoryWriter.ROTATION_VECTOR_Y] * rotationVectorResolution)
+                    .setRotationVectorZ(values[TrajectoryWriter.ROTATION_VECTOR_Z] * rotationVectorResolution)
+                    .setRotationVectorW(values[TrajectoryWriter.ROTATION_VECTOR_W] * rotationVectorResolution)
+                    .setStepCount(values[TrajectoryWriter.STEP_COUNT]));
+        }
+    }
+
+    /**
+     * Reads a repeated sint32 field in packed or unpacked form.
+     */
+    private static void readSInt32s(CodedInputStream input, int tag, IntList destination)
+            throws IOException {
+        if(wireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            int limit = input.pushLimit(input.readRawVarint32());
+            while (input.getBytesUntilLimit() > 0) {
+                destination.add(input.readSInt32());
+            }
+            input.popLimit(limit);
+        }
+        else {
+            destination.add(input.readSInt32());
+        }
+    }
+
+    static int fieldNumber(int tag) {
+        return tag >>> 3;
+    }
+
+    static int wireType(int tag) {
+        return tag & 7;
+    }
+
+    /**
+     * Byte buffer holding a single serialised field, merged without copying the bytes.
+     */
+    private static final class FieldBuffer extends ByteArrayOutputStream {
+        /**
+         * Merges the buffered field into a trajectory builder.
+         *
+         * @param trajectory    builder to merge into.
+         * @throws IOException  if the field is not valid.
+         */
+        void mergeInto(Traj.Trajectory.Builder trajectory) throws IOException {
+            trajectory.mergeFrom(buf, 0, count);
+        }
+    }
+
+    /**
+     * Minimal growable int array for decoding packed fields.
+     */
+    private static final class IntList {
+        int[] values = new int[TrajectoryWriter.CHUNK_SIZE];
+        int size = 0;
+
+        void add(int value) {
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,235 @@
+package com.example.cloud;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Locale;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+/**
+ * Collects timing metrics of the HTTP calls made by {@link ServerCommunications}.
+ * <p>
+ * An {@link EventListener} is created for every call through {@link NetworkMetrics#factory()}.
+ * It measures the duration of the DNS lookup, the TCP connection, the TLS handshake, sending the
+ * request body and the time to first byte, from the end of the request to the start of the
+ * response headers, as well as the duration of the whole call. Phases that are skipped because a
+ * pooled connection was reused are not recorded, so the number of recorded connections compared
+ * to the number of calls shows how well connections are reused.
+ * <p>
+ * The per-phase count, average and maximum are accumulated over the lifetime of the application
+ * and can be read from any thread.
+ *
+ * @see ServerCommunications#getNetworkMetrics() for accessing the shared instance.
+ */
+public class NetworkMetrics {
+
+    /**
+     * Measured phases of an HTTP call.
+     */
+    public enum Phase {
+        DNS,
+        CONNECT,
+        TLS,
+        REQUEST_BODY,
+        TTFB,
+        CALL
+    }
+
+    // Number of measurements, total and maximum duration in nanoseconds for every phase
+    private final long[] counts;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+    // Number of calls that failed
+    private long failedCalls;
+
+    /**
+     * Public default constructor of the NetworkMetrics, with all metrics set to zero.
+     */
+    public NetworkMetrics() {
+        int phases = Phase.values().length;
+        this.counts = new long[phases];
+        this.totalNanos = new long[phases];
+        this.maxNanos = new long[phases];
+        this.failedCalls = 0;
+    }
+
+    /**
+     * Get a factory creating an {@link EventListener} recording into this object for each call.
+     *
+     * @return  factory to be passed to the OkHttpClient builder.
+     */
+    public EventListener.Factory factory() {
+        return call -> new CallListener();
+    }
+
+    /**
+     * Add a measurement of a phase.
+     *
+     * @param phase     measured phase of the call.
+     * @param nanos     duration of the phase in nanoseconds.
+     */
+    private synchronized void record(Phase phase, long nanos) {
+        int i = phase.ordinal();
+        counts[i]++;
+        totalNanos[i] += nanos;
+        maxNanos[i] = Math.max(maxNanos[i], nanos);
+    }
+
+    /**
+     * Count a failed call.
+     */
+    private synchronized void recordFailure() {
+        failedCalls++;
+    }
+
+    /**
+     * Get the number of measurements of a phase.
+     *
+     * @param phase measured phase of the call.
+     * @return      number of calls in which the phase took place.
+     */
+    public synchronized long getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * Get the average duration of a phase.
+     *
+     * @param phase measured phase of the call.
+     * @return      average duration in milliseconds, 0 if it has not been measured.
+     */
+    public synchronized double getAverageMillis(Phase phase) {
+        int i = phase.ordinal();
+        return counts[i] == 0 ? 0 : totalNanos[i] / (counts[i] * 1e6);
+    }
+
+    /**
+     * Get the maximum duration of a phase.
+     *
+     * @param phase measured phase of the call.
+     * @return      maximum duration in milliseconds, 0 if it has not been measured.
+     */
+    public synchronized double getMaxMillis(Phase phase) {
+        return maxNanos[phase.ordinal()] / 1e6;
+    }
+
+    /**
+     * Get the number of calls that failed with an exception.
+     *
+     * @return  number of failed calls.
+     */
+    public synchronized long getFailedCalls() {
+        return failedCalls;
+    }
+
+    /**
+     * Get a human readable summary of all metrics, one line per phase.
+     *
+     * @return  String summary of the metrics.
+     */
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            builder.append(String.format(Locale.US, "%s: n=%d avg=%.1fms max=%.1fms%n",
+                    phase, getCount(phase), getAverageMillis(phase), getMaxMillis(phase)));
+        }
+        builder.append("failed calls: ").append(failedCalls);
+        return builder.toString();
+    }
+
+    /**
+     * Event listener measuring the phases of a single call. OkHttp delivers the events of one call
+     * sequentially, so no synchronisation is needed inside the listener.
+     */
+    private class CallListener extends EventListener {
+        private long callStart;
+        private long dnsStart;
+        private long connectStart;
+        private long tlsStart;
+        private long bodyStart;
+        // End of sending the request, start of waiting for the first byte
+        private long requestEnd;
+
+        @Override
+        public void callStart(@NonNull Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsStart(@NonNull Call call, @NonNull String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(@NonNull Call call, @NonNull String domainName,
+                           @NonNull List<InetAddress> inetAddressList) {
+            record(Phase.DNS, System.nanoTime() - dnsStart);
+        }
+
+        @Override
+        public void connectStart(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                                 @NonNull Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectStart(@NonNull Call call) {
+            tlsStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(@NonNull Call call, Handshake handshake) {
+            record(Phase.TLS, System.nanoTime() - tlsStart);
+        }
+
+        @Override
+        public void connectEnd(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                               @NonNull Proxy proxy, Protocol protocol) {
+            record(Phase.CONNECT, System.nanoTime() - connectStart);
+        }
+
+        @Override
+        public void requestHeadersEnd(@NonNull Call call, @NonNull okhttp3.Request request) {
+            requestEnd = System.nanoTime();
+        }
+
+        @Override
+        public void requestBodyStart(@NonNull Call call) {
+            bodyStart = System.nanoTime();
+        }
+
+        @Override
+        public void requestBodyEnd(@NonNull Call call, long byteCount) {
+            requestEnd = System.nanoTime();
+            record(Phase.REQUEST_BODY, requestEnd - bodyStart);
+        }
+
+        @Override
+        public void responseHeadersStart(@NonNull Call call) {
+            if(requestEnd > 0) {
+                record(Phase.TTFB, System.nanoTime() - requestEnd);
+            }
+        }
+
+        @Override
+        public void callEnd(@NonNull Call call) {
+            record(Phase.CALL, System.nanoTime() - callStart);
+        }
+
+        @Override
+        public void callFailed(@NonNull Call call, @NonNull IOException ioe) {
+            record(Phase.CALL, System.nanoTime() - callStart);
+            recordFailure();
+        }
+    }
+}
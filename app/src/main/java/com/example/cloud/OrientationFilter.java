@@ -0,0 +1,307 @@
+package com.example.cloud;
+
+/**
+ * Complementary orientation filter fusing gyroscope integration with the orientation derived from
+ * gravity and the magnetic field, without the Android framework.
+ * <p>
+ * Gravity and magnetic field give an absolute but noisy orientation, the gyroscope a smooth but
+ * drifting one, and {@link OrientationFilter#fuse()}, called every 10 ms, blends them with the
+ * filter coefficient and resets the gyroscope orientation to the result. The rotation matrix and
+ * orientation conversions of {@link android.hardware.SensorManager} are reimplemented, so the same
+ * filter runs live in {@link com.example.cloud.sensors.SensorFusion} and offline in
+ * {@link PdrReplay}. All buffers are allocated once.
+ * <p>
+ * The class is not thread safe.
+ */
+public class OrientationFilter {
+
+    // Static constant used for converting between nanoseconds and seconds
+    private static final float NS2S = 1.0f / 1000000000.0f;
+    // Minimum angular speed for which a rotation axis is computed
+    private static final float EPSILON = 0.000000001f;
+    // Squared gravity below which the device is considered in free fall
+    private static final float FREE_FALL_GRAVITY_SQUARED = 0.01f * 9.81f * 9.81f;
+
+    // Weight of the gyroscope orientation
+    private float filterCoefficient;
+
+    // Latest sensor values
+    private final float[] gravity = new float[3];
+    private final float[] magneticField = new float[3];
+    // Orientation from gravity and magnetic field, from the gyroscope, and fused
+    private final float[] accMagOrientation = new float[3];
+    private final float[] gyroOrientation = new float[3];
+    private final float[] orientation = new float[3];
+    // Rotation matrices and scratch buffers
+    private final float[] accMagMatrix = new float[9];
+    private float[] gyroMatrix = new float[9];
+    private float[] scratchMatrix = new float[9];
+    private final float[] deltaMatrix = new float[9];
+    private final float[] deltaVector = new float[4];
+    private final float[] xM = new float[9];
+    private final float[] yM = new float[9];
+    private final float[] zM = new float[9];
+    private final float[] product = new float[9];
+    // Gyroscope integration state
+    private boolean initState;
+    private long timestamp;
+
+    /**
+     * Public default constructor of the OrientationFilter.
+     *
+     * @param filterCoefficient weight of the gyroscope orientation in [0,1].
+     */
+    public OrientationFilter(float filterCoefficient) {
+        this.filterCoefficient = filterCoefficient;
+        this.initState = true;
+        this.timestamp = 0;
+        setIdentity(gyroMatrix);
+    }
+
+    /**
+     * Change the weight of the gyroscope orientation, applied from the next fusion.
+     *
+     * @param filterCoefficient weight of the gyroscope orientation in [0,1].
+     */
+    public void setFilterCoefficient(float filterCoefficient) {
+        this.filterCoefficient = filterCoefficient;
+    }
+
+    /**
+     * Update the gravity vector and the orientation derived from it.
+     *
+     * @param values    gravity along the x-y-z axis in m/s^2.
+     */
+    public void updateGravity(float[] values) {
+        System.arraycopy(values, 0, gravity, 0, 3);
+        calculateOrientation();
+    }
+
+    /**
+     * Update the magnetic field and the orientation derived from it.
+     *
+     * @param values    magnetic field along the x-y-z axis in uT.
+     */
+    public void updateMagneticField(float[] values) {
+        System.arraycopy(values, 0, magneticField, 0, 3);
+        calculateOrientation();
+    }
+
+    /**
+     * Integrate a gyroscope sample into the gyroscope based orientation.
+     *
+     * @param timestampNs   timestamp of the sample in nanoseconds.
+     * @param values        angular velocity around the x-y-z axis in rad/s.
+     */
+    public void updateGyroscope(long timestampNs, float[] values) {
+        // Initialisation of the gyroscope based rotation matrix from the absolute orientation
+        if(initState) {
+            setIdentity(gyroMatrix);
+            rotationMatrixFromOrientation(accMagOrientation, scratchMatrix);
+            multiply(gyroMatrix, scratchMatrix, product);
+            System.arraycopy(product, 0, gyroMatrix, 0, 9);
+            initState = false;
+        }
+
+        // Convert the raw gyro data into a rotation vector
+        if(timestamp != 0) {
+            float dT = (timestampNs - timestamp) * NS2S;
+            rotationVectorFromGyro(values, deltaVector, dT / 2.0f);
+        }
+        else {
+            deltaVector[0] = 0; deltaVector[1] = 0; deltaVector[2] = 0; deltaVector[3] = 0;
+        }
+        timestamp = timestampNs;
+
+        // Apply the rotation interval on the gyroscope based rotation matrix
+        rotationMatrixFromVector(deltaVector, deltaMatrix);
+        multiply(gyroMatrix, deltaMatrix, scratchMatrix);
+        float[] swap = gyroMatrix;
+        gyroMatrix = scratchMatrix;
+        scratchMatrix = swap;
+        getOrientation(gyroMatrix, gyroOrientation);
+    }
+
+    /**
+     * Blend the gyroscope and absolute orientations and reset the gyroscope orientation to the
+     * result, compensating for gyroscope drift. To be called every 10 ms.
+     */
+    public void fuse() {
+        float oneMinusCoeff = 1.0f - filterCoefficient;
+        // Azimuth is only filtered between -3 and 3 radians to avoid it going back and forth
+        if(accMagOrientation[0] < 3 && accMagOrientation[0] > -3) {
+            orientation[0] = filterCoefficient * gyroOrientation[0]
+                    + oneMinusCoeff * accMagOrientation[0];
+        }
+        else {
+            orientation[0] = accMagOrientation[0];
+        }
+        orientation[1] = filterCoefficient * gyroOrientation[1]
+                + oneMinusCoeff * accMagOrientation[1];
+        orientation[2] = filterCoefficient * gyroOrientation[2]
+                + oneMinusCoeff * accMagOrientation[2];
+        rotationMatrixFromOrientation(orientation, gyroMatrix);
+        System.arraycopy(orientation, 0, gyroOrientation, 0, 3);
+    }
+
+    /**
+     * Get the fused heading.
+     *
+     * @return  azimuth relative to magnetic north in radians.
+     */
+    public float getAzimuth() {
+        return orientation[0];
+    }
+
+    /**
+     * Copy the fused orientation.
+     *
+     * @param destination   array of size three for azimuth, pitch and roll in radians.
+     */
+    public void getOrientation(float[] destination) {
+        System.arraycopy(orientation, 0, destination, 0, 3);
+    }
+
+    //region Rotation helpers
+    /**
+     * Compute the orientation from gravity and magnetic field, keeping the previous one if the
+     * vectors do not determine a rotation. Equivalent to SensorManager.getRotationMatrix followed
+     * by SensorManager.getOrientation.
+     */
+    private void calculateOrientation() {
+        float ax = gravity[0], ay = gravity[1], az = gravity[2];
+        float normsqA = ax * ax + ay * ay + az * az;
+        if(normsqA < FREE_FALL_GRAVITY_SQUARED) {
+            getOrientation(accMagMatrix, accMagOrientation);
+            return;
+        }
+        float ex = magneticField[0], ey = magneticField[1], ez = magneticField[2];
+        float hx = ey * az - ez * ay;
+        float hy = ez * ax - ex * az;
+        float hz = ex * ay - ey * ax;
+        float normH = (float) Math.sqrt(hx * hx + hy * hy + hz * hz);
+        if(normH < 0.1f) {
+            // Device is close to free fall or the magnetic field is parallel to gravity
+            getOrientation(accMagMatrix, accMagOrientation);
+            return;
+        }
+        float invH = 1.0f / normH;
+        hx *= invH; hy *= invH; hz *= invH;
+        float invA = 1.0f / (float) Math.sqrt(normsqA);
+        ax *= invA; ay *= invA; az *= invA;
+        float mx = ay * hz - az * hy;
+        float my = az * hx - ax * hz;
+        float mz = ax * hy - ay * hx;
+        accMagMatrix[0] = hx; accMagMatrix[1] = hy; accMagMatrix[2] = hz;
+        accMagMatrix[3] = mx; accMagMatrix[4] = my; accMagMatrix[5] = mz;
+        accMagMatrix[6] = ax; accMagMatrix[7] = ay; accMagMatrix[8] = az;
+        getOrientation(accMagMatrix, accMagOrientation);
+    }
+
+    /**
+     * Compute azimuth, pitch and roll from a rotation matrix, as SensorManager.getOrientation.
+     */
+    private static void getOrientation(float[] r, float[] values) {
+        values[0] = (float) Math.atan2(r[1], r[4]);
+        values[1] = (float) Math.asin(-r[7]);
+        values[2] = (float) Math.atan2(-r[6], r[8]);
+    }
+
+    /**
+     * Compute a delta rotation vector from gyroscope values over a time step, as in
+     * {@link com.example.cloud.sensors.SensorFusion}.
+     */
+    private static void rotationVectorFromGyro(float[] gyroValues, float[] deltaRotationVector,
+                                               float timeFactor) {
+        float omegaMagnitude = (float) Math.sqrt(gyroValues[0] * gyroValues[0]
+                + gyroValues[1] * gyroValues[1] + gyroValues[2] * gyroValues[2]);
+        float nx = 0, ny = 0, nz = 0;
+        // Normalize the rotation vector if it's big enough to get the axis
+        if(omegaMagnitude > EPSILON) {
+            nx = gyroValues[0] / omegaMagnitude;
+            ny = gyroValues[1] / omegaMagnitude;
+            nz = gyroValues[2] / omegaMagnitude;
+        }
+        float thetaOverTwo = omegaMagnitude * timeFactor;
+        float sinThetaOverTwo = (float) Math.sin(thetaOverTwo);
+        deltaRotationVector[0] = sinThetaOverTwo * nx;
+        deltaRotationVector[1] = sinThetaOverTwo * ny;
+        deltaRotationVector[2] = sinThetaOverTwo * nz;
+        deltaRotationVector[3] = (float) Math.cos(thetaOverTwo);
+    }
+
+    /**
+     * Convert a rotation vector with scalar component into a rotation matrix, as
+     * SensorManager.getRotationMatrixFromVector.
+     */
+    private static void rotationMatrixFromVector(float[] rotationVector, float[] r) {
+        float q1 = rotationVector[0];
+        float q2 = rotationVector[1];
+        float q3 = rotationVector[2];
+        float q0 = rotationVector[3];
+        float sqQ1 = 2 * q1 * q1;
+        float sqQ2 = 2 * q2 * q2;
+        float sqQ3 = 2 * q3 * q3;
+        float q1q2 = 2 * q1 * q2;
+        float q3q0 = 2 * q3 * q0;
+        float q1q3 = 2 * q1 * q3;
+        float q2q0 = 2 * q2 * q0;
+        float q2q3 = 2 * q2 * q3;
+        float q1q0 = 2 * q1 * q0;
+        r[0] = 1 - sqQ2 - sqQ3; r[1] = q1q2 - q3q0; r[2] = q1q3 + q2q0;
+        r[3] = q1q2 + q3q0; r[4] = 1 - sqQ1 - sqQ3; r[5] = q2q3 - q1q0;
+        r[6] = q1q3 - q2q0; r[7] = q2q3 + q1q0; r[8] = 1 - sqQ1 - sqQ2;
+    }
+
+    /**
+     * Convert orientation angles into a rotation matrix, rotating in y, x, z order (roll, pitch,
+     * azimuth).
+     */
+    private void rotationMatrixFromOrientation(float[] o, float[] result) {
+        float sinX = (float) Math.sin(o[1]);
+        float cosX = (float) Math.cos(o[1]);
+        float sinY = (float) Math.sin(o[2]);
+        float cosY = (float) Math.cos(o[2]);
+        float sinZ = (float) Math.sin(o[0]);
+        float cosZ = (float) Math.cos(o[0]);
+        // rotation about x-axis (pitch)
+        xM[0] = 1.0f; xM[1] = 0.0f; xM[2] = 0.0f;
+        xM[3] = 0.0f; xM[4] = cosX; xM[5] = sinX;
+        xM[6] = 0.0f; xM[7] = -sinX; xM[8] = cosX;
+        // rotation about y-axis (roll)
+        yM[0] = cosY; yM[1] = 0.0f; yM[2] = sinY;
+        yM[3] = 0.0f; yM[4] = 1.0f; yM[5] = 0.0f;
+        yM[6] = -sinY; yM[7] = 0.0f; yM[8] = cosY;
+        // rotation about z-axis (azimuth)
+        zM[0] = cosZ; zM[1] = sinZ; zM[2] = 0.0f;
+        zM[3] = -sinZ; zM[4] = cosZ; zM[5] = 0.0f;
+        zM[6] = 0.0f; zM[7] = 0.0f; zM[8] = 1.0f;
+        multiply(xM, yM, product);
+        multiply(zM, product, result);
+    }
+
+    /**
+     * Multiply two 3x3 matrices into a third one, which must be a different array.
+     */
+    private static void multiply(float[] a, float[] b, float[] result) {
+        result[0] = a[0] * b[0] + a[1] * b[3] + a[2] * b[6];
+        result[1] = a[0] * b[1] + a[1] * b[4] + a[2] * b[7];
+        result[2] = a[0] * b[2] + a[1] * b[5] + a[2] * b[8];
+        result[3] = a[3] * b[0] + a[4] * b[3] + a[5] * b[6];
+        result[4] = a[3] * b[1] + a[4] * b[4] + a[5] * b[7];
+        result[5] = a[3] * b[2] + a[4] * b[5] + a[5] * b[8];
+        result[6] = a[6] * b[0] + a[7] * b[3] + a[8] * b[6];
+        result[7] = a[6] * b[1] + a[7] * b[4] + a[8] * b[7];
+        result[8] = a[6] * b[2] + a[7] * b[5] + a[8] * b[8];
+    }
+
+    /**
+     * Set a 3x3 matrix to the identity.
+     */
+    private static void setIdentity(float[] m) {
+        m[0] = 1; m[1] = 0; m[2] = 0;
+        m[3] = 0; m[4] = 1; m[5] = 0;
+        m[6] = 0; m[7] = 0; m[8] = 1;
+    }
+    //endregion
+}
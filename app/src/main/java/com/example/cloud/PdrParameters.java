@@ -0,0 +1,438 @@
+package com.example.cloud;
+
+import android.content.SharedPreferences;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable set of the constants used by {@link PdrProcessing}, the orientation filter and the
+ * {@link SoftwareStepDetector}.
+ * <p>
+ * Live processing reads the parameters from the user preferences with
+ * {@link PdrParameters#fromPreferences(SharedPreferences)}, which parses and validates every value
+ * once, so the sensor callbacks only read fields. The current parameters of the app are held by
+ * {@link PdrSettings}, which replaces them whenever the preferences change. Offline processing,
+ * such as a parameter sweep with {@link PdrSweep}, derives variations from
+ * {@link PdrParameters#DEFAULT} with the <code>with</code> methods, each of which returns a
+ * modified copy.
+ */
+public final class PdrParameters {
+
+    /**
+     * Default parameters, used when the constants are not overwritten in the settings.
+     */
+    public static final PdrParameters DEFAULT = new PdrParameters(0.364f, 0.18f, 0.3f, 100, 4, 4,
+            0f, 0.96f, SoftwareStepDetector.DEFAULT_PEAK_THRESHOLD,
+            SoftwareStepDetector.DEFAULT_LOOKAHEAD_MS);
+
+    // Preference keys the parameters are read from
+    private static final Set<String> KEYS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("manual_step_values", "user_step_length", "overwrite_constants",
+                    "weiberg_k", "epsilon", "elevation_seconds", "accel_samples", "accel_filter",
+                    "step_threshold", "step_lookahead", "floor_height")));
+
+    // Weiberg algorithm coefficient for stride calculations
+    private final float weibergK;
+    // Threshold under which horizontal movement is considered non-existent in m/s^2
+    private final float epsilon;
+    // Threshold above which vertical movement is considered significant in m/s^2
+    private final float movementThreshold;
+    // Number of acceleration samples averaged for elevator detection
+    private final int accelSamples;
+    // Number of pressure samples (seconds) averaged for floor changes
+    private final int elevationSeconds;
+    // Distance between floors in meters
+    private final int floorHeight;
+    // Manual step length in meters, 0 to estimate the step length
+    private final float manualStepLength;
+    // Weight of the gyroscope orientation in the complementary orientation filter
+    private final float filterCoefficient;
+    // Minimum height of a step peak in m/s^2 and peak confirmation time in milliseconds
+    private final double stepThreshold;
+    private final long stepLookaheadMs;
+
+    /**
+     * Private constructor, instances are derived from {@link PdrParameters#DEFAULT}.
+     */
+    private PdrParameters(float weibergK, float epsilon, float movementThreshold,
+                          int accelSamples, int elevationSeconds, int floorHeight,
+                          float manualStepLength, float filterCoefficient, double stepThreshold,
+                          long stepLookaheadMs) {
+        this.weibergK = weibergK;
+        this.epsilon = epsilon;
+        this.movementThreshold = movementThreshold;
+        this.accelSamples = accelSamples;
+        this.elevationSeconds = elevationSeconds;
+        this.floorHeight = floorHeight;
+        this.manualStepLength = manualStepLength;
+        this.filterCoefficient = filterCoefficient;
+        this.stepThreshold = stepThreshold;
+        this.stepLookaheadMs = stepLookaheadMs;
+    }
+
+    /**
+     * Read the parameters from the user preferences. Constants are only taken from the settings
+     * if overwriting them is enabled, the defaults are used otherwise. Invalid values are reported
+     * and replaced by their default, so reading never fails.
+     *
+     * @param settings  shared preferences of the application.
+     * @return          parameters matching the settings.
+     */
+    public static PdrParameters fromPreferences(SharedPreferences settings) {
+        PdrParameters parameters = DEFAULT;
+        // Check if estimate or manual values should be used
+        if(settings.getBoolean("manual_step_values", false)) {
+            float stepLength;
+            try {
+                // Retrieve manual step  length
+                stepLength = settings.getInt("user_step_length", 75) / 100f;
+            } catch (Exception e) {
+                // Invalid values - reset to defaults
+                stepLength = 0.75f;
+                settings.edit().putInt("user_step_length", 75).apply();
+            }
+            parameters = parameters.withManualStepLength(stepLength > 0 ? stepLength : 0.75f);
+        }
+        if(settings.getBoolean("overwrite_constants", false)) {
+            parameters = parameters
+                    .withWeibergK((float) read(settings, "weiberg_k", DEFAULT.weibergK))
+                    .withEpsilon((float) read(settings, "epsilon", DEFAULT.epsilon))
+                    .withElevationSeconds((int) read(settings, "elevation_seconds",
+                            DEFAULT.elevationSeconds))
+                    .withAccelSamples((int) read(settings, "accel_samples", DEFAULT.accelSamples))
+                    .withFilterCoefficient((float) read(settings, "accel_filter",
+                            DEFAULT.filterCoefficient))
+                    .withStepThreshold(read(settings, "step_threshold", DEFAULT.stepThreshold))
+                    .withStepLookaheadMs((long) read(settings, "step_lookahead",
+                            DEFAULT.stepLookaheadMs));
+        }
+        // Distance between floors is building dependent, use manual value
+        int floorHeight;
+        try {
+            floorHeight = settings.getInt("floor_height", DEFAULT.floorHeight);
+        } catch (ClassCastException e) {
+            floorHeight = DEFAULT.floorHeight;
+        }
+        return parameters.withFloorHeight(floorHeight > 0 ? floorHeight : DEFAULT.floorHeight);
+    }
+
+    /**
+     * Check if a preference is read by {@link PdrParameters#fromPreferences(SharedPreferences)}.
+     *
+     * @param key   preference key.
+     * @return      true if the parameters depend on the preference.
+     */
+    public static boolean isParameterKey(String key) {
+        return KEYS.contains(key);
+    }
+
+    /**
+     * Check if a text value is valid for a numeric constant of the settings. Used to reject
+     * invalid input before it is stored.
+     *
+     * @param key   preference key of the constant, e.g. "weiberg_k".
+     * @param value text entered for the constant.
+     * @return      true if the value can be parsed and is in range, or the key is not a constant.
+     */
+    public static boolean isValid(String key, String value) {
+        return !Double.isNaN(parse(key, value));
+    }
+
+    /**
+     * Read a numeric constant stored as text in the settings.
+     *
+     * @param settings  shared preferences of the application.
+     * @param key       preference key of the constant.
+     * @param fallback  value used if the setting is missing or invalid.
+     * @return          parsed value, or the fallback.
+     */
+    private static double read(SharedPreferences settings, String key, double fallback) {
+        String value;
+        try {
+            value = settings.getString(key, null);
+        } catch (ClassCastException e) {
+            value = null;
+        }
+        if(value == null) return fallback;
+        double parsed = parse(key, value);
+        if(Double.isNaN(parsed)) {
+            // Invalid values - use defaults
+            System.err.println("Invalid value for " + key + ": " + value);
+            return fallback;
+        }
+        return parsed;
+    }
+
+    /**
+     * Parse and range check a numeric constant. Package-private for tests.
+     *
+     * @param key   preference key of the constant.
+     * @param value text of the value.
+     * @return      parsed value, NaN if it is invalid for the key.
+     */
+    static double parse(String key, String value) {
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            return Double.NaN;
+        }
+        if(Double.isInfinite(parsed)) return Double.NaN;
+        boolean integer = parsed == Math.rint(parsed);
+        switch (key) {
+            case "weiberg_k":
+            case "step_threshold":
+                return parsed > 0 ? parsed : Double.NaN;
+            case "epsilon":
+                return parsed >= 0 ? parsed : Double.NaN;
+            case "accel_filter":
+                return parsed >= 0 && parsed <= 1 ? parsed : Double.NaN;
+            case "elevation_seconds":
+            case "accel_samples":
+                return integer && parsed >= 1 && parsed <= 10000 ? parsed : Double.NaN;
+            case "step_lookahead":
+                return integer && parsed >= 0 && parsed <= 10000 ? parsed : Double.NaN;
+            default:
+                return parsed;
+        }
+    }
+
+    //region Getters
+    /**
+     * Get the Weiberg coefficient for stride length estimation.
+     *
+     * @return  float K.
+     */
+    public float getWeibergK() {
+        return weibergK;
+    }
+
+    /**
+     * Get the threshold under which horizontal movement is considered non-existent.
+     *
+     * @return  threshold in m/s^2.
+     */
+    public float getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Get the threshold above which vertical movement is considered significant.
+     *
+     * @return  threshold in m/s^2.
+     */
+    public float getMovementThreshold() {
+        return movementThreshold;
+    }
+
+    /**
+     * Get the number of acceleration samples averaged for elevator detection.
+     *
+     * @return  number of samples.
+     */
+    public int getAccelSamples() {
+        return accelSamples;
+    }
+
+    /**
+     * Get the number of pressure samples averaged for detecting floor changes.
+     *
+     * @return  number of samples, one per second.
+     */
+    public int getElevationSeconds() {
+        return elevationSeconds;
+    }
+
+    /**
+     * Get the distance between floors.
+     *
+     * @return  height in meters.
+     */
+    public int getFloorHeight() {
+        return floorHeight;
+    }
+
+    /**
+     * Get the manual step length.
+     *
+     * @return  step length in meters, 0 if the step length is estimated.
+     */
+    public float getManualStepLength() {
+        return manualStepLength;
+    }
+
+    /**
+     * Check if a manual step length is used instead of the Weiberg estimate.
+     *
+     * @return  true if the manual step length is set.
+     */
+    public boolean usesManualStep() {
+        return manualStepLength > 0;
+    }
+
+    /**
+     * Get the weight of the gyroscope orientation in the orientation filter.
+     *
+     * @return  coefficient in [0,1].
+     */
+    public float getFilterCoefficient() {
+        return filterCoefficient;
+    }
+
+    /**
+     * Get the minimum height of a step peak for the software step detector.
+     *
+     * @return  threshold in m/s^2.
+     */
+    public double getStepThreshold() {
+        return stepThreshold;
+    }
+
+    /**
+     * Get the time without a higher value before the software step detector confirms a peak.
+     *
+     * @return  lookahead in milliseconds.
+     */
+    public long getStepLookaheadMs() {
+        return stepLookaheadMs;
+    }
+    //endregion
+
+    //region Modified copies
+    /**
+     * Copy with the Weiberg coefficient for stride length estimation changed.
+     *
+     * @param weibergK  new value.
+     * @return          modified copy.
+     */
+    public PdrParameters withWeibergK(float weibergK) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the threshold under which horizontal movement is considered non-existent changed.
+     *
+     * @param epsilon  new value.
+     * @return         modified copy.
+     */
+    public PdrParameters withEpsilon(float epsilon) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the threshold above which vertical movement is considered significant changed.
+     *
+     * @param movementThreshold  new value.
+     * @return                   modified copy.
+     */
+    public PdrParameters withMovementThreshold(float movementThreshold) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the number of acceleration samples averaged for elevator detection changed.
+     *
+     * @param accelSamples  new value.
+     * @return              modified copy.
+     */
+    public PdrParameters withAccelSamples(int accelSamples) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the number of pressure samples averaged for detecting floor changes changed.
+     *
+     * @param elevationSeconds  new value.
+     * @return                  modified copy.
+     */
+    public PdrParameters withElevationSeconds(int elevationSeconds) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the distance between floors changed.
+     *
+     * @param floorHeight  new value.
+     * @return             modified copy.
+     */
+    public PdrParameters withFloorHeight(int floorHeight) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with a manual step length.
+     *
+     * @param manualStepLength  step length in meters, 0 to estimate the step length.
+     * @return                  modified copy.
+     */
+    public PdrParameters withManualStepLength(float manualStepLength) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the weight of the gyroscope orientation in the orientation filter changed.
+     *
+     * @param filterCoefficient  new value.
+     * @return                   modified copy.
+     */
+    public PdrParameters withFilterCoefficient(float filterCoefficient) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the minimum height of a step peak for the software step detector changed.
+     *
+     * @param stepThreshold  new value.
+     * @return               modified copy.
+     */
+    public PdrParameters withStepThreshold(double stepThreshold) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+
+    /**
+     * Copy with the peak confirmation time of the software step detector changed.
+     *
+     * @param stepLookaheadMs  new value.
+     * @return                 modified copy.
+     */
+    public PdrParameters withStepLookaheadMs(long stepLookaheadMs) {
+        return new PdrParameters(weibergK, epsilon, movementThreshold, accelSamples,
+                elevationSeconds, floorHeight, manualStepLength, filterCoefficient, stepThreshold,
+                stepLookaheadMs);
+    }
+    //endregion
+
+    /**
+     * {@inheritDoc}
+     * Lists the parameters in a compact form, for labelling the results of parameter sweeps.
+     */
+    @Override
+    public String toString() {
+        return "k=" + weibergK + " epsilon=" + epsilon + " movement=" + movementThreshold
+                + " accelSamples=" + accelSamples + " elevationSeconds=" + elevationSeconds
+                + " floorHeight=" + floorHeight + " manualStep=" + manualStepLength
+                + " filter=" + filterCoefficient + " stepThreshold=" + stepThreshold
+                + " stepLookahead=" + stepLookaheadMs;
+    }
+}
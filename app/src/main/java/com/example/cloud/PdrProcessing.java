@@ -1,23 +1,22 @@
 package com.example.cloud;
 
 import android.content.Context;
-import android.content.SharedPreferences;
-import android.hardware.SensorManager;
-
-import androidx.preference.PreferenceManager;
 
 import com.example.cloud.sensors.SensorFusion;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.OptionalDouble;
 
 /**
  * Processes data recorded in the {@link SensorFusion} class and calculates live PDR estimates.
  * It calculates the position from the steps and directions detected, using either estimated values
  * (eg. stride length from the Weiberg algorithm) or provided constants, calculates the elevation
  * and attempts to estimate the current floor as well as elevators.
+ * <p>
+ * The constants are taken from a {@link PdrParameters} object. Created with a context, the
+ * parameters follow the user preferences through {@link PdrSettings}: changed constants apply
+ * from the next sensor event, changed buffer sizes from the next reset. Created with fixed
+ * parameters, the class does not depend on the Android framework, so recorded trajectories can
+ * be processed offline, see {@link PdrReplay}.
  *
  * @author Mate Stodulka
  * @author Michal Dvorak
@@ -25,21 +24,15 @@ import java.util.OptionalDouble;
 public class PdrProcessing {
 
     //region Static variables
-    // Weiberg algorithm coefficient for stride calculations
-    private static final float K = 0.364f;
-    // Number of samples (seconds) to keep as memory for elevation calculation
-    private static final int elevationSeconds = 4;
-    // Number of samples (0.01 seconds)
-    private static final int accelSamples = 100;
-    // Threshold used to detect significant movement
-    private static final float movementThreshold = 0.3f; // m/s^2
-    // Threshold under which movement is considered non-existent
-    private static final float epsilon = 0.18f;
+    // Standard gravity in m/s^2
+    private static final float STANDARD_GRAVITY = 9.80665f;
     //endregion
 
     //region Instance variables
-    // Settings for accessing shared variables
-    private SharedPreferences settings;
+    // Current parameters of the app, null when using fixed parameters
+    private final PdrSettings source;
+    // Constants of the calculations
+    private PdrParameters parameters;
 
     // Step length
     private float stepLength;
@@ -78,53 +71,31 @@ public class PdrProcessing {
      */
     public PdrProcessing(Context context) {
         // Initialise settings
-        this.settings = PreferenceManager.getDefaultSharedPreferences(context);
-        // Check if estimate or manual values should be used
-        this.useManualStep = this.settings.getBoolean("manual_step_values", false);
-        if(useManualStep) {
-            try {
-                // Retrieve manual step  length
-                this.stepLength = this.settings.getInt("user_step_length", 75) / 100f;
-            } catch (Exception e) {
-                // Invalid values - reset to defaults
-                this.stepLength = 0.75f;
-                this.settings.edit().putInt("user_step_length", 75).apply();
-            }
-        }
-        else {
-            // Using estimated step length - set to zero
-            this.stepLength = 0;
-        }
-
-        // Initial position and elevation - starts from zero
-        this.positionX = 0f;
-        this.positionY = 0f;
-        this.elevation = 0f;
-
-
-        if(this.settings.getBoolean("overwrite_constants", false)) {
-            // Capacity - pressure is read with 1Hz - store values of past 10 seconds
-            this.elevationList = new CircularFloatBuffer(Integer.parseInt(settings.getString("elevation_seconds", "4")));
-
-            // Buffer for most recent acceleration values
-            this.verticalAccel = new CircularFloatBuffer(Integer.parseInt(settings.getString("accel_samples", "4")));
-            this.horizontalAccel = new CircularFloatBuffer(Integer.parseInt(settings.getString("accel_samples", "4")));
-        }
-        else {
-            // Capacity - pressure is read with 1Hz - store values of past 10 seconds
-            this.elevationList = new CircularFloatBuffer(elevationSeconds);
+        this(PdrSettings.getInstance(context));
+    }
 
-            // Buffer for most recent acceleration values
-            this.verticalAccel = new CircularFloatBuffer(accelSamples);
-            this.horizontalAccel = new CircularFloatBuffer(accelSamples);
-        }
+    /**
+     * Constructor for the PDR class following the given settings, used in tests instead of the
+     * singleton.
+     *
+     * @param source    settings holding the current parameters.
+     */
+    PdrProcessing(PdrSettings source) {
+        this.source = source;
+        this.parameters = source.get();
+        resetPDR();
+    }
 
-        // Distance between floors is building dependent, use manual value
-        this.floorHeight = settings.getInt("floor_height", 4);
-        // Array for holding initial values
-        this.startElevationBuffer = new Float[3];
-        // Start floor - assumed to be zero
-        this.currentFloor = 0;
+    /**
+     * Constructor for the PDR class with fixed parameters, for processing without the Android
+     * framework. The parameters are kept on reset.
+     *
+     * @param parameters    constants of the calculations.
+     */
+    public PdrProcessing(PdrParameters parameters) {
+        this.source = null;
+        this.parameters = parameters;
+        resetPDR();
     }
 
     /**
@@ -133,19 +104,19 @@ public class PdrProcessing {
      * step.
      *
      * @param currentStepEnd            relative time in milliseconds since the start of the recording.
-     * @param accelMagnitudeOvertime    recorded acceleration magnitudes since the last step.
+     * @param stepFeatures              features of the acceleration magnitudes since the last step.
      * @param headingRad                heading relative to magnetic north in radians.
      */
-    public float[] updatePdr(long currentStepEnd, List<Double> accelMagnitudeOvertime, float headingRad) {
+    public float[] updatePdr(long currentStepEnd, StepFeatureAccumulator stepFeatures, float headingRad) {
 
+        refreshParameters();
         // Change angle so zero rad is east
         float adaptedHeading = (float) (Math.PI/2 - headingRad);
 
-        // Calculate step length
-        if(!useManualStep) {
-            //ArrayList<Double> accelMagnitudeFiltered = filter(accelMagnitudeOvertime);
+        // Calculate step length, keeping the last estimate if no acceleration was recorded
+        if(!useManualStep && !stepFeatures.isEmpty()) {
             // Estimate stride
-            this.stepLength = weibergMinMax(accelMagnitudeOvertime);
+            this.stepLength = weibergMinMax(stepFeatures);
             // System.err.println("Step Length" + stepLength);
         }
 
@@ -175,6 +146,7 @@ public class PdrProcessing {
      * @return                  current elevation in meters relative to the start position.
      */
     public float updateElevation(float absoluteElevation) {
+        refreshParameters();
         // Set start to median of first three values
         if(setupIndex < 3) {
             // Add values to buffer until it's full
@@ -196,9 +168,7 @@ public class PdrProcessing {
             // Check if there is enough data to evaluate
             if(this.elevationList.isFull()) {
                 // Check average of elevation array
-                List<Float> elevationMemory = this.elevationList.getListCopy();
-                OptionalDouble currentAvg = elevationMemory.stream().mapToDouble(f -> f).average();
-                float finishAvg = currentAvg.isPresent() ? (float) currentAvg.getAsDouble() : 0;
+                float finishAvg = (float) this.elevationList.getMean();
 
                 // Check if we moved floor by comparing with start position
                 if(Math.abs(finishAvg - startElevation) > this.floorHeight) {
@@ -216,17 +186,12 @@ public class PdrProcessing {
     /**
      * Uses the Weiberg Stride Length formula to calculate step length from accelerometer values.
      *
-     * @param accelMagnitude    magnitude of acceleration values between the last and current step.
-     * @return                  float stride length in meters.
+     * @param stepFeatures  features of the acceleration magnitudes between the last and current step.
+     * @return              float stride length in meters.
      */
-    private float weibergMinMax(List<Double> accelMagnitude) {
-        double maxAccel = Collections.max(accelMagnitude);
-        double minAccel = Collections.min(accelMagnitude);
-        float bounce = (float) Math.pow((maxAccel-minAccel), 0.25);
-        if(this.settings.getBoolean("overwrite_constants", false)) {
-            return bounce * Float.parseFloat(settings.getString("weiberg_k", "0.934")) * 2;
-        }
-        return bounce*K*2;
+    private float weibergMinMax(StepFeatureAccumulator stepFeatures) {
+        float bounce = (float) Math.pow(stepFeatures.getRange(), 0.25);
+        return bounce * parameters.getWeibergK() * 2;
     }
 
     /**
@@ -271,8 +236,9 @@ public class PdrProcessing {
      * @return          boolean true if currently in an elevator, false otherwise.
      */
     public boolean estimateElevator(float[] gravity, float[] acc) {
+        refreshParameters();
         // Standard gravity
-        float g = SensorManager.STANDARD_GRAVITY;
+        float g = STANDARD_GRAVITY;
         // get horizontal and vertical acceleration magnitude
         float verticalAcc = (float) Math.sqrt(
                 Math.pow((acc[0] * gravity[0]/g),2) +
@@ -288,26 +254,18 @@ public class PdrProcessing {
         // Once buffer is full, evaluate data
         if(this.verticalAccel.isFull() && this.horizontalAccel.isFull()) {
 
-            // calculate average vertical accel
-            List<Float> verticalMemory = this.verticalAccel.getListCopy();
-            OptionalDouble optVerticalAvg = verticalMemory.stream().mapToDouble(Math::abs).average();
-            float verticalAvg = optVerticalAvg.isPresent() ? (float) optVerticalAvg.getAsDouble() : 0;
-
+            // calculate average vertical accel, kept up to date by the buffer
+            float verticalAvg = (float) this.verticalAccel.getAbsMean();
 
             // calculate average horizontal accel
-            List<Float> horizontalMemory = this.horizontalAccel.getListCopy();
-            OptionalDouble optHorizontalAvg = horizontalMemory.stream().mapToDouble(Math::abs).average();
-            float horizontalAvg = optHorizontalAvg.isPresent() ? (float) optHorizontalAvg.getAsDouble() : 0;
+            float horizontalAvg = (float) this.horizontalAccel.getAbsMean();
 
             //System.err.println("LIFT: Vertical: " + verticalAvg);
             //System.err.println("LIFT: Horizontal: " + horizontalAvg);
 
-            if(this.settings.getBoolean("overwrite_constants", false)) {
-                float eps = Float.parseFloat(settings.getString("epsilon", "0.18"));
-                return horizontalAvg < eps && verticalAvg > movementThreshold;
-            }
             // Check if there is minimal horizontal and significant vertical movement
-            return horizontalAvg < epsilon && verticalAvg > movementThreshold;
+            return horizontalAvg < parameters.getEpsilon()
+                    && verticalAvg > parameters.getMovementThreshold();
         }
         return false;
 
@@ -315,56 +273,55 @@ public class PdrProcessing {
 
     /**
      * Resets all values stored in the PDR function and re-initialises all buffers.
-     * Used to reset to zero position and remove existing history.
+     * Used to reset to zero position and remove existing history. Buffers are sized with the
+     * current parameters.
      */
     public void resetPDR() {
-        // Check if estimate or manual values should be used
-        this.useManualStep = this.settings.getBoolean("manual_step_values", false);
-        if(useManualStep) {
-            try {
-                // Retrieve manual step  length
-                this.stepLength = this.settings.getInt("user_step_length", 75) / 100f;
-            } catch (Exception e) {
-                // Invalid values - reset to defaults
-                this.stepLength = 0.75f;
-                this.settings.edit().putInt("user_step_length", 75).apply();
-            }
-        }
-        else {
-            // Using estimated step length - set to zero
-            this.stepLength = 0;
+        if(source != null) {
+            this.parameters = source.get();
         }
+        // Check if estimate or manual values should be used
+        this.useManualStep = parameters.usesManualStep();
+        // Using estimated step length - set to zero
+        this.stepLength = useManualStep ? parameters.getManualStepLength() : 0;
 
         // Initial position and elevation - starts from zero
         this.positionX = 0f;
         this.positionY = 0f;
         this.elevation = 0f;
 
-        if(this.settings.getBoolean("overwrite_constants", false)) {
-            // Capacity - pressure is read with 1Hz - store values of past 10 seconds
-            this.elevationList = new CircularFloatBuffer(Integer.parseInt(settings.getString("elevation_seconds", "4")));
-
-            // Buffer for most recent acceleration values
-            this.verticalAccel = new CircularFloatBuffer(Integer.parseInt(settings.getString("accel_samples", "4")));
-            this.horizontalAccel = new CircularFloatBuffer(Integer.parseInt(settings.getString("accel_samples", "4")));
-        }
-        else {
-            // Capacity - pressure is read with 1Hz - store values of past 10 seconds
-            this.elevationList = new CircularFloatBuffer(elevationSeconds);
+        // Capacity - pressure is read with 1Hz - store values of past seconds
+        this.elevationList = new CircularFloatBuffer(parameters.getElevationSeconds());
 
-            // Buffer for most recent acceleration values
-            this.verticalAccel = new CircularFloatBuffer(accelSamples);
-            this.horizontalAccel = new CircularFloatBuffer(accelSamples);
-        }
+        // Buffer for most recent acceleration values
+        this.verticalAccel = new CircularFloatBuffer(parameters.getAccelSamples());
+        this.horizontalAccel = new CircularFloatBuffer(parameters.getAccelSamples());
 
         // Distance between floors is building dependent, use manual value
-        this.floorHeight = settings.getInt("floor_height", 4);
+        this.floorHeight = parameters.getFloorHeight();
         // Array for holding initial values
         this.startElevationBuffer = new Float[3];
         // Start floor - assumed to be zero
         this.currentFloor = 0;
     }
 
+    /**
+     * Adopt the current parameters of the app if the settings have changed since the last call.
+     * A single volatile read when they have not. The buffer sizes are kept until the next reset.
+     */
+    private void refreshParameters() {
+        if(source == null) return;
+        PdrParameters latest = source.get();
+        if(latest == parameters) return;
+        this.parameters = latest;
+        this.useManualStep = latest.usesManualStep();
+        if(useManualStep) {
+            this.stepLength = latest.getManualStepLength();
+        }
+        // Switching to estimates keeps the manual length until a step yields an estimate
+        this.floorHeight = latest.getFloorHeight();
+    }
+
     /**
      * Getter for the average step length calculated from the aggregated distance and step count.
      *
@@ -0,0 +1,528 @@
+package com.example.cloud;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Offline replay of a recorded trajectory through the PDR and orientation pipeline.
+ * <p>
+ * The imu_data, position_data and pressure_data of a {@link Traj.Trajectory} are merged in
+ * timestamp order and fed to a {@link PdrProcessing} with fixed {@link PdrParameters} and an
+ * {@link OrientationFilter}, the same way {@link com.example.cloud.sensors.SensorFusion} feeds the
+ * live sensor events. Gravity is not recorded, so it is estimated with the low-pass filter applied
+ * to the accelerometer in the app, and linear acceleration is the remainder. Pressure is recorded
+ * after the low-pass filter of the app and used as it is. Steps are taken from
+ * the recorded PDR samples, or detected with a {@link SoftwareStepDetector} if the trajectory has
+ * none or if requested.
+ * <p>
+ * The trajectory is parsed and prepared once in the constructor, after which
+ * {@link PdrReplay#run(PdrParameters)} only reads shared state and can be called from several
+ * threads at once with different parameters, see {@link PdrSweep}.
+ */
+public class PdrReplay {
+
+    // Weight of the previous value in the low-pass filters of the app
+    private static final float ALPHA = 0.8f;
+    // Period of the complementary orientation filter in milliseconds
+    private static final long FUSION_PERIOD_MS = 10;
+    // Standard atmospheric pressure in hPa
+    private static final float PRESSURE_STANDARD_ATMOSPHERE = 1013.25f;
+    // Mean earth radius in meters, for projecting GNSS fixes
+    private static final double EARTH_RADIUS = 6371000.0;
+    // Static constant used for converting between milliseconds and nanoseconds
+    private static final long MS2NS = 1000000L;
+
+    // Name of the replayed trajectory, for reports
+    private final String name;
+    // Samples of the trajectory in timestamp order
+    private final List<Traj.Motion_Sample> imu;
+    private final List<Traj.Position_Sample> magnetometer;
+    private final List<Traj.Pressure_Sample> pressure;
+    // Relative timestamps of the steps in milliseconds
+    private final long[] stepTimes;
+    // True if the steps were detected from the accelerometer
+    private final boolean detectedSteps;
+    // GNSS fixes relative to the first fix, east and north in meters
+    private final long[] gnssTimes;
+    private final double[] gnssEast;
+    private final double[] gnssNorth;
+
+    /**
+     * Public default constructor of the PdrReplay, preparing a parsed trajectory for replay.
+     *
+     * @param name              name of the trajectory, for reports.
+     * @param trajectory        recorded trajectory with expanded IMU samples.
+     * @param softwareSteps     true to always detect steps from the accelerometer instead of
+     *                          using the recorded steps.
+     */
+    public PdrReplay(String name, Traj.Trajectory trajectory, boolean softwareSteps) {
+        this.name = name;
+        this.imu = sorted(trajectory.getImuDataList(),
+                Comparator.comparingLong(Traj.Motion_Sample::getRelativeTimestamp));
+        this.magnetometer = sorted(trajectory.getPositionDataList(),
+                Comparator.comparingLong(Traj.Position_Sample::getRelativeTimestamp));
+        this.pressure = sorted(trajectory.getPressureDataList(),
+                Comparator.comparingLong(Traj.Pressure_Sample::getRelativeTimestamp));
+
+        // Steps are recorded as PDR samples, detect them if there are none
+        this.detectedSteps = softwareSteps || trajectory.getPdrDataCount() == 0;
+        if(detectedSteps) {
+            List<Long> steps = new SoftwareStepDetector().detect(imu);
+            this.stepTimes = new long[steps.size()];
+            for (int i = 0; i < stepTimes.length; i++) {
+                stepTimes[i] = steps.get(i);
+            }
+        }
+        else {
+            this.stepTimes = new long[trajectory.getPdrDataCount()];
+            for (int i = 0; i < stepTimes.length; i++) {
+                stepTimes[i] = trajectory.getPdrData(i).getRelativeTimestamp();
+            }
+            Arrays.sort(stepTimes);
+        }
+
+        // Project the GNSS fixes onto a local plane around the first fix
+        List<Traj.GNSS_Sample> gnss = sorted(trajectory.getGnssDataList(),
+                Comparator.comparingLong(Traj.GNSS_Sample::getRelativeTimestamp));
+        this.gnssTimes = new long[gnss.size()];
+        this.gnssEast = new double[gnss.size()];
+        this.gnssNorth = new double[gnss.size()];
+        if(!gnss.isEmpty()) {
+            double latitude0 = Math.toRadians(gnss.get(0).getLatitude());
+            double longitude0 = Math.toRadians(gnss.get(0).getLongitude());
+            double cosLatitude = Math.cos(latitude0);
+            for (int i = 0; i < gnss.size(); i++) {
+                Traj.GNSS_Sample fix = gnss.get(i);
+                gnssTimes[i] = fix.getRelativeTimestamp();
+                gnssEast[i] = (Math.toRadians(fix.getLongitude()) - longitude0) * cosLatitude
+                        * EARTH_RADIUS;
+                gnssNorth[i] = (Math.toRadians(fix.getLatitude()) - latitude0) * EARTH_RADIUS;
+            }
+        }
+    }
+
+    /**
+     * Read and prepare a trajectory file for replay.
+     *
+     * @param file              file containing a binary serialised {@link Traj.Trajectory}.
+     * @param softwareSteps     true to always detect steps from the accelerometer.
+     * @return                  replay of the trajectory.
+     * @throws IOException      if the file cannot be read or is malformed.
+     */
+    public static PdrReplay load(File file, boolean softwareSteps) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return new PdrReplay(file.getName(), MotionBlockCodec.parseTrajectory(in),
+                    softwareSteps);
+        }
+    }
+
+    /**
+     * Get the name of the replayed trajectory.
+     *
+     * @return  name given when the replay was created, the file name if loaded from a file.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check if the steps were detected from the accelerometer rather than recorded.
+     *
+     * @return  true if the software step detector was used.
+     */
+    public boolean usesDetectedSteps() {
+        return detectedSteps;
+    }
+
+    /**
+     * Replay the trajectory with a set of parameters. Thread safe, all processing state is local
+     * to the call.
+     *
+     * @param parameters    constants of the PDR calculations and the orientation filter.
+     * @return              path and error summary of the run.
+     */
+    public Result run(PdrParameters parameters) {
+        PdrProcessing pdr = new PdrProcessing(parameters);
+        OrientationFilter filter = new OrientationFilter(parameters.getFilterCoefficient());
+        StepFeatureAccumulator stepFeatures = new StepFeatureAccumulator();
+
+        float[] acceleration = new float[3];
+        float[] gravity = new float[3];
+        float[] linearAcceleration = new float[3];
+        float[] values = new float[3];
+        float elevation = 0;
+        boolean hasGravity = false;
+        int elevatorSamples = 0;
+
+        float[] pathX = new float[stepTimes.length];
+        float[] pathY = new float[stepTimes.length];
+        float distance = 0;
+
+        int imuIndex = 0, magIndex = 0, pressureIndex = 0, stepIndex = 0;
+        long nextFusion = imu.isEmpty() ? Long.MAX_VALUE
+                : imu.get(0).getRelativeTimestamp() + FUSION_PERIOD_MS;
+        long end = imu.isEmpty() ? Long.MIN_VALUE : imu.get(imu.size() - 1).getRelativeTimestamp();
+
+        while (true) {
+            long imuTime = imuIndex < imu.size()
+                    ? imu.get(imuIndex).getRelativeTimestamp() : Long.MAX_VALUE;
+            long magTime = magIndex < magnetometer.size()
+                    ? magnetometer.get(magIndex).getRelativeTimestamp() : Long.MAX_VALUE;
+            long pressureTime = pressureIndex < pressure.size()
+                    ? pressure.get(pressureIndex).getRelativeTimestamp() : Long.MAX_VALUE;
+            long stepTime = stepIndex < stepTimes.length ? stepTimes[stepIndex] : Long.MAX_VALUE;
+            long fusionTime = nextFusion <= end ? nextFusion : Long.MAX_VALUE;
+            long time = Math.min(Math.min(imuTime, magTime),
+                    Math.min(Math.min(pressureTime, stepTime), fusionTime));
+            if(time == Long.MAX_VALUE) break;
+
+            // Sensor samples first, then the steps and filter ticks they precede
+            if(magTime == time) {
+                Traj.Position_Sample sample = magnetometer.get(magIndex++);
+                values[0] = sample.getMagX();
+                values[1] = sample.getMagY();
+                values[2] = sample.getMagZ();
+                filter.updateMagneticField(values);
+            }
+            else if(imuTime == time) {
+                Traj.Motion_Sample sample = imu.get(imuIndex++);
+                acceleration[0] = sample.getAccX();
+                acceleration[1] = sample.getAccY();
+                acceleration[2] = sample.getAccZ();
+                // Isolate gravity with a low-pass filter
+                for (int i = 0; i < 3; i++) {
+                    gravity[i] = hasGravity
+                            ? ALPHA * gravity[i] + (1 - ALPHA) * acceleration[i]
+                            : acceleration[i];
+                    linearAcceleration[i] = acceleration[i] - gravity[i];
+                }
+                hasGravity = true;
+                filter.updateGravity(gravity);
+                values[0] = sample.getGyrX();
+                values[1] = sample.getGyrY();
+                values[2] = sample.getGyrZ();
+                filter.updateGyroscope(time * MS2NS, values);
+                stepFeatures.add(Math.sqrt(acceleration[0] * acceleration[0]
+                        + acceleration[1] * acceleration[1] + acceleration[2] * acceleration[2]));
+                if(pdr.estimateElevator(gravity, linearAcceleration)) {
+                    elevatorSamples++;
+                }
+            }
+            else if(pressureTime == time) {
+                // Recorded after the low-pass filter, filtering again would delay it twice
+                elevation = pdr.updateElevation(altitude(
+                        pressure.get(pressureIndex++).getPressure()));
+            }
+            else if(stepTime == time) {
+                float[] newCords = pdr.updatePdr(time, stepFeatures, filter.getAzimuth());
+                stepFeatures.reset();
+                if(stepIndex > 0) {
+                    distance += (float) Math.hypot(newCords[0] - pathX[stepIndex - 1],
+                            newCords[1] - pathY[stepIndex - 1]);
+                }
+                else {
+                    distance += (float) Math.hypot(newCords[0], newCords[1]);
+                }
+                pathX[stepIndex] = newCords[0];
+                pathY[stepIndex] = newCords[1];
+                stepIndex++;
+            }
+            else {
+                filter.fuse();
+                nextFusion += FUSION_PERIOD_MS;
+            }
+        }
+
+        float finalX = stepTimes.length > 0 ? pathX[stepTimes.length - 1] : 0;
+        float finalY = stepTimes.length > 0 ? pathY[stepTimes.length - 1] : 0;
+        double[] gnssErrors = gnssErrors(pathX, pathY);
+        return new Result(name, parameters, detectedSteps, stepTimes.clone(), pathX, pathY, distance, elevation,
+                pdr.getCurrentFloor(), imu.isEmpty() ? 0 : elevatorSamples / (float) imu.size(),
+                (float) Math.hypot(finalX, finalY), gnssErrors);
+    }
+
+    /**
+     * Compare the replayed path with the GNSS fixes. The path is aligned to the first fix by its
+     * position at the time of the fix, and compared at the time of every later fix.
+     *
+     * @param pathX     east coordinate after each step in meters.
+     * @param pathY     north coordinate after each step in meters.
+     * @return          mean, root mean square, maximum and final error in meters, NaN without at
+     *                  least two fixes.
+     */
+    private double[] gnssErrors(float[] pathX, float[] pathY) {
+        double[] errors = new double[] {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+        if(gnssTimes.length < 2) return errors;
+        double originX = pathAt(gnssTimes[0], pathX, 0);
+        double originY = pathAt(gnssTimes[0], pathY, 0);
+        double sum = 0, sumSquares = 0, max = 0, error = 0;
+        for (int i = 1; i < gnssTimes.length; i++) {
+            double x = pathAt(gnssTimes[i], pathX, 0) - originX;
+            double y = pathAt(gnssTimes[i], pathY, 0) - originY;
+            error = Math.hypot(x - gnssEast[i], y - gnssNorth[i]);
+            sum += error;
+            sumSquares += error * error;
+            max = Math.max(max, error);
+        }
+        int count = gnssTimes.length - 1;
+        errors[0] = sum / count;
+        errors[1] = Math.sqrt(sumSquares / count);
+        errors[2] = max;
+        errors[3] = error;
+        return errors;
+    }
+
+    /**
+     * Get a coordinate of the path at a point in time, the coordinate after the last step taken
+     * at or before it.
+     *
+     * @param time          relative time in milliseconds.
+     * @param coordinates   coordinate after each step.
+     * @param start         coordinate before the first step.
+     * @return              coordinate at the given time.
+     */
+    private float pathAt(long time, float[] coordinates, float start) {
+        int index = Arrays.binarySearch(stepTimes, time);
+        if(index < 0) {
+            index = -index - 2;
+        }
+        else {
+            // Take the last of several steps with the same timestamp
+            while (index + 1 < stepTimes.length && stepTimes[index + 1] == time) index++;
+        }
+        return index < 0 ? start : coordinates[index];
+    }
+
+    /**
+     * Convert atmospheric pressure into an altitude, as SensorManager.getAltitude with the
+     * standard atmosphere at sea level.
+     *
+     * @param pressure  pressure in hPa.
+     * @return          altitude in meters.
+     */
+    private static float altitude(float pressure) {
+        final float coefficient = 1.0f / 5.255f;
+        return 44330.0f * (1.0f - (float) Math.pow(pressure / PRESSURE_STANDARD_ATMOSPHERE,
+                coefficient));
+    }
+
+    /**
+     * Copy a list of samples in timestamp order, sorting only if necessary.
+     *
+     * @param samples       samples as recorded.
+     * @param comparator    comparison by relative timestamp.
+     * @param <T>           sample message type.
+     * @return              samples in timestamp order.
+     */
+    private static <T> List<T> sorted(List<T> samples, Comparator<T> comparator) {
+        List<T> copy = new ArrayList<>(samples);
+        for (int i = 1; i < copy.size(); i++) {
+            if(comparator.compare(copy.get(i - 1), copy.get(i)) > 0) {
+                // Stable sort keeps samples with equal timestamps in recorded order
+                copy.sort(comparator);
+                break;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Path and error summary of a single replay.
+     */
+    public static final class Result {
+
+        // Replayed trajectory and parameters
+        private final String name;
+        private final PdrParameters parameters;
+        // True if the steps were detected from the accelerometer
+        private final boolean detectedSteps;
+        // Step times in milliseconds and position after each step in meters
+        private final long[] stepTimes;
+        private final float[] pathX;
+        private final float[] pathY;
+        // Summary values
+        private final float distance;
+        private final float elevation;
+        private final int floor;
+        private final float elevatorFraction;
+        private final float closureError;
+        // Mean, root mean square, maximum and final error against GNSS in meters
+        private final double[] gnssErrors;
+
+        /**
+         * Private constructor, results are created by {@link PdrReplay#run(PdrParameters)}.
+         */
+        private Result(String name, PdrParameters parameters, boolean detectedSteps,
+                       long[] stepTimes, float[] pathX, float[] pathY, float distance,
+                       float elevation, int floor, float elevatorFraction, float closureError,
+                       double[] gnssErrors) {
+            this.name = name;
+            this.parameters = parameters;
+            this.detectedSteps = detectedSteps;
+            this.stepTimes = stepTimes;
+            this.pathX = pathX;
+            this.pathY = pathY;
+            this.distance = distance;
+            this.elevation = elevation;
+            this.floor = floor;
+            this.elevatorFraction = elevatorFraction;
+            this.closureError = closureError;
+            this.gnssErrors = gnssErrors;
+        }
+
+        /**
+         * Get the name of the replayed trajectory.
+         *
+         * @return  trajectory name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the parameters of the run.
+         *
+         * @return  PDR parameters.
+         */
+        public PdrParameters getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Check if the steps were detected from the accelerometer rather than recorded.
+         *
+         * @return  true if the software step detector was used.
+         */
+        public boolean usesDetectedSteps() {
+            return detectedSteps;
+        }
+
+        /**
+         * Get the number of steps taken.
+         *
+         * @return  number of steps.
+         */
+        public int getSteps() {
+            return stepTimes.length;
+        }
+
+        /**
+         * Get the time of a step.
+         *
+         * @param step  index of the step.
+         * @return      relative timestamp in milliseconds.
+         */
+        public long getStepTime(int step) {
+            return stepTimes[step];
+        }
+
+        /**
+         * Get the east coordinate after a step.
+         *
+         * @param step  index of the step.
+         * @return      coordinate in meters relative to the start.
+         */
+        public float getX(int step) {
+            return pathX[step];
+        }
+
+        /**
+         * Get the north coordinate after a step.
+         *
+         * @param step  index of the step.
+         * @return      coordinate in meters relative to the start.
+         */
+        public float getY(int step) {
+            return pathY[step];
+        }
+
+        /**
+         * Get the length of the path.
+         *
+         * @return  distance walked in meters.
+         */
+        public float getDistance() {
+            return distance;
+        }
+
+        /**
+         * Get the elevation at the end of the replay.
+         *
+         * @return  elevation in meters relative to the start.
+         */
+        public float getElevation() {
+            return elevation;
+        }
+
+        /**
+         * Get the floor at the end of the replay.
+         *
+         * @return  floor number, the start being floor zero.
+         */
+        public int getFloor() {
+            return floor;
+        }
+
+        /**
+         * Get the share of IMU samples during which an elevator was detected.
+         *
+         * @return  fraction in [0,1].
+         */
+        public float getElevatorFraction() {
+            return elevatorFraction;
+        }
+
+        /**
+         * Get the distance between the end and the start of the path, the error of walks which
+         * return to their start.
+         *
+         * @return  distance in meters.
+         */
+        public float getClosureError() {
+            return closureError;
+        }
+
+        /**
+         * Get the mean distance between the path and the GNSS fixes.
+         *
+         * @return  error in meters, NaN without GNSS.
+         */
+        public double getGnssMeanError() {
+            return gnssErrors[0];
+        }
+
+        /**
+         * Get the root mean square distance between the path and the GNSS fixes.
+         *
+         * @return  error in meters, NaN without GNSS.
+         */
+        public double getGnssRmsError() {
+            return gnssErrors[1];
+        }
+
+        /**
+         * Get the largest distance between the path and the GNSS fixes.
+         *
+         * @return  error in meters, NaN without GNSS.
+         */
+        public double getGnssMaxError() {
+            return gnssErrors[2];
+        }
+
+        /**
+         * Get the distance between the path and the last GNSS fix.
+         *
+         * @return  error in meters, NaN without GNSS.
+         */
+        public double getGnssFinalError() {
+            return gnssErrors[3];
+        }
+    }
+}
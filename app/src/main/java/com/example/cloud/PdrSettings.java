@@ -0,0 +1,83 @@
+package com.example.cloud;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.preference.PreferenceManager;
+
+/**
+ * Holder of the current {@link PdrParameters} of the app, shared by {@link PdrProcessing} and
+ * {@link com.example.cloud.sensors.SensorFusion}.
+ * <p>
+ * The parameters are parsed and validated from the user preferences once, and again whenever a
+ * preference changes, replacing the snapshot with a single volatile write. Readers on the sensor
+ * and timer threads get a consistent set of constants with a single volatile read, without
+ * preference lookups or parsing on the hot path.
+ */
+public class PdrSettings implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+    // Singleton instance, the preferences only keep a weak reference to the listener
+    private static PdrSettings pdrSettings;
+
+    // Settings for accessing shared variables
+    private final SharedPreferences settings;
+    // Current parameters, replaced as a whole
+    private volatile PdrParameters parameters;
+
+    /**
+     * Private constructor, reading the parameters from the default preferences and registering
+     * for their changes.
+     *
+     * @param context   application context for the settings.
+     */
+    private PdrSettings(Context context) {
+        this(PreferenceManager.getDefaultSharedPreferences(context));
+    }
+
+    /**
+     * Constructor reading the parameters from the given preferences, used in tests instead of
+     * the singleton.
+     *
+     * @param settings  preferences holding the parameters.
+     */
+    PdrSettings(SharedPreferences settings) {
+        this.settings = settings;
+        this.parameters = PdrParameters.fromPreferences(settings);
+        settings.registerOnSharedPreferenceChangeListener(this);
+    }
+
+    /**
+     * Static function to access the singleton instance of the PdrSettings, creating it with the
+     * application context if necessary.
+     *
+     * @param context   any context of the application.
+     * @return          singleton instance of the PdrSettings.
+     */
+    public static synchronized PdrSettings getInstance(Context context) {
+        if(pdrSettings == null) {
+            pdrSettings = new PdrSettings(context.getApplicationContext());
+        }
+        return pdrSettings;
+    }
+
+    /**
+     * Get the current parameters. Safe to call from any thread.
+     *
+     * @return  immutable snapshot of the parameters.
+     */
+    public PdrParameters get() {
+        return parameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Parses the preferences again and replaces the parameters if a PDR preference changed, so
+     * that unrelated settings keep the current snapshot. A null key, reported when all
+     * preferences are cleared, also counts as a change. Called on the main thread.
+     */
+    @Override
+    public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+        if(key != null && !PdrParameters.isParameterKey(key)) return;
+        this.parameters = PdrParameters.fromPreferences(sharedPreferences);
+    }
+}
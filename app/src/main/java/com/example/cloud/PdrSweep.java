@@ -0,0 +1,304 @@
+package com.example.cloud;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Parameter sweep of the PDR over stored trajectories, replaying every trajectory with every set
+ * of a parameter grid in parallel.
+ * <p>
+ * Trajectories are parsed once each, then the flat list of all pairs of trajectory and parameter
+ * set is replayed with {@link PdrReplay} on a dedicated {@link ForkJoinPool}, using all cores by
+ * default. Every pair is a task of its own, so a sweep of a single long trajectory is spread over
+ * all threads as well. Runs share the parsed samples and keep their processing state local, so
+ * they scale with the number of threads. Trajectories which cannot be read are reported and
+ * skipped.
+ * <p>
+ * The class does not depend on the Android framework and can be run on a workstation with
+ * {@link PdrSweep#main(String[])}, writing one line of summary per run to a CSV file, for example
+ * with <code>./gradlew :app:pdrSweep --args="&lt;trajectory dir&gt; &lt;summary.csv&gt;"</code>.
+ */
+public final class PdrSweep {
+
+    // Header of the summary file
+    private static final String SUMMARY_HEADER = "trajectory,weiberg_k,epsilon,movement,"
+            + "accel_samples,elevation_seconds,floor_height,manual_step,filter,detected_steps,"
+            + "steps,distance,final_x,final_y,elevation,floor,elevator_fraction,closure_error,"
+            + "gnss_mean_error,gnss_rms_error,gnss_max_error,gnss_final_error";
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private PdrSweep() {
+    }
+
+    /**
+     * Build the cartesian product of parameter values, starting from
+     * {@link PdrParameters#DEFAULT}. Empty arrays keep the default value.
+     *
+     * @param weibergK          values of the Weiberg coefficient.
+     * @param epsilon           values of the horizontal movement threshold.
+     * @param filter            values of the orientation filter coefficient.
+     * @param elevationSeconds  values of the number of pressure samples averaged.
+     * @param accelSamples      values of the number of acceleration samples averaged.
+     * @return                  all combinations of the values.
+     */
+    public static List<PdrParameters> grid(float[] weibergK, float[] epsilon, float[] filter,
+                                           int[] elevationSeconds, int[] accelSamples) {
+        List<PdrParameters> grid = Collections.singletonList(PdrParameters.DEFAULT);
+        List<PdrParameters> next;
+        if(weibergK.length > 0) {
+            next = new ArrayList<>();
+            for (PdrParameters parameters : grid) {
+                for (float value : weibergK) next.add(parameters.withWeibergK(value));
+            }
+            grid = next;
+        }
+        if(epsilon.length > 0) {
+            next = new ArrayList<>();
+            for (PdrParameters parameters : grid) {
+                for (float value : epsilon) next.add(parameters.withEpsilon(value));
+            }
+            grid = next;
+        }
+        if(filter.length > 0) {
+            next = new ArrayList<>();
+            for (PdrParameters parameters : grid) {
+                for (float value : filter) next.add(parameters.withFilterCoefficient(value));
+            }
+            grid = next;
+        }
+        if(elevationSeconds.length > 0) {
+            next = new ArrayList<>();
+            for (PdrParameters parameters : grid) {
+                for (int value : elevationSeconds) next.add(parameters.withElevationSeconds(value));
+            }
+            grid = next;
+        }
+        if(accelSamples.length > 0) {
+            next = new ArrayList<>();
+            for (PdrParameters parameters : grid) {
+                for (int value : accelSamples) next.add(parameters.withAccelSamples(value));
+            }
+            grid = next;
+        }
+        return grid;
+    }
+
+    /**
+     * Replay trajectory files with every parameter set in parallel.
+     *
+     * @param files             files containing binary serialised trajectories.
+     * @param grid              parameter sets to replay each trajectory with.
+     * @param softwareSteps     true to always detect steps from the accelerometer.
+     * @param threads           number of worker threads.
+     * @return                  results ordered by trajectory, then by parameter set.
+     * @throws InterruptedException if waiting for the runs is interrupted.
+     */
+    public static List<PdrReplay.Result> run(List<File> files, List<PdrParameters> grid,
+                                             boolean softwareSteps, int threads)
+            throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<PdrReplay> replays = pool.submit(() -> files.parallelStream()
+                    .map(file -> load(file, softwareSteps))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())).get();
+            // Pairs in result order, split evenly over the workers
+            List<Map.Entry<PdrReplay, PdrParameters>> runs =
+                    new ArrayList<>(replays.size() * grid.size());
+            for (PdrReplay replay : replays) {
+                for (PdrParameters parameters : grid) {
+                    runs.add(new AbstractMap.SimpleImmutableEntry<>(replay, parameters));
+                }
+            }
+            return pool.submit(() -> runs.parallelStream()
+                    .map(run -> run.getKey().run(run.getValue()))
+                    .collect(Collectors.toList())).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("PDR sweep failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Load a trajectory for replay, reporting failures.
+     *
+     * @param file              trajectory file.
+     * @param softwareSteps     true to always detect steps from the accelerometer.
+     * @return                  replay of the trajectory, null if it cannot be read.
+     */
+    private static PdrReplay load(File file, boolean softwareSteps) {
+        try {
+            return PdrReplay.load(file, softwareSteps);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Skipping " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write the summaries of a sweep as CSV, one line per run.
+     *
+     * @param results   results of the sweep.
+     * @param file      destination file, overwritten.
+     * @throws IOException  if writing fails.
+     */
+    public static void writeSummary(List<PdrReplay.Result> results, File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println(SUMMARY_HEADER);
+            for (PdrReplay.Result result : results) {
+                PdrParameters p = result.getParameters();
+                out.println(String.format(Locale.ROOT,
+                        "%s,%s,%s,%s,%d,%d,%d,%s,%s,%b,%d,%.3f,%.3f,%.3f,%.3f,%d,%.4f,%.3f,"
+                                + "%.3f,%.3f,%.3f,%.3f",
+                        result.getName(), p.getWeibergK(), p.getEpsilon(),
+                        p.getMovementThreshold(), p.getAccelSamples(), p.getElevationSeconds(),
+                        p.getFloorHeight(), p.getManualStepLength(), p.getFilterCoefficient(),
+                        result.usesDetectedSteps(), result.getSteps(), result.getDistance(),
+                        finalX(result), finalY(result), result.getElevation(), result.getFloor(),
+                        result.getElevatorFraction(), result.getClosureError(),
+                        result.getGnssMeanError(), result.getGnssRmsError(),
+                        result.getGnssMaxError(), result.getGnssFinalError()));
+            }
+        }
+    }
+
+    /**
+     * Write the path of a run as CSV, one line per step.
+     *
+     * @param result    result of the run.
+     * @param file      destination file, overwritten.
+     * @throws IOException  if writing fails.
+     */
+    public static void writePath(PdrReplay.Result result, File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("time_ms,x,y");
+            for (int i = 0; i < result.getSteps(); i++) {
+                out.println(String.format(Locale.ROOT, "%d,%.3f,%.3f", result.getStepTime(i),
+                        result.getX(i), result.getY(i)));
+            }
+        }
+    }
+
+    /**
+     * Command line entry point.
+     * <p>
+     * Usage: <code>PdrSweep &lt;trajectory dir&gt; &lt;summary.csv&gt; [threads] [k=0.3,0.364]
+     * [epsilon=..] [filter=..] [elevation=..] [accel=..] [software_steps] [paths=&lt;dir&gt;]</code>
+     *
+     * @param args  command line arguments.
+     * @throws Exception    if the sweep fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if(args.length < 2) {
+            System.err.println("Usage: PdrSweep <trajectory dir> <summary.csv> [threads] "
+                    + "[k=..,..] [epsilon=..] [filter=..] [elevation=..] [accel=..] "
+                    + "[software_steps] [paths=<dir>]");
+            System.exit(1);
+        }
+        File[] listed = new File(args[0]).listFiles(File::isFile);
+        if(listed == null) {
+            System.err.println("Not a directory: " + args[0]);
+            System.exit(1);
+        }
+        List<File> files = new ArrayList<>(Arrays.asList(listed));
+        Collections.sort(files);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        float[] weibergK = new float[0];
+        float[] epsilon = new float[0];
+        float[] filter = new float[0];
+        int[] elevationSeconds = new int[0];
+        int[] accelSamples = new int[0];
+        boolean softwareSteps = false;
+        File pathDirectory = null;
+        for (int i = 2; i < args.length; i++) {
+            String arg = args[i];
+            int split = arg.indexOf('=');
+            String key = split < 0 ? arg : arg.substring(0, split);
+            String value = split < 0 ? "" : arg.substring(split + 1);
+            switch (key) {
+                case "k": weibergK = floats(value); break;
+                case "epsilon": epsilon = floats(value); break;
+                case "filter": filter = floats(value); break;
+                case "elevation": elevationSeconds = ints(value); break;
+                case "accel": accelSamples = ints(value); break;
+                case "software_steps": softwareSteps = true; break;
+                case "paths": pathDirectory = new File(value); break;
+                default:
+                    if(split < 0 && i == 2) {
+                        threads = Integer.parseInt(arg);
+                    }
+                    else {
+                        System.err.println("Unknown argument: " + arg);
+                        System.exit(1);
+                    }
+            }
+        }
+
+        List<PdrParameters> grid = grid(weibergK, epsilon, filter, elevationSeconds,
+                accelSamples);
+        long start = System.nanoTime();
+        List<PdrReplay.Result> results = run(files, grid, softwareSteps, threads);
+        writeSummary(results, new File(args[1]));
+        if(pathDirectory != null) {
+            pathDirectory.mkdirs();
+            for (int i = 0; i < results.size(); i++) {
+                PdrReplay.Result result = results.get(i);
+                writePath(result, new File(pathDirectory, result.getName() + "_"
+                        + (i % grid.size()) + ".csv"));
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "%d runs of %d parameter sets in %.1f s",
+                results.size(), grid.size(), (System.nanoTime() - start) / 1e9));
+    }
+
+    /**
+     * Get the east coordinate at the end of a run.
+     */
+    private static float finalX(PdrReplay.Result result) {
+        return result.getSteps() == 0 ? 0 : result.getX(result.getSteps() - 1);
+    }
+
+    /**
+     * Get the north coordinate at the end of a run.
+     */
+    private static float finalY(PdrReplay.Result result) {
+        return result.getSteps() == 0 ? 0 : result.getY(result.getSteps() - 1);
+    }
+
+    /**
+     * Parse a comma separated list of decimal values.
+     */
+    private static float[] floats(String list) {
+        String[] parts = list.split(",");
+        float[] values = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) values[i] = Float.parseFloat(parts[i].trim());
+        return values;
+    }
+
+    /**
+     * Parse a comma separated list of integer values.
+     */
+    private static int[] ints(String list) {
+        String[] parts = list.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) values[i] = Integer.parseInt(parts[i].trim());
+        return values;
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.cloud;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Uploads large trajectory files in chunks, so that an interrupted upload continues from the last
+ * acknowledged chunk instead of starting over.
+ * <p>
+ * The protocol follows the core of the tus resumable upload protocol:
+ * <ol>
+ *     <li>POST to the sessions address with the total size in Upload-Length creates an upload
+ *     session, whose address is returned in the Location header.</li>
+ *     <li>HEAD on the session returns the number of bytes the server has stored in
+ *     Upload-Offset.</li>
+ *     <li>PATCH on the session appends one chunk at the offset given in Upload-Offset. Each chunk
+ *     carries its SHA-256 digest in Upload-Checksum, so the server can reject corrupted chunks,
+ *     and the response holds the new offset.</li>
+ * </ol>
+ * The session address and the last acknowledged offset are stored in a journal file for each
+ * upload, replaced atomically after every chunk. After a failure or a restart of the application
+ * the upload is resumed from the offset reported by the server, which is authoritative, and a
+ * new session is only created if the server no longer knows the old one, answering HEAD or PATCH
+ * with 404 Not Found or 410 Gone. Other failures of HEAD are reported as {@link IOException}s and
+ * keep the journal for a later attempt. The journal is deleted once the whole file has been
+ * acknowledged.
+ * <p>
+ * Only a server answering the session-creating POST with 404, 405 or 501 does not offer the
+ * protocol, which is reported with an {@link UnsupportedServerException}.
+ * <p>
+ * At most one chunk is held in memory at a time. The class does not depend on the Android
+ * framework, so it can be tested on the JVM.
+ *
+ * @see ServerCommunications#uploadFile(File) choosing between resumable and single uploads.
+ */
+public class ResumableUploader {
+
+    // Default size of the uploaded chunks in bytes
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    // Status code of servers rejecting a chunk because of its checksum
+    public static final int CHECKSUM_MISMATCH = 460;
+    private static final String TUS_VERSION = "1.0.0";
+    private static final MediaType CHUNK_TYPE = MediaType.parse("application/offset+octet-stream");
+    // Number of times a rejected chunk is sent again before giving up
+    private static final int MAX_CHUNK_RETRIES = 3;
+    // Status codes of a server no longer knowing a session
+    private static final int NOT_FOUND = 404;
+    private static final int GONE = 410;
+
+    /**
+     * Thrown if the server does not offer resumable uploads at all.
+     */
+    public static class UnsupportedServerException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        // Status code of the rejected session request
+        private final int code;
+
+        /**
+         * Creates the exception for a rejected session request.
+         *
+         * @param code  HTTP status code of the response.
+         */
+        public UnsupportedServerException(int code) {
+            super("Resumable uploads not supported, session request answered with " + code);
+            this.code = code;
+        }
+
+        /**
+         * Get the status code of the rejected session request.
+         *
+         * @return  HTTP status code, 404, 405 or 501.
+         */
+        public int getCode() {
+            return code;
+        }
+    }
+
+    // Client performing the requests
+    private final OkHttpClient client;
+    // Address for creating upload sessions
+    private final HttpUrl sessionsUrl;
+    // Directory holding the journals of unfinished uploads
+    private final File journalDirectory;
+    private final int chunkSize;
+
+    /**
+     * Public default constructor of the ResumableUploader.
+     *
+     * @param client            client performing the requests.
+     * @param sessionsUrl       address for creating upload sessions.
+     * @param journalDirectory  directory for the journals of unfinished uploads.
+     * @param chunkSize         size of the uploaded chunks in bytes.
+     */
+    public ResumableUploader(OkHttpClient client, HttpUrl sessionsUrl, File journalDirectory,
+                             int chunkSize) {
+        this.client = client;
+        this.sessionsUrl = sessionsUrl;
+        this.journalDirectory = journalDirectory;
+        this.chunkSize = chunkSize;
+        journalDirectory.mkdirs();
+    }
+
+    /**
+     * Upload a file, resuming an earlier interrupted upload of the same file if there is one.
+     * Blocks until the whole file has been acknowledged or the upload failed, so it must not be
+     * called from the UI thread.
+     *
+     * @param file  local file to upload.
+     * @return      HTTP status code, 2xx if the whole file was acknowledged, otherwise the code of
+     *              the request that was rejected.
+     * @throws UnsupportedServerException   if the server does not offer resumable uploads.
+     * @throws IOException  if the server could not be reached, the connection failed or the
+     *                      server failed to report the offset of a session. The progress made so
+     *                      far is kept in the journal.
+     */
+    public int upload(File file) throws IOException {
+        long length = file.length();
+        File journal = getJournal(file);
+
+        // Find out how much the server already has of an earlier session
+        HttpUrl session = null;
+        long offset = -1;
+        String[] entry = readJournal(journal);
+        if(entry != null && Long.parseLong(entry[1]) == length) {
+            session = HttpUrl.parse(entry[0]);
+            if(session != null) offset = queryOffset(session);
+        }
+        // A session dropped by the server during this upload is replaced once
+        boolean replaced = false;
+        while (true) {
+            if(offset < 0) {
+                // No usable session, start a new one
+                try (Response response = execute(new okhttp3.Request.Builder().url(sessionsUrl)
+                        .header("Upload-Length", Long.toString(length))
+                        .header("Upload-Metadata", "filename " + Base64.getEncoder()
+                                .encodeToString(file.getName().getBytes(StandardCharsets.UTF_8)))
+                        .post(RequestBody.create(new byte[0], null)))) {
+                    int code = response.code();
+                    // Only the session request tells whether the server offers the protocol
+                    if(code == NOT_FOUND || code == 405 || code == 501) {
+                        throw new UnsupportedServerException(code);
+                    }
+                    String location = response.header("Location");
+                    if(code != 201 || location == null) return code;
+                    session = response.request().url().resolve(location);
+                    if(session == null) {
+                        throw new IOException("Invalid session location " + location);
+                    }
+                }
+                offset = 0;
+                writeJournal(journal, session, length, offset);
+            }
+            int code = sendChunks(file, journal, session, offset, length);
+            if((code == NOT_FOUND || code == GONE) && !replaced) {
+                System.err.println("Upload session of " + file.getName() + " dropped by server, "
+                        + "starting a new one");
+                replaced = true;
+                journal.delete();
+                offset = -1;
+                continue;
+            }
+            if(code < 200 || code >= 300) return code;
+            break;
+        }
+
+        // Whole file acknowledged, the journal is no longer needed
+        journal.delete();
+        System.out.println("UPLOAD SUCCESSFUL: " + file.getName() + " in chunks of " + chunkSize);
+        return 200;
+    }
+
+    /**
+     * Send the chunks of a file from an offset to the end, recording every acknowledged chunk in
+     * the journal.
+     *
+     * @param file      local file to upload.
+     * @param journal   journal of the upload.
+     * @param session   address of the upload session.
+     * @param offset    offset acknowledged by the server.
+     * @param length    length of the file in bytes.
+     * @return          200 if the whole file was acknowledged, otherwise the status code of the
+     *                  rejected request, 404 or 410 if the server no longer knows the session.
+     * @throws IOException  if the server could not be reached or the connection failed.
+     */
+    private int sendChunks(File file, File journal, HttpUrl session, long offset, long length)
+            throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        int rejected = 0;
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            while (offset < length) {
+                int size = (int) Math.min(chunkSize, length - offset);
+                input.seek(offset);
+                input.readFully(chunk, 0, size);
+                try (Response response = execute(new okhttp3.Request.Builder().url(session)
+                        .header("Upload-Offset", Long.toString(offset))
+                        .header("Upload-Checksum", "sha256 " + checksum(chunk, size))
+                        .patch(RequestBody.create(chunk, CHUNK_TYPE, 0, size)))) {
+                    if(response.isSuccessful()) {
+                        offset = parseOffset(response);
+                        rejected = 0;
+                    }
+                    else if(response.code() == 409 || response.code() == CHECKSUM_MISMATCH) {
+                        // Offsets out of sync or chunk corrupted, continue where the server is
+                        if(++rejected > MAX_CHUNK_RETRIES) return response.code();
+                        offset = queryOffset(session);
+                        if(offset < 0) return GONE;
+                    }
+                    else {
+                        return response.code();
+                    }
+                }
+                writeJournal(journal, session, length, offset);
+            }
+        }
+        return 200;
+    }
+
+    /**
+     * Get the number of bytes the server has stored for an upload in progress.
+     *
+     * @param file  local file being uploaded.
+     * @return      acknowledged offset from the journal, or 0 if there is no unfinished upload.
+     */
+    public long getAcknowledgedOffset(File file) {
+        String[] entry = readJournal(getJournal(file));
+        return entry == null ? 0 : Long.parseLong(entry[2]);
+    }
+
+    /**
+     * Remove the journal of an unfinished upload, so that the next upload starts a new session.
+     *
+     * @param file  local file being uploaded.
+     */
+    public void discard(File file) {
+        getJournal(file).delete();
+    }
+
+    /**
+     * Ask the server for the offset of a session.
+     *
+     * @param session   address of the upload session.
+     * @return          offset stored by the server, -1 if the session no longer exists.
+     * @throws IOException  if the server could not be reached or failed to report the offset,
+     *                      for example with a 5xx error. The session may still be valid.
+     */
+    private long queryOffset(HttpUrl session) throws IOException {
+        try (Response response = execute(new okhttp3.Request.Builder().url(session).head())) {
+            if(response.code() == NOT_FOUND || response.code() == GONE) return -1;
+            if(!response.isSuccessful()) {
+                throw new IOException("Querying upload offset failed with code " + response.code());
+            }
+            return parseOffset(response);
+        }
+    }
+
+    /**
+     * Execute a request of the protocol on the calling thread.
+     */
+    private Response execute(okhttp3.Request.Builder builder) throws IOException {
+        return client.newCall(builder.header("Tus-Resumable", TUS_VERSION).build()).execute();
+    }
+
+    /**
+     * Read the Upload-Offset header of a response.
+     */
+    private static long parseOffset(Response response) throws IOException {
+        String value = response.header("Upload-Offset");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid Upload-Offset " + value);
+        }
+    }
+
+    /**
+     * Compute the Base64 encoded SHA-256 digest of the start of a buffer.
+     */
+    static String checksum(byte[] data, int size) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data, 0, size);
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //region Journal
+    /**
+     * Get the journal file of an upload.
+     */
+    private File getJournal(File file) {
+        return new File(journalDirectory, file.getName() + ".journal");
+    }
+
+    /**
+     * Read a journal.
+     *
+     * @return  session address, file length and offset, or null if there is no valid journal.
+     */
+    private static String[] readJournal(File journal) {
+        if(!journal.exists()) return null;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal))) {
+            String[] fields = new String[] {reader.readLine(), reader.readLine(), reader.readLine()};
+            for (String field : fields) {
+                if(field == null) return null;
+            }
+            Long.parseLong(fields[1]);
+            Long.parseLong(fields[2]);
+            return fields;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Reading upload journal failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replace a journal atomically by writing a temporary file, syncing it to storage and renaming
+     * it over the old journal.
+     */
+    private static void writeJournal(File journal, HttpUrl session, long length, long offset)
+            throws IOException {
+        File temp = new File(journal.getPath() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temp)) {
+            Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            writer.write(session + "\n" + length + "\n" + offset + "\n");
+            writer.flush();
+            stream.getFD().sync();
+        }
+        if(!temp.renameTo(journal)) {
+            throw new IOException("Replacing upload journal " + journal.getName() + " failed");
+        }
+    }
+    //endregion
+}
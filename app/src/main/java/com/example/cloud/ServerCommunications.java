@@ -2,8 +2,6 @@ package com.example.cloud;
 
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 import android.os.Environment;
 
 import androidx.preference.PreferenceManager;
@@ -11,26 +9,25 @@ import androidx.preference.PreferenceManager;
 import com.example.cloud.fragments.FilesFragment;
 import com.example.cloud.sensors.Observable;
 import com.example.cloud.sensors.Observer;
-import com.google.protobuf.util.JsonFormat;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.SimpleDateFormat;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipInputStream;
 
-import okhttp3.Call;
-import okhttp3.Headers;
-import okhttp3.MediaType;
-import okhttp3.MultipartBody;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.RequestBody;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
@@ -49,14 +46,11 @@ public class ServerCommunications implements Observable {
 
     // Application context for handling permissions and devices
     private final Context context;
-    // Network status checking
-    private ConnectivityManager connMgr;
-    private boolean isWifiConn;
-    private boolean isMobileConn;
-    private SharedPreferences settings;
-
-    private String infoResponse;
-    private boolean success;
+    // User preferences for uploading
+    private final SharedPreferences settings;
+
+    // Last received listing of uploaded trajectories
+    private volatile List<TrajectoryEntry> trajectoryEntries;
     private List<Observer> observers;
 
     // Static constants necessary for communications
@@ -65,344 +59,424 @@ public class ServerCommunications implements Observable {
     private static final String uploadURL =
             "https://openpositioning.org/api/live/trajectory/upload/" + userKey
                     + "/?key=" + masterKey;
+    private static final String resumableUploadURL =
+            "https://openpositioning.org/api/live/trajectory/upload/resumable/" + userKey
+                    + "/?key=" + masterKey;
     private static final String downloadURL =
             "https://openpositioning.org/api/live/trajectory/download/" + userKey
-                    + "?skip=0&limit=30&key=" + masterKey;
+                    + "?key=" + masterKey;
     private static final String infoRequestURL =
             "https://openpositioning.org/api/live/users/trajectories/" + userKey
                     + "?key=" + masterKey;
-    private static final String PROTOCOL_CONTENT_TYPE = "multipart/form-data";
     private static final String PROTOCOL_ACCEPT_TYPE = "application/json";
+    // Size of the buffer for writing downloaded trajectories to local storage
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+    // Default size budget of the download cache in megabytes
+    private static final int DEFAULT_CACHE_MB = 128;
+    // Limits of the shared HTTP transport
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS = 16;
+    private static final int MAX_REQUESTS_PER_HOST = 6;
+
+    // Client shared by all instances, holding the connection pool and dispatcher threads
+    private static OkHttpClient httpClient;
+    // Timing metrics of all calls made with the shared client
+    private static final NetworkMetrics networkMetrics = new NetworkMetrics();
+    // Uploaders shared by all instances
+    private static TrajectoryUploader trajectoryUploader;
+    private static ResumableUploader resumableUploader;
+    // Files larger than this many bytes are uploaded in resumable chunks
+    private static final long RESUMABLE_THRESHOLD = 4 * 1024 * 1024;
+    // Cleared once the server rejected a resumable upload session
+    private static volatile boolean resumableSupported = true;
+    // Downloaded trajectories in local storage and the threads downloading them
+    private static TrajectoryCache trajectoryCache;
+    private static final ExecutorService downloadExecutor = Executors.newCachedThreadPool();
 
 
 
     /**
      * Public default constructor of {@link ServerCommunications}. The constructor saves context,
-     * initialises a {@link ConnectivityManager}, {@link Observer} and gets the user preferences.
-     * Boolean variables storing WiFi and Mobile Data connection status are initialised to false.
+     * gets the user preferences and initialises the list of {@link Observer}s. Network status is
+     * handled by the {@link UploadQueue}.
      *
      * @param context   application context for handling permissions and devices.
      */
     public ServerCommunications(Context context) {
         this.context = context;
-        this.connMgr = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
         this.settings = PreferenceManager.getDefaultSharedPreferences(context);
-        this.isWifiConn = false;
-        this.isMobileConn = false;
-        checkNetworkStatus();
 
         this.observers = new ArrayList<>();
     }
 
     /**
-     * Outgoing communication request with a {@link Traj trajectory} object. The recorded
-     * trajectory is passed to the method. It is processed into the right format for sending
-     * to the API server.
+     * Get the {@link OkHttpClient} shared by all requests to the server, creating it on first use.
+     * Sharing the client lets all requests reuse the same pooled connections and TLS sessions,
+     * and multiplex over a single HTTP/2 connection when the server supports it, instead of
+     * performing a new handshake for every request.
      *
-     * @param trajectory    Traj object matching all the timing and formal restrictions.
+     * @return  the shared OkHttpClient.
      */
-    public void sendTrajectory(Traj.Trajectory trajectory){
+    public static synchronized OkHttpClient getHttpClient() {
+        if(httpClient == null) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(MAX_REQUESTS);
+            dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+            httpClient = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES,
+                            TimeUnit.MINUTES))
+                    .dispatcher(dispatcher)
+                    .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                    .eventListenerFactory(networkMetrics.factory())
+                    .retryOnConnectionFailure(true)
+                    .build();
+        }
+        return httpClient;
+    }
 
-        // Convert the trajectory to byte array
-        byte[] binaryTrajectory = trajectory.toByteArray();
+    /**
+     * Get the timing metrics of all requests made to the server since the application started.
+     *
+     * @return  the shared {@link NetworkMetrics}.
+     */
+    public static NetworkMetrics getNetworkMetrics() {
+        return networkMetrics;
+    }
 
-        // Get the directory path for storing the file with the trajectory
-        java.io.File path = context.getFilesDir();
+    /**
+     * Outgoing communication request with a trajectory file already stored locally. The file is
+     * added to the persistent {@link UploadQueue}, which uploads it to the API server once the
+     * network status and user preferences allow it, and deletes it once the server accepted it.
+     *
+     * @param file  local file containing a binary serialised {@link Traj.Trajectory}.
+     *
+     * @see TrajectoryWriter producing trajectory files during the recording.
+     */
+    public void sendTrajectory(File file) {
+        UploadQueue.getInstance(context).enqueue(file);
+    }
 
-        // Format the file name according to date
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yy-HH-mm-ss");
-        Date date = new Date();
-        java.io.File file = new File(path, "trajectory_" + dateFormat.format(date) +  ".txt");
+    /**
+     * Uploads a local trajectory file to the API server in the specified format. The file is
+     * added to the persistent {@link UploadQueue} and only deleted once the server accepted it, so
+     * failed uploads are retried and the file is never lost.
+     *
+     * @param localTrajectory the File object of the local trajectory to be uploaded
+     */
+    public void uploadLocalTrajectory(File localTrajectory) {
+        UploadQueue.getInstance(context).enqueue(localTrajectory);
+    }
 
-        try {
-            // Write the binary data to the file
-            FileOutputStream stream = new FileOutputStream(file);
-            stream.write(binaryTrajectory);
-            stream.close();
-            System.out.println("Recorded binary trajectory for debugging stored in: " + path);
-        } catch (IOException ee) {
-            // Catch and print if writing to the file fails
-            System.err.println("Storing of recorded binary trajectory failed: " + ee.getMessage());
+    /**
+     * Synchronous request uploading a trajectory file to the API server. Blocks until the server
+     * has responded, so it must not be called from the UI thread. Files larger than
+     * {@link ServerCommunications#RESUMABLE_THRESHOLD} are uploaded in resumable chunks, so that
+     * a later attempt continues where an interrupted one stopped. Smaller files, and all files if
+     * the server does not offer resumable uploads, are sent in a single request, gzip compressed
+     * if enabled in the user preferences. The file is not deleted, this is left to the caller.
+     *
+     * @param file  local file containing a binary serialised {@link Traj.Trajectory}.
+     * @return      HTTP status code of the server response.
+     * @throws IOException  if the server could not be reached or the connection failed.
+     *
+     * @see UploadQueue calling this method for every upload attempt.
+     * @see ResumableUploader performing chunked uploads.
+     * @see TrajectoryUploader performing single request uploads.
+     */
+    public int uploadFile(File file) throws IOException {
+        if(resumableSupported && file.length() > RESUMABLE_THRESHOLD) {
+            ResumableUploader uploader = getResumableUploader(context);
+            try {
+                return uploader.upload(file);
+            }
+            catch (ResumableUploader.UnsupportedServerException e) {
+                // Server does not offer resumable uploads, send files in a single request instead
+                System.err.println(e.getMessage());
+                resumableSupported = false;
+                uploader.discard(file);
+            }
         }
+        boolean compress = settings.getBoolean("compress_uploads", false);
+        return getTrajectoryUploader().upload(file, compress);
+    }
 
-        // Check connections available before sending data
-        checkNetworkStatus();
-
-        // Check if user preference allows for syncing with mobile data
-        // TODO: add sync delay and enforce settings
-        boolean enableMobileData = this.settings.getBoolean("mobile_sync", false);
-        // Check if device is connected to WiFi or to mobile data with enabled preference
-        if(this.isWifiConn || (enableMobileData && isMobileConn)) {
-            // Instantiate client for HTTP requests
-            OkHttpClient client = new OkHttpClient();
-
-            // Creaet a equest body with a file to upload in multipart/form-data format
-            RequestBody requestBody = new MultipartBody.Builder().setType(MultipartBody.FORM)
-                    .addFormDataPart("file", file.getName(),
-                            RequestBody.create(MediaType.parse("text/plain"), file))
-                    .build();
-
-            // Create a POST request with the required headers
-            okhttp3.Request request = new okhttp3.Request.Builder().url(uploadURL).post(requestBody)
-                    .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
-                    .addHeader("Content-Type", PROTOCOL_CONTENT_TYPE).build();
-
-            // Enqueue the request to be executed asynchronously and handle the response
-            client.newCall(request).enqueue(new okhttp3.Callback() {
-
-                // Handle failure to get response from the server
-                @Override public void onFailure(Call call, IOException e) {
-                    e.printStackTrace();
-                    System.err.println("Failure to get response");
-                    // Delete the local file and set success to false
-                    //file.delete();
-                    success = false;
-                    notifyObservers(1);
-                }
-
-                // Process the server's response
-                @Override public void onResponse(Call call, Response response) throws IOException {
-                    try (ResponseBody responseBody = response.body()) {
-                        // If the response is unsuccessful, delete the local file and throw an
-                        // exception
-                        if (!response.isSuccessful()) {
-                            //file.delete();
-                            System.err.println("POST error response: " + responseBody.string());
-                            success = false;
-                            notifyObservers(1);
-                            throw new IOException("Unexpected code " + response);
-                        }
-
-                        // Print the response headers
-                        Headers responseHeaders = response.headers();
-                        for (int i = 0, size = responseHeaders.size(); i < size; i++) {
-                            System.out.println(responseHeaders.name(i) + ": " + responseHeaders.value(i));
-                        }
-                        // Print a confirmation of a successful POST to API
-                        System.out.println("Successful post response: " + responseBody.string());
-
-                        // Delete local file and set success to true
-                        success = file.delete();
-                        notifyObservers(1);
-                    }
-                }
-            });
-        }
-        else {
-            // If the device is not connected to network or allowed to send, do not send trajectory
-            // and notify observers and user
-            System.err.println("No uploading allowed right now!");
-            success = false;
-            notifyObservers(1);
+    /**
+     * Get the {@link TrajectoryUploader} shared by all instances, creating it on first use, so
+     * that a server rejecting compressed uploads is remembered.
+     *
+     * @return  the shared TrajectoryUploader.
+     */
+    private static synchronized TrajectoryUploader getTrajectoryUploader() {
+        if(trajectoryUploader == null) {
+            trajectoryUploader = new TrajectoryUploader(getHttpClient(), HttpUrl.get(uploadURL));
         }
+        return trajectoryUploader;
+    }
 
+    /**
+     * Get the {@link ResumableUploader} shared by all instances, creating it on first use. The
+     * journals of unfinished uploads are kept in local storage.
+     *
+     * @param context   application context for accessing local storage.
+     * @return          the shared ResumableUploader.
+     */
+    private static synchronized ResumableUploader getResumableUploader(Context context) {
+        if(resumableUploader == null) {
+            resumableUploader = new ResumableUploader(getHttpClient(),
+                    HttpUrl.get(resumableUploadURL), new File(context.getFilesDir(), "uploads"),
+                    ResumableUploader.DEFAULT_CHUNK_SIZE);
+        }
+        return resumableUploader;
     }
 
     /**
-     * Uploads a local trajectory file to the API server in the specified format.
-     * {@link okhttp3.OkHttp} library is used for the asynchronous POST request.
+     * Get a downloaded Trajectory from local storage, without accessing the network.
      *
-     * @param localTrajectory the File object of the local trajectory to be uploaded
+     * @param id    id of the trajectory on the server.
+     * @return      binary trajectory file, or null if the trajectory has not been downloaded.
      */
-    public void uploadLocalTrajectory(File localTrajectory) {
-        // Instantiate client for HTTP requests
-        OkHttpClient client = new OkHttpClient();
+    public File getCachedTrajectory(String id) {
+        return getTrajectoryCache().peek(id);
+    }
 
-        // Create request body with a file to upload in multipart/form-data format
-        RequestBody requestBody = new MultipartBody.Builder().setType(MultipartBody.FORM)
-                .addFormDataPart("file", localTrajectory.getName(),
-                        RequestBody.create(MediaType.parse("text/plain"), localTrajectory))
-                .build();
+    /**
+     * Check if a Trajectory has been downloaded to local storage.
+     *
+     * @param id    id of the trajectory on the server.
+     * @return      true if the trajectory is available without network access.
+     */
+    public boolean isTrajectoryCached(String id) {
+        return getTrajectoryCache().contains(id);
+    }
 
-        // Create a POST request with the required headers
-        okhttp3.Request request = new okhttp3.Request.Builder().url(uploadURL).post(requestBody)
-                .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
-                .addHeader("Content-Type", PROTOCOL_CONTENT_TYPE).build();
-
-        // Enqueue the request to be executed asynchronously and handle the response
-        client.newCall(request).enqueue(new okhttp3.Callback() {
-            @Override public void onFailure(Call call, IOException e) {
-                // Print error message, set success to false and notify observers
-                e.printStackTrace();
-                localTrajectory.delete();
-                success = false;
-                System.err.println("UPLOAD: Failure to get response");
-                notifyObservers(1);
-            }
+    /**
+     * Perform API request for downloading a Trajectory uploaded to the server, unless it is
+     * already in the local {@link TrajectoryCache}. The binary trajectory is exported to JSON as
+     * well if enabled in the user preferences.
+     *
+     * @param id        id of the trajectory on the server.
+     * @param position  the position of the trajectory in the listing of uploaded trajectories.
+     *
+     * @see ServerCommunications#downloadTrajectory(String, int, boolean) performing the download.
+     */
+    public void downloadTrajectory(String id, int position) {
+        downloadTrajectory(id, position, settings.getBoolean("export_json", false));
+    }
 
-            @Override public void onResponse(Call call, Response response) throws IOException {
-                try (ResponseBody responseBody = response.body()) {
-                    if (!response.isSuccessful()) {
-                        // Print error message, set success to false and throw an exception
-                        success = false;
-                        System.err.println("UPLOAD unsuccessful: " + responseBody.string());
-                        notifyObservers(1);
-                        localTrajectory.delete();
-                        throw new IOException("UPLOAD failed with code " + response);
-                    }
-
-                    // Print the response headers
-                    Headers responseHeaders = response.headers();
-                    for (int i = 0, size = responseHeaders.size(); i < size; i++) {
-                        System.out.println(responseHeaders.name(i) + ": " + responseHeaders.value(i));
-                    }
-
-                    // Print a confirmation of a successful POST to API
-                    System.out.println("UPLOAD SUCCESSFUL: " + responseBody.string());
-
-                    // Delete local file, set success to true and notify observers
-                    success = localTrajectory.delete();
-                    notifyObservers(1);
+    /**
+     * Perform API request for downloading a Trajectory uploaded to the server. Trajectories are
+     * stored in the {@link TrajectoryCache} in local storage, so a trajectory that was downloaded
+     * before is available immediately and without network access, and concurrent requests for
+     * the same trajectory share a single download. The trajectory can optionally be converted to a
+     * JSON file with the {@link TrajectoryJsonExporter}. Runs on a background thread.
+     *
+     * @param id            id of the trajectory on the server.
+     * @param position      the position of the trajectory in the listing of uploaded trajectories.
+     * @param exportJson    true to also write the trajectory as JSON.
+     */
+    public void downloadTrajectory(String id, int position, boolean exportJson) {
+        TrajectoryCache cache = getTrajectoryCache();
+        cache.setMaxBytes(getCacheBudget());
+        downloadExecutor.execute(() -> {
+            try {
+                File file = cache.get(id, target -> fetchTrajectory(id, position, target));
+                System.out.println("Trajectory " + id + " available in: " + file);
+
+                // Convert the trajectory to JSON only on request
+                if (exportJson) {
+                    File jsonFile = new File(context.getFilesDir(), "received_" + id + ".json");
+                    TrajectoryJsonExporter.export(file, jsonFile);
+                    System.out.println("Received trajectory exported to: " + jsonFile);
                 }
+            } catch (IOException e) {
+                System.err.println("Trajectory download failed: " + e.getMessage());
             }
         });
     }
 
     /**
-     * Perform API request for downloading a Trajectory uploaded to the server. The trajectory is
-     * retrieved from a zip file, with the method accepting a position argument specifying the
-     * trajectory to be downloaded. The trajectory is then converted to a protobuf object and
-     * then to a JSON string to be downloaded to the device's Downloads folder.
+     * Synchronous API request retrieving a Trajectory uploaded to the server. Only the page of the
+     * listing at the given position is requested, and the zip entry of the trajectory is streamed
+     * straight to the target file, without holding the trajectory in memory.
      *
-     * @param position the position of the trajectory in the zip file to retrieve
+     * @param id        id of the trajectory on the server.
+     * @param position  the position of the trajectory in the listing of uploaded trajectories.
+     * @param target    file to write the binary trajectory to.
+     * @throws IOException  if the request fails or the response does not hold the trajectory.
+     *
+     * @see ServerCommunications#extractTrajectory(InputStream, String, File) selecting the entry.
      */
-    public void downloadTrajectory(int position) {
-        // Initialise OkHttp client
-        OkHttpClient client = new OkHttpClient();
-
-        // Create GET request with required header
+    private void fetchTrajectory(String id, int position, File target) throws IOException {
+        // Create GET request for the single trajectory at the position with required header
+        HttpUrl url = HttpUrl.get(downloadURL).newBuilder()
+                .addQueryParameter("skip", String.valueOf(position))
+                .addQueryParameter("limit", "1")
+                .build();
         okhttp3.Request request = new okhttp3.Request.Builder()
-                .url(downloadURL)
+                .url(url)
                 .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
                 .get()
                 .build();
 
-        // Enqueue the GET request for asynchronous execution
-        client.newCall(request).enqueue(new okhttp3.Callback() {
-            @Override public void onFailure(Call call, IOException e) {
-                e.printStackTrace();
-            }
+        // Execute the GET request with the shared client on the calling thread
+        try (Response response = getHttpClient().newCall(request).execute();
+             ResponseBody responseBody = response.body()) {
+            if (!response.isSuccessful()) throw new IOException("Unexpected code " + response);
+            long size = extractTrajectory(responseBody.byteStream(), id, target);
+            System.out.println("Successful download of " + size + " bytes");
+        }
+    }
 
-            @Override public void onResponse(Call call, Response response) throws IOException {
-                try (ResponseBody responseBody = response.body()) {
-                    if (!response.isSuccessful()) throw new IOException("Unexpected code "
-                            + response);
-
-                    // Create input streams to process the response
-                    InputStream inputStream = responseBody.byteStream();
-                    ZipInputStream zipInputStream = new ZipInputStream(inputStream);
-
-                    // Get the nth entry in the zip file
-                    java.util.zip.ZipEntry zipEntry;
-                    int zipCount = 0;
-                    while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-                        if (zipCount == position) {
-                            // break if zip entry position matches the desired position
-                            break;
-                        }
-                        zipCount++;
-                    }
-
-                    // Initialise a byte array output stream
-                    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-
-                    // Read the zipped data and write it to the byte array output stream
-                    byte[] buffer = new byte[1024];
-                    int bytesRead;
-                    while ((bytesRead = zipInputStream.read(buffer)) != -1) {
-                        byteArrayOutputStream.write(buffer, 0, bytesRead);
-                    }
-
-                    // Convert the byte array to a protobuf object
-                    byte[] byteArray = byteArrayOutputStream.toByteArray();
-                    Traj.Trajectory receivedTrajectory = Traj.Trajectory.parseFrom(byteArray);
-
-                    // Convert the protobuf object to a string
-                    JsonFormat.Printer printer = JsonFormat.printer();
-                    String receivedTrajectoryString = printer.print(receivedTrajectory);
-                    System.out.println("Successful download: "
-                            + receivedTrajectoryString.substring(0, 100));
-
-                    // Save the received trajectory to a file in the Downloads folder
-                    //String storagePath = Environment.getExternalStoragePublicDirectory(Environment
-                           // .DIRECTORY_DOWNLOADS).toString();
-                    String storagePath = context.getFilesDir().toString();
-
-                    File file = new File(storagePath, "received_trajectory.txt");
-                    try (FileWriter fileWriter = new FileWriter(file)) {
-                        fileWriter.write(receivedTrajectoryString);
-                        fileWriter.flush();
-                        System.err.println("Received trajectory stored in: " + storagePath);
-                    } catch (IOException ee) {
-                        System.err.println("Trajectory download failed");
-                    } finally {
-                        // Close all streams and entries to release resources
-                        zipInputStream.closeEntry();
-                        byteArrayOutputStream.close();
-                        zipInputStream.close();
-                        inputStream.close();
-                    }
+    /**
+     * Write the trajectory with the given id from a zip file of trajectories to the target file.
+     * The entry whose name holds the id is selected; a zip file with a single entry, the page of
+     * the listing requested for the trajectory, is used even if the entry name has no id. The
+     * written file is checked to be a readable trajectory, so that the {@link TrajectoryCache}
+     * never stores a wrong or damaged file under the id.
+     *
+     * @param zip       stream of the zip file.
+     * @param id        id of the trajectory on the server.
+     * @param target    file to write the binary trajectory to.
+     * @return          size of the trajectory in bytes.
+     * @throws IOException  if the zip file cannot be read, has no entry for the id or the entry
+     *                      is not a trajectory.
+     */
+    static long extractTrajectory(InputStream zip, String id, File target) throws IOException {
+        long size = -1;
+        boolean found = false;
+        int count = 0;
+        try (ZipInputStream zipInputStream = new ZipInputStream(zip)) {
+            java.util.zip.ZipEntry zipEntry;
+            while (!found && (zipEntry = zipInputStream.getNextEntry()) != null) {
+                if(zipEntry.isDirectory()) continue;
+                count++;
+                found = isEntryOf(zipEntry.getName(), id);
+                // Keep the first entry in case it is the only one, skip the data of others
+                if(found || count == 1) {
+                    size = copy(zipInputStream, target);
                 }
+                zipInputStream.closeEntry();
             }
-        });
-
+        }
+        if(!found && count != 1) {
+            target.delete();
+            throw new IOException("No trajectory " + id + " in download of " + count + " entries");
+        }
+        try {
+            TrajectorySummary.scan(target);
+        } catch (IOException e) {
+            target.delete();
+            throw new IOException("Downloaded trajectory " + id + " is malformed", e);
+        }
+        return size;
     }
 
     /**
-     * API request for information about submitted trajectories. If the response is successful,
-     * the {@link ServerCommunications#infoResponse} field is updated and observes notified.
+     * Check if the name of a zip entry holds a trajectory id, as a separate token of its file
+     * name without directories and extension.
      *
+     * @param name  name of the zip entry.
+     * @param id    id of the trajectory on the server.
+     * @return      true if the entry is the trajectory with the id.
      */
-    public void sendInfoRequest() {
-        // Create a new OkHttpclient
-        OkHttpClient client = new OkHttpClient();
-
-        // Create GET info request with appropriate URL and header
-        okhttp3.Request request = new okhttp3.Request.Builder()
-                .url(infoRequestURL)
-                .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
-                .get()
-                .build();
+    private static boolean isEntryOf(String name, String id) {
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        int extension = fileName.lastIndexOf('.');
+        if(extension > 0) fileName = fileName.substring(0, extension);
+        return Arrays.asList(fileName.split("[^A-Za-z0-9]+")).contains(id);
+    }
 
-        // Enqueue the GET request for asynchronous execution
-        client.newCall(request).enqueue(new okhttp3.Callback() {
-            @Override public void onFailure(Call call, IOException e) {
-                e.printStackTrace();
+    /**
+     * Copy the current entry of a zip file to a file with a large buffer.
+     *
+     * @return  number of bytes written.
+     */
+    private static long copy(ZipInputStream zipInputStream, File target) throws IOException {
+        long size = 0;
+        try (OutputStream outputStream = new FileOutputStream(target)) {
+            byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = zipInputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, bytesRead);
+                size += bytesRead;
             }
+        }
+        return size;
+    }
 
-            @Override public void onResponse(Call call, Response response) throws IOException {
-                try (ResponseBody responseBody = response.body()) {
-                    // Check if the response is successful
-                    if (!response.isSuccessful()) throw new IOException("Unexpected code " +
-                            response);
-
-                    // Get the requested information from the response body and save it in a string
-                    // TODO: add printing to the screen somewhere
-                    infoResponse =  responseBody.string();
-                    // Print a message in the console and notify observers
-                    System.out.println("Response received");
-                    notifyObservers(0);
-                }
+    /**
+     * Get the {@link TrajectoryCache} shared by all instances, creating it on first use.
+     *
+     * @return  the shared TrajectoryCache.
+     */
+    private TrajectoryCache getTrajectoryCache() {
+        synchronized (ServerCommunications.class) {
+            if(trajectoryCache == null) {
+                trajectoryCache = new TrajectoryCache(
+                        new File(context.getFilesDir(), "trajectory_cache"), getCacheBudget());
             }
-        });
+            return trajectoryCache;
+        }
     }
 
     /**
-     * This method checks the device's connection status. It sets boolean variables depending on
-     * the type of active network connection.
+     * Get the size budget of the download cache from the user preferences.
+     *
+     * @return  maximum size of the cache in bytes.
      */
-    private void checkNetworkStatus() {
-        // Get active network information
-        NetworkInfo activeInfo = connMgr.getActiveNetworkInfo();
-
-        // Check for active connection and set flags accordingly
-        if (activeInfo != null && activeInfo.isConnected()) {
-            isWifiConn = activeInfo.getType() == ConnectivityManager.TYPE_WIFI;
-            isMobileConn = activeInfo.getType() == ConnectivityManager.TYPE_MOBILE;
-        } else {
-            isWifiConn = false;
-            isMobileConn = false;
-        }
+    private long getCacheBudget() {
+        return settings.getInt("download_cache_size", DEFAULT_CACHE_MB) * 1024L * 1024L;
+    }
+
+    /**
+     * API request for information about submitted trajectories. The listing cached in local
+     * storage is published to the observers first, so it can be displayed immediately. The server
+     * is then asked for the listing with the ETag of the cached copy, and observers are notified
+     * again only if it changed. Runs on a background thread.
+     *
+     * @see TrajectoryListing caching and parsing the listing.
+     */
+    public void sendInfoRequest() {
+        TrajectoryListing listing = new TrajectoryListing(context.getFilesDir());
+        downloadExecutor.execute(() -> {
+            // Show the last known listing straight away
+            List<TrajectoryEntry> cached = listing.loadCached();
+            if(cached != null) {
+                trajectoryEntries = cached;
+                notifyObservers(0);
+            }
+
+            // Create GET info request with appropriate URL and header, only asking for the
+            // listing if it differs from the cached one
+            okhttp3.Request.Builder builder = new okhttp3.Request.Builder()
+                    .url(infoRequestURL)
+                    .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
+                    .get();
+            String etag = (cached != null) ? listing.getETag() : null;
+            if(etag != null) builder.addHeader("If-None-Match", etag);
+
+            // Execute the request with the shared client on this thread
+            try (Response response = getHttpClient().newCall(builder.build()).execute();
+                 ResponseBody responseBody = response.body()) {
+                if (response.code() == 304) {
+                    System.out.println("Trajectory listing not modified");
+                    return;
+                }
+                // Check if the response is successful
+                if (!response.isSuccessful()) throw new IOException("Unexpected code " +
+                        response);
+
+                // Store the listing and parse it into entries
+                trajectoryEntries = listing.store(responseBody.byteStream(),
+                        response.header("ETag"));
+                // Print a message in the console and notify observers
+                System.out.println("Response received");
+                notifyObservers(0);
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                System.err.println("Trajectory listing request failed: " + e.getMessage());
+            }
+        });
     }
 
     /**
@@ -430,10 +504,7 @@ public class ServerCommunications implements Observable {
     public void notifyObservers(int index) {
         for(Observer o : observers) {
             if(index == 0 && o instanceof FilesFragment) {
-                o.update(new String[] {infoResponse});
-            }
-            else if (index == 1 && o instanceof MainActivity) {
-                o.update(new Boolean[] {success});
+                o.update(trajectoryEntries.toArray(new TrajectoryEntry[0]));
             }
         }
     }
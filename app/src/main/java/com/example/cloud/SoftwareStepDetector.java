@@ -0,0 +1,209 @@
+package com.example.cloud;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming step detector over the accelerometer magnitude, as an alternative to the hardware
+ * step detector sensor.
+ * <p>
+ * The hardware step detector reports steps with a vendor specific delay, which can be several
+ * hundred milliseconds, and misses steps on some devices. This detector finds steps as peaks of
+ * the accelerometer magnitude instead, so all devices report steps with the same, short delay.
+ * The magnitude is smoothed with a short low-pass filter and compared to a slowly adapting
+ * baseline, which follows gravity and sensor bias. A step is the highest point of the smoothed
+ * signal that exceeds the baseline by the peak threshold, confirmed once no higher value has
+ * arrived for the lookahead time. The signal has to cross back below the baseline between two
+ * steps, and steps closer than the minimum step interval are merged, which rejects the secondary
+ * peaks of a single step.
+ * <p>
+ * Every confirmed step reports its detection latency, the time from the peak to its confirmation,
+ * which is bounded by the lookahead plus one sampling period. Pushing samples does not allocate,
+ * so the detector can run live on the sensor thread, or offline over the recorded IMU samples of a
+ * trajectory with {@link SoftwareStepDetector#detect(List)}.
+ * <p>
+ * The class is not thread safe, samples are expected from a single thread.
+ *
+ * @see com.example.cloud.sensors.SensorFusion running the detector live.
+ */
+public class SoftwareStepDetector {
+
+    // Default minimum height of a step peak above the baseline in m/s^2
+    public static final double DEFAULT_PEAK_THRESHOLD = 1.2;
+    // Default time without a higher value before a peak is confirmed in milliseconds
+    public static final long DEFAULT_LOOKAHEAD_MS = 100;
+    // Default minimum time between two steps in milliseconds
+    public static final long DEFAULT_MIN_STEP_INTERVAL_MS = 250;
+    // Time constants of the smoothing filter and of the baseline in nanoseconds
+    private static final double SMOOTHING_TAU_NS = 20e6;
+    private static final double BASELINE_TAU_NS = 1e9;
+    // Static constant used for converting between milliseconds and nanoseconds
+    private static final long MS2NS = 1000000L;
+
+    // Configuration
+    private final double peakThreshold;
+    private final long lookaheadNs;
+    private final long minStepIntervalNs;
+
+    // Filter state
+    private boolean initialised;
+    private long lastTimestamp;
+    private double smoothed;
+    private double baseline;
+    // Peak candidate waiting for confirmation
+    private boolean hasCandidate;
+    private double candidateHeight;
+    private long candidateTimestamp;
+    // True once the signal has crossed below the baseline since the last step
+    private boolean armed;
+    // Last confirmed step
+    private long lastStepTimestamp;
+    private long lastLatencyNs;
+    private int stepCount;
+
+    /**
+     * Public default constructor of the SoftwareStepDetector with the default thresholds.
+     */
+    public SoftwareStepDetector() {
+        this(DEFAULT_PEAK_THRESHOLD, DEFAULT_LOOKAHEAD_MS, DEFAULT_MIN_STEP_INTERVAL_MS);
+    }
+
+    /**
+     * Constructor of the SoftwareStepDetector with custom thresholds.
+     *
+     * @param peakThreshold         minimum height of a step peak above the baseline in m/s^2.
+     * @param lookaheadMs           time without a higher value before a peak is confirmed in
+     *                              milliseconds. Longer lookaheads reject more false peaks, but
+     *                              delay every step.
+     * @param minStepIntervalMs     minimum time between two steps in milliseconds.
+     */
+    public SoftwareStepDetector(double peakThreshold, long lookaheadMs, long minStepIntervalMs) {
+        if(peakThreshold <= 0 || lookaheadMs < 0 || minStepIntervalMs < 0) {
+            throw new IllegalArgumentException("Invalid step detector thresholds");
+        }
+        this.peakThreshold = peakThreshold;
+        this.lookaheadNs = lookaheadMs * MS2NS;
+        this.minStepIntervalNs = minStepIntervalMs * MS2NS;
+        reset();
+    }
+
+    /**
+     * Clear the filter state and the step count, for example when a new recording starts.
+     */
+    public void reset() {
+        this.initialised = false;
+        this.hasCandidate = false;
+        this.armed = true;
+        this.lastStepTimestamp = Long.MIN_VALUE / 2;
+        this.lastLatencyNs = 0;
+        this.stepCount = 0;
+    }
+
+    /**
+     * Process an accelerometer sample.
+     *
+     * @param timestampNs   timestamp of the sample in nanoseconds, non-decreasing.
+     * @param magnitude     magnitude of the acceleration in m/s^2, including gravity.
+     * @return              true if a step was confirmed with this sample, see
+     *                      {@link SoftwareStepDetector#getLastStepTimestamp()}.
+     */
+    public boolean push(long timestampNs, double magnitude) {
+        if(!initialised) {
+            initialised = true;
+            smoothed = magnitude;
+            baseline = magnitude;
+            lastTimestamp = timestampNs;
+            return false;
+        }
+        double dt = Math.max(timestampNs - lastTimestamp, 0);
+        lastTimestamp = timestampNs;
+        smoothed += dt / (SMOOTHING_TAU_NS + dt) * (magnitude - smoothed);
+        baseline += dt / (BASELINE_TAU_NS + dt) * (magnitude - baseline);
+        double height = smoothed - baseline;
+
+        if(height < 0) {
+            armed = true;
+        }
+        if(hasCandidate) {
+            if(height > candidateHeight) {
+                // The peak is still rising
+                candidateHeight = height;
+                candidateTimestamp = timestampNs;
+            }
+            else if(timestampNs - candidateTimestamp >= lookaheadNs) {
+                hasCandidate = false;
+                armed = false;
+                lastStepTimestamp = candidateTimestamp;
+                lastLatencyNs = timestampNs - candidateTimestamp;
+                stepCount++;
+                return true;
+            }
+        }
+        else if(armed && height > peakThreshold
+                && timestampNs - lastStepTimestamp >= minStepIntervalNs) {
+            hasCandidate = true;
+            candidateHeight = height;
+            candidateTimestamp = timestampNs;
+        }
+        return false;
+    }
+
+    /**
+     * Process an accelerometer sample given as its axis values.
+     *
+     * @param timestampNs   timestamp of the sample in nanoseconds, non-decreasing.
+     * @param x             acceleration along the x axis in m/s^2.
+     * @param y             acceleration along the y axis in m/s^2.
+     * @param z             acceleration along the z axis in m/s^2.
+     * @return              true if a step was confirmed with this sample.
+     */
+    public boolean push(long timestampNs, float x, float y, float z) {
+        return push(timestampNs, Math.sqrt(x * x + y * y + z * z));
+    }
+
+    /**
+     * Get the time of the peak of the last confirmed step.
+     *
+     * @return  timestamp in nanoseconds, in the time base of the pushed samples.
+     */
+    public long getLastStepTimestamp() {
+        return lastStepTimestamp;
+    }
+
+    /**
+     * Get the time between the peak of the last confirmed step and its confirmation.
+     *
+     * @return  detection latency in nanoseconds.
+     */
+    public long getLastLatencyNs() {
+        return lastLatencyNs;
+    }
+
+    /**
+     * Get the number of steps confirmed since the last reset.
+     *
+     * @return  number of steps.
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Detect the steps in recorded IMU samples, for example the imu_data of a trajectory. The
+     * detector is reset first.
+     *
+     * @param samples   motion samples in timestamp order.
+     * @return          relative timestamps of the step peaks in milliseconds.
+     */
+    public List<Long> detect(List<Traj.Motion_Sample> samples) {
+        reset();
+        List<Long> steps = new ArrayList<>();
+        for (Traj.Motion_Sample sample : samples) {
+            if(push(sample.getRelativeTimestamp() * MS2NS, sample.getAccX(), sample.getAccY(),
+                    sample.getAccZ())) {
+                steps.add(lastStepTimestamp / MS2NS);
+            }
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.cloud;
+
+/**
+ * Online accumulator of the acceleration magnitudes of the current step.
+ * <p>
+ * Every acceleration magnitude is folded into a running minimum, maximum, sum and count as it
+ * arrives, instead of being stored until the step is detected. Adding a sample does not allocate,
+ * and memory use is constant however long no step is detected, for example while waiting in an
+ * elevator. The accumulated features are sufficient for the Weiberg step length estimate, which
+ * only depends on the range of the magnitudes.
+ * <p>
+ * The class is not thread safe, samples and steps are expected on the sensor thread.
+ *
+ * @see PdrProcessing#updatePdr(long, StepFeatureAccumulator, float) estimating the step length.
+ */
+public class StepFeatureAccumulator {
+
+    // Running features of the magnitudes since the last reset
+    private double min;
+    private double max;
+    private double sum;
+    private int count;
+
+    /**
+     * Public default constructor of the StepFeatureAccumulator, starting empty.
+     */
+    public StepFeatureAccumulator() {
+        reset();
+    }
+
+    /**
+     * Add an acceleration magnitude of the current step.
+     *
+     * @param magnitude acceleration magnitude in m/s^2.
+     */
+    public void add(double magnitude) {
+        if(magnitude < min) min = magnitude;
+        if(magnitude > max) max = magnitude;
+        sum += magnitude;
+        count++;
+    }
+
+    /**
+     * Clear the features for the next step.
+     */
+    public void reset() {
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        sum = 0;
+        count = 0;
+    }
+
+    /**
+     * Check if no magnitude has been added since the last reset.
+     *
+     * @return  true if the accumulator is empty.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Get the number of magnitudes added since the last reset.
+     *
+     * @return  number of samples.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the smallest magnitude of the current step.
+     *
+     * @return  minimum in m/s^2, NaN if empty.
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Get the largest magnitude of the current step.
+     *
+     * @return  maximum in m/s^2, NaN if empty.
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Get the mean magnitude of the current step.
+     *
+     * @return  mean in m/s^2, NaN if empty.
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Get the difference between the largest and smallest magnitude of the current step.
+     *
+     * @return  range in m/s^2, 0 if empty.
+     */
+    public double getRange() {
+        return count == 0 ? 0 : max - min;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.cloud;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of downloaded trajectory files in local storage, keyed by the trajectory id on the server.
+ * <p>
+ * Every trajectory is stored in its own file named after its id, so any number of downloaded
+ * trajectories can be kept and opened without network access. The total size of the cache is
+ * limited to a budget in bytes, evicting the least recently used trajectories first. The order of
+ * use is kept in memory and persisted through the modification time of the files, so it
+ * survives restarts of the application.
+ * <p>
+ * Concurrent requests for a trajectory that is not cached share a single download: the first
+ * request starts the {@link Loader}, and all others wait for its result. Loaders write to a
+ * temporary file which is only renamed into the cache once complete, so an interrupted download
+ * never leaves a partial trajectory behind.
+ *
+ * The class does not depend on the Android framework, so it can be tested on the JVM.
+ *
+ * @see ServerCommunications#downloadTrajectory(String, int, boolean) filling the cache.
+ */
+public class TrajectoryCache {
+
+    // Extension of cached trajectory files
+    private static final String EXTENSION = ".pb";
+    private static final String TEMP_EXTENSION = ".part";
+
+    /**
+     * Fetches a trajectory that is not cached yet.
+     */
+    public interface Loader {
+        /**
+         * Write the trajectory to the given file.
+         *
+         * @param target    file to write the binary trajectory to.
+         * @throws IOException  if the trajectory cannot be retrieved.
+         */
+        void load(File target) throws IOException;
+    }
+
+    // Directory holding the cached files
+    private final File directory;
+    // Maximum total size of the cached files in bytes
+    private volatile long maxBytes;
+    // Sizes of the cached files by id, in order of use starting with the least recently used
+    private final LinkedHashMap<String, Long> entries;
+    private long totalBytes;
+    // Downloads in progress by id
+    private final Map<String, CompletableFuture<File>> inFlight;
+
+    /**
+     * Public default constructor of the TrajectoryCache. Files already in the directory are added
+     * to the cache, ordered by their last use.
+     *
+     * @param directory directory for the cached files, created if necessary.
+     * @param maxBytes  maximum total size of the cached files in bytes.
+     */
+    public TrajectoryCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.totalBytes = 0;
+        this.inFlight = new ConcurrentHashMap<>();
+        directory.mkdirs();
+
+        File[] files = directory.listFiles();
+        if(files != null) {
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            for (File file : files) {
+                String name = file.getName();
+                if(name.endsWith(EXTENSION)) {
+                    String id = name.substring(0, name.length() - EXTENSION.length());
+                    entries.put(id, file.length());
+                    totalBytes += file.length();
+                }
+                else {
+                    // Leftover of an interrupted download
+                    file.delete();
+                }
+            }
+        }
+        evict(null);
+    }
+
+    /**
+     * Get a trajectory, loading it if it is not cached. Blocks until the file is available, so it
+     * must not be called from the UI thread. If another thread is already loading the same id, the
+     * call waits for that download instead of starting a new one.
+     *
+     * @param id        id of the trajectory on the server.
+     * @param loader    fetches the trajectory if it is not cached.
+     * @return          the cached file.
+     * @throws IOException  if the trajectory is not cached and could not be loaded.
+     */
+    public File get(String id, Loader loader) throws IOException {
+        if(!id.matches("[A-Za-z0-9_-]+")) throw new IllegalArgumentException("Invalid id " + id);
+        File cached = peek(id);
+        if(cached != null) return cached;
+
+        CompletableFuture<File> download = new CompletableFuture<>();
+        CompletableFuture<File> existing = inFlight.putIfAbsent(id, download);
+        if(existing == null) {
+            // This thread performs the download, unless one finished since checking the cache
+            try {
+                cached = peek(id);
+                download.complete(cached != null ? cached : load(id, loader));
+            } catch (IOException | RuntimeException e) {
+                download.completeExceptionally(e);
+            } finally {
+                inFlight.remove(id);
+            }
+        }
+        else {
+            download = existing;
+        }
+
+        try {
+            return download.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for trajectory " + id, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) throw (IOException) cause;
+            throw new IOException("Loading trajectory " + id + " failed", cause);
+        }
+    }
+
+    /**
+     * Get a trajectory only if it is cached, marking it as recently used. Does not access the
+     * network.
+     *
+     * @param id    id of the trajectory on the server.
+     * @return      the cached file, or null if the trajectory is not cached.
+     */
+    public synchronized File peek(String id) {
+        if(entries.get(id) == null) return null;
+        File file = getFile(id);
+        if(!file.exists()) {
+            // Removed from outside the cache
+            totalBytes -= entries.remove(id);
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Check if a trajectory is cached, without changing the order of use.
+     *
+     * @param id    id of the trajectory on the server.
+     * @return      true if the trajectory is cached.
+     */
+    public synchronized boolean contains(String id) {
+        return entries.containsKey(id) && getFile(id).exists();
+    }
+
+    /**
+     * Get the total size of the cached files.
+     *
+     * @return  size in bytes.
+     */
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    /**
+     * Change the maximum size of the cache, evicting trajectories if necessary.
+     *
+     * @param maxBytes  maximum total size of the cached files in bytes.
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        evict(null);
+    }
+
+    /**
+     * Run the loader into a temporary file and move the result into the cache.
+     */
+    private File load(String id, Loader loader) throws IOException {
+        File temp = new File(directory, id + TEMP_EXTENSION);
+        File file = getFile(id);
+        try {
+            loader.load(temp);
+            if(!temp.renameTo(file)) {
+                throw new IOException("Storing trajectory " + id + " in cache failed");
+            }
+        } finally {
+            temp.delete();
+        }
+        synchronized (this) {
+            Long previous = entries.put(id, file.length());
+            if(previous != null) totalBytes -= previous;
+            totalBytes += file.length();
+        }
+        evict(id);
+        return file;
+    }
+
+    /**
+     * Remove least recently used trajectories until the cache fits its budget.
+     *
+     * @param keep  id that must not be evicted, or null.
+     */
+    private synchronized void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if(entry.getKey().equals(keep)) continue;
+            getFile(entry.getKey()).delete();
+            totalBytes -= entry.getValue();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Get the file of a trajectory in the cache directory.
+     */
+    private File getFile(String id) {
+        return new File(directory, id + EXTENSION);
+    }
+}
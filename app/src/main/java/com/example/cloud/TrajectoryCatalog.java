@@ -0,0 +1,291 @@
+package com.example.cloud;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Catalog of the trajectory files in local storage, kept in a small SQLite database.
+ * <p>
+ * Every trajectory file has a row holding its {@link TrajectorySummary} and upload state. Rows are
+ * added when a recording is stitched, with the summary collected by the {@link TrajectoryWriter},
+ * and updated by the {@link UploadQueue}. Lists of local trajectories are therefore loaded with a
+ * single query, without listing the storage directory or opening any trajectory file. Files that
+ * are not in the catalog yet, written by older versions of the application or recovered after an
+ * interruption, are summarised once by {@link TrajectoryCatalog#reconcile(File)}.
+ * <p>
+ * The class follows the singleton design pattern. SQLite serialises access to the database, so
+ * the methods can be called from any thread, but not from the UI thread, as they access storage.
+ *
+ * @see com.example.cloud.fragments.UploadFragment displaying the catalog.
+ */
+public class TrajectoryCatalog extends SQLiteOpenHelper implements UploadQueue.StateStore {
+
+    // Upload states of local trajectories. Rows of uploaded files are removed with the file.
+    public static final int STATE_PENDING = 0;
+    public static final int STATE_QUEUED = 1;
+    public static final int STATE_REJECTED = 2;
+
+    private static final String DATABASE_NAME = "trajectory_catalog.db";
+    private static final int DATABASE_VERSION = 1;
+    private static final String TABLE = "trajectories";
+    private static final String COLUMN_PATH = "path";
+    private static final String COLUMN_START = "start_timestamp";
+    private static final String COLUMN_DURATION = "duration_ms";
+    private static final String COLUMN_SIZE = "size_bytes";
+    private static final String COLUMN_STATE = "upload_state";
+    // Sample count columns, indexed by the stream constants of TrajectorySummary
+    private static final String[] COUNT_COLUMNS = {
+            "imu_samples", "position_samples", "pdr_samples", "pressure_samples",
+            "light_samples", "gnss_samples", "wifi_samples"
+    };
+
+    /**
+     * Row of the catalog.
+     */
+    public static final class Entry {
+        private final File file;
+        private final TrajectorySummary summary;
+        private final int uploadState;
+
+        Entry(File file, TrajectorySummary summary, int uploadState) {
+            this.file = file;
+            this.summary = summary;
+            this.uploadState = uploadState;
+        }
+
+        /**
+         * Get the trajectory file in local storage.
+         *
+         * @return  trajectory file.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get the metadata of the trajectory.
+         *
+         * @return  summary of the trajectory file.
+         */
+        public TrajectorySummary getSummary() {
+            return summary;
+        }
+
+        /**
+         * Get the upload state of the trajectory.
+         *
+         * @return  one of the STATE constants of {@link TrajectoryCatalog}.
+         */
+        public int getUploadState() {
+            return uploadState;
+        }
+    }
+
+    // Singleton instance, created with the first call to getInstance
+    private static TrajectoryCatalog trajectoryCatalog;
+
+    /**
+     * Private constructor for implementing the singleton design pattern.
+     *
+     * @param context   application context for opening the database.
+     */
+    private TrajectoryCatalog(Context context) {
+        this(context, DATABASE_NAME);
+    }
+
+    /**
+     * Constructor of a catalog in the given database, used by local unit tests.
+     *
+     * @param context   application context for opening the database.
+     * @param name      file name of the database, or null for a database held in memory.
+     */
+    TrajectoryCatalog(Context context, String name) {
+        super(context, name, null, DATABASE_VERSION);
+    }
+
+    /**
+     * Static function to access the singleton instance of the TrajectoryCatalog, creating it with
+     * the application context if necessary. The database is only opened on first use.
+     *
+     * @param context   any context of the application.
+     * @return          singleton instance of the TrajectoryCatalog.
+     */
+    public static synchronized TrajectoryCatalog getInstance(Context context) {
+        if(trajectoryCatalog == null) {
+            trajectoryCatalog = new TrajectoryCatalog(context.getApplicationContext());
+        }
+        return trajectoryCatalog;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Creates the table of trajectories, ordered for listing by start time.
+     */
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        StringBuilder create = new StringBuilder("CREATE TABLE " + TABLE + " ("
+                + COLUMN_PATH + " TEXT PRIMARY KEY, "
+                + COLUMN_START + " INTEGER NOT NULL, "
+                + COLUMN_DURATION + " INTEGER NOT NULL, "
+                + COLUMN_SIZE + " INTEGER NOT NULL, "
+                + COLUMN_STATE + " INTEGER NOT NULL");
+        for (String column : COUNT_COLUMNS) {
+            create.append(", ").append(column).append(" INTEGER NOT NULL");
+        }
+        db.execSQL(create.append(")").toString());
+        db.execSQL("CREATE INDEX " + TABLE + "_start ON " + TABLE + " (" + COLUMN_START + ")");
+    }
+
+    /**
+     * {@inheritDoc}
+     * The catalog only holds data derived from the trajectory files, so older versions are dropped
+     * and rebuilt by the next {@link TrajectoryCatalog#reconcile(File)}.
+     */
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        onCreate(db);
+    }
+
+    //region Catalog operations
+    /**
+     * Add a trajectory file to the catalog as pending upload, replacing an existing row.
+     *
+     * @param file      trajectory file in local storage.
+     * @param summary   metadata of the trajectory file.
+     */
+    public void add(File file, TrajectorySummary summary) {
+        add(getWritableDatabase(), file, summary);
+    }
+
+    /**
+     * Change the upload state of a trajectory in the catalog.
+     *
+     * @param file          trajectory file in local storage.
+     * @param uploadState   one of the STATE constants.
+     */
+    @Override
+    public void setUploadState(File file, int uploadState) {
+        ContentValues values = new ContentValues();
+        values.put(COLUMN_STATE, uploadState);
+        getWritableDatabase().update(TABLE, values, COLUMN_PATH + " = ?",
+                new String[] {file.getAbsolutePath()});
+    }
+
+    /**
+     * Remove a trajectory from the catalog, when the file was uploaded or deleted.
+     *
+     * @param file  trajectory file in local storage.
+     */
+    @Override
+    public void remove(File file) {
+        getWritableDatabase().delete(TABLE, COLUMN_PATH + " = ?",
+                new String[] {file.getAbsolutePath()});
+    }
+
+    /**
+     * Get all local trajectories with their metadata, most recent first. Only the database is
+     * read, the trajectory files are not accessed.
+     *
+     * @return  list of catalog entries.
+     */
+    public List<Entry> getLocalTrajectories() {
+        List<Entry> entries = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE, null, null, null, null, null,
+                COLUMN_START + " DESC")) {
+            int path = cursor.getColumnIndexOrThrow(COLUMN_PATH);
+            int start = cursor.getColumnIndexOrThrow(COLUMN_START);
+            int duration = cursor.getColumnIndexOrThrow(COLUMN_DURATION);
+            int size = cursor.getColumnIndexOrThrow(COLUMN_SIZE);
+            int state = cursor.getColumnIndexOrThrow(COLUMN_STATE);
+            int[] counts = new int[COUNT_COLUMNS.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = cursor.getColumnIndexOrThrow(COUNT_COLUMNS[i]);
+            }
+            while (cursor.moveToNext()) {
+                int[] sampleCounts = new int[counts.length];
+                for (int i = 0; i < counts.length; i++) {
+                    sampleCounts[i] = cursor.getInt(counts[i]);
+                }
+                entries.add(new Entry(new File(cursor.getString(path)),
+                        new TrajectorySummary(cursor.getLong(start), cursor.getLong(duration),
+                                sampleCounts, cursor.getLong(size)),
+                        cursor.getInt(state)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Bring the catalog in line with the trajectory files in local storage. Files without a row
+     * are summarised with {@link TrajectorySummary#scan(File)} and added, and rows of files that
+     * no longer exist are removed. Only needed when the application starts, as all other changes
+     * go through the catalog.
+     *
+     * @param directory directory holding the trajectory files.
+     * @return          number of files added to the catalog.
+     */
+    public int reconcile(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith("trajectory_")
+                && name.endsWith(".txt"));
+        if(files == null) return 0;
+        SQLiteDatabase db = getWritableDatabase();
+        Set<String> known = new HashSet<>();
+        try (Cursor cursor = db.query(TABLE, new String[] {COLUMN_PATH}, null, null, null, null,
+                null)) {
+            while (cursor.moveToNext()) {
+                known.add(cursor.getString(0));
+            }
+        }
+
+        int added = 0;
+        db.beginTransaction();
+        try {
+            for (File file : files) {
+                if(file.isDirectory() || known.remove(file.getAbsolutePath())) continue;
+                try {
+                    add(db, file, TrajectorySummary.scan(file));
+                    added++;
+                } catch (IOException e) {
+                    System.err.println("Summarising " + file.getName() + " failed: "
+                            + e.getMessage());
+                }
+            }
+            // Remaining rows have no file any more
+            for (String path : known) {
+                db.delete(TABLE, COLUMN_PATH + " = ?", new String[] {path});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return added;
+    }
+
+    /**
+     * Insert or replace the row of a trajectory file.
+     */
+    private static void add(SQLiteDatabase db, File file, TrajectorySummary summary) {
+        ContentValues values = new ContentValues();
+        values.put(COLUMN_PATH, file.getAbsolutePath());
+        values.put(COLUMN_START, summary.getStartTimestamp());
+        values.put(COLUMN_DURATION, summary.getDurationMs());
+        values.put(COLUMN_SIZE, summary.getSizeBytes());
+        values.put(COLUMN_STATE, STATE_PENDING);
+        for (int i = 0; i < COUNT_COLUMNS.length; i++) {
+            values.put(COUNT_COLUMNS[i], summary.getSampleCount(i));
+        }
+        db.insertWithOnConflict(TABLE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    }
+    //endregion
+}
@@ -0,0 +1,57 @@
+package com.example.cloud;
+
+/**
+ * Metadata of a trajectory uploaded to the server, as listed in the response to the info request.
+ * Immutable, and compact enough to keep the listing of thousands of trajectories in memory.
+ *
+ * @see TrajectoryListing parsing and caching the listing.
+ */
+public final class TrajectoryEntry {
+
+    // Id of the trajectory on the server
+    private final long id;
+    // Id of the user who uploaded the trajectory
+    private final long ownerId;
+    // Time of upload as ISO-8601 string in server time
+    private final String dateSubmitted;
+
+    /**
+     * Public default constructor of the TrajectoryEntry.
+     *
+     * @param id            id of the trajectory on the server.
+     * @param ownerId       id of the user who uploaded the trajectory.
+     * @param dateSubmitted time of upload as ISO-8601 string.
+     */
+    public TrajectoryEntry(long id, long ownerId, String dateSubmitted) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.dateSubmitted = dateSubmitted;
+    }
+
+    /**
+     * Get the id of the trajectory on the server.
+     *
+     * @return  long id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get the id of the user who uploaded the trajectory.
+     *
+     * @return  long owner id.
+     */
+    public long getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * Get the time the trajectory was uploaded.
+     *
+     * @return  ISO-8601 date and time string as sent by the server.
+     */
+    public String getDateSubmitted() {
+        return dateSubmitted;
+    }
+}
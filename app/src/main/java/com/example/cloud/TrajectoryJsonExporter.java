@@ -0,0 +1,176 @@
+package com.example.cloud;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts a binary trajectory file into JSON without loading the whole trajectory into memory.
+ * <p>
+ * The output matches the JSON format of {@link JsonFormat}, with compact IMU blocks expanded into
+ * imuData samples. Every repeated field is written as a JSON array in a separate pass over the
+ * binary file, parsing and printing one element at a time, since the chunks written by
+ * {@link TrajectoryWriter} interleave the elements of different fields. The remaining singular
+ * fields, such as the start timestamp and sensor information, are small and collected in a first
+ * pass. Memory use therefore only depends on the size of a single sample or block, and the file is
+ * read sequentially once per repeated field.
+ *
+ * @see ServerCommunications#downloadTrajectory(String, int, boolean) exporting downloaded trajectories.
+ */
+public final class TrajectoryJsonExporter {
+
+    // Size of the file buffers in bytes
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private TrajectoryJsonExporter() {}
+
+    /**
+     * Write a binary trajectory file as JSON.
+     *
+     * @param source    file containing a binary serialised {@link Traj.Trajectory}.
+     * @param target    file to write the JSON to, replaced if it exists.
+     * @throws IOException  if a file cannot be read or written, or the trajectory is malformed.
+     */
+    public static void export(File source, File target) throws IOException {
+        JsonFormat.Printer printer = JsonFormat.printer();
+        Descriptors.Descriptor descriptor = Traj.Trajectory.getDescriptor();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(target), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            // Print the singular fields with the standard printer and leave the object open
+            String header = printer.print(readSingularFields(source)).trim();
+            header = header.substring(0, header.length() - 1).trim();
+            writer.write(header);
+            boolean first = header.length() == 1;
+
+            for (Descriptors.FieldDescriptor field : descriptor.getFields()) {
+                if(!field.isRepeated()
+                        || field.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+                    continue;
+                }
+                int count = 0;
+                try (InputStream in = open(source)) {
+                    count += writeElements(CodedInputStream.newInstance(in), field, false,
+                            printer, writer, first, count);
+                }
+                if(field.getNumber() == Traj.Trajectory.IMU_DATA_FIELD_NUMBER) {
+                    // Block samples follow the imu_data samples, as when parsing the trajectory
+                    try (InputStream in = open(source)) {
+                        count += writeElements(CodedInputStream.newInstance(in), field, true,
+                                printer, writer, first, count);
+                    }
+                }
+                if(count > 0) {
+                    writer.write("]");
+                    first = false;
+                }
+            }
+            writer.write(first ? "}\n" : "\n}\n");
+        }
+    }
+
+    /**
+     * Parse the singular fields of a trajectory file, skipping all repeated fields.
+     *
+     * @param source    file containing a binary serialised trajectory.
+     * @return          trajectory holding only the singular fields.
+     * @throws IOException  if the file cannot be read.
+     */
+    private static Traj.Trajectory readSingularFields(File source) throws IOException {
+        Descriptors.Descriptor descriptor = Traj.Trajectory.getDescriptor();
+        ByteArrayOutputStream singular = new ByteArrayOutputStream();
+        CodedOutputStream singularOutput = CodedOutputStream.newInstance(singular);
+        try (InputStream in = open(source)) {
+            CodedInputStream input = CodedInputStream.newInstance(in);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                Descriptors.FieldDescriptor field =
+                        descriptor.findFieldByNumber(MotionBlockCodec.fieldNumber(tag));
+                if(field != null && !field.isRepeated()) input.skipField(tag, singularOutput);
+                else input.skipField(tag);
+            }
+        }
+        singularOutput.flush();
+        return Traj.Trajectory.parseFrom(singular.toByteArray());
+    }
+
+    /**
+     * Write the elements of a repeated message field in one pass over the file.
+     *
+     * @param input     stream over the whole binary trajectory.
+     * @param field     repeated field to write.
+     * @param blocks    true to write the samples of the imu_blocks fields instead of the field.
+     * @param printer   printer for a single element.
+     * @param writer    destination of the JSON.
+     * @param first     true if no field has been written to the object yet.
+     * @param count     number of elements of the field already written.
+     * @return          number of elements written in this pass.
+     * @throws IOException  if the file cannot be read or the output cannot be written.
+     */
+    private static int writeElements(CodedInputStream input, Descriptors.FieldDescriptor field,
+                                     boolean blocks, JsonFormat.Printer printer, Writer writer,
+                                     boolean first, int count) throws IOException {
+        input.setSizeLimit(Integer.MAX_VALUE);
+        int written = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int number = MotionBlockCodec.fieldNumber(tag);
+            if(blocks && number == MotionBlockCodec.IMU_BLOCKS_FIELD) {
+                for (Traj.Motion_Sample sample : MotionBlockCodec.readBlock(input)) {
+                    writeElement(sample, field, printer, writer, first, count + written++);
+                }
+            }
+            else if(!blocks && number == field.getNumber()) {
+                Message.Builder element = Traj.Trajectory.newBuilder().newBuilderForField(field);
+                input.readMessage(element, ExtensionRegistryLite.getEmptyRegistry());
+                writeElement(element.build(), field, printer, writer, first, count + written++);
+            }
+            else {
+                input.skipField(tag);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Write a single array element, opening the array before the first one.
+     */
+    private static void writeElement(Message element, Descriptors.FieldDescriptor field,
+                                     JsonFormat.Printer printer, Writer writer, boolean first,
+                                     int index) throws IOException {
+        if(index == 0) {
+            writer.write(first ? "\n  \"" : ",\n  \"");
+            writer.write(field.getJsonName());
+            writer.write("\": [");
+        }
+        else {
+            writer.write(", ");
+        }
+        printer.appendTo(element, writer);
+    }
+
+    /**
+     * Open a file for buffered sequential reading.
+     */
+    private static InputStream open(File file) throws IOException {
+        return new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.cloud;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Local copy of the listing of trajectories uploaded to the server.
+ * <p>
+ * The raw response to the info request is stored in local storage together with its ETag, so the
+ * listing can be shown immediately when the files screen opens, and the server only has to send
+ * the listing again if it changed: the next request carries the ETag in If-None-Match and a 304
+ * Not Modified response keeps the local copy.
+ * <p>
+ * The JSON array is parsed with a streaming {@link JsonReader} straight into
+ * {@link TrajectoryEntry} objects, without building an intermediate tree of JSON objects and maps,
+ * and sorted once by id.
+ *
+ * @see ServerCommunications#sendInfoRequest() revalidating the listing.
+ */
+public class TrajectoryListing {
+
+    // Names of the files holding the cached listing and its ETag
+    private static final String LISTING_NAME = "trajectory_listing.json";
+    private static final String ETAG_NAME = "trajectory_listing.etag";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final File listing;
+    private final File etag;
+
+    /**
+     * Public default constructor of the TrajectoryListing.
+     *
+     * @param directory directory in local storage for the cached listing.
+     */
+    public TrajectoryListing(File directory) {
+        this.listing = new File(directory, LISTING_NAME);
+        this.etag = new File(directory, ETAG_NAME);
+    }
+
+    /**
+     * Get the ETag of the cached listing, for a conditional request.
+     *
+     * @return  ETag sent by the server with the cached listing, or null if there is none.
+     */
+    public String getETag() {
+        if(!etag.exists() || !listing.exists()) return null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(etag), StandardCharsets.UTF_8))) {
+            return reader.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parse the cached listing.
+     *
+     * @return  entries sorted by id, or null if there is no cached listing.
+     */
+    public List<TrajectoryEntry> loadCached() {
+        if(!listing.exists()) return null;
+        try (InputStream in = new FileInputStream(listing)) {
+            return parse(in);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            System.err.println("Reading cached trajectory listing failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replace the cached listing with a new response from the server and parse it. The response
+     * is streamed to local storage first and then parsed from there.
+     *
+     * @param body      response body holding the JSON listing.
+     * @param newETag   ETag header of the response, or null if the server sent none.
+     * @return          entries sorted by id.
+     * @throws IOException  if the response cannot be read or stored.
+     */
+    public List<TrajectoryEntry> store(InputStream body, String newETag) throws IOException {
+        File temp = new File(listing.getPath() + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        // Remove the old ETag first, so it never belongs to a different listing
+        etag.delete();
+        if(!temp.renameTo(listing)) throw new IOException("Storing trajectory listing failed");
+        if(newETag != null) {
+            try (OutputStream out = new FileOutputStream(etag)) {
+                out.write(newETag.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try (InputStream in = new FileInputStream(listing)) {
+            return parse(in);
+        }
+    }
+
+    /**
+     * Parse a JSON array of trajectory metadata objects with a streaming reader.
+     *
+     * @param in    stream of the JSON array.
+     * @return      entries sorted by id.
+     * @throws IOException  if the stream cannot be read or is not valid JSON.
+     */
+    public static List<TrajectoryEntry> parse(InputStream in) throws IOException {
+        List<TrajectoryEntry> entries = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(in,
+                StandardCharsets.UTF_8), BUFFER_SIZE))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                long id = 0;
+                long ownerId = 0;
+                String dateSubmitted = "";
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if(reader.peek() == JsonToken.NULL) {
+                        reader.skipValue();
+                    }
+                    else if(name.equals("id")) {
+                        id = Long.parseLong(reader.nextString());
+                    }
+                    else if(name.equals("owner_id")) {
+                        ownerId = Long.parseLong(reader.nextString());
+                    }
+                    else if(name.equals("date_submitted")) {
+                        dateSubmitted = reader.nextString();
+                    }
+                    else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                entries.add(new TrajectoryEntry(id, ownerId, dateSubmitted));
+            }
+            reader.endArray();
+        }
+        // Ids are compared as primitives, without parsing during the sort
+        Collections.sort(entries, Comparator.comparingLong(TrajectoryEntry::getId));
+        return entries;
+    }
+}
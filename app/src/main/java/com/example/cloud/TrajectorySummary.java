@@ -0,0 +1,189 @@
+package com.example.cloud;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Metadata of a local trajectory file: start time, duration, number of samples per sensor stream
+ * and file size. Summaries are kept in the {@link TrajectoryCatalog}, so lists of local
+ * trajectories can be shown without opening the trajectory files.
+ * <p>
+ * Summaries of new recordings are collected by the {@link TrajectoryWriter} while samples are
+ * added. Files written before the catalog existed, or recovered after an interruption, are
+ * summarised once with {@link TrajectorySummary#scan(File)}.
+ *
+ * The class does not depend on the Android framework, so it can be tested on the JVM.
+ */
+public final class TrajectorySummary {
+
+    // Sensor streams with sample counts, indices into the counts array
+    public static final int IMU = 0;
+    public static final int POSITION = 1;
+    public static final int PDR = 2;
+    public static final int PRESSURE = 3;
+    public static final int LIGHT = 4;
+    public static final int GNSS = 5;
+    public static final int WIFI = 6;
+    public static final int STREAMS = 7;
+
+    // Field number of the relative timestamp in every sample message
+    private static final int RELATIVE_TIMESTAMP_FIELD = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Absolute start time of the recording in milliseconds since the epoch
+    private final long startTimestamp;
+    // Relative timestamp of the last sample in milliseconds
+    private final long durationMs;
+    // Number of samples per stream
+    private final int[] sampleCounts;
+    // Size of the trajectory file in bytes
+    private final long sizeBytes;
+
+    /**
+     * Public default constructor of the TrajectorySummary.
+     *
+     * @param startTimestamp    start of the recording in milliseconds since the epoch.
+     * @param durationMs        relative timestamp of the last sample in milliseconds.
+     * @param sampleCounts      number of samples per stream, indexed by the stream constants.
+     * @param sizeBytes         size of the trajectory file in bytes.
+     */
+    public TrajectorySummary(long startTimestamp, long durationMs, int[] sampleCounts,
+                             long sizeBytes) {
+        if(sampleCounts.length != STREAMS) {
+            throw new IllegalArgumentException("Expected " + STREAMS + " sample counts");
+        }
+        this.startTimestamp = startTimestamp;
+        this.durationMs = durationMs;
+        this.sampleCounts = sampleCounts.clone();
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * Get the start time of the recording.
+     *
+     * @return  milliseconds since the epoch.
+     */
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    /**
+     * Get the duration of the recording, measured up to its last sample.
+     *
+     * @return  duration in milliseconds.
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Get the number of samples of a sensor stream.
+     *
+     * @param stream    stream index, e.g. {@link TrajectorySummary#IMU}.
+     * @return          number of samples.
+     */
+    public int getSampleCount(int stream) {
+        return sampleCounts[stream];
+    }
+
+    /**
+     * Get the size of the trajectory file.
+     *
+     * @return  size in bytes.
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Summarise a trajectory file in a single sequential pass. Only the tags and relative
+     * timestamps of the samples are decoded, apart from compact IMU blocks, which are expanded to
+     * count their samples.
+     *
+     * @param file  file containing a binary serialised {@link Traj.Trajectory}.
+     * @return      summary of the file.
+     * @throws IOException  if the file cannot be read or is malformed.
+     */
+    public static TrajectorySummary scan(File file) throws IOException {
+        long startTimestamp = 0;
+        long durationMs = 0;
+        int[] counts = new int[STREAMS];
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+            CodedInputStream input = CodedInputStream.newInstance(in);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                int number = MotionBlockCodec.fieldNumber(tag);
+                int stream = streamOf(number);
+                if(number == Traj.Trajectory.START_TIMESTAMP_FIELD_NUMBER
+                        && MotionBlockCodec.wireType(tag) == WireFormat.WIRETYPE_VARINT) {
+                    startTimestamp = input.readInt64();
+                }
+                else if(number == MotionBlockCodec.IMU_BLOCKS_FIELD) {
+                    for (Traj.Motion_Sample sample : MotionBlockCodec.readBlock(input)) {
+                        counts[IMU]++;
+                        durationMs = Math.max(durationMs, sample.getRelativeTimestamp());
+                    }
+                }
+                else if(stream >= 0
+                        && MotionBlockCodec.wireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    counts[stream]++;
+                    durationMs = Math.max(durationMs, readRelativeTimestamp(input));
+                }
+                else {
+                    input.skipField(tag);
+                }
+            }
+        }
+        return new TrajectorySummary(startTimestamp, durationMs, counts, file.length());
+    }
+
+    /**
+     * Read the relative timestamp of a length delimited sample message, skipping all other fields.
+     *
+     * @param input stream positioned at the length of the sample message.
+     * @return      relative timestamp, 0 if the sample has none.
+     * @throws IOException  if the stream cannot be read.
+     */
+    private static long readRelativeTimestamp(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        long timestamp = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if(MotionBlockCodec.fieldNumber(tag) == RELATIVE_TIMESTAMP_FIELD
+                    && MotionBlockCodec.wireType(tag) == WireFormat.WIRETYPE_VARINT) {
+                timestamp = input.readInt64();
+            }
+            else {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return timestamp;
+    }
+
+    /**
+     * Map a repeated sample field of the trajectory to its stream index.
+     *
+     * @param fieldNumber   field number in the Trajectory message.
+     * @return              stream index, or -1 if the field does not hold samples.
+     */
+    private static int streamOf(int fieldNumber) {
+        switch (fieldNumber) {
+            case Traj.Trajectory.IMU_DATA_FIELD_NUMBER: return IMU;
+            case Traj.Trajectory.POSITION_DATA_FIELD_NUMBER: return POSITION;
+            case Traj.Trajectory.PDR_DATA_FIELD_NUMBER: return PDR;
+            case Traj.Trajectory.PRESSURE_DATA_FIELD_NUMBER: return PRESSURE;
+            case Traj.Trajectory.LIGHT_DATA_FIELD_NUMBER: return LIGHT;
+            case Traj.Trajectory.GNSS_DATA_FIELD_NUMBER: return GNSS;
+            case Traj.Trajectory.WIFI_DATA_FIELD_NUMBER: return WIFI;
+            default: return -1;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.cloud;
+
+import java.io.File;
+import java.io.IOException;
+
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Performs synchronous uploads of trajectory files to the API server.
+ * <p>
+ * The file is sent in a multipart/form-data request. When compression is requested, the whole
+ * request body is passed through gzip while it is being sent, with the Content-Encoding header
+ * set accordingly. The file is streamed from local storage in both cases and never loaded into
+ * memory, so the size of the trajectory does not matter. Recorded sensor values compress well, so
+ * this considerably reduces the amount of data sent over mobile networks.
+ * <p>
+ * Support for compressed requests is negotiated with the first uploads. Until a compressed
+ * request has succeeded, a compressed request rejected with a status servers use for bodies they
+ * cannot decode (400, 411, 415 or 422) is repeated uncompressed. Compression is not attempted
+ * again by this uploader after a 415, or after the uncompressed repetition succeeded. Once a
+ * compressed request has succeeded, the result is cached and rejections are returned as they are.
+ *
+ * The class does not depend on the Android framework, so it can be tested on the JVM.
+ *
+ * @see ServerCommunications#uploadFile(File) using the uploader.
+ */
+public class TrajectoryUploader {
+
+    // Status code of servers not accepting the content encoding
+    public static final int UNSUPPORTED_MEDIA_TYPE = 415;
+    // Other status codes of servers failing to decode a compressed request
+    private static final int BAD_REQUEST = 400;
+    private static final int LENGTH_REQUIRED = 411;
+    private static final int UNPROCESSABLE_ENTITY = 422;
+    // States of the compression support of the server
+    private static final int COMPRESSION_UNKNOWN = 0;
+    private static final int COMPRESSION_SUPPORTED = 1;
+    private static final int COMPRESSION_UNSUPPORTED = 2;
+    private static final String PROTOCOL_CONTENT_TYPE = "multipart/form-data";
+    private static final String PROTOCOL_ACCEPT_TYPE = "application/json";
+    private static final MediaType FILE_TYPE = MediaType.parse("text/plain");
+
+    // Client performing the requests
+    private final OkHttpClient client;
+    // Address of the upload endpoint
+    private final HttpUrl uploadUrl;
+    // Whether the server has accepted or rejected compressed requests so far
+    private volatile int compression;
+
+    /**
+     * Public default constructor of the TrajectoryUploader.
+     *
+     * @param client    client performing the requests.
+     * @param uploadUrl address of the upload endpoint.
+     */
+    public TrajectoryUploader(OkHttpClient client, HttpUrl uploadUrl) {
+        this.client = client;
+        this.uploadUrl = uploadUrl;
+        this.compression = COMPRESSION_UNKNOWN;
+    }
+
+    /**
+     * Upload a trajectory file, blocking until the server has responded. Must not be called from
+     * the UI thread.
+     *
+     * @param file      local file containing a binary serialised {@link Traj.Trajectory}.
+     * @param compress  true to send the request gzip compressed if the server accepts it.
+     * @return          HTTP status code of the server response.
+     * @throws IOException  if the server could not be reached or the connection failed.
+     */
+    public int upload(File file, boolean compress) throws IOException {
+        if(!compress || compression == COMPRESSION_UNSUPPORTED) {
+            return post(file, false);
+        }
+        int code = post(file, true);
+        if(code >= 200 && code < 300) {
+            compression = COMPRESSION_SUPPORTED;
+            return code;
+        }
+        if(compression == COMPRESSION_SUPPORTED || !isEncodingRejection(code)) return code;
+        // The server may not decode compressed requests, try again uncompressed
+        System.err.println("Compressed upload rejected with code " + code
+                + ", sending uncompressed");
+        if(code == UNSUPPORTED_MEDIA_TYPE) {
+            compression = COMPRESSION_UNSUPPORTED;
+        }
+        int plainCode = post(file, false);
+        if(plainCode >= 200 && plainCode < 300) {
+            // Only the encoding was the problem, stop compressing for this server
+            compression = COMPRESSION_UNSUPPORTED;
+        }
+        return plainCode;
+    }
+
+    /**
+     * Check whether the server has not rejected compressed requests so far.
+     *
+     * @return  true if compressed requests are still attempted.
+     */
+    public boolean isCompressionSupported() {
+        return compression != COMPRESSION_UNSUPPORTED;
+    }
+
+    /**
+     * Check if a status code is used by servers rejecting a body they cannot decode.
+     *
+     * @param code  HTTP status code of a compressed request.
+     * @return      true if the request should be repeated uncompressed.
+     */
+    private static boolean isEncodingRejection(int code) {
+        return code == BAD_REQUEST || code == LENGTH_REQUIRED || code == UNSUPPORTED_MEDIA_TYPE
+                || code == UNPROCESSABLE_ENTITY;
+    }
+
+    /**
+     * Send a single POST request with the file and process the response.
+     *
+     * @param file      file to upload.
+     * @param compress  true to gzip the request body.
+     * @return          HTTP status code of the server response.
+     * @throws IOException  if the server could not be reached or the connection failed.
+     */
+    private int post(File file, boolean compress) throws IOException {
+        // Create a request body with a file to upload in multipart/form-data format
+        RequestBody requestBody = new MultipartBody.Builder().setType(MultipartBody.FORM)
+                .addFormDataPart("file", file.getName(), RequestBody.create(file, FILE_TYPE))
+                .build();
+
+        // Create a POST request with the required headers
+        okhttp3.Request.Builder builder = new okhttp3.Request.Builder().url(uploadUrl)
+                .addHeader("accept", PROTOCOL_ACCEPT_TYPE)
+                .addHeader("Content-Type", PROTOCOL_CONTENT_TYPE);
+        if(compress) {
+            builder.post(gzip(requestBody)).addHeader("Content-Encoding", "gzip");
+        }
+        else {
+            builder.post(requestBody);
+        }
+
+        // Execute the request on the calling thread and process the response
+        try (Response response = client.newCall(builder.build()).execute();
+             ResponseBody responseBody = response.body()) {
+            if (!response.isSuccessful()) {
+                System.err.println("UPLOAD unsuccessful: " + responseBody.string());
+                return response.code();
+            }
+
+            // Print the response headers
+            Headers responseHeaders = response.headers();
+            for (int i = 0, size = responseHeaders.size(); i < size; i++) {
+                System.out.println(responseHeaders.name(i) + ": " + responseHeaders.value(i));
+            }
+            // Print a confirmation of a successful POST to API
+            System.out.println("UPLOAD SUCCESSFUL: " + responseBody.string());
+            return response.code();
+        }
+    }
+
+    /**
+     * Wrap a request body so that it is gzip compressed while it is written to the connection.
+     * The compressed length is unknown in advance, so the body is sent with chunked encoding.
+     *
+     * @param body  uncompressed request body.
+     * @return      request body writing the compressed data.
+     */
+    static RequestBody gzip(RequestBody body) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return body.contentType();
+            }
+
+            @Override
+            public long contentLength() {
+                return -1;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                BufferedSink gzipSink = Okio.buffer(new GzipSink(sink));
+                body.writeTo(gzipSink);
+                // Closing writes the gzip trailer, the connection itself is managed by OkHttp
+                gzipSink.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,775 @@
+package com.example.cloud;
+
+import com.example.cloud.sensors.RawSensorLog;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Streams a recorded trajectory to local storage in bounded chunks instead of keeping every sample
+ * in a single {@link Traj.Trajectory.Builder} until the end of the recording.
+ * <p>
+ * Samples are collected in a small builder which only ever holds the current chunk. Once
+ * {@link TrajectoryWriter#CHUNK_SIZE} samples have been added, the chunk is serialised and appended
+ * to a segment file as a framed Trajectory fragment, and the builder is cleared. As
+ * protobuf merges repeated fields of concatenated messages, the final trajectory file is produced
+ * in {@link TrajectoryWriter#finish()} by writing the header and copying the segment payloads one
+ * after another, without building the complete trajectory object in memory.
+ * <p>
+ * High rate IMU and magnetometer samples are not kept as protobuf builders at all. They are stored
+ * in {@link ColumnarSampleStore}s and only converted to {@link Traj.Motion_Sample} and
+ * {@link Traj.Position_Sample} messages when a chunk is serialised. With compact IMU encoding enabled, the IMU samples of each chunk are written as a single
+ * Motion_Block instead, see {@link MotionBlockCodec}.
+ * <p>
+ * The segment file is a write-ahead log of the recording, so that a recording survives the
+ * application being killed. It starts with a frame holding the header, followed by one frame per
+ * chunk. Every frame consists of a type byte, the payload length as a varint, the payload and a
+ * CRC32 of type and payload. Chunks are written when they are full, or at the latest after the
+ * sync interval, and the file is synced to storage at that interval, so at most one interval of
+ * samples is lost. {@link TrajectoryWriter#recover(File)} turns the segment files left behind by
+ * an interrupted recording into trajectory files, keeping every frame up to the first torn or
+ * corrupted one.
+ * <p>
+ * All methods are synchronized, as samples arrive from the recording timer, the sensor callbacks,
+ * the location listener and the WiFi receiver.
+ *
+ * @see Traj the protobuf trajectory format.
+ * @see com.example.cloud.sensors.SensorFusion the class recording the data.
+ */
+public class TrajectoryWriter {
+
+    // Number of samples kept in memory before the chunk is appended to the segment file
+    public static final int CHUNK_SIZE = 1000;
+    // Buffer size used for writing segments and stitching them into the final file
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Default maximum time between syncs of the segment file to storage
+    public static final long DEFAULT_SYNC_INTERVAL_MS = 5000;
+    // Frame types of the segment file
+    private static final int FRAME_HEADER = 1;
+    private static final int FRAME_CHUNK = 2;
+    // Name pattern of segment files
+    private static final String SEGMENT_PREFIX = "recording_";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    // Name prefix of trajectory files being stitched
+    private static final String STITCH_PREFIX = "stitching_";
+
+    // Segment files of writers that are still recording, never recovered
+    private static final Set<File> activeSegments = new HashSet<>();
+
+    // Columns of the IMU sample store
+    public static final int ACC_X = 0;
+    public static final int ACC_Y = 1;
+    public static final int ACC_Z = 2;
+    public static final int GYR_X = 3;
+    public static final int GYR_Y = 4;
+    public static final int GYR_Z = 5;
+    public static final int ROTATION_VECTOR_X = 6;
+    public static final int ROTATION_VECTOR_Y = 7;
+    public static final int ROTATION_VECTOR_Z = 8;
+    public static final int ROTATION_VECTOR_W = 9;
+    public static final int STEP_COUNT = 10;
+    private static final int IMU_COLUMNS = 11;
+    // Columns of the magnetometer sample store
+    public static final int MAG_X = 0;
+    public static final int MAG_Y = 1;
+    public static final int MAG_Z = 2;
+    private static final int MAGNETOMETER_COLUMNS = 3;
+
+    /**
+     * Receiver of progress updates while the trajectory file is stitched.
+     */
+    public interface ProgressListener {
+        /**
+         * Called from the thread finishing the recording after each copied block.
+         *
+         * @param written   bytes of segment payload copied so far.
+         * @param total     total bytes of segment data to copy.
+         */
+        void onProgress(long written, long total);
+    }
+
+    // Directory for the segment and the final trajectory files
+    private final File directory;
+    // Segment file holding the header and chunk frames of the ongoing recording
+    private final File segmentFile;
+    // Trajectory containing only the metadata fields (version, start time, sensor info)
+    private final Traj.Trajectory header;
+    // Quantisation steps for compact IMU blocks, null when writing Motion_Samples
+    private final MotionBlockCodec.Resolutions compactImu;
+
+    // Samples of the current chunk
+    private final Traj.Trajectory.Builder chunk;
+    private final ColumnarSampleStore imuSamples;
+    private final ColumnarSampleStore magnetometerSamples;
+    private int chunkSamples;
+    // Number of samples per stream and latest relative timestamp of the whole recording
+    private final int[] sampleCounts;
+    private long lastTimestamp;
+    // Summary of the trajectory file, set once the recording has been stitched
+    private TrajectorySummary summary;
+    // Stream to the segment file, opened with the first chunk
+    private OutputStream segmentStream;
+    private FileOutputStream segmentFileStream;
+    // Maximum time between syncs and time of the last sync in nanoseconds
+    private long syncIntervalNs;
+    private long lastSyncNs;
+    // Set once the recording has been stitched or discarded
+    private boolean closed;
+
+    /**
+     * Public default constructor of the TrajectoryWriter.
+     * The segment file is named after the start timestamp of the header, and only created on disk
+     * when the first chunk is written.
+     *
+     * @param directory directory to store the segment and trajectory files in.
+     * @param header    trajectory holding the metadata of the recording, without samples.
+     */
+    public TrajectoryWriter(File directory, Traj.Trajectory header) {
+        this(directory, header, false);
+    }
+
+    /**
+     * Constructor of the TrajectoryWriter with optional compact IMU encoding.
+     * The quantisation steps of the compact encoding are the sensor resolutions in the header.
+     *
+     * @param directory     directory to store the segment and trajectory files in.
+     * @param header        trajectory holding the metadata of the recording, without samples.
+     * @param compactImu    true to store IMU samples in Motion_Blocks, only for consumers that
+     *                      decode them, the server does not yet.
+     */
+    public TrajectoryWriter(File directory, Traj.Trajectory header, boolean compactImu) {
+        this.directory = directory;
+        this.header = header;
+        this.compactImu = compactImu ? new MotionBlockCodec.Resolutions(header) : null;
+        this.segmentFile = new File(directory,
+                SEGMENT_PREFIX + header.getStartTimestamp() + SEGMENT_SUFFIX);
+        this.chunk = Traj.Trajectory.newBuilder();
+        this.imuSamples = new ColumnarSampleStore(IMU_COLUMNS, CHUNK_SIZE);
+        this.magnetometerSamples = new ColumnarSampleStore(MAGNETOMETER_COLUMNS, CHUNK_SIZE);
+        this.chunkSamples = 0;
+        this.sampleCounts = new int[TrajectorySummary.STREAMS];
+        this.lastTimestamp = 0;
+        this.closed = false;
+        this.syncIntervalNs = DEFAULT_SYNC_INTERVAL_MS * 1000000L;
+        this.lastSyncNs = System.nanoTime();
+        synchronized (activeSegments) {
+            activeSegments.add(segmentFile);
+        }
+    }
+
+    /**
+     * Set the maximum time between syncs of the segment file to storage. Samples are written to
+     * the file at least this often, which bounds the data lost if the application is killed.
+     * Shorter intervals cost more writes and battery.
+     *
+     * @param syncIntervalMs    interval in milliseconds.
+     */
+    public synchronized void setSyncInterval(long syncIntervalMs) {
+        this.syncIntervalNs = syncIntervalMs * 1000000L;
+    }
+
+    //region Sample appending
+    /**
+     * Add an IMU sample to the current chunk. The values are copied into the columnar store, the
+     * arrays are not retained.
+     *
+     * @param relativeTimestamp milliseconds since the start of the recording.
+     * @param acceleration      accelerometer values along the x-y-z axis in m/s^2.
+     * @param angularVelocity   gyroscope values around the x-y-z axis in rad/s.
+     * @param rotationVector    rotation vector components in x-y-z-w order, as reported by the
+     *                          sensor. Stored in the field order of earlier recordings, the first
+     *                          component as rotation_vector_w followed by x, y and z.
+     * @param stepCount         number of steps taken since the start of the recording.
+     */
+    public synchronized void addImuSample(long relativeTimestamp, float[] acceleration,
+                                          float[] angularVelocity, float[] rotationVector,
+                                          int stepCount) {
+        int row = imuSamples.appendRow(relativeTimestamp);
+        imuSamples.set(row, ACC_X, acceleration[0]);
+        imuSamples.set(row, ACC_Y, acceleration[1]);
+        imuSamples.set(row, ACC_Z, acceleration[2]);
+        imuSamples.set(row, GYR_X, angularVelocity[0]);
+        imuSamples.set(row, GYR_Y, angularVelocity[1]);
+        imuSamples.set(row, GYR_Z, angularVelocity[2]);
+        imuSamples.set(row, ROTATION_VECTOR_W, rotationVector[0]);
+        imuSamples.set(row, ROTATION_VECTOR_X, rotationVector[1]);
+        imuSamples.set(row, ROTATION_VECTOR_Y, rotationVector[2]);
+        imuSamples.set(row, ROTATION_VECTOR_Z, rotationVector[3]);
+        imuSamples.set(row, STEP_COUNT, stepCount);
+        countSample(TrajectorySummary.IMU, relativeTimestamp);
+        sampleAdded();
+    }
+
+    /**
+     * Add a magnetometer sample to the current chunk. The values are copied into the columnar
+     * store, the array is not retained.
+     *
+     * @param relativeTimestamp milliseconds since the start of the recording.
+     * @param magneticField     magnetic field along the x-y-z axis in uT.
+     */
+    public synchronized void addMagnetometerSample(long relativeTimestamp, float[] magneticField) {
+        int row = magnetometerSamples.appendRow(relativeTimestamp);
+        magnetometerSamples.set(row, MAG_X, magneticField[0]);
+        magnetometerSamples.set(row, MAG_Y, magneticField[1]);
+        magnetometerSamples.set(row, MAG_Z, magneticField[2]);
+        countSample(TrajectorySummary.POSITION, relativeTimestamp);
+        sampleAdded();
+    }
+
+    /**
+     * Add a PDR sample to the current chunk.
+     *
+     * @param sample    PDR sample builder with the relative timestamp set.
+     */
+    public synchronized void addPdrData(Traj.Pdr_Sample.Builder sample) {
+        chunk.addPdrData(sample);
+        countSample(TrajectorySummary.PDR, sample.getRelativeTimestamp());
+        sampleAdded();
+    }
+
+    /**
+     * Add a barometer sample to the current chunk.
+     *
+     * @param sample    Pressure sample builder with the relative timestamp set.
+     */
+    public synchronized void addPressureData(Traj.Pressure_Sample.Builder sample) {
+        chunk.addPressureData(sample);
+        countSample(TrajectorySummary.PRESSURE, sample.getRelativeTimestamp());
+        sampleAdded();
+    }
+
+    /**
+     * Add a light sensor sample to the current chunk.
+     *
+     * @param sample    Light sample builder with the relative timestamp set.
+     */
+    public synchronized void addLightData(Traj.Light_Sample.Builder sample) {
+        chunk.addLightData(sample);
+        countSample(TrajectorySummary.LIGHT, sample.getRelativeTimestamp());
+        sampleAdded();
+    }
+
+    /**
+     * Add a GNSS sample to the current chunk.
+     *
+     * @param sample    GNSS sample builder with the relative timestamp set.
+     */
+    public synchronized void addGnssData(Traj.GNSS_Sample.Builder sample) {
+        chunk.addGnssData(sample);
+        countSample(TrajectorySummary.GNSS, sample.getRelativeTimestamp());
+        sampleAdded();
+    }
+
+    /**
+     * Add a WiFi scan to the current chunk.
+     *
+     * @param sample    WiFi sample builder with the relative timestamp and mac scans set.
+     */
+    public synchronized void addWifiData(Traj.WiFi_Sample.Builder sample) {
+        chunk.addWifiData(sample);
+        countSample(TrajectorySummary.WIFI, sample.getRelativeTimestamp());
+        sampleAdded();
+    }
+
+    /**
+     * Add access point information to the current chunk.
+     *
+     * @param data  AP data builder with the mac, ssid and frequency set.
+     */
+    public synchronized void addApsData(Traj.AP_Data.Builder data) {
+        chunk.addApsData(data);
+        sampleAdded();
+    }
+
+    /**
+     * Record a change of the motion sensor sampling rate in the current chunk.
+     *
+     * @param relativeTimestamp milliseconds since the start of the recording.
+     * @param samplingPeriodUs  new sampling period of the motion sensors in microseconds.
+     * @param stationary        true if the rate was lowered because the device is stationary.
+     */
+    public synchronized void addRateChange(long relativeTimestamp, int samplingPeriodUs,
+                                           boolean stationary) {
+        chunk.addRateChanges(Traj.Rate_Change.newBuilder()
+                .setRelativeTimestamp(relativeTimestamp)
+                .setSamplingPeriodUs(samplingPeriodUs)
+                .setStationary(stationary));
+        sampleAdded();
+    }
+
+    /**
+     * Get the summary of the trajectory file written by {@link TrajectoryWriter#finish()}, collected
+     * while the samples were added, so the file does not have to be read again.
+     *
+     * @return  summary of the trajectory file, or null if the recording has not been stitched.
+     */
+    public synchronized TrajectorySummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Get the start of the recording, which also names its segment files.
+     *
+     * @return  start timestamp of the header in milliseconds since the epoch.
+     */
+    public long getStartTimestamp() {
+        return header.getStartTimestamp();
+    }
+
+    /**
+     * Counts a sample of a stream for the summary of the recording.
+     *
+     * @param stream            stream index, e.g. {@link TrajectorySummary#IMU}.
+     * @param relativeTimestamp milliseconds since the start of the recording.
+     */
+    private void countSample(int stream, long relativeTimestamp) {
+        sampleCounts[stream]++;
+        lastTimestamp = Math.max(lastTimestamp, relativeTimestamp);
+    }
+
+    /**
+     * Counts the samples in the current chunk and writes it to disk once it reaches the chunk size
+     * or the sync interval has passed.
+     */
+    private void sampleAdded() {
+        chunkSamples++;
+        if(chunkSamples >= CHUNK_SIZE || System.nanoTime() - lastSyncNs >= syncIntervalNs) {
+            flushChunk();
+        }
+    }
+    //endregion
+
+    //region Segment handling
+    /**
+     * Append the current chunk to the segment file as a Trajectory fragment in a chunk frame, and
+     * clear the builder for the next chunk. Columnar samples are converted to protobuf messages or
+     * a compact IMU block at this point. The segment file is created with the header frame when the
+     * first chunk is written, and synced to storage if the sync interval has passed. Failures are
+     * reported but do not stop the recording.
+     */
+    private void flushChunk() {
+        if(chunkSamples == 0 || closed) return;
+        appendColumnarSamples();
+        try {
+            openSegmentStream();
+            Traj.Trajectory message = chunk.build();
+            int blockSize = 0;
+            boolean writeBlock = compactImu != null && imuSamples.getSize() > 0;
+            if(writeBlock) {
+                blockSize = MotionBlockCodec.computeFieldSize(imuSamples, 0, imuSamples.getSize(),
+                        compactImu);
+            }
+            // Serialise the message with the raw block field appended, for checksumming the frame
+            byte[] payload = new byte[message.getSerializedSize() + blockSize];
+            CodedOutputStream out = CodedOutputStream.newInstance(payload);
+            message.writeTo(out);
+            if(writeBlock) {
+                MotionBlockCodec.writeField(out, imuSamples, 0, imuSamples.getSize(), compactImu);
+            }
+            out.checkNoSpaceLeft();
+            writeFrame(segmentStream, FRAME_CHUNK, payload);
+            // Hand the frame to the operating system, which keeps it if the process dies
+            segmentStream.flush();
+            long now = System.nanoTime();
+            if(now - lastSyncNs >= syncIntervalNs) {
+                // Force it to storage, which keeps it if the device loses power
+                segmentFileStream.getFD().sync();
+                lastSyncNs = now;
+            }
+        } catch (IOException e) {
+            System.err.println("Writing trajectory chunk failed: " + e.getMessage());
+        }
+        chunk.clear();
+        imuSamples.clear();
+        magnetometerSamples.clear();
+        chunkSamples = 0;
+    }
+
+    /**
+     * Create the segment file with the header frame of the recording, unless it is open already.
+     *
+     * @throws IOException  if creating the file or writing the header fails.
+     */
+    private void openSegmentStream() throws IOException {
+        if(segmentStream != null) return;
+        segmentFileStream = new FileOutputStream(segmentFile, true);
+        segmentStream = new BufferedOutputStream(segmentFileStream, BUFFER_SIZE);
+        writeFrame(segmentStream, FRAME_HEADER, header.toByteArray());
+    }
+
+    /**
+     * Write the segment file with the header of the recording to storage before the first chunk,
+     * so that {@link TrajectoryWriter#recover(File)} finds the recording even if no chunk was
+     * written. Used by the {@link RawSensorLog}, whose samples only reach the writer once they are
+     * converted. Failures are reported but do not stop the recording.
+     */
+    public synchronized void createSegment() {
+        if(closed || segmentStream != null) return;
+        try {
+            openSegmentStream();
+            segmentStream.flush();
+            segmentFileStream.getFD().sync();
+        } catch (IOException e) {
+            System.err.println("Writing trajectory segment failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a frame to the segment file: type byte, payload length as varint, payload and the
+     * CRC32 of type and payload in big-endian order.
+     *
+     * @param out       stream of the segment file.
+     * @param type      frame type.
+     * @param payload   payload of the frame.
+     * @throws IOException  if writing to the stream fails.
+     */
+    private static void writeFrame(OutputStream out, int type, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload, 0, payload.length);
+        out.write(type);
+        CodedOutputStream lengthOutput = CodedOutputStream.newInstance(out, 5);
+        lengthOutput.writeUInt32NoTag(payload.length);
+        lengthOutput.flush();
+        out.write(payload);
+        int value = (int) crc.getValue();
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * Converts the rows of the columnar stores into protobuf samples of the chunk.
+     */
+    private void appendColumnarSamples() {
+        // Compact IMU samples are written as a block instead
+        int imuEnd = (compactImu == null) ? imuSamples.getSize() : 0;
+        for (int row = 0; row < imuEnd; row++) {
+            chunk.addImuData(Traj.Motion_Sample.newBuilder()
+                    .setRelativeTimestamp(imuSamples.getTimestamp(row))
+                    .setAccX(imuSamples.get(row, ACC_X))
+                    .setAccY(imuSamples.get(row, ACC_Y))
+                    .setAccZ(imuSamples.get(row, ACC_Z))
+                    .setGyrX(imuSamples.get(row, GYR_X))
+                    .setGyrY(imuSamples.get(row, GYR_Y))
+                    .setGyrZ(imuSamples.get(row, GYR_Z))
+                    .setRotationVectorX(imuSamples.get(row, ROTATION_VECTOR_X))
+                    .setRotationVectorY(imuSamples.get(row, ROTATION_VECTOR_Y))
+                    .setRotationVectorZ(imuSamples.get(row, ROTATION_VECTOR_Z))
+                    .setRotationVectorW(imuSamples.get(row, ROTATION_VECTOR_W))
+                    .setStepCount((int) imuSamples.get(row, STEP_COUNT)));
+        }
+        for (int row = 0; row < magnetometerSamples.getSize(); row++) {
+            chunk.addPositionData(Traj.Position_Sample.newBuilder()
+                    .setRelativeTimestamp(magnetometerSamples.getTimestamp(row))
+                    .setMagX(magnetometerSamples.get(row, MAG_X))
+                    .setMagY(magnetometerSamples.get(row, MAG_Y))
+                    .setMagZ(magnetometerSamples.get(row, MAG_Z)));
+        }
+    }
+
+    /**
+     * Close the stream to the segment file if it is open.
+     */
+    private void closeSegmentStream() {
+        if(segmentStream != null) {
+            try {
+                segmentStream.close();
+            } catch (IOException e) {
+                System.err.println("Closing trajectory segments failed: " + e.getMessage());
+            }
+            segmentStream = null;
+            segmentFileStream = null;
+        }
+    }
+
+    /**
+     * Writes the last chunk and stitches the recording into a single trajectory file.
+     * The header is written first, followed by the payload of every segment in order, which
+     * results in a valid serialised {@link Traj.Trajectory}. The segment file is deleted afterwards.
+     * The file is named after the current date, matching the naming scheme of local trajectories.
+     *
+     * @return  the trajectory file, or null if the writer was already closed or stitching failed.
+     */
+    public File finish() {
+        return finish(null);
+    }
+
+    /**
+     * Writes the last chunk and stitches the recording into a single trajectory file, reporting
+     * the progress of copying the segments. See {@link TrajectoryWriter#finish()}.
+     *
+     * @param listener  receiver of progress updates, or null.
+     * @return          the trajectory file, or null if the writer was already closed or stitching
+     *                  failed.
+     */
+    public synchronized File finish(ProgressListener listener) {
+        return finish(listener, new Date());
+    }
+
+    /**
+     * Writes the last chunk and stitches the recording into a trajectory file named after the
+     * given date.
+     *
+     * @param listener  receiver of progress updates, or null.
+     * @param date      date for the file name.
+     * @return          the trajectory file, or null if the writer was already closed or stitching
+     *                  failed.
+     */
+    private synchronized File finish(ProgressListener listener, Date date) {
+        if(closed) return null;
+        flushChunk();
+        closeSegmentStream();
+        closed = true;
+
+        File file = stitch(directory, header, segmentFile, listener, date);
+        synchronized (activeSegments) {
+            activeSegments.remove(segmentFile);
+        }
+        if(file != null) {
+            summary = new TrajectorySummary(header.getStartTimestamp(), lastTimestamp,
+                    sampleCounts, file.length());
+        }
+        return file;
+    }
+
+    /**
+     * Stitch a segment file into a trajectory file, writing the header followed by the payload of
+     * every valid chunk frame. The file is written under a temporary name and renamed once it is
+     * complete and synced, so an interrupted stitch never leaves a truncated trajectory, and the
+     * segment file is only deleted after the rename. The file is named after the given date,
+     * matching the naming scheme of local trajectories.
+     *
+     * @param directory     directory for the trajectory file.
+     * @param header        header of the recording.
+     * @param segmentFile   segment file, may not exist if no chunk was written.
+     * @param listener      receiver of progress updates, or null.
+     * @param date          date for the file name.
+     * @return              the trajectory file, or null if writing it failed.
+     */
+    private static File stitch(File directory, Traj.Trajectory header, File segmentFile,
+                               ProgressListener listener, Date date) {
+        // Format the file name according to date
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yy-HH-mm-ss");
+        File file = new File(directory, "trajectory_" + dateFormat.format(date) + ".txt");
+        // Written under a name not listed as a trajectory and renamed once complete
+        File temporary = new File(directory, STITCH_PREFIX + file.getName());
+
+        try (FileOutputStream stream = new FileOutputStream(temporary);
+             OutputStream out = new BufferedOutputStream(stream, BUFFER_SIZE)) {
+            header.writeTo(out);
+            if(segmentFile.exists()) {
+                copySegmentPayloads(segmentFile, out, listener);
+            }
+            out.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            System.err.println("Storing of recorded trajectory failed: " + e.getMessage());
+            temporary.delete();
+            return null;
+        }
+        if(!temporary.renameTo(file)) {
+            System.err.println("Storing of recorded trajectory failed: could not rename "
+                    + temporary.getName());
+            temporary.delete();
+            return null;
+        }
+        segmentFile.delete();
+        return file;
+    }
+
+    /**
+     * Copies the payload of each chunk frame to the output stream, dropping the framing. Copying
+     * stops at the first frame that is truncated or fails its checksum, as left behind by a write
+     * interrupted when the application was killed. Only one frame is held in memory.
+     *
+     * @param segmentFile   segment file to read.
+     * @param out           stream of the final trajectory file, positioned after the header, or
+     *                      null to only find the valid frames.
+     * @param listener      receiver of progress updates, or null.
+     * @return              length in bytes of the valid frames at the start of the segment file.
+     * @throws IOException  if reading the segments or writing the output fails.
+     */
+    private static long copySegmentPayloads(File segmentFile, OutputStream out,
+                                            ProgressListener listener) throws IOException {
+        long total = segmentFile.length();
+        long written = 0;
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(segmentFile), BUFFER_SIZE))) {
+            byte[] payload;
+            int type;
+            while ((type = in.read()) != -1) {
+                try {
+                    int length = CodedInputStream.readRawVarint32(in.readUnsignedByte(), in);
+                    if(length < 0 || length > total) break;
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    CRC32 crc = new CRC32();
+                    crc.update(type);
+                    crc.update(payload, 0, length);
+                    if(in.readInt() != (int) crc.getValue()) {
+                        System.err.println("Corrupted trajectory segment frame, recovery stopped");
+                        break;
+                    }
+                } catch (EOFException | InvalidProtocolBufferException e) {
+                    // The varint reader reports a length cut short as an invalid message
+                    System.err.println("Truncated trajectory segment frame, recovery stopped");
+                    break;
+                }
+                if(type == FRAME_CHUNK && out != null) {
+                    out.write(payload);
+                }
+                valid += 1 + CodedOutputStream.computeUInt32SizeNoTag(payload.length)
+                        + payload.length + 4;
+                written += payload.length;
+                if(listener != null) {
+                    listener.onProgress(written, total);
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Recover the recordings of writers that were interrupted, for example because the application
+     * was killed. Every segment file in the directory that does not belong to an active writer is
+     * stitched into a trajectory file, using the header stored in its first frame. Segment files
+     * without a valid header are deleted, as are partial trajectory files of an interrupted stitch,
+     * whose segment file is still there to be stitched again. Raw capture segments of an
+     * interrupted recording are converted into its trajectory before stitching, and raw segments
+     * without a recording to convert them into are deleted. Should be called from a background
+     * thread when the application starts.
+     *
+     * @param directory directory holding the segment files.
+     * @return          the recovered trajectory files, empty if there were none.
+     */
+    public static List<File> recover(File directory) {
+        List<File> recovered = new ArrayList<>();
+        File[] partial = directory.listFiles((dir, name) -> name.startsWith(STITCH_PREFIX));
+        if(partial != null) {
+            for (File file : partial) {
+                file.delete();
+            }
+        }
+        File[] segments = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX)
+                && name.endsWith(SEGMENT_SUFFIX));
+        if(segments == null) return recovered;
+        for (File segment : segments) {
+            synchronized (activeSegments) {
+                if(activeSegments.contains(segment)) continue;
+            }
+            Traj.Trajectory header = readHeader(segment);
+            if(header == null) {
+                System.err.println("No header in trajectory segment " + segment.getName());
+                segment.delete();
+                continue;
+            }
+            File file;
+            if(RawSensorLog.hasSegments(directory, header.getStartTimestamp())) {
+                // Append the converted raw records after the last valid frame of the segment
+                try (RandomAccessFile truncated = new RandomAccessFile(segment, "rw")) {
+                    truncated.setLength(copySegmentPayloads(segment, null, null));
+                } catch (IOException e) {
+                    System.err.println("Truncating trajectory segment failed: " + e.getMessage());
+                }
+                TrajectoryWriter writer = new TrajectoryWriter(directory, header);
+                int converted = RawSensorLog.recover(directory, writer);
+                System.out.println("Converted " + converted + " raw records of " + segment.getName());
+                file = writer.finish(null, new Date(header.getStartTimestamp()));
+            }
+            else {
+                file = stitch(directory, header, segment, null,
+                        new Date(header.getStartTimestamp()));
+            }
+            if(file != null) {
+                System.out.println("Recovered interrupted recording in: " + file);
+                recovered.add(file);
+            }
+        }
+        deleteOrphanedRawSegments(directory);
+        return recovered;
+    }
+
+    /**
+     * Delete raw capture segments whose recording is neither active nor has a segment file left,
+     * for example because no chunk was written before the application was killed.
+     *
+     * @param directory directory holding the segment files.
+     */
+    private static void deleteOrphanedRawSegments(File directory) {
+        File[] raw = directory.listFiles((dir, name) -> RawSensorLog.getStartTimestamp(name) >= 0);
+        if(raw == null) return;
+        for (File file : raw) {
+            File segment = new File(directory, SEGMENT_PREFIX
+                    + RawSensorLog.getStartTimestamp(file.getName()) + SEGMENT_SUFFIX);
+            synchronized (activeSegments) {
+                if(activeSegments.contains(segment)) continue;
+            }
+            System.err.println("Deleting orphaned raw sensor segment " + file.getName());
+            file.delete();
+        }
+    }
+
+    /**
+     * Read the header frame at the start of a segment file.
+     *
+     * @param segmentFile   segment file to read.
+     * @return              the header, or null if the first frame is not a valid header.
+     */
+    private static Traj.Trajectory readHeader(File segmentFile) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(segmentFile)))) {
+            int type = in.read();
+            if(type != FRAME_HEADER) return null;
+            int length = CodedInputStream.readRawVarint32(in.readUnsignedByte(), in);
+            if(length < 0 || length > segmentFile.length()) return null;
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(type);
+            crc.update(payload, 0, length);
+            if(in.readInt() != (int) crc.getValue()) return null;
+            return Traj.Trajectory.parseFrom(payload);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops the recording without producing a trajectory file, deleting any written segments.
+     */
+    public synchronized void discard() {
+        if(closed) return;
+        closeSegmentStream();
+        closed = true;
+        chunk.clear();
+        imuSamples.clear();
+        magnetometerSamples.clear();
+        chunkSamples = 0;
+        segmentFile.delete();
+        synchronized (activeSegments) {
+            activeSegments.remove(segmentFile);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,520 @@
+package com.example.cloud;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+
+import androidx.annotation.NonNull;
+import androidx.preference.PreferenceManager;
+
+import com.example.cloud.sensors.Observable;
+import com.example.cloud.sensors.Observer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Persistent queue of trajectory files waiting to be uploaded to the server.
+ * <p>
+ * The class follows the singleton design pattern, so every part of the application shares the same
+ * queue. Queued files are recorded in a journal in local storage, which is replaced atomically
+ * after every change, so the queue survives crashes and restarts of the application. The journal
+ * is written on the threads of the queue, never on the thread enqueueing a file, and changes made
+ * while a write is pending are saved together. A file is only removed from the journal and
+ * deleted once the server has acknowledged it, which gives
+ * at-least-once delivery: a file may be uploaded twice if the application dies before the
+ * acknowledgement is recorded, but never lost.
+ * <p>
+ * Uploads are only attempted while a network allowed by the user preferences is available, WiFi
+ * or mobile data if "mobile_sync" is enabled, and are resumed automatically when such a network
+ * appears. At most {@link UploadQueue#MAX_PARALLEL_UPLOADS} files are uploaded at a time. Failed
+ * uploads are retried with exponential backoff; files rejected by the server are taken off the
+ * queue but kept in local storage, where they can still be uploaded manually.
+ * <p>
+ * The upload state of every file is recorded in the {@link TrajectoryCatalog}.
+ * <p>
+ * Observers are notified with the result of every attempt: an Integer {@link UploadQueue#UPLOADED},
+ * {@link UploadQueue#REJECTED} or {@link UploadQueue#RETRYING}, followed by a Long delay in
+ * milliseconds before the next attempt of a file that is retried, 0 otherwise.
+ *
+ * @see ServerCommunications performing the uploads.
+ */
+public class UploadQueue implements Observable {
+
+    // Results of an upload attempt passed to the observers
+    public static final int REJECTED = 0;
+    public static final int UPLOADED = 1;
+    public static final int RETRYING = 2;
+    // Maximum number of uploads in progress at the same time
+    public static final int MAX_PARALLEL_UPLOADS = 2;
+    // Delay before the first retry, doubled for every failed attempt
+    private static final long BASE_BACKOFF_MS = 30 * 1000L;
+    // Upper limit of the retry delay
+    private static final long MAX_BACKOFF_MS = 60 * 60 * 1000L;
+    // Name of the journal file in local storage
+    private static final String JOURNAL_NAME = "upload_queue.journal";
+
+    /**
+     * Performs a single upload attempt.
+     */
+    public interface Uploader {
+        /**
+         * Upload the file, blocking until the server has responded.
+         *
+         * @param file  file to upload.
+         * @return      HTTP status code of the response.
+         * @throws IOException  if the server could not be reached or the connection failed.
+         */
+        int upload(File file) throws IOException;
+    }
+
+    /**
+     * Records the upload state of queued files, implemented by the {@link TrajectoryCatalog}.
+     */
+    public interface StateStore {
+        /**
+         * Change the upload state of a file.
+         *
+         * @param file          trajectory file in local storage.
+         * @param uploadState   one of the STATE constants of {@link TrajectoryCatalog}.
+         */
+        void setUploadState(File file, int uploadState);
+
+        /**
+         * Forget a file that was uploaded and deleted.
+         *
+         * @param file  trajectory file in local storage.
+         */
+        void remove(File file);
+    }
+
+    /**
+     * Entry of the queue.
+     */
+    private static class Entry {
+        final File file;
+        int attempts;
+        long nextAttempt;
+
+        Entry(File file, int attempts, long nextAttempt) {
+            this.file = file;
+            this.attempts = attempts;
+            this.nextAttempt = nextAttempt;
+        }
+    }
+
+    // Singleton instance, created with the first call to getInstance
+    private static UploadQueue uploadQueue;
+
+    // Journal file and the temporary file used for replacing it
+    private final File journal;
+    private final File journalTemp;
+    // Serialises journal writes, held while writing instead of the queue lock
+    private final Object journalLock;
+    // A journal write is scheduled and will include all changes made until it starts
+    private boolean journalSavePending;
+    // Queued files in order of submission
+    private final List<Entry> entries;
+    // Files with an upload in progress
+    private final Set<File> inFlight;
+    // Performs the uploads
+    private final Uploader uploader;
+    // Catalog of local trajectories holding their upload state
+    private final StateStore catalog;
+    // Checks if the current network may be used for uploading
+    private final BooleanSupplier networkAllowed;
+    // Threads for scheduling and for running uploads
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private ScheduledFuture<?> scheduledDrain;
+    // No further uploads are started, set by shutdown
+    private boolean stopped;
+    // Listener for the mobile data preference, referenced here as preferences only hold it weakly
+    private SharedPreferences.OnSharedPreferenceChangeListener preferenceListener;
+    private final Random random;
+    private final List<Observer> observers;
+
+    /**
+     * Constructor of a queue journalled in the given directory, used by
+     * {@link UploadQueue#getInstance(Context)} and by local unit tests. Loads the journal and
+     * starts uploading the queued files.
+     *
+     * @param directory         directory holding the journal.
+     * @param uploader          performs the upload attempts.
+     * @param catalog           records the upload state of the files.
+     * @param networkAllowed    checks if uploads may be attempted on the current network.
+     */
+    UploadQueue(File directory, Uploader uploader, StateStore catalog,
+                BooleanSupplier networkAllowed) {
+        this.journal = new File(directory, JOURNAL_NAME);
+        this.journalTemp = new File(directory, JOURNAL_NAME + ".tmp");
+        this.journalLock = new Object();
+        this.entries = new ArrayList<>();
+        this.inFlight = new HashSet<>();
+        this.uploader = uploader;
+        this.catalog = catalog;
+        this.networkAllowed = networkAllowed;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.workers = Executors.newFixedThreadPool(MAX_PARALLEL_UPLOADS);
+        this.random = new Random();
+        this.observers = new ArrayList<>();
+        loadJournal();
+        scheduleDrain(0);
+    }
+
+    /**
+     * Static function to access the singleton instance of the UploadQueue, creating it with the
+     * application context if necessary. The queue is journalled in local storage and starts
+     * listening for network changes.
+     *
+     * @param context   any context of the application.
+     * @return          singleton instance of the UploadQueue.
+     */
+    public static synchronized UploadQueue getInstance(Context context) {
+        if(uploadQueue == null) {
+            Context applicationContext = context.getApplicationContext();
+            ServerCommunications serverCommunications = new ServerCommunications(applicationContext);
+            ConnectivityManager connMgr = (ConnectivityManager) applicationContext
+                    .getSystemService(Context.CONNECTIVITY_SERVICE);
+            SharedPreferences settings = PreferenceManager
+                    .getDefaultSharedPreferences(applicationContext);
+            uploadQueue = new UploadQueue(applicationContext.getFilesDir(),
+                    serverCommunications::uploadFile,
+                    TrajectoryCatalog.getInstance(applicationContext),
+                    () -> isNetworkAllowed(connMgr, settings));
+            uploadQueue.listenForNetworkChanges(connMgr, settings);
+        }
+        return uploadQueue;
+    }
+
+    /**
+     * Resume uploading when an allowed network appears or mobile data is allowed in the settings.
+     *
+     * @param connMgr   connectivity manager of the system.
+     * @param settings  user preferences holding "mobile_sync".
+     */
+    private void listenForNetworkChanges(ConnectivityManager connMgr, SharedPreferences settings) {
+        connMgr.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onAvailable(@NonNull Network network) {
+                scheduleDrain(0);
+            }
+
+            @Override
+            public void onCapabilitiesChanged(@NonNull Network network,
+                                              @NonNull NetworkCapabilities capabilities) {
+                scheduleDrain(0);
+            }
+        });
+        this.preferenceListener = (preferences, key) -> {
+            if("mobile_sync".equals(key)) scheduleDrain(0);
+        };
+        settings.registerOnSharedPreferenceChangeListener(preferenceListener);
+    }
+
+    //region Queue operations
+    /**
+     * Add a trajectory file to the queue. The upload starts as soon as the network allows it.
+     * Files already in the queue are not added twice.
+     *
+     * @param file  trajectory file in local storage.
+     */
+    public synchronized void enqueue(File file) {
+        for (Entry entry : entries) {
+            if(entry.file.equals(file)) return;
+        }
+        entries.add(new Entry(file, 0, 0));
+        // Persist and update the catalog off the calling thread, which may be the UI thread
+        requestJournalSave();
+        scheduler.execute(() -> catalog.setUploadState(file, TrajectoryCatalog.STATE_QUEUED));
+        scheduleDrain(0);
+    }
+
+    /**
+     * Stop the threads of the queue once pending journal writes and uploads have completed, as
+     * when the application is stopped. Only used by local unit tests, the singleton queue runs as
+     * long as the application.
+     *
+     * @throws InterruptedException if interrupted while waiting for the threads.
+     */
+    void shutdown() throws InterruptedException {
+        synchronized (this) {
+            stopped = true;
+            if(scheduledDrain != null) scheduledDrain.cancel(false);
+        }
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Get the number of files waiting to be uploaded, including uploads in progress.
+     *
+     * @return  int number of queued files.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Start uploads for all entries that are due, up to the parallelism limit, and schedule the
+     * next run for the earliest retry.
+     */
+    private synchronized void drain() {
+        scheduledDrain = null;
+        if(stopped || entries.isEmpty() || !networkAllowed.getAsBoolean()) return;
+        long now = System.currentTimeMillis();
+        long nextDue = Long.MAX_VALUE;
+        for (Entry entry : entries) {
+            if(inFlight.contains(entry.file)) continue;
+            if(entry.nextAttempt > now) {
+                nextDue = Math.min(nextDue, entry.nextAttempt);
+            }
+            else if(inFlight.size() < MAX_PARALLEL_UPLOADS) {
+                inFlight.add(entry.file);
+                workers.execute(() -> attempt(entry));
+            }
+        }
+        if(nextDue != Long.MAX_VALUE) {
+            scheduleDrain(nextDue - now);
+        }
+    }
+
+    /**
+     * Schedule a run of {@link UploadQueue#drain()}, replacing a later scheduled run.
+     *
+     * @param delayMs   delay in milliseconds.
+     */
+    private synchronized void scheduleDrain(long delayMs) {
+        if(stopped) return;
+        if(scheduledDrain != null) {
+            if(scheduledDrain.getDelay(TimeUnit.MILLISECONDS) <= delayMs) return;
+            scheduledDrain.cancel(false);
+        }
+        scheduledDrain = scheduler.schedule(this::drain, Math.max(delayMs, 0),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Perform an upload attempt on a worker thread and update the queue with the result.
+     *
+     * @param entry queue entry to upload.
+     */
+    private void attempt(Entry entry) {
+        int code;
+        try {
+            code = entry.file.exists() ? uploader.upload(entry.file) : 404;
+        } catch (IOException e) {
+            System.err.println("Upload of " + entry.file.getName() + " failed: " + e.getMessage());
+            code = -1;
+        }
+        boolean uploaded = code >= 200 && code < 300;
+        boolean retry = code < 0 || code == 408 || code == 429 || code >= 500;
+        long retryDelay = 0;
+        synchronized (this) {
+            inFlight.remove(entry.file);
+            if(retry) {
+                entry.attempts++;
+                retryDelay = backoff(entry.attempts);
+                entry.nextAttempt = System.currentTimeMillis() + retryDelay;
+            }
+            else {
+                entries.remove(entry);
+            }
+        }
+        if(uploaded) {
+            // Only delete the file once the journal no longer references it
+            saveJournal();
+            entry.file.delete();
+            catalog.remove(entry.file);
+            notifyObservers(UPLOADED, 0);
+        }
+        else if(!retry) {
+            requestJournalSave();
+            System.err.println("Upload of " + entry.file.getName() + " rejected with code " + code
+                    + ", kept in local storage");
+            catalog.setUploadState(entry.file, TrajectoryCatalog.STATE_REJECTED);
+            notifyObservers(REJECTED, 0);
+        }
+        else {
+            requestJournalSave();
+            notifyObservers(RETRYING, retryDelay);
+        }
+        scheduleDrain(0);
+    }
+
+    /**
+     * Compute the delay before the next attempt, doubling with each failure with added jitter so
+     * that many devices do not retry at the same time.
+     *
+     * @param attempts  number of failed attempts.
+     * @return          delay in milliseconds.
+     */
+    long backoff(int attempts) {
+        long delay = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempts - 1, 16));
+        return delay + (long) (random.nextDouble() * delay / 5);
+    }
+
+    /**
+     * Check if the current network may be used for uploading. WiFi and ethernet are always
+     * allowed, mobile data only if enabled in the settings.
+     *
+     * @param connMgr   connectivity manager of the system.
+     * @param settings  user preferences holding "mobile_sync".
+     * @return          true if uploads may be attempted.
+     */
+    private static boolean isNetworkAllowed(ConnectivityManager connMgr,
+                                            SharedPreferences settings) {
+        NetworkCapabilities capabilities = connMgr.getNetworkCapabilities(connMgr.getActiveNetwork());
+        if(capabilities == null
+                || !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)) {
+            return false;
+        }
+        if(capabilities.hasTransport(NetworkCapabilities.TRANSPORT_WIFI)
+                || capabilities.hasTransport(NetworkCapabilities.TRANSPORT_ETHERNET)) {
+            return true;
+        }
+        return capabilities.hasTransport(NetworkCapabilities.TRANSPORT_CELLULAR)
+                && settings.getBoolean("mobile_sync", false);
+    }
+    //endregion
+
+    //region Journal
+    /**
+     * Load the queue from the journal. Entries of files that no longer exist are dropped.
+     */
+    private synchronized void loadJournal() {
+        // A leftover temporary file is an incomplete replacement, the journal is still valid
+        journalTemp.delete();
+        if(!journal.exists()) return;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 3);
+                if(fields.length < 3) continue;
+                File file = new File(fields[2]);
+                if(file.exists()) {
+                    entries.add(new Entry(file, Integer.parseInt(fields[0]),
+                            Long.parseLong(fields[1])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Reading upload journal failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Schedule a write of the journal on the scheduler thread, unless one is already pending.
+     */
+    private synchronized void requestJournalSave() {
+        if(journalSavePending) return;
+        journalSavePending = true;
+        scheduler.execute(this::saveJournal);
+    }
+
+    /**
+     * Write the queue to a temporary file, sync it to storage and rename it over the journal, so
+     * the journal is always either the old or the new complete version. The queue is only locked
+     * while taking a snapshot, so threads changing the queue never wait for storage. Writes are
+     * serialised, each writing a snapshot at least as recent as the previous one.
+     */
+    private void saveJournal() {
+        synchronized (journalLock) {
+            StringBuilder contents = new StringBuilder();
+            synchronized (this) {
+                journalSavePending = false;
+                for (Entry entry : entries) {
+                    contents.append(entry.attempts).append('\t').append(entry.nextAttempt)
+                            .append('\t').append(entry.file.getAbsolutePath()).append('\n');
+                }
+            }
+            writeJournal(contents.toString());
+        }
+    }
+
+    /**
+     * Replace the journal with new contents.
+     *
+     * @param contents  lines of the journal.
+     */
+    private void writeJournal(String contents) {
+        try (FileOutputStream stream = new FileOutputStream(journalTemp)) {
+            Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            writer.write(contents);
+            writer.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            System.err.println("Writing upload journal failed: " + e.getMessage());
+            return;
+        }
+        if(!journalTemp.renameTo(journal)) {
+            System.err.println("Replacing upload journal failed");
+        }
+    }
+    //endregion
+
+    /**
+     * {@inheritDoc}
+     *
+     * Registers an observer to be notified of upload attempts.
+     *
+     * @param o Classes which implement the Observer interface to receive updates from the class.
+     */
+    @Override
+    public synchronized void registerObserver(Observer o) {
+        if(!observers.contains(o)) {
+            this.observers.add(o);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Notifies all observers of the result of an upload attempt, without a retry delay.
+     *
+     * @param index {@link UploadQueue#UPLOADED}, {@link UploadQueue#REJECTED} or
+     *              {@link UploadQueue#RETRYING}.
+     */
+    @Override
+    public void notifyObservers(int index) {
+        notifyObservers(index, 0);
+    }
+
+    /**
+     * Notifies all observers with an array holding the result of an upload attempt and the delay
+     * before the file is attempted again.
+     *
+     * @param result        {@link UploadQueue#UPLOADED}, {@link UploadQueue#REJECTED} or
+     *                      {@link UploadQueue#RETRYING}.
+     * @param retryDelayMs  milliseconds until the next attempt of a retried file, 0 otherwise.
+     */
+    private void notifyObservers(int result, long retryDelayMs) {
+        List<Observer> current;
+        synchronized (this) {
+            current = new ArrayList<>(observers);
+        }
+        for(Observer o : current) {
+            o.update(new Object[] {result, retryDelayMs});
+        }
+    }
+}
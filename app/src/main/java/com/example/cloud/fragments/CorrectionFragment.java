@@ -10,6 +10,7 @@ import android.view.ViewGroup;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.TextView;
+import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -21,6 +22,7 @@ import androidx.navigation.Navigation;
 import com.example.cloud.PathView;
 import com.example.cloud.R;
 import com.example.cloud.sensors.SensorFusion;
+import com.example.cloud.sensors.TrajectoryFinalizationListener;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.OnMapReadyCallback;
@@ -28,6 +30,8 @@ import com.google.android.gms.maps.SupportMapFragment;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.MarkerOptions;
 
+import java.io.File;
+
 /**
  * A simple {@link Fragment} subclass. Corrections Fragment is displayed after a recording session
  * is finished to enable manual adjustments to the PDR. The adjustments are not saved as of now.
@@ -88,8 +92,27 @@ public class CorrectionFragment extends Fragment {
         // Inflate the layout for this fragment
         ((AppCompatActivity)getActivity()).getSupportActionBar().hide();
 
-        //Send trajectory data to the cloud
-        sensorFusion.sendTrajectoryToCloud();
+        //Send trajectory data to the cloud, finalized in the background
+        sensorFusion.sendTrajectoryToCloud(new TrajectoryFinalizationListener() {
+            @Override
+            public void onProgress(int percent) {
+                // Finalization is not shown, the map stays usable meanwhile
+            }
+
+            @Override
+            public void onFinalized(File file) {
+                if(getContext() != null) {
+                    Toast.makeText(getContext(), "Trajectory saved", Toast.LENGTH_SHORT).show();
+                }
+            }
+
+            @Override
+            public void onFailed() {
+                if(getContext() != null) {
+                    Toast.makeText(getContext(), "Saving trajectory failed!", Toast.LENGTH_SHORT).show();
+                }
+            }
+        });
 
         //Obtain start position set in the startLocation fragment
         float[] startPosition = sensorFusion.getGNSSLatitude(true);
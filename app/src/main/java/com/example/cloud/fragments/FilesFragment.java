@@ -22,18 +22,12 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.cloud.R;
 import com.example.cloud.ServerCommunications;
+import com.example.cloud.TrajectoryEntry;
 import com.example.cloud.sensors.Observer;
 import com.example.cloud.viewitems.TrajDownloadListAdapter;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
-
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * A simple {@link Fragment} subclass. The files fragments displays a list of trajectories already
@@ -115,90 +109,65 @@ public class FilesFragment extends Fragment implements Observer {
                 Navigation.findNavController(view).navigate(action);
             }
         });
-        // Request list of uploaded trajectories from the server.
+        // Request list of uploaded trajectories from the server, filling a new adapter.
+        listAdapter = null;
         serverCommunications.sendInfoRequest();
     }
 
     /**
      * {@inheritDoc}
-     * Called by {@link ServerCommunications} when the response to the HTTP info request is received.
+     * Called by {@link ServerCommunications} when the listing of uploaded trajectories is loaded
+     * from local storage or received from the server.
      *
-     * @param singletonStringList   a single string wrapped in an object array containing the http
-     *                              response from the server.
+     * @param entries   {@link TrajectoryEntry} objects sorted by id.
      */
     @Override
-    public void update(Object[] singletonStringList) {
-        // Cast input as a string
-        String infoString = (String) singletonStringList[0];
-        // Check if the string is non-null and non-empty before processing
-        if(infoString != null && !infoString.isEmpty()) {
-            // Process string
-            List<Map<String, String>> entryList = processInfoResponse(infoString);
-            // Start a handler to be able to modify UI elements
-            new Handler(Looper.getMainLooper()).post(new Runnable() {
-                @Override
-                public void run() {
-                    // Update the RecyclerView with data from the server
-                    updateView(entryList);
-                }
-            });
+    public void update(Object[] entries) {
+        // Cast input as trajectory entries
+        List<TrajectoryEntry> entryList = new ArrayList<>(entries.length);
+        for (Object entry : entries) {
+            entryList.add((TrajectoryEntry) entry);
         }
-    }
-
-    /**
-     * Parses the info response string from the HTTP communication.
-     * Process the data using the Json library and return the matching Java data structure as a
-     * List of Maps of \<String, String\>. Throws a JSONException if the data is not valid.
-     *
-     * @param infoString    HTTP info request response as a single string
-     * @return              List of Maps of String to String containing ID, owner ID, and date.
-     */
-    private List<Map<String, String>> processInfoResponse(String infoString) {
-        // Initialise empty list
-        List<Map<String, String>> entryList = new ArrayList<>();
-        try {
-            // Attempt to decode using known JSON pattern
-            JSONArray jsonArray = new JSONArray(infoString);
-            for (int i = 0; i < jsonArray.length(); i++) {
-                JSONObject trajectoryEntry = jsonArray.getJSONObject(i);
-                Map<String, String> entryMap = new HashMap<>();
-                entryMap.put("owner_id", String.valueOf(trajectoryEntry.get("owner_id")));
-                entryMap.put("date_submitted", (String) trajectoryEntry.get("date_submitted"));
-                entryMap.put("id", String.valueOf(trajectoryEntry.get("id")));
-                // Add decoded map to list of entries
-                entryList.add(entryMap);
+        // Start a handler to be able to modify UI elements
+        new Handler(Looper.getMainLooper()).post(new Runnable() {
+            @Override
+            public void run() {
+                // Update the RecyclerView with data from the server
+                updateView(entryList);
             }
-        } catch (JSONException e) {
-            System.err.println("JSON reading failed");
-            e.printStackTrace();
-        }
-        // Sort the list by the ID fields of the maps
-        entryList.sort(Comparator.comparing(m -> Integer.parseInt(m.get("id")), Comparator.nullsLast(Comparator.naturalOrder())));
-        return entryList;
+        });
     }
 
     /**
      * Update the RecyclerView in the FilesFragment with new data.
-     * Must be called from a UI thread. Initialises a new Layout Manager, and passes it to the
-     * RecyclerView. Initialises a {@link TrajDownloadListAdapter} with the input array and setting
-     * up a listener so that trajectories are downloaded when clicked, and a pop-up message is
-     * displayed to notify the user.
+     * Must be called from a UI thread. On the first call, initialises a new Layout Manager, and
+     * passes it to the RecyclerView with a {@link TrajDownloadListAdapter} for the input list,
+     * setting up a listener so that trajectories are downloaded when clicked, and a pop-up message
+     * is displayed to notify the user. Later calls replace the entries of the existing adapter.
      *
-     * @param entryList List of Maps of String to String containing metadata about the uploaded
+     * @param entryList List of {@link TrajectoryEntry} objects with metadata about the uploaded
      *                  trajectories (ID, owner ID, date).
      */
-    private void updateView(List<Map<String, String>> entryList) {
+    private void updateView(List<TrajectoryEntry> entryList) {
+        if(filesList == null) return;
+        if(listAdapter != null) {
+            listAdapter.setEntries(entryList);
+            return;
+        }
         // Initialise RecyclerView with Manager and Adapter
         LinearLayoutManager manager = new LinearLayoutManager(getActivity());
         filesList.setLayoutManager(manager);
         filesList.setHasFixedSize(true);
         listAdapter = new TrajDownloadListAdapter(getActivity(), entryList, position -> {
-            // Download the appropriate trajectory instance
-            serverCommunications.downloadTrajectory(position);
+            // Download the appropriate trajectory instance, unless it is stored locally already
+            String id = String.valueOf(listAdapter.getEntry(position).getId());
+            boolean cached = serverCommunications.isTrajectoryCached(id);
+            serverCommunications.downloadTrajectory(id, position);
             // Display a pop-up message to direct the user to the download location if necessary.
             new AlertDialog.Builder(getContext())
                     .setTitle("File downloaded")
-                    .setMessage("Trajectory downloaded to local storage")
+                    .setMessage(cached ? "Trajectory available in local storage"
+                            : "Trajectory downloaded to local storage")
                     .setPositiveButton(R.string.ok, null)
                     .setNegativeButton(R.string.show_storage, new DialogInterface.OnClickListener() {
                         @Override
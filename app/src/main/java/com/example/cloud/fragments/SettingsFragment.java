@@ -2,15 +2,18 @@ package com.example.cloud.fragments;
 
 import android.os.Bundle;
 import android.text.InputType;
+import android.widget.Toast;
 
 import androidx.preference.EditTextPreference;
+import androidx.preference.Preference;
 import androidx.preference.PreferenceFragmentCompat;
 
+import com.example.cloud.PdrParameters;
 import com.example.cloud.R;
 
 /**
  * SettingsFragment that inflates and displays the preferences (settings).
- * Sets type for numeric only fields.
+ * Sets type for numeric only fields and rejects invalid values of the PDR constants.
  *
  * @see HomeFragment the return fragment when leaving the settings.
  *
@@ -26,6 +29,10 @@ public class SettingsFragment extends PreferenceFragmentCompat {
     private EditTextPreference accelFilter;
     private EditTextPreference wifiInterval;
 
+    // Keys of the PDR constants validated before they are stored
+    private static final String[] VALIDATED_KEYS = {"weiberg_k", "elevation_seconds",
+            "accel_samples", "epsilon", "accel_filter", "step_threshold", "step_lookahead"};
+
     /**
      * {@inheritDoc}
      * Sets the relevant numeric type for the preferences that should not take string values.
@@ -52,6 +59,28 @@ public class SettingsFragment extends PreferenceFragmentCompat {
         wifiInterval = findPreference("wifi_interval");
         wifiInterval.setOnBindEditTextListener(editText -> editText.setInputType(
                 InputType.TYPE_CLASS_NUMBER));
+        for (String key : VALIDATED_KEYS) {
+            Preference preference = findPreference(key);
+            if(preference != null) {
+                preference.setOnPreferenceChangeListener(this::validateConstant);
+            }
+        }
+    }
 
+    /**
+     * Rejects values of the PDR constants which cannot be parsed or are out of range, so they
+     * never reach the sensor processing.
+     *
+     * @param preference    the changed preference.
+     * @param newValue      the value entered by the user.
+     * @return              true to store the value, false to reject it.
+     */
+    private boolean validateConstant(Preference preference, Object newValue) {
+        if(PdrParameters.isValid(preference.getKey(), String.valueOf(newValue))) {
+            return true;
+        }
+        Toast.makeText(getContext(), "Invalid value, setting not changed", Toast.LENGTH_SHORT)
+                .show();
+        return false;
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.example.cloud.fragments;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,18 +16,17 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.cloud.R;
 import com.example.cloud.ServerCommunications;
+import com.example.cloud.TrajectoryCatalog;
 import com.example.cloud.viewitems.DownloadClickListener;
 import com.example.cloud.viewitems.UploadListAdapter;
 
-import java.io.File;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A simple {@link Fragment} subclass. Displays trajectories that were saved locally because no
  * acceptable network was available to upload it when the recording finished. Trajectories can be
- * uploaded manually.
+ * uploaded manually. The trajectories and their metadata are loaded from the
+ * {@link TrajectoryCatalog} on a background thread.
  *
  * @author Mate Stodulka
  */
@@ -39,8 +40,10 @@ public class UploadFragment extends Fragment {
     // Server communication class
     private ServerCommunications serverCommunications;
 
-    // List of files saved locally
-    private List<File> localTrajectories;
+    // Catalog of the files saved locally
+    private TrajectoryCatalog trajectoryCatalog;
+    // List of files saved locally, null until loaded from the catalog
+    private List<TrajectoryCatalog.Entry> localTrajectories;
 
     /**
      * Public default constructor, empty.
@@ -52,18 +55,15 @@ public class UploadFragment extends Fragment {
 
     /**
      * {@inheritDoc}
-     * Initialises new Server Communication instance with the context, and finds all the files that
-     * match the trajectory naming scheme in local storage.
+     * Initialises new Server Communication instance with the context, and gets the catalog of
+     * local trajectories.
      */
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         // Get communication class
         serverCommunications = new ServerCommunications(getActivity());
-        // Load local trajectories
-        localTrajectories = Stream.of(getActivity().getFilesDir().listFiles((file, name) -> name.contains("trajectory_") && name.endsWith(".txt")))
-                .filter(file -> !file.isDirectory())
-                .collect(Collectors.toList());
+        trajectoryCatalog = TrajectoryCatalog.getInstance(getActivity());
     }
 
     /**
@@ -80,23 +80,48 @@ public class UploadFragment extends Fragment {
 
     /**
      * {@inheritDoc}
+     * Loads the locally saved trajectories from the catalog on a background thread, and displays
+     * them once they are loaded.
+     *
+     * @see UploadFragment#showTrajectories() displaying the list.
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+
+        this.emptyNotice = view.findViewById(R.id.emptyUpload);
+        this.uploadList = view.findViewById(R.id.uploadTrajectories);
+        this.listAdapter = null;
+        if(localTrajectories != null) {
+            showTrajectories();
+            return;
+        }
+        // A single database query, kept off the UI thread
+        uploadList.setVisibility(View.GONE);
+        emptyNotice.setVisibility(View.GONE);
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        new Thread(() -> {
+            List<TrajectoryCatalog.Entry> entries = trajectoryCatalog.getLocalTrajectories();
+            mainHandler.post(() -> {
+                localTrajectories = entries;
+                if(getView() != null) showTrajectories();
+            });
+        }, "UploadListLoader").start();
+    }
+
+    /**
      * Checks if there are locally saved trajectories. If there are none, it displays a text message
      * notifying the user. If there are local files, the text is hidden, and instead a Recycler View
      * is displayed showing all the trajectories.
      * <p>
      * A Layout Manager is registered, and the adapter and list of files passed. An onClick listener
-     * is set up to upload the file when clicked and remove it from local storage.
+     * is set up to upload the file when clicked and remove it from the list.
      *
      * @see UploadListAdapter list adapter for the recycler view.
      * @see com.example.cloud.viewitems.UploadViewHolder view holder for the recycler view.
      * @see com.example.cloud.R.layout#item_upload_card_view xml view for list elements.
      */
-    @Override
-    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
-        super.onViewCreated(view, savedInstanceState);
-
-        this.emptyNotice = view.findViewById(R.id.emptyUpload);
-        this.uploadList = view.findViewById(R.id.uploadTrajectories);
+    private void showTrajectories() {
         // Check if there are locally saved trajectories
         if(localTrajectories.isEmpty()) {
             uploadList.setVisibility(View.GONE);
@@ -118,7 +143,7 @@ public class UploadFragment extends Fragment {
                  */
                 @Override
                 public void onPositionClicked(int position) {
-                    serverCommunications.uploadLocalTrajectory(localTrajectories.get(position));
+                    serverCommunications.uploadLocalTrajectory(localTrajectories.get(position).getFile());
                     localTrajectories.remove(position);
                     listAdapter.notifyItemRemoved(position);
                 }
@@ -0,0 +1,128 @@
+package com.example.cloud.sensors;
+
+/**
+ * Controller lowering the motion sensor sampling rate while the user is standing still.
+ * <p>
+ * The controller tracks the motion energy as an exponentially weighted moving average of the linear
+ * acceleration magnitude. Once it has stayed below {@link AdaptiveRateController#STILL_THRESHOLD}
+ * for {@link AdaptiveRateController#STILL_DURATION_NS}, the device is considered stationary and the
+ * listener is asked to sample at {@link AdaptiveRateController#IDLE_PERIOD_US}. Any single
+ * linear acceleration event above {@link AdaptiveRateController#MOTION_THRESHOLD}, as produced by
+ * the heel strike of the first step, or a step detector event restores the full rate
+ * immediately. Rates are only lowered after a sustained period of rest, so short pauses while
+ * walking keep the full rate.
+ * <p>
+ * All methods are expected to be called from the sensor thread, which is also where the listener
+ * is notified.
+ *
+ * @see SensorFusion applying the rate changes and recording them in the trajectory.
+ */
+public class AdaptiveRateController {
+
+    // Sampling periods of the motion sensors in microseconds
+    public static final int ACTIVE_PERIOD_US = 10000;
+    public static final int IDLE_PERIOD_US = 50000;
+    // Smoothing factor of the motion energy average
+    private static final float ENERGY_ALPHA = 0.05f;
+    // Average linear acceleration in m/s^2 below which the device is considered still
+    private static final float STILL_THRESHOLD = 0.25f;
+    // Linear acceleration in m/s^2 of a single event indicating the start of motion
+    private static final float MOTION_THRESHOLD = 1.2f;
+    // Time the energy has to stay low before the rate is lowered
+    private static final long STILL_DURATION_NS = 3000000000L;
+
+    /**
+     * Receiver of rate changes.
+     */
+    public interface Listener {
+        /**
+         * Called when the device starts or stops moving.
+         *
+         * @param timestamp         sensor event timestamp of the change in nanoseconds.
+         * @param stationary        true if the device is now considered stationary.
+         * @param samplingPeriodUs  sampling period to use for the motion sensors.
+         */
+        void onRateChanged(long timestamp, boolean stationary, int samplingPeriodUs);
+    }
+
+    // Receiver of rate changes
+    private final Listener listener;
+    // Smoothed linear acceleration magnitude
+    private float energy;
+    // Timestamp since which the energy has been below the threshold, -1 if it is not
+    private long stillSince;
+    // Current state
+    private boolean stationary;
+
+    /**
+     * Public default constructor of the AdaptiveRateController, starting at full rate.
+     *
+     * @param listener  receiver of rate changes.
+     */
+    public AdaptiveRateController(Listener listener) {
+        this.listener = listener;
+        this.energy = MOTION_THRESHOLD;
+        this.stillSince = -1;
+        this.stationary = false;
+    }
+
+    /**
+     * Process a linear acceleration event.
+     *
+     * @param timestamp sensor event timestamp in nanoseconds.
+     * @param values    linear acceleration along the x-y-z axis in m/s^2.
+     */
+    public void onLinearAcceleration(long timestamp, float[] values) {
+        float magnitude = (float) Math.sqrt(values[0] * values[0] + values[1] * values[1]
+                + values[2] * values[2]);
+        energy += ENERGY_ALPHA * (magnitude - energy);
+        if(magnitude > MOTION_THRESHOLD) {
+            stillSince = -1;
+            setStationary(timestamp, false);
+        }
+        else if(energy < STILL_THRESHOLD) {
+            if(stillSince < 0) {
+                stillSince = timestamp;
+            }
+            else if(timestamp - stillSince >= STILL_DURATION_NS) {
+                setStationary(timestamp, true);
+            }
+        }
+        else {
+            stillSince = -1;
+        }
+    }
+
+    /**
+     * Process a step detector event, which always restores the full rate.
+     *
+     * @param timestamp sensor event timestamp in nanoseconds.
+     */
+    public void onStep(long timestamp) {
+        stillSince = -1;
+        setStationary(timestamp, false);
+    }
+
+    /**
+     * Get the current state of the controller.
+     *
+     * @return  true if the motion sensors are sampled at the idle rate.
+     */
+    public boolean isStationary() {
+        return stationary;
+    }
+
+    /**
+     * Change the state and notify the listener if it differs from the current one.
+     */
+    private void setStationary(long timestamp, boolean stationary) {
+        if(this.stationary == stationary) return;
+        this.stationary = stationary;
+        if(!stationary) {
+            // Start averaging from a moving state again
+            energy = MOTION_THRESHOLD;
+        }
+        listener.onRateChanged(timestamp, stationary,
+                stationary ? IDLE_PERIOD_US : ACTIVE_PERIOD_US);
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.cloud.sensors;
+
+import android.hardware.Sensor;
+
+import com.example.cloud.TrajectoryWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Raw capture of sensor events in fixed-width binary records, for high rate research sessions.
+ * <p>
+ * Converting every event to a protobuf sample while recording costs too much CPU at 200Hz and
+ * more across several sensors. In raw capture mode, events are instead written as 32 byte records
+ * of hardware timestamp, sensor type and up to five values into segment files mapped into memory
+ * with a {@link MappedByteBuffer}. Writing a record only stores primitives into the mapped pages,
+ * without allocating objects or copying buffers, and the operating system writes the pages back
+ * to storage. When a segment is full, the next one is mapped. Detected steps are stored as step
+ * detector records holding the step count and the PDR position.
+ * <p>
+ * Each segment starts with a header of the size of a record, holding a magic number, the format
+ * version, the record size, flags and the start of the recording on the elapsed realtime clock.
+ * The unused tail of the last segment is zero filled, a record with sensor type 0 marks the end of
+ * the log. Segment files are named after the start timestamp of the trajectory header and their
+ * index, so that the segments of a recording interrupted by the application being killed can be
+ * found again by {@link RawSensorLog#recover(File, TrajectoryWriter)}. The segment file of the
+ * trajectory writer is created along with the first raw segment, as it holds the header the
+ * recording is recovered with.
+ * <p>
+ * Records are written under the lock of the log, which is never contended while recording: all
+ * events arrive on the sensor thread of {@link SensorFusion}, and other threads only take the
+ * lock once, to drain, convert or discard the log after the recording has stopped. An uncontended
+ * lock costs a compare-and-swap per record, without allocating, and keeps a record from being
+ * written into a segment that is being converted or deleted.
+ * <p>
+ * Once the recording has stopped, {@link RawSensorLog#convert()} replays the records through a
+ * {@link SensorEventRecorder} into the {@link TrajectoryWriter} of the recording, which produces
+ * the same trajectory as event capture mode, and deletes the segments.
+ *
+ * @see SensorFusion forwarding the sensor events.
+ */
+public class RawSensorLog implements SensorEventSink {
+
+    // Size of a record and of the segment header in bytes
+    public static final int RECORD_BYTES = 32;
+    // Number of values stored per record, enough for the rotation vector with heading accuracy
+    public static final int RECORD_VALUES = 5;
+    // Number of records per segment, 4MB segments
+    public static final int SEGMENT_RECORDS = 128 * 1024;
+    private static final long SEGMENT_BYTES = (long) (SEGMENT_RECORDS + 1) * RECORD_BYTES;
+    // Header fields of a segment
+    private static final int MAGIC = 0x5241574C;
+    private static final int VERSION = 1;
+    // Flag of the segment header set when motion samples are resampled
+    private static final int FLAG_RESAMPLE = 1;
+    // Name pattern of segment files
+    private static final String SEGMENT_PREFIX = "raw_";
+    private static final String SEGMENT_SUFFIX = ".bin";
+
+    // Directory for the segment files
+    private final File directory;
+    // Destination of the converted samples
+    private final TrajectoryWriter writer;
+    // Timeline of the recording
+    private final RecordingClock clock;
+    // True to resample motion and magnetometer samples when converting
+    private final boolean resample;
+    // Segment files in order of writing
+    private final List<File> segments;
+    // Mapped pages of the current segment, null before the first record
+    private MappedByteBuffer buffer;
+    // Set once the recording has stopped, and once it has been converted or discarded
+    private boolean stopped;
+    private boolean closed;
+
+    /**
+     * Public default constructor of the RawSensorLog. Segment files are only created when the
+     * first record is written.
+     *
+     * @param directory directory for the segment files.
+     * @param writer    trajectory writer of the recording, receiving the converted samples.
+     * @param clock     timeline of the recording.
+     * @param resample  true to store motion and magnetometer samples on a uniform grid.
+     */
+    public RawSensorLog(File directory, TrajectoryWriter writer, RecordingClock clock,
+                        boolean resample) {
+        this.directory = directory;
+        this.writer = writer;
+        this.clock = clock;
+        this.resample = resample;
+        this.segments = new ArrayList<>();
+        this.stopped = false;
+        this.closed = false;
+    }
+
+    //region Capture
+    /**
+     * {@inheritDoc}
+     * Writes the event as a single record, values beyond the fifth are dropped.
+     *
+     * @param sensorType    Sensor.TYPE constant of the originating sensor.
+     * @param timestamp     hardware timestamp of the event in nanoseconds.
+     * @param values        values of the event, only read during the call.
+     */
+    @Override
+    public synchronized void record(int sensorType, long timestamp, float[] values) {
+        if(stopped || !ensureCapacity()) return;
+        buffer.putLong(timestamp);
+        buffer.putInt(sensorType);
+        for (int i = 0; i < RECORD_VALUES; i++) {
+            buffer.putFloat(i < values.length ? values[i] : 0f);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Writes a step detector record holding the step count and the PDR position.
+     */
+    @Override
+    public synchronized void recordStep(long timestamp, int steps, float x, float y) {
+        if(stopped || !ensureCapacity()) return;
+        buffer.putLong(timestamp);
+        buffer.putInt(Sensor.TYPE_STEP_DETECTOR);
+        buffer.putFloat(steps);
+        buffer.putFloat(x);
+        buffer.putFloat(y);
+        buffer.putFloat(0f);
+        buffer.putFloat(0f);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Stops capturing and forces the mapped pages of the current segment to storage. The records
+     * are only converted by {@link RawSensorLog#convert()}, which is too slow for this call.
+     */
+    @Override
+    public synchronized void drain() {
+        stopped = true;
+        if(buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Make sure the current segment has room for a record, mapping a new segment if it is full.
+     * Only allocates when a segment is created.
+     *
+     * @return  true if a record can be written.
+     */
+    private boolean ensureCapacity() {
+        if(buffer != null && buffer.remaining() >= RECORD_BYTES) return true;
+        if(segments.isEmpty()) {
+            // Recovering the raw segments needs the header in the segment of the writer
+            writer.createSegment();
+        }
+        File file = new File(directory, SEGMENT_PREFIX + writer.getStartTimestamp() + "_"
+                + segments.size() + SEGMENT_SUFFIX);
+        try (RandomAccessFile segment = new RandomAccessFile(file, "rw")) {
+            // The mapping stays valid after the file is closed
+            MappedByteBuffer mapped = segment.getChannel().map(FileChannel.MapMode.READ_WRITE, 0,
+                    SEGMENT_BYTES);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.putInt(MAGIC);
+            mapped.putInt(VERSION);
+            mapped.putInt(RECORD_BYTES);
+            mapped.putInt(resample ? FLAG_RESAMPLE : 0);
+            mapped.putLong(clock.getStartNanos());
+            mapped.putLong(0L);
+            buffer = mapped;
+            segments.add(file);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Mapping raw sensor segment failed: " + e.getMessage());
+            file.delete();
+            buffer = null;
+            stopped = true;
+            return false;
+        }
+    }
+    //endregion
+
+    //region Conversion
+    /**
+     * Convert the captured records into trajectory samples and delete the segment files. The
+     * records are replayed in order through a {@link SensorEventRecorder} writing to the trajectory
+     * writer of the recording. Must be called from a background thread before the writer is
+     * finished, and only has an effect once.
+     *
+     * @return  number of records converted.
+     */
+    public synchronized int convert() {
+        if(closed) return 0;
+        drain();
+        closed = true;
+        buffer = null;
+        int converted = replay(segments, new SensorEventRecorder(writer, clock, resample));
+        deleteSegments();
+        return converted;
+    }
+
+    /**
+     * Convert the raw segments left behind by a recording that was interrupted, for example
+     * because the application was killed, into trajectory samples and delete them. The timeline
+     * and resampling of the recording are read from the header of its first segment.
+     *
+     * @param directory directory holding the segment files.
+     * @param writer    trajectory writer with the header of the interrupted recording.
+     * @return          number of records converted.
+     */
+    public static int recover(File directory, TrajectoryWriter writer) {
+        List<File> files = listSegments(directory, writer.getStartTimestamp());
+        int converted = 0;
+        if(!files.isEmpty()) {
+            try (RandomAccessFile first = new RandomAccessFile(files.get(0), "r")) {
+                first.seek(12);
+                int flags = Integer.reverseBytes(first.readInt());
+                long startNanos = Long.reverseBytes(first.readLong());
+                converted = replay(files, new SensorEventRecorder(writer,
+                        new RecordingClock(startNanos), (flags & FLAG_RESAMPLE) != 0));
+            } catch (IOException e) {
+                System.err.println("Reading raw sensor segment failed: " + e.getMessage());
+            }
+        }
+        for (File file : files) {
+            file.delete();
+        }
+        return converted;
+    }
+
+    /**
+     * Check whether raw segments of a recording exist.
+     *
+     * @param directory         directory holding the segment files.
+     * @param startTimestamp    start timestamp of the trajectory header of the recording.
+     * @return                  true if there is at least one segment.
+     */
+    public static boolean hasSegments(File directory, long startTimestamp) {
+        return !listSegments(directory, startTimestamp).isEmpty();
+    }
+
+    /**
+     * Get the recording a raw segment belongs to from its file name.
+     *
+     * @param name  name of the file.
+     * @return      start timestamp of the trajectory header of the recording, or -1 if the file is
+     *              not a raw segment.
+     */
+    public static long getStartTimestamp(String name) {
+        if(!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) return -1;
+        String[] parts = name.substring(SEGMENT_PREFIX.length(),
+                name.length() - SEGMENT_SUFFIX.length()).split("_");
+        if(parts.length != 2) return -1;
+        try {
+            Integer.parseInt(parts[1]);
+            return Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * List the raw segments of a recording in order of writing.
+     *
+     * @param directory         directory holding the segment files.
+     * @param startTimestamp    start timestamp of the trajectory header of the recording.
+     * @return                  the segment files, empty if there are none.
+     */
+    private static List<File> listSegments(File directory, long startTimestamp) {
+        List<File> files = new ArrayList<>();
+        String prefix = SEGMENT_PREFIX + startTimestamp + "_";
+        File[] found = directory.listFiles((dir, name) -> name.startsWith(prefix)
+                && getStartTimestamp(name) == startTimestamp);
+        if(found == null) return files;
+        files.addAll(Arrays.asList(found));
+        files.sort((a, b) -> Integer.compare(getIndex(a), getIndex(b)));
+        return files;
+    }
+
+    /**
+     * Get the index of a raw segment within its recording from its file name.
+     *
+     * @param file  raw segment file.
+     * @return      index of the segment, starting at 0.
+     */
+    private static int getIndex(File file) {
+        String name = file.getName();
+        return Integer.parseInt(name.substring(name.lastIndexOf('_') + 1,
+                name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Replay the records of segment files in order through a recorder, which is drained
+     * afterwards. Reading stops at the end marker of a segment, and invalid segments are skipped.
+     *
+     * @param files     segment files in order of writing.
+     * @param recorder  recorder writing the samples to the trajectory writer.
+     * @return          number of records replayed.
+     */
+    private static int replay(List<File> files, SensorEventRecorder recorder) {
+        float[] values = new float[RECORD_VALUES];
+        int converted = 0;
+        for (File file : files) {
+            try (RandomAccessFile segment = new RandomAccessFile(file, "r")) {
+                MappedByteBuffer in = segment.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                        segment.length());
+                in.order(ByteOrder.LITTLE_ENDIAN);
+                if(in.remaining() < RECORD_BYTES || in.getInt() != MAGIC || in.getInt() != VERSION
+                        || in.getInt() != RECORD_BYTES) {
+                    System.err.println("Invalid raw sensor segment " + file.getName());
+                    continue;
+                }
+                in.position(RECORD_BYTES);
+                while (in.remaining() >= RECORD_BYTES) {
+                    long timestamp = in.getLong();
+                    int sensorType = in.getInt();
+                    if(sensorType == 0) break;
+                    for (int i = 0; i < RECORD_VALUES; i++) {
+                        values[i] = in.getFloat();
+                    }
+                    if(sensorType == Sensor.TYPE_STEP_DETECTOR) {
+                        recorder.recordStep(timestamp, (int) values[0], values[1], values[2]);
+                    }
+                    else {
+                        recorder.record(sensorType, timestamp, values);
+                    }
+                    converted++;
+                }
+            } catch (IOException e) {
+                System.err.println("Reading raw sensor segment failed: " + e.getMessage());
+            }
+        }
+        recorder.drain();
+        return converted;
+    }
+
+    /**
+     * Drop the captured records without converting them, deleting the segment files.
+     */
+    public synchronized void discard() {
+        if(closed) return;
+        stopped = true;
+        closed = true;
+        buffer = null;
+        deleteSegments();
+    }
+
+    /**
+     * Delete all segment files of the log.
+     */
+    private void deleteSegments() {
+        for (File file : segments) {
+            file.delete();
+        }
+        segments.clear();
+    }
+    //endregion
+}
@@ -0,0 +1,84 @@
+package com.example.cloud.sensors;
+
+import android.location.Location;
+import android.os.SystemClock;
+
+/**
+ * Common timeline for all data stored in a recording.
+ * <p>
+ * The data sources of the application report time in different clocks: sensor events are stamped
+ * in the {@link SystemClock#elapsedRealtimeNanos()} time base, locations carry both a wall clock
+ * time and an elapsed realtime, and timer based sampling reads the current time. The wall clock can
+ * jump when it is corrected by the network, and {@link SystemClock#uptimeMillis()} stops while the
+ * device sleeps, so neither is suitable for aligning streams. This class maps every source onto
+ * milliseconds elapsed since the start of the recording, measured with the monotonic elapsed
+ * realtime clock, which is what all relative timestamps of the trajectory are expressed in.
+ *
+ * @see SensorFusion where the clock is created at the start of a recording.
+ * @see SensorEventRecorder converting sensor event timestamps.
+ */
+public class RecordingClock {
+
+    // Static constant used for converting between nanoseconds and milliseconds
+    private static final long NS2MS = 1000000L;
+
+    // Elapsed realtime at the start of the recording in nanoseconds
+    private final long startNanos;
+
+    /**
+     * Public default constructor of the RecordingClock.
+     *
+     * @param startNanos    start of the recording in the elapsed realtime nanosecond time base.
+     */
+    public RecordingClock(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Creates a clock for a recording starting now.
+     *
+     * @return  RecordingClock starting at the current elapsed realtime.
+     */
+    public static RecordingClock startNow() {
+        return new RecordingClock(SystemClock.elapsedRealtimeNanos());
+    }
+
+    /**
+     * Get the start of the recording.
+     *
+     * @return  start time in the elapsed realtime nanosecond time base.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Convert an elapsed realtime timestamp, such as a sensor event timestamp, to the timeline.
+     *
+     * @param elapsedRealtimeNanos  timestamp in the elapsed realtime nanosecond time base.
+     * @return                      milliseconds since the start of the recording.
+     */
+    public long toRelative(long elapsedRealtimeNanos) {
+        return (elapsedRealtimeNanos - startNanos) / NS2MS;
+    }
+
+    /**
+     * Get the current time on the timeline, for data that does not carry its own timestamp.
+     *
+     * @return  milliseconds since the start of the recording.
+     */
+    public long now() {
+        return toRelative(SystemClock.elapsedRealtimeNanos());
+    }
+
+    /**
+     * Get the time a location fix was obtained on the timeline. The elapsed realtime of the fix is
+     * used instead of its wall clock time.
+     *
+     * @param location  location fix from the location manager.
+     * @return          milliseconds since the start of the recording.
+     */
+    public long fromLocation(Location location) {
+        return toRelative(location.getElapsedRealtimeNanos());
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.cloud.sensors;
+
+import android.hardware.Sensor;
+
+import com.example.cloud.Traj;
+import com.example.cloud.TrajectoryWriter;
+
+/**
+ * Event driven recorder storing every sensor event exactly once with its hardware timestamp.
+ * <p>
+ * In the default recording mode a timer copies the latest sensor values into the trajectory every
+ * 10 ms, stamping them with the time of the copy. This class is used instead when event capture is
+ * enabled: each accelerometer event produces one {@link Traj.Motion_Sample} carrying the
+ * gyroscope, rotation vector and step count values valid at its timestamp, while magnetometer,
+ * barometer and light events each produce their own sample. Pressure is stored after the same
+ * low-pass filter as in the default mode, so all recordings hold the pressure the PDR used. Timestamps are taken from {@link
+ * android.hardware.SensorEvent#timestamp}, which shares its time base with
+ * {@link android.os.SystemClock#elapsedRealtimeNanos()}, and are converted to the
+ * {@link RecordingClock} timeline only when the sample is created.
+ * <p>
+ * Optionally, motion and magnetometer samples are passed through a {@link UniformResampler}, so
+ * they are stored on an exact 10 ms grid instead of at the jittered event times.
+ * <p>
+ * When sensors are batched in the hardware FIFO, events arrive in bursts and the events of
+ * different sensors are not necessarily delivered in timestamp order. Accelerometer events are
+ * therefore held back until the gyroscope has reported a later event, and the gyroscope, rotation
+ * vector and step count values are looked up in short timestamped histories rather than taking
+ * whichever value was delivered last. {@link SensorEventRecorder#drain()} writes the events still
+ * held back at the end of the recording.
+ *
+ * @see SensorFusion where sensor events are forwarded from.
+ * @see TrajectoryWriter where the samples are stored.
+ */
+public class SensorEventRecorder implements SensorEventSink {
+
+    // Spacing of the resampling grid in nanoseconds, 100Hz
+    private static final long RESAMPLE_PERIOD_NS = 10000000L;
+    // Values of a motion sample: acceleration, angular velocity, rotation vector and step count
+    private static final int MOTION_VALUES = 11;
+    // Motion values interpolated by the resampler, the step count is held
+    private static final int INTERPOLATED_MOTION_VALUES = 10;
+    // Number of events kept for reordering, 20 seconds of data at 100Hz
+    private static final int REORDER_CAPACITY = 2048;
+    // Weight of the new value in the barometer low-pass filter, as in SensorFusion
+    private static final float ALPHA = 0.8f;
+
+    // Destination of the recorded samples
+    private final TrajectoryWriter writer;
+    // Timeline of the recording
+    private final RecordingClock clock;
+    private final long startNanos;
+    // Resamplers for motion and magnetometer samples, null when storing the event times
+    private final UniformResampler motionResampler;
+    private final UniformResampler magnetometerResampler;
+
+    // Timestamped values of the sensors recorded alongside the accelerometer
+    private final ValueHistory angularVelocity;
+    private final ValueHistory rotation;
+    private final ValueHistory stepCount;
+    // Accelerometer events waiting for the gyroscope to catch up
+    private final ValueHistory pendingAcceleration;
+
+    // Reused arrays for assembling a motion sample
+    private final float[] acceleration;
+    private final float[] sampleAngularVelocity;
+    private final float[] sampleRotation;
+    private final float[] sampleStepCount;
+    private final float[] motionValues;
+    // Low-pass filtered pressure, NaN before the first barometer event
+    private float pressure;
+
+    /**
+     * Public default constructor of the SensorEventRecorder.
+     *
+     * @param writer      trajectory writer for the ongoing recording.
+     * @param clock       timeline of the recording.
+     * @param resample    true to store motion and magnetometer samples on a uniform grid.
+     */
+    public SensorEventRecorder(TrajectoryWriter writer, RecordingClock clock, boolean resample) {
+        this.writer = writer;
+        this.clock = clock;
+        this.startNanos = clock.getStartNanos();
+        this.angularVelocity = new ValueHistory(3, REORDER_CAPACITY);
+        this.rotation = new ValueHistory(4, REORDER_CAPACITY);
+        this.stepCount = new ValueHistory(1, REORDER_CAPACITY);
+        this.pendingAcceleration = new ValueHistory(3, REORDER_CAPACITY);
+        this.acceleration = new float[3];
+        this.sampleAngularVelocity = new float[3];
+        this.sampleRotation = new float[4];
+        this.sampleStepCount = new float[1];
+        this.motionValues = new float[MOTION_VALUES];
+        this.pressure = Float.NaN;
+        if(resample) {
+            this.motionResampler = new UniformResampler(startNanos, RESAMPLE_PERIOD_NS,
+                    MOTION_VALUES, INTERPOLATED_MOTION_VALUES, this::writeMotionValues);
+            this.magnetometerResampler = new UniformResampler(startNanos, RESAMPLE_PERIOD_NS,
+                    3, 3, (timestamp, values) ->
+                            writer.addMagnetometerSample(clock.toRelative(timestamp), values));
+        }
+        else {
+            this.motionResampler = null;
+            this.magnetometerResampler = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Events from before the start of the recording, which can be delivered late by the sensor
+     * hub, are ignored.
+     *
+     * @param sensorType    Sensor.TYPE constant of the originating sensor.
+     * @param timestamp     hardware timestamp of the event in nanoseconds.
+     * @param values        values of the event, only read during the call.
+     */
+    @Override
+    public synchronized void record(int sensorType, long timestamp, float[] values) {
+        if(timestamp < startNanos) return;
+        switch (sensorType) {
+            case Sensor.TYPE_ACCELEROMETER:
+                if(pendingAcceleration.isFull()) {
+                    writeOldestAcceleration();
+                }
+                pendingAcceleration.add(timestamp, values);
+                writeReadyAcceleration();
+                break;
+
+            case Sensor.TYPE_GYROSCOPE:
+                angularVelocity.add(timestamp, values);
+                writeReadyAcceleration();
+                break;
+
+            case Sensor.TYPE_ROTATION_VECTOR:
+                // The scalar component is optional on older devices and stays zero
+                rotation.add(timestamp, values);
+                break;
+
+            case Sensor.TYPE_MAGNETIC_FIELD:
+                if(magnetometerResampler != null) {
+                    magnetometerResampler.push(timestamp, values);
+                }
+                else {
+                    writer.addMagnetometerSample(clock.toRelative(timestamp), values);
+                }
+                break;
+
+            case Sensor.TYPE_PRESSURE:
+                pressure = Float.isNaN(pressure) ? values[0]
+                        : (1 - ALPHA) * pressure + ALPHA * values[0];
+                writer.addPressureData(Traj.Pressure_Sample.newBuilder()
+                        .setRelativeTimestamp(clock.toRelative(timestamp))
+                        .setPressure(pressure));
+                break;
+
+            case Sensor.TYPE_LIGHT:
+                writer.addLightData(Traj.Light_Sample.newBuilder()
+                        .setRelativeTimestamp(clock.toRelative(timestamp))
+                        .setLight(values[0]));
+                break;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Updates the step count of the following motion samples and stores the new PDR position with
+     * the timestamp of the step.
+     *
+     * @param timestamp hardware timestamp of the step detector event in nanoseconds.
+     * @param steps     number of steps taken since the start of the recording.
+     * @param x         PDR x coordinate after the step.
+     * @param y         PDR y coordinate after the step.
+     */
+    @Override
+    public synchronized void recordStep(long timestamp, int steps, float x, float y) {
+        if(timestamp < startNanos) return;
+        sampleStepCount[0] = steps;
+        stepCount.add(timestamp, sampleStepCount);
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder()
+                .setRelativeTimestamp(clock.toRelative(timestamp))
+                .setX(x).setY(y));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Writes all accelerometer events still held back for reordering.
+     */
+    @Override
+    public synchronized void drain() {
+        while (!pendingAcceleration.isEmpty()) {
+            writeOldestAcceleration();
+        }
+    }
+
+    /**
+     * Write the held back accelerometer events that the gyroscope has caught up with.
+     */
+    private void writeReadyAcceleration() {
+        while (!pendingAcceleration.isEmpty() && !angularVelocity.isEmpty()
+                && pendingAcceleration.getOldestTimestamp() <= angularVelocity.getLatestTimestamp()) {
+            writeOldestAcceleration();
+        }
+    }
+
+    /**
+     * Remove the oldest held back accelerometer event and write it as a motion sample, with the
+     * other sensor values that were valid at its timestamp.
+     */
+    private void writeOldestAcceleration() {
+        long timestamp = pendingAcceleration.removeOldest(acceleration);
+        angularVelocity.valueAt(timestamp, sampleAngularVelocity);
+        rotation.valueAt(timestamp, sampleRotation);
+        stepCount.valueAt(timestamp, sampleStepCount);
+        if(motionResampler != null) {
+            System.arraycopy(acceleration, 0, motionValues, 0, 3);
+            System.arraycopy(sampleAngularVelocity, 0, motionValues, 3, 3);
+            System.arraycopy(sampleRotation, 0, motionValues, 6, 4);
+            motionValues[10] = sampleStepCount[0];
+            motionResampler.push(timestamp, motionValues);
+        }
+        else {
+            writer.addImuSample(clock.toRelative(timestamp), acceleration, sampleAngularVelocity,
+                    sampleRotation, (int) sampleStepCount[0]);
+        }
+    }
+
+    /**
+     * Write a resampled motion sample, splitting the values back into the individual sensors.
+     *
+     * @param timestamp grid timestamp in nanoseconds.
+     * @param values    acceleration, angular velocity, rotation vector and step count values.
+     */
+    private void writeMotionValues(long timestamp, float[] values) {
+        System.arraycopy(values, 0, acceleration, 0, 3);
+        System.arraycopy(values, 3, sampleAngularVelocity, 0, 3);
+        System.arraycopy(values, 6, sampleRotation, 0, 4);
+        normaliseRotation(sampleRotation);
+        writer.addImuSample(clock.toRelative(timestamp), acceleration, sampleAngularVelocity,
+                sampleRotation, (int) values[10]);
+    }
+
+    /**
+     * Scale an interpolated rotation vector back to a unit quaternion. Linear interpolation between
+     * two unit quaternions shortens them, normalising the result gives the normalised linear
+     * interpolation, which is close to the spherical one over a 10 ms grid. Vectors without the
+     * optional scalar component are left as they are, their length is not one by definition.
+     *
+     * @param quaternion    x, y, z and scalar components, normalised in place.
+     */
+    private static void normaliseRotation(float[] quaternion) {
+        if(quaternion[3] == 0) return;
+        double norm = Math.sqrt(quaternion[0] * quaternion[0] + quaternion[1] * quaternion[1]
+                + quaternion[2] * quaternion[2] + quaternion[3] * quaternion[3]);
+        if(norm == 0) return;
+        for (int i = 0; i < 4; i++) {
+            quaternion[i] = (float) (quaternion[i] / norm);
+        }
+    }
+
+    /**
+     * Fixed capacity ring of timestamped sensor values, overwriting the oldest entry when full.
+     * Entries are assumed to be added in timestamp order for a single sensor.
+     */
+    private static class ValueHistory {
+        // Number of values per entry
+        private final int dimension;
+        // Timestamps and flattened values, indexed by slot
+        private final long[] timestamps;
+        private final float[] values;
+        // Slot of the oldest entry and number of entries
+        private int head;
+        private int count;
+
+        ValueHistory(int dimension, int capacity) {
+            this.dimension = dimension;
+            this.timestamps = new long[capacity];
+            this.values = new float[dimension * capacity];
+            this.head = 0;
+            this.count = 0;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        boolean isFull() {
+            return count == timestamps.length;
+        }
+
+        /**
+         * Add an entry, copying at most dimension values and zero filling the rest.
+         */
+        void add(long timestamp, float[] source) {
+            if(isFull()) {
+                head = (head + 1) % timestamps.length;
+                count--;
+            }
+            int slot = (head + count) % timestamps.length;
+            timestamps[slot] = timestamp;
+            int length = Math.min(source.length, dimension);
+            for (int i = 0; i < dimension; i++) {
+                values[slot * dimension + i] = (i < length) ? source[i] : 0f;
+            }
+            count++;
+        }
+
+        long getOldestTimestamp() {
+            return timestamps[head];
+        }
+
+        long getLatestTimestamp() {
+            return timestamps[(head + count - 1) % timestamps.length];
+        }
+
+        /**
+         * Remove the oldest entry, copying its values into the destination.
+         *
+         * @return  timestamp of the removed entry.
+         */
+        long removeOldest(float[] destination) {
+            long timestamp = timestamps[head];
+            System.arraycopy(values, head * dimension, destination, 0, dimension);
+            head = (head + 1) % timestamps.length;
+            count--;
+            return timestamp;
+        }
+
+        /**
+         * Copy the values of the latest entry at or before the timestamp into the destination, or
+         * zeros if there is no such entry.
+         */
+        void valueAt(long timestamp, float[] destination) {
+            for (int i = count - 1; i >= 0; i--) {
+                int slot = (head + i) % timestamps.length;
+                if(timestamps[slot] <= timestamp) {
+                    System.arraycopy(values, slot * dimension, destination, 0, dimension);
+                    return;
+                }
+            }
+            for (int i = 0; i < dimension; i++) {
+                destination[i] = 0f;
+            }
+        }
+    }
+}
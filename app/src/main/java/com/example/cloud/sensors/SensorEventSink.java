@@ -0,0 +1,38 @@
+package com.example.cloud.sensors;
+
+/**
+ * Destination of the sensor events of a recording in event capture mode.
+ *
+ * {@link SensorFusion#onSensorChanged(android.hardware.SensorEvent)} forwards every event of an
+ * ongoing recording to the sink, on the sensor thread. Implementations must not keep the value
+ * arrays, which are reused by the framework.
+ *
+ * @see SensorEventRecorder storing the events in the trajectory.
+ * @see RawSensorLog capturing the events in fixed-width binary records.
+ */
+public interface SensorEventSink {
+    /**
+     * Record a single sensor event.
+     *
+     * @param sensorType    Sensor.TYPE constant of the originating sensor.
+     * @param timestamp     hardware timestamp of the event in nanoseconds.
+     * @param values        values of the event, only read during the call.
+     */
+    void record(int sensorType, long timestamp, float[] values);
+
+    /**
+     * Record a detected step with the new PDR position.
+     *
+     * @param timestamp hardware timestamp of the step detector event in nanoseconds.
+     * @param steps     number of steps taken since the start of the recording.
+     * @param x         PDR x coordinate after the step.
+     * @param y         PDR y coordinate after the step.
+     */
+    void recordStep(long timestamp, int steps, float x, float y);
+
+    /**
+     * Store the events still held back by the sink. Called once the last events of the recording
+     * have been delivered.
+     */
+    void drain();
+}
@@ -5,26 +5,49 @@ import android.content.SharedPreferences;
 import android.hardware.Sensor;
 import android.hardware.SensorEvent;
 import android.hardware.SensorEventListener;
+import android.hardware.SensorEventListener2;
 import android.hardware.SensorManager;
 import android.location.Location;
 import android.location.LocationListener;
 import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
 import android.os.PowerManager;
+import android.os.Process;
+import android.os.SystemClock;
 
 import androidx.preference.PreferenceManager;
 
 import com.example.cloud.MainActivity;
+import com.example.cloud.OrientationFilter;
 import com.example.cloud.PathView;
+import com.example.cloud.PdrParameters;
 import com.example.cloud.PdrProcessing;
+import com.example.cloud.PdrSettings;
 import com.example.cloud.ServerCommunications;
+import com.example.cloud.UploadQueue;
 import com.example.cloud.Traj;
+import com.example.cloud.SoftwareStepDetector;
+import com.example.cloud.StepFeatureAccumulator;
+import com.example.cloud.TrajectoryCatalog;
+import com.example.cloud.TrajectoryWriter;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,8 +62,26 @@ import java.util.stream.Stream;
  * The class implements {@link SensorEventListener} and has instances of {@link MovementSensor} for
  * every device type necessary for data collection. As such, it implements the
  * {@link SensorFusion#onSensorChanged(SensorEvent)} function, and process and records the data
- * provided by the sensor hardware, which are stored in a {@link Traj} object. Data is read
- * continuously but is only saved to the trajectory when recording is enabled.
+ * provided by the sensor hardware, which are streamed to local storage through a
+ * {@link TrajectoryWriter}. Data is read continuously but is only saved to the trajectory when
+ * recording is enabled.
+ * <p>
+ * Sensor callbacks are delivered on a dedicated high priority {@link HandlerThread}, so sensor
+ * processing does not depend on the load of the UI thread. Values read by the UI are published as
+ * snapshots through {@link SensorValueRegister}s and volatile fields.
+ * <p>
+ * In batched recording mode the sensors are registered with a maximum report latency, so their
+ * events are collected in the sensor hub FIFO and delivered in bursts, letting the CPU sleep in
+ * between. Such recordings always use event capture without the sampling timer, and the FIFOs
+ * are flushed when the recording is stopped so that no buffered events are lost. The orientation
+ * is fused on the sensor thread by event time, and steps are placed with the heading at the time
+ * of the step rather than at the time of delivery.
+ * <p>
+ * In raw capture mode, events are written to a memory mapped {@link RawSensorLog} instead of being
+ * converted to protobuf samples during the recording, and converted when the recording is sent.
+ * <p>
+ * With adaptive sampling enabled, an {@link AdaptiveRateController} lowers the rate of the motion
+ * sensors while the user is standing still, and every change is recorded in the trajectory.
  * <p>
  * The class provides a number of setters and getters so that other classes can have access to the
  * sensor data and influence the behaviour of data collection.
@@ -49,26 +90,58 @@ import java.util.stream.Stream;
  * @author Mate Stodulka
  * @author Virginia Cangelosi
  */
-public class SensorFusion implements SensorEventListener, Observer {
+public class SensorFusion implements SensorEventListener2, Observer {
 
     //region Static variables
     // Singleton Class
     private static final SensorFusion sensorFusion = new SensorFusion();
     // Static constant for calculations with milliseconds
     private static final long TIME_CONST = 10;
-    // Threshold value used for deciding whether rotation vector should be normalized
-    public static final float EPSILON = 0.000000001f;
-    // Static constant used for converting between nanoseconds and seconds
-    private static final float NS2S = 1.0f / 1000000000.0f;
     // Coefficient for fusing gyro-based and magnetometer-based orientation
     public static final float FILTER_COEFFICIENT = 0.96f;
     //Tuning value for low pass filter
     private static final float ALPHA = 0.8f;
+    // Static constant used for converting between seconds and microseconds
+    private static final int S2US = 1000000;
+    // Maximum time to wait for the sensor FIFOs to be flushed at the end of a recording
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+    // Static constant used for converting between milliseconds and nanoseconds
+    private static final long MS2NS = 1000000L;
+    // Number of fused headings kept for placing steps, 20 seconds at 100Hz
+    private static final int HEADING_HISTORY = 2048;
     //endregion
 
     //region Instance variables
     // Keep device awake while recording
     private PowerManager.WakeLock wakeLock;
+    // Thread and handler receiving the sensor callbacks
+    private HandlerThread sensorThread;
+    private Handler sensorHandler;
+    // Handler for passing results to the UI thread
+    private final Handler mainHandler;
+    // Sensors are batched in the hardware FIFO during the current recording
+    private volatile boolean batchedRecording;
+    // Number of sensors registered with the listener, each reporting a completed flush. Sensor
+    // registrations are only changed on the sensor thread, in order with the sensor callbacks
+    private int registeredSensors;
+    // Sensors are wanted by the app, false while it is paused
+    private volatile boolean listening;
+    // Motion sensors waiting for their FIFO to be flushed before registering at a new rate
+    private final Set<Integer> rateChangeSensors;
+    // Flush completions outstanding for the current rate change, and its sampling period
+    private int rateChangeFlushes;
+    private int rateChangePeriodUs;
+    // Stopped recording whose flush waits for the rate change to finish
+    private Recording flushAfterRateChange;
+    // Writer, sink and stop state of the current or last recording
+    private volatile Recording recording;
+    // Sampling period of the motion sensors and report latency they are registered with
+    private volatile int imuPeriodUs;
+    private int reportLatencyUs;
+    // Controller adapting the motion sensor rate during a recording, null if disabled
+    private volatile AdaptiveRateController rateController;
+    // Background thread for finalizing recorded trajectories
+    private final ExecutorService finalizationExecutor;
 
     // Settings
     private SharedPreferences settings;
@@ -92,15 +165,26 @@ public class SensorFusion implements SensorEventListener, Observer {
 
     // Server communication class for sending data
     private ServerCommunications serverCommunications;
-    // Trajectory object containing all data
-    private Traj.Trajectory.Builder trajectory;
+    // Persistent queue retrying uploads until the server accepts them
+    private UploadQueue uploadQueue;
+    // Catalog of local trajectories with their metadata
+    private TrajectoryCatalog trajectoryCatalog;
+    // Writer streaming the recorded trajectory to local storage in chunks, null once it is sent
+    private volatile TrajectoryWriter trajectory;
+    // Sink storing each sensor event with its own timestamp, null when sampling with the timer or
+    // once the recording is sent
+    private volatile SensorEventSink eventRecorder;
+    // Directory where recordings are stored
+    private File recordingDirectory;
 
     // Settings
-    private boolean saveRecording;
-    private float filter_coefficient;
+    private volatile boolean saveRecording;
+    // Validated constants of the PDR and the orientation filter, replaced when settings change
+    private PdrSettings pdrSettings;
     // Variables to help with timed events
     private long absoluteStartTime;
-    private long bootTime;
+    // Common timeline of all relative timestamps in the recording
+    private volatile RecordingClock recordingClock;
     // Timer object for scheduling data recording
     private Timer storeTrajectoryTimer;
     // Counters for dividing timer to record data every 1 second/ every 5 seconds
@@ -118,11 +202,17 @@ public class SensorFusion implements SensorEventListener, Observer {
     private float pressure;
     private float light;
     private float proximity;
-    private float[] R;
     private int stepCounter ;
+    // Latest sensor values published for the recording timer and UI threads
+    private final SensorValueRegister accelerationRegister;
+    private final SensorValueRegister gravityRegister;
+    private final SensorValueRegister magneticFieldRegister;
+    private final SensorValueRegister angularVelocityRegister;
+    private final SensorValueRegister rotationRegister;
+    private final SensorValueRegister pdrRegister;
     // Derived values
-    private float elevation;
-    private boolean elevator;
+    private volatile float elevation;
+    private volatile boolean elevator;
     // Location values
     private float latitude;
     private float longitude;
@@ -131,8 +221,15 @@ public class SensorFusion implements SensorEventListener, Observer {
     private List<Wifi> wifiList;
 
 
-    // Over time accelerometer magnitude values since last step
-    private List<Double> accelMagnitude;
+    // Running features of the accelerometer magnitude values since last step
+    private StepFeatureAccumulator stepFeatures;
+    // Step detection from accelerometer peaks, used instead of the hardware step detector if enabled
+    private volatile boolean softwareSteps;
+    private SoftwareStepDetector stepDetector;
+    // The hardware step detector is registered, only changed on the sensor thread
+    private boolean stepSensorRegistered;
+    // Delay between the last step and its detection in milliseconds
+    private volatile float stepLatencyMs;
 
     // PDR calculation class
     private PdrProcessing pdrProcessing;
@@ -140,18 +237,16 @@ public class SensorFusion implements SensorEventListener, Observer {
     // Trajectory displaying class
     private PathView pathView;
 
-    // Orientation variables
-    private boolean initState;
-    // angular speeds from gyro
-    private float[] gyro;
-    // store time of sampling the gyroscope
-    private float timestamp;
-    // rotation matrix from gyro data
-    private float[] gyroMatrix;
-    // orientation angles from gyro matrix
-    private float[] gyroOrientation;
-    // orientation angles from accel and magnet
-    private float[] accMagOrientation;
+    // Complementary filter fusing gyroscope, gravity and magnetic field into the orientation,
+    // shared with the offline replay
+    private final OrientationFilter orientationFilter;
+    // Event time of the last complementary filter update in nanoseconds
+    private long lastFusionTimestamp;
+    // Fused headings by event time, so steps delivered late are placed with their own heading
+    private final long[] headingTimestamps;
+    private final float[] headingValues;
+    private int headingCount;
+    private int headingNext;
     //endregion
 
     //region Initialisation
@@ -162,8 +257,8 @@ public class SensorFusion implements SensorEventListener, Observer {
     private SensorFusion() {
         // Location listener to be used by the GNSS class
         this.locationListener= new myLocationListener();
-        // Timer to store sensor values in the trajectory object
-        this.storeTrajectoryTimer = new Timer();
+        // Timer to store sensor values in the trajectory object, created with each recording
+        this.storeTrajectoryTimer = null;
         // Counters to track elements with slower frequency
         this.counter = 0;
         this.secondCounter = 0;
@@ -182,14 +277,33 @@ public class SensorFusion implements SensorEventListener, Observer {
         this.angularVelocity = new float[3];
         this.orientation = new float[3];
         this.rotation = new float[4];
-        this.R = new float[9];
-        // If the gyro needs to be initialised
-        this.initState = true;
-        // Gyro orientation arrays
-        this.gyro = new float[3];
-        this.gyroMatrix = new float[9];
-        this.gyroOrientation = new float[3];
-        this.accMagOrientation = new float[3];
+        // Registers for reading consistent sensor values from other threads
+        this.accelerationRegister = new SensorValueRegister(3);
+        this.gravityRegister = new SensorValueRegister(3);
+        this.magneticFieldRegister = new SensorValueRegister(3);
+        this.angularVelocityRegister = new SensorValueRegister(3);
+        this.rotationRegister = new SensorValueRegister(4);
+        this.pdrRegister = new SensorValueRegister(2);
+        // Handler to pass path updates from the sensor thread to the UI
+        this.mainHandler = new Handler(Looper.getMainLooper());
+        // Batched recording state
+        this.batchedRecording = false;
+        this.recording = null;
+        this.listening = false;
+        this.rateChangeSensors = new HashSet<>();
+        this.rateChangeFlushes = 0;
+        this.flushAfterRateChange = null;
+        this.finalizationExecutor = Executors.newSingleThreadExecutor();
+        // Motion sensors start at full rate
+        this.imuPeriodUs = AdaptiveRateController.ACTIVE_PERIOD_US;
+        this.reportLatencyUs = 0;
+        // Orientation filter, its coefficient is updated from the PDR settings
+        this.orientationFilter = new OrientationFilter(FILTER_COEFFICIENT);
+        this.lastFusionTimestamp = 0;
+        this.headingTimestamps = new long[HEADING_HISTORY];
+        this.headingValues = new float[HEADING_HISTORY];
+        this.headingCount = 0;
+        this.headingNext = 0;
         // GNSS initial Long-Lat array
         this.startLocation = new float[2];
     }
@@ -236,25 +350,36 @@ public class SensorFusion implements SensorEventListener, Observer {
         this.gnssProcessor = new GNSSDataProcessor(context,locationListener);
         // Create object handling HTTPS communication
         this.serverCommunications = new ServerCommunications(context);
+        // Resume uploads left over from previous sessions
+        this.uploadQueue = UploadQueue.getInstance(context);
+        this.trajectoryCatalog = TrajectoryCatalog.getInstance(context);
+        this.recordingDirectory = context.getFilesDir();
         // Save absolute and relative start time
         this.absoluteStartTime = System.currentTimeMillis();
-        this.bootTime = android.os.SystemClock.uptimeMillis();
+        this.recordingClock = RecordingClock.startNow();
         // Initialise saveRecording to false - only record when explicitly started.
         this.saveRecording = false;
 
         // Over time data holder
-        this.accelMagnitude = new ArrayList<>();
+        this.stepFeatures = new StepFeatureAccumulator();
         // PDR
+        this.pdrSettings = PdrSettings.getInstance(context);
         this.pdrProcessing = new PdrProcessing(context);
         //Settings
         this.settings = PreferenceManager.getDefaultSharedPreferences(context);
+        // Step detection
+        this.softwareSteps = settings.getBoolean("software_steps", false);
+        this.stepDetector = createStepDetector();
 
         this.pathView = new PathView(context, null);
 
-        if(settings.getBoolean("overwrite_constants", false)) {
-            this.filter_coefficient =Float.parseFloat(settings.getString("accel_filter", "0.96"));
+        // Dedicated thread for sensor callbacks, started only once for the singleton
+        if(sensorThread == null) {
+            this.sensorThread = new HandlerThread("SensorFusion",
+                    Process.THREAD_PRIORITY_URGENT_DISPLAY);
+            this.sensorThread.start();
+            this.sensorHandler = new Handler(sensorThread.getLooper());
         }
-        else {this.filter_coefficient = FILTER_COEFFICIENT;}
 
         // Keep app awake during the recording
         PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
@@ -267,20 +392,36 @@ public class SensorFusion implements SensorEventListener, Observer {
     /**
      * {@inheritDoc}
      *
-     * Called every time a Sensor value is updated.
+     * Called every time a Sensor value is updated, on the dedicated sensor thread.
      *
      * Checks originating sensor type, if the data is meaningful save it to a local variable.
+     * Multi-axis values are also published to {@link SensorValueRegister}s, so other threads can
+     * read them without observing half-updated vectors.
      *
      * @param sensorEvent   SensorEvent of sensor with values changed, includes types and values.
      */
     @Override
     public void onSensorChanged(SensorEvent sensorEvent) {
+        // Record the event once with its hardware timestamp in event capture mode, events flushed
+        // after the recording was handed over for sending still go to its sink
+        Recording current = this.recording;
+        if(saveRecording && current != null && current.sink != null) {
+            current.sink.record(sensorEvent.sensor.getType(), sensorEvent.timestamp,
+                    sensorEvent.values);
+        }
         switch (sensorEvent.sensor.getType()) {
             case Sensor.TYPE_ACCELEROMETER:
                 // Accelerometer processing
                 acceleration[0] = sensorEvent.values[0];
                 acceleration[1] = sensorEvent.values[1];
                 acceleration[2] = sensorEvent.values[2];
+                accelerationRegister.write(acceleration);
+                // Detect steps from the acceleration peaks if enabled
+                if(softwareSteps && stepDetector.push(sensorEvent.timestamp, acceleration[0],
+                        acceleration[1], acceleration[2])) {
+                    this.stepLatencyMs = stepDetector.getLastLatencyNs() / 1e6f;
+                    onStep(stepDetector.getLastStepTimestamp());
+                }
                 break;
 
             case Sensor.TYPE_PRESSURE:
@@ -299,7 +440,12 @@ public class SensorFusion implements SensorEventListener, Observer {
                 angularVelocity[0] = sensorEvent.values[0];
                 angularVelocity[1] = sensorEvent.values[1];
                 angularVelocity[2] = sensorEvent.values[2];
-                gyroFunction(sensorEvent);
+                angularVelocityRegister.write(angularVelocity);
+                orientationFilter.updateGyroscope(sensorEvent.timestamp, sensorEvent.values);
+                // Fuse the orientations every 10ms of event time, also while batched
+                if(sensorEvent.timestamp - lastFusionTimestamp >= TIME_CONST * MS2NS) {
+                    fuseOrientation(sensorEvent.timestamp);
+                }
                 break;
 
 
@@ -309,10 +455,14 @@ public class SensorFusion implements SensorEventListener, Observer {
                 filteredAcc[1] = sensorEvent.values[1];
                 filteredAcc[2] = sensorEvent.values[2];
 
-                double accelMagFiltered = Math.sqrt(Math.pow(acceleration[0], 2) +
-                        Math.pow(acceleration[1], 2) + Math.pow(acceleration[2], 2));
-                this.accelMagnitude.add(accelMagFiltered);
+                double accelMagFiltered = Math.sqrt(acceleration[0] * acceleration[0]
+                        + acceleration[1] * acceleration[1] + acceleration[2] * acceleration[2]);
+                this.stepFeatures.add(accelMagFiltered);
                 elevator = pdrProcessing.estimateElevator(gravity, filteredAcc);
+                AdaptiveRateController controller = rateController;
+                if(controller != null) {
+                    controller.onLinearAcceleration(sensorEvent.timestamp, filteredAcc);
+                }
                 break;
 
             case Sensor.TYPE_GRAVITY:
@@ -320,7 +470,8 @@ public class SensorFusion implements SensorEventListener, Observer {
                 gravity[0] = sensorEvent.values[0];
                 gravity[1] = sensorEvent.values[1];
                 gravity[2] = sensorEvent.values[2];
-                calculateOrientation();
+                gravityRegister.write(gravity);
+                orientationFilter.updateGravity(gravity);
                 elevator = pdrProcessing.estimateElevator(gravity, filteredAcc);
                 break;
 
@@ -337,33 +488,106 @@ public class SensorFusion implements SensorEventListener, Observer {
                 magneticField[0] = sensorEvent.values[0];
                 magneticField[1] = sensorEvent.values[1];
                 magneticField[2] = sensorEvent.values[2];
-                calculateOrientation();
+                magneticFieldRegister.write(magneticField);
+                orientationFilter.updateMagneticField(magneticField);
                 break;
 
             case Sensor.TYPE_ROTATION_VECTOR:
                 // Save values
                 this.rotation = sensorEvent.values.clone();
+                rotationRegister.write(rotation);
                 break;
 
             case Sensor.TYPE_STEP_DETECTOR:
-                //Store time of step
-                long stepTime = android.os.SystemClock.uptimeMillis() - bootTime;
-                float[] newCords = this.pdrProcessing.updatePdr(stepTime, this.accelMagnitude, this.orientation[0]);
-                if (saveRecording) {
-                    // Store the PDR coordinates for plotting the trajectory
-                    this.pathView.drawTrajectory(newCords);
-                }
-                this.accelMagnitude.clear();
-                if (saveRecording) {
-                    stepCounter++;
-                    trajectory.addPdrData(Traj.Pdr_Sample.newBuilder()
-                            .setRelativeTimestamp(android.os.SystemClock.uptimeMillis() - bootTime)
-                            .setX(newCords[0]).setY(newCords[1]));
+                // Hardware steps are ignored while the software detector is used
+                if(!softwareSteps) {
+                    this.stepLatencyMs = (SystemClock.elapsedRealtimeNanos()
+                            - sensorEvent.timestamp) / 1e6f;
+                    onStep(sensorEvent.timestamp);
                 }
                 break;
         }
     }
 
+    /**
+     * Updates the PDR position with a detected step, from either the hardware step detector or
+     * the {@link SoftwareStepDetector}, and stores it if recording. Called on the sensor thread.
+     *
+     * @param timestamp time of the step in the elapsed realtime nanosecond time base.
+     */
+    private void onStep(long timestamp) {
+        //Store time of step
+        long stepTime = recordingClock.toRelative(timestamp);
+        AdaptiveRateController stepController = rateController;
+        if(stepController != null) {
+            stepController.onStep(timestamp);
+        }
+        // Batched steps arrive late, use the heading at the time of the step
+        float[] newCords = this.pdrProcessing.updatePdr(stepTime, this.stepFeatures,
+                headingAt(timestamp));
+        pdrRegister.write(newCords);
+        if (saveRecording) {
+            // Store the PDR coordinates for plotting the trajectory on the UI thread
+            mainHandler.post(() -> this.pathView.drawTrajectory(newCords));
+        }
+        this.stepFeatures.reset();
+        Recording current = this.recording;
+        if (saveRecording && current != null) {
+            stepCounter++;
+            if(current.sink != null) {
+                // Use the event time, batched steps are delivered late
+                current.sink.recordStep(timestamp, stepCounter, newCords[0], newCords[1]);
+            }
+            else {
+                current.writer.addPdrData(Traj.Pdr_Sample.newBuilder()
+                        .setRelativeTimestamp(stepTime)
+                        .setX(newCords[0]).setY(newCords[1]));
+            }
+        }
+    }
+
+    /**
+     * Creates a software step detector with the thresholds of the current PDR parameters, which
+     * are the defaults unless constants are overwritten in the settings.
+     *
+     * @return  new SoftwareStepDetector.
+     */
+    private SoftwareStepDetector createStepDetector() {
+        PdrParameters parameters = pdrSettings.get();
+        return new SoftwareStepDetector(parameters.getStepThreshold(),
+                parameters.getStepLookaheadMs(), SoftwareStepDetector.DEFAULT_MIN_STEP_INTERVAL_MS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Called on the sensor thread once all events batched for a sensor before a call to
+     * {@link SensorManager#flush(SensorEventListener)} have been delivered. During a change of the
+     * sampling rate, each motion sensor is registered again once its own events have been
+     * delivered. When every registered sensor has been flushed at the end of a batched recording,
+     * the recording is completed.
+     *
+     * @param sensor    Sensor that was flushed.
+     */
+    @Override
+    public void onFlushCompleted(Sensor sensor) {
+        // Flushes of a rate change always complete before the flush of a stopped recording starts
+        if(rateChangeFlushes > 0) {
+            if(rateChangeSensors.remove(sensor.getType())) {
+                reregisterSensor(motionSensor(sensor.getType()), rateChangePeriodUs);
+            }
+            if(--rateChangeFlushes == 0) {
+                finishRateChange();
+            }
+            return;
+        }
+        Recording current = this.recording;
+        if(current != null && current.pendingFlushes.get() > 0
+                && current.pendingFlushes.decrementAndGet() == 0) {
+            completeStop(current);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -383,15 +607,16 @@ public class SensorFusion implements SensorEventListener, Observer {
                 float accuracy = (float) location.getAccuracy();
                 float speed = (float) location.getSpeed();
                 String provider = location.getProvider();
-                if(saveRecording) {
-                    trajectory.addGnssData(Traj.GNSS_Sample.newBuilder()
+                Recording current = recording;
+                if(saveRecording && current != null) {
+                    current.writer.addGnssData(Traj.GNSS_Sample.newBuilder()
                             .setAccuracy(accuracy)
                             .setAltitude(altitude)
                             .setLatitude(latitude)
                             .setLongitude(longitude)
                             .setSpeed(speed)
                             .setProvider(provider)
-                            .setRelativeTimestamp(System.currentTimeMillis()-absoluteStartTime));
+                            .setRelativeTimestamp(recordingClock.fromLocation(location)));
                 }
             }
         }
@@ -408,186 +633,62 @@ public class SensorFusion implements SensorEventListener, Observer {
     public void update(Object[] wifiList) {
         // Save newest wifi values to local variable
         this.wifiList = Stream.of(wifiList).map(o -> (Wifi) o).collect(Collectors.toList());
-        if(this.saveRecording) {
+        Recording current = this.recording;
+        if(this.saveRecording && current != null) {
+            long relativeTimestamp = recordingClock.now();
             Traj.WiFi_Sample.Builder wifiData = Traj.WiFi_Sample.newBuilder()
-                    .setRelativeTimestamp(android.os.SystemClock.uptimeMillis()-bootTime);
+                    .setRelativeTimestamp(relativeTimestamp);
             for(Wifi data : this.wifiList) {
                 wifiData.addMacScans(Traj.Mac_Scan.newBuilder()
-                        .setRelativeTimestamp(android.os.SystemClock.uptimeMillis() - bootTime)
+                        .setRelativeTimestamp(relativeTimestamp)
                         .setMac(data.getBssid()).setRssi(data.getLevel()));
             }
-            this.trajectory.addWifiData(wifiData);
+            current.writer.addWifiData(wifiData);
+            // Without the sampling timer, the access point is stored with every scan
+            if(batchedRecording) {
+                storeCurrentAp(current.writer);
+            }
         }
     }
 
     /**
-     * Calculate orientation based on the data from accelerometer and magnetic field sensor.
-     *
-     * Uses values in local variables saved from {@link SensorFusion#onSensorChanged(SensorEvent)}
-     */
-    private void calculateOrientation() {
-        //Calculate magnetometer-based orientation
-        SensorManager.getRotationMatrix(R,null, gravity, magneticField);
-        SensorManager.getOrientation(R, this.accMagOrientation);
-    }
-
-    /**
-     * Method for for calculating a delta rotation vector from gyroscope data, the device's
-     * orientation and time. The method first calculates the angular speed of a sample based on
-     * gyro data and normalizes it. It then calculates a delta rotation by integrating with the
-     * angular speed by the time-step. This is then converted into delta rotation vector.
+     * Fuses the magnetometer-based and gyro-based orientation with the complementary filter and
+     * resets the gyro-based orientation to the result, compensating for gyro drift. Called on the
+     * sensor thread every 10ms of gyroscope event time, so the filter runs at the same rate when
+     * events are delivered in bursts from the sensor FIFOs.
      *
-     * @param gyroValues            Values measured by gyroscope sensor.
-     * @param deltaRotationVector   Delta rotation vector calculated by this method.
-     * @param timeFactor            Time-step between samples.
+     * @param timestamp event time of the update in nanoseconds.
      */
-    private void getRotationVectorFromGyro(float[] gyroValues,
-                                           float[] deltaRotationVector,
-                                           float timeFactor)
-    {
-        float[] normValues = new float[3];
-
-        // Calculate the angular speed of the sample
-        float omegaMagnitude =
-                (float)Math.sqrt(gyroValues[0] * gyroValues[0] +
-                        gyroValues[1] * gyroValues[1] +
-                        gyroValues[2] * gyroValues[2]);
-
-        // Normalize the rotation vector if it's big enough to get the axis
-        if(omegaMagnitude > EPSILON) {
-            normValues[0] = gyroValues[0] / omegaMagnitude;
-            normValues[1] = gyroValues[1] / omegaMagnitude;
-            normValues[2] = gyroValues[2] / omegaMagnitude;
-        }
-
-        // Integrate around this axis with the angular speed by the time-step
-        // in order to get a delta rotation from this sample over the time-step
-        // We will convert this axis-angle representation of the delta rotation
-        // into a quaternion before turning it into the rotation matrix.
-        float thetaOverTwo = omegaMagnitude * timeFactor;
-        float sinThetaOverTwo = (float)Math.sin(thetaOverTwo);
-        float cosThetaOverTwo = (float)Math.cos(thetaOverTwo);
-        deltaRotationVector[0] = sinThetaOverTwo * normValues[0];
-        deltaRotationVector[1] = sinThetaOverTwo * normValues[1];
-        deltaRotationVector[2] = sinThetaOverTwo * normValues[2];
-        deltaRotationVector[3] = cosThetaOverTwo;
+    private void fuseOrientation(long timestamp) {
+        orientationFilter.setFilterCoefficient(pdrSettings.get().getFilterCoefficient());
+        orientationFilter.fuse();
+        orientationFilter.getOrientation(orientation);
+
+        this.lastFusionTimestamp = timestamp;
+        // Remember the heading for steps delivered later
+        headingTimestamps[headingNext] = timestamp;
+        headingValues[headingNext] = orientation[0];
+        headingNext = (headingNext + 1) % HEADING_HISTORY;
+        if(headingCount < HEADING_HISTORY) headingCount++;
     }
 
     /**
-     * Method used for updating the gyro-based rotation matrix and orientation.
-     * The method converts raw gyroscope data into a rotation vector. It then converts the rotation
-     * vector into a matrix and applies the new rotation interval/change on the rotation matrix.
-     * This is used to obtain the gyroscope-based orientation.
+     * Get the fused heading at a point in time, the last heading at or before it. Steps older than
+     * the history get the oldest heading known.
      *
-     * @param event     Gyroscope sensor event.
+     * @param timestamp event time in nanoseconds.
+     * @return          heading relative to magnetic north in radians.
      */
-    public void gyroFunction(SensorEvent event) {
-        // Don't start until first accelerometer/magnetometer orientation has been acquired.
-        if (gravity == null || magneticField == null)
-            return;
-
-        // Initialisation of the gyroscope based rotation matrix.
-        if(initState) {
-            // initialise gyro orientation to 0s and gyro matrix with identity matrix
-            gyroOrientation[0] = 0.0f;
-            gyroOrientation[1] = 0.0f;
-            gyroOrientation[2] = 0.0f;
-            gyroMatrix[0] = 1.0f; gyroMatrix[1] = 0.0f; gyroMatrix[2] = 0.0f;
-            gyroMatrix[3] = 0.0f; gyroMatrix[4] = 1.0f; gyroMatrix[5] = 0.0f;
-            gyroMatrix[6] = 0.0f; gyroMatrix[7] = 0.0f; gyroMatrix[8] = 1.0f;
-            float[] initMatrix = new float[9];
-            initMatrix = getRotationMatrixFromOrientation(accMagOrientation);
-            float[] test = new float[3];
-            SensorManager.getOrientation(initMatrix, test);
-            gyroMatrix = matrixMultiplication(gyroMatrix, initMatrix);
-            initState = false;
-        }
-
-        // Copy the new gyro values into the gyro array
-        // convert the raw gyro data into a rotation vector.
-        float[] deltaVector = new float[4];
-        if(timestamp != 0) {
-            final float dT = (event.timestamp - timestamp) * NS2S;
-            System.arraycopy(event.values, 0, gyro, 0, 3);
-            getRotationVectorFromGyro(gyro, deltaVector, dT / 2.0f);
+    private float headingAt(long timestamp) {
+        if(headingCount == 0) return orientation[0];
+        int slot = headingNext;
+        for (int i = 0; i < headingCount; i++) {
+            slot = (slot - 1 + HEADING_HISTORY) % HEADING_HISTORY;
+            if(headingTimestamps[slot] <= timestamp) {
+                return headingValues[slot];
+            }
         }
-
-        // Measurement done, save current time for next interval.
-        timestamp = event.timestamp;
-
-        // Convert rotation vector into rotation matrix.
-        float[] deltaMatrix = new float[9];
-        SensorManager.getRotationMatrixFromVector(deltaMatrix, deltaVector);
-
-        // Apply the new rotation interval on the gyroscope based rotation matrix.
-        gyroMatrix = matrixMultiplication(gyroMatrix, deltaMatrix);
-
-        // Get the gyroscope based orientation from the rotation matrix.
-        SensorManager.getOrientation(gyroMatrix, gyroOrientation);
-    }
-
-    /**
-     * Method used for converting an array of orientation angles into a rotation matrix.
-     *
-     * @param o An array containing orientation angles in radians
-     * @return resultMatrix representing the orientation angles
-     */
-    private float[] getRotationMatrixFromOrientation(float[] o) {
-        float[] xM = new float[9];
-        float[] yM = new float[9];
-        float[] zM = new float[9];
-
-        float sinX = (float)Math.sin(o[1]);
-        float cosX = (float)Math.cos(o[1]);
-        float sinY = (float)Math.sin(o[2]);
-        float cosY = (float)Math.cos(o[2]);
-        float sinZ = (float)Math.sin(o[0]);
-        float cosZ = (float)Math.cos(o[0]);
-
-        // rotation about x-axis (pitch)
-        xM[0] = 1.0f; xM[1] = 0.0f; xM[2] = 0.0f;
-        xM[3] = 0.0f; xM[4] = cosX; xM[5] = sinX;
-        xM[6] = 0.0f; xM[7] = -sinX; xM[8] = cosX;
-
-        // rotation about y-axis (roll)
-        yM[0] = cosY; yM[1] = 0.0f; yM[2] = sinY;
-        yM[3] = 0.0f; yM[4] = 1.0f; yM[5] = 0.0f;
-        yM[6] = -sinY; yM[7] = 0.0f; yM[8] = cosY;
-
-        // rotation about z-axis (azimuth)
-        zM[0] = cosZ; zM[1] = sinZ; zM[2] = 0.0f;
-        zM[3] = -sinZ; zM[4] = cosZ; zM[5] = 0.0f;
-        zM[6] = 0.0f; zM[7] = 0.0f; zM[8] = 1.0f;
-
-        // rotation order is y, x, z (roll, pitch, azimuth)
-        float[] resultMatrix = matrixMultiplication(xM, yM);
-        resultMatrix = matrixMultiplication(zM, resultMatrix);
-        return resultMatrix;
-    }
-
-    /**
-     * Performs and matrix multiplication of two 3x3 matrices and returns the product.
-     *
-     * @param A An array representing a 3x3 matrix
-     * @param B An array representing a 3x3 matrix
-     * @return result representing the product of A and B
-     */
-    private float[] matrixMultiplication(float[] A, float[] B) {
-        float[] result = new float[9];
-
-        result[0] = A[0] * B[0] + A[1] * B[3] + A[2] * B[6];
-        result[1] = A[0] * B[1] + A[1] * B[4] + A[2] * B[7];
-        result[2] = A[0] * B[2] + A[1] * B[5] + A[2] * B[8];
-
-        result[3] = A[3] * B[0] + A[4] * B[3] + A[5] * B[6];
-        result[4] = A[3] * B[1] + A[4] * B[4] + A[5] * B[7];
-        result[5] = A[3] * B[2] + A[4] * B[5] + A[5] * B[8];
-
-        result[6] = A[6] * B[0] + A[7] * B[3] + A[8] * B[6];
-        result[7] = A[6] * B[1] + A[7] * B[4] + A[8] * B[7];
-        result[8] = A[6] * B[2] + A[7] * B[5] + A[8] * B[8];
-
-        return result;
+        return headingValues[slot];
     }
 
     /**
@@ -659,21 +760,22 @@ public class SensorFusion implements SensorEventListener, Observer {
      * Return most recent sensor readings.
      *
      * Collects all most recent readings from movement and location sensors, packages them in a map
-     * that is indexed by {@link SensorTypes} and makes it accessible for other classes.
+     * that is indexed by {@link SensorTypes} and makes it accessible for other classes. Multi-axis
+     * values are consistent snapshots, which are not modified by later sensor events.
      *
      * @return  Map of <code>SensorTypes</code> to float array of most recent values.
      */
     public Map<SensorTypes, float[]> getSensorValueMap() {
         Map<SensorTypes, float[]> sensorValueMap = new HashMap<>();
-        sensorValueMap.put(SensorTypes.ACCELEROMETER, acceleration);
-        sensorValueMap.put(SensorTypes.GRAVITY, gravity);
-        sensorValueMap.put(SensorTypes.MAGNETICFIELD, magneticField);
-        sensorValueMap.put(SensorTypes.GYRO, angularVelocity);
+        sensorValueMap.put(SensorTypes.ACCELEROMETER, accelerationRegister.snapshot());
+        sensorValueMap.put(SensorTypes.GRAVITY, gravityRegister.snapshot());
+        sensorValueMap.put(SensorTypes.MAGNETICFIELD, magneticFieldRegister.snapshot());
+        sensorValueMap.put(SensorTypes.GYRO, angularVelocityRegister.snapshot());
         sensorValueMap.put(SensorTypes.LIGHT, new float[]{light});
         sensorValueMap.put(SensorTypes.PRESSURE, new float[]{pressure});
         sensorValueMap.put(SensorTypes.PROXIMITY, new float[]{proximity});
         sensorValueMap.put(SensorTypes.GNSSLATLONG, getGNSSLatitude(false));
-        sensorValueMap.put(SensorTypes.PDR, pdrProcessing.getPDRMovement());
+        sensorValueMap.put(SensorTypes.PDR, pdrRegister.snapshot());
         return sensorValueMap;
     }
 
@@ -706,14 +808,14 @@ public class SensorFusion implements SensorEventListener, Observer {
     /**
      * Registers the caller observer to receive updates from the server instance.
      * Necessary when classes want to act on a trajectory being successfully or unsuccessfully send
-     * to the server. This grants access to observing the {@link ServerCommunications} instance
-     * used by the SensorFusion class.
+     * to the server. This grants access to observing the {@link UploadQueue} performing the
+     * uploads requested by the SensorFusion class.
      *
      * @param observer  Instance implementing {@link Observer} class who wants to be notified of
      *                  events relating to sending and receiving trajectories.
      */
     public void registerForServerUpdate(Observer observer) {
-        serverCommunications.registerObserver(observer);
+        uploadQueue.registerObserver(observer);
     }
 
     /**
@@ -735,6 +837,17 @@ public class SensorFusion implements SensorEventListener, Observer {
         return this.elevator;
     }
 
+    /**
+     * Get the delay between the last step and its detection. For the hardware step detector this
+     * is the delivery delay of the step event, for the {@link SoftwareStepDetector} the time from
+     * the acceleration peak to its confirmation.
+     *
+     * @return  detection latency of the last step in milliseconds.
+     */
+    public float getStepLatency() {
+        return this.stepLatencyMs;
+    }
+
     /**
      * Estimates position of the phone based on proximity and light sensors.
      *
@@ -758,27 +871,253 @@ public class SensorFusion implements SensorEventListener, Observer {
      * Registers all device listeners and enables updates with the specified sampling rate.
      *
      * Should be called from {@link MainActivity} when resuming the application. Sampling rate is in
-     * microseconds, IMU needs 100Hz, rest 1Hz
+     * microseconds, IMU needs 100Hz, rest 1Hz. Events are delivered to the sensor thread, where
+     * the sensors are registered. Sensors still registered for a recording, for example batched
+     * with a report latency, are kept as they are.
      *
      * @see MovementSensor handles SensorManager based devices.
      * @see WifiDataProcessor handles wifi data.
      * @see GNSSDataProcessor handles location data.
      */
     public void resumeListening() {
-        accelerometerSensor.sensorManager.registerListener(this, accelerometerSensor.sensor, 10000);
-        accelerometerSensor.sensorManager.registerListener(this, linearAccelerationSensor.sensor, 10000);
-        accelerometerSensor.sensorManager.registerListener(this, gravitySensor.sensor, 10000);
-        barometerSensor.sensorManager.registerListener(this, barometerSensor.sensor, (int) 1e6);
-        gyroscopeSensor.sensorManager.registerListener(this, gyroscopeSensor.sensor, 10000);
-        lightSensor.sensorManager.registerListener(this, lightSensor.sensor, (int) 1e6);
-        proximitySensor.sensorManager.registerListener(this, proximitySensor.sensor, (int) 1e6);
-        magnetometerSensor.sensorManager.registerListener(this, magnetometerSensor.sensor, 10000);
-        stepDetectionSensor.sensorManager.registerListener(this, stepDetectionSensor.sensor, SensorManager.SENSOR_DELAY_FASTEST);
-        rotationSensor.sensorManager.registerListener(this, rotationSensor.sensor, (int) 1e6);
+        this.listening = true;
+        sensorHandler.post(() -> {
+            if(listening && registeredSensors == 0) {
+                registerSensors(0);
+            }
+        });
         wifiProcessor.startListening();
         gnssProcessor.startLocationUpdates();
     }
 
+    /**
+     * Registers the listener for all SensorManager based devices, delivering to the sensor thread.
+     *
+     * With a positive report latency, events may be held in the hardware FIFO for that long before
+     * being delivered, and the wake-up variant of a sensor is used where the device has one, so
+     * the FIFO wakes the CPU instead of dropping events while it sleeps.
+     *
+     * Must be called on the sensor thread.
+     *
+     * @param maxReportLatencyUs    maximum report latency in microseconds, 0 for continuous delivery.
+     */
+    private void registerSensors(int maxReportLatencyUs) {
+        registeredSensors = 0;
+        reportLatencyUs = maxReportLatencyUs;
+        registerSensor(accelerometerSensor, imuPeriodUs, maxReportLatencyUs);
+        registerSensor(linearAccelerationSensor, imuPeriodUs, maxReportLatencyUs);
+        registerSensor(gravitySensor, imuPeriodUs, maxReportLatencyUs);
+        registerSensor(barometerSensor, (int) 1e6, maxReportLatencyUs);
+        registerSensor(gyroscopeSensor, imuPeriodUs, maxReportLatencyUs);
+        registerSensor(lightSensor, (int) 1e6, maxReportLatencyUs);
+        registerSensor(proximitySensor, (int) 1e6, maxReportLatencyUs);
+        registerSensor(magnetometerSensor, imuPeriodUs, maxReportLatencyUs);
+        registerStepSensor(maxReportLatencyUs);
+        registerSensor(rotationSensor, (int) 1e6, maxReportLatencyUs);
+    }
+
+    /**
+     * Registers the hardware step detector, unless steps are detected in software, where its
+     * events would only be dropped. Must be called on the sensor thread.
+     *
+     * @param maxReportLatencyUs    maximum report latency in microseconds, 0 for continuous delivery.
+     */
+    private void registerStepSensor(int maxReportLatencyUs) {
+        if(softwareSteps) return;
+        int registered = registeredSensors;
+        registerSensor(stepDetectionSensor, SensorManager.SENSOR_DELAY_FASTEST, maxReportLatencyUs);
+        stepSensorRegistered = registeredSensors > registered;
+    }
+
+    /**
+     * Registers or un-registers the hardware step detector after the step detection mode changed.
+     * Postponed while sensors are flushed for a rate change, and applied with the next
+     * registration if no sensors are registered. Must be called on the sensor thread.
+     */
+    private void updateStepSensor() {
+        if(registeredSensors == 0 || rateChangeFlushes > 0) return;
+        if(softwareSteps && stepSensorRegistered) {
+            SensorManager sensorManager = stepDetectionSensor.sensorManager;
+            sensorManager.unregisterListener(this, stepDetectionSensor.sensor);
+            Sensor wakeUpSensor = sensorManager.getDefaultSensor(Sensor.TYPE_STEP_DETECTOR, true);
+            if(wakeUpSensor != null) {
+                sensorManager.unregisterListener(this, wakeUpSensor);
+            }
+            registeredSensors--;
+            stepSensorRegistered = false;
+        }
+        else if(!softwareSteps && !stepSensorRegistered) {
+            registerStepSensor(reportLatencyUs);
+        }
+    }
+
+    /**
+     * Registers the listener for a single device, see {@link SensorFusion#registerSensors(int)}.
+     *
+     * @param movementSensor        device to register.
+     * @param samplingPeriodUs      sampling period in microseconds.
+     * @param maxReportLatencyUs    maximum report latency in microseconds.
+     */
+    private void registerSensor(MovementSensor movementSensor, int samplingPeriodUs,
+                                int maxReportLatencyUs) {
+        Sensor sensor = movementSensor.sensor;
+        if(maxReportLatencyUs > 0) {
+            Sensor wakeUpSensor = movementSensor.sensorManager.getDefaultSensor(sensor.getType(), true);
+            if(wakeUpSensor != null) {
+                sensor = wakeUpSensor;
+            }
+        }
+        if(movementSensor.sensorManager.registerListener(this, sensor, samplingPeriodUs,
+                maxReportLatencyUs, sensorHandler)) {
+            registeredSensors++;
+        }
+    }
+
+    /**
+     * Changes the sampling period of the motion sensors (accelerometer, linear acceleration,
+     * gravity, gyroscope and magnetometer) by registering them again. The barometer keeps its rate
+     * so that elevation changes are still tracked while standing in an elevator.
+     * <p>
+     * The sensors are flushed first, and each is only registered again once the events in its
+     * FIFO have been delivered, see {@link SensorFusion#onFlushCompleted(Sensor)}. A change
+     * requested while another is in progress is applied when that one finishes. Must be called on
+     * the sensor thread.
+     *
+     * @param samplingPeriodUs  new sampling period in microseconds.
+     */
+    private void setMotionSamplingPeriod(int samplingPeriodUs) {
+        this.imuPeriodUs = samplingPeriodUs;
+        if(rateChangeFlushes == 0) {
+            startRateChange();
+        }
+    }
+
+    /**
+     * Flushes the registered sensors to move the motion sensors to the current sampling period.
+     * Without registered sensors the period is applied when they are registered next.
+     */
+    private void startRateChange() {
+        if(registeredSensors == 0) return;
+        this.rateChangePeriodUs = imuPeriodUs;
+        for (MovementSensor movementSensor : motionSensors()) {
+            rateChangeSensors.add(movementSensor.sensor.getType());
+        }
+        this.rateChangeFlushes = registeredSensors;
+        if(!accelerometerSensor.sensorManager.flush(this)) {
+            // Nothing will be delivered, register again directly
+            this.rateChangeFlushes = 0;
+            rateChangeSensors.clear();
+            for (MovementSensor movementSensor : motionSensors()) {
+                reregisterSensor(movementSensor, rateChangePeriodUs);
+            }
+            finishRateChange();
+        }
+    }
+
+    /**
+     * Called once all sensors flushed for a rate change have been registered again. Flushes a
+     * recording stopped in the meantime, or starts another change if the period changed again.
+     */
+    private void finishRateChange() {
+        rateChangeSensors.clear();
+        updateStepSensor();
+        Recording stopped = this.flushAfterRateChange;
+        this.flushAfterRateChange = null;
+        if(stopped != null) {
+            flushForStop(stopped);
+        }
+        else if(rateChangePeriodUs != imuPeriodUs) {
+            startRateChange();
+        }
+    }
+
+    /**
+     * Registers a single motion sensor again with a new sampling period and the current report
+     * latency. The plain and wake-up variants are both unregistered.
+     *
+     * @param movementSensor    device to register again.
+     * @param samplingPeriodUs  sampling period in microseconds.
+     */
+    private void reregisterSensor(MovementSensor movementSensor, int samplingPeriodUs) {
+        SensorManager sensorManager = movementSensor.sensorManager;
+        sensorManager.unregisterListener(this, movementSensor.sensor);
+        Sensor wakeUpSensor = sensorManager.getDefaultSensor(movementSensor.sensor.getType(), true);
+        if(wakeUpSensor != null) {
+            sensorManager.unregisterListener(this, wakeUpSensor);
+        }
+        registeredSensors--;
+        registerSensor(movementSensor, samplingPeriodUs, reportLatencyUs);
+    }
+
+    /**
+     * Get the sensors whose rate is adapted by {@link SensorFusion#setMotionSamplingPeriod(int)}.
+     *
+     * @return  accelerometer, linear acceleration, gravity, gyroscope and magnetometer.
+     */
+    private MovementSensor[] motionSensors() {
+        return new MovementSensor[]{accelerometerSensor, linearAccelerationSensor, gravitySensor,
+                gyroscopeSensor, magnetometerSensor};
+    }
+
+    /**
+     * Get the motion sensor of a sensor type.
+     *
+     * @param type  sensor type, see {@link Sensor#getType()}.
+     * @return      the motion sensor of that type.
+     */
+    private MovementSensor motionSensor(int type) {
+        for (MovementSensor movementSensor : motionSensors()) {
+            if(movementSensor.sensor.getType() == type) return movementSensor;
+        }
+        throw new IllegalArgumentException("Not a motion sensor: " + type);
+    }
+
+    /**
+     * Called on the sensor thread by the {@link AdaptiveRateController} when the user starts or
+     * stops moving. Applies the new rate and records the change in the trajectory.
+     *
+     * @param timestamp         sensor event timestamp of the change in nanoseconds.
+     * @param stationary        true if the device is now considered stationary.
+     * @param samplingPeriodUs  new sampling period of the motion sensors.
+     */
+    private void onRateChanged(long timestamp, boolean stationary, int samplingPeriodUs) {
+        Recording current = this.recording;
+        // The rate is restored once the recording is complete
+        if(current == null || current.stopping.get()) return;
+        setMotionSamplingPeriod(samplingPeriodUs);
+        if(saveRecording) {
+            current.writer.addRateChange(recordingClock.toRelative(timestamp), samplingPeriodUs,
+                    stationary);
+        }
+    }
+
+    /**
+     * Un-registers the listener from all SensorManager based devices. Abandons a rate change in
+     * progress, and completes a recording whose flush was waiting for it. Must be called on the
+     * sensor thread.
+     */
+    private void unregisterSensors() {
+        registeredSensors = 0;
+        stepSensorRegistered = false;
+        rateChangeFlushes = 0;
+        rateChangeSensors.clear();
+        Recording stopped = this.flushAfterRateChange;
+        this.flushAfterRateChange = null;
+        if(stopped != null) {
+            completeStop(stopped);
+        }
+        accelerometerSensor.sensorManager.unregisterListener(this);
+        barometerSensor.sensorManager.unregisterListener(this);
+        gyroscopeSensor.sensorManager.unregisterListener(this);
+        lightSensor.sensorManager.unregisterListener(this);
+        proximitySensor.sensorManager.unregisterListener(this);
+        magnetometerSensor.sensorManager.unregisterListener(this);
+        stepDetectionSensor.sensorManager.unregisterListener(this);
+        rotationSensor.sensorManager.unregisterListener(this);
+        linearAccelerationSensor.sensorManager.unregisterListener(this);
+        gravitySensor.sensorManager.unregisterListener(this);
+    }
+
     /**
      * Un-registers all device listeners and pauses data collection.
      *
@@ -789,18 +1128,14 @@ public class SensorFusion implements SensorEventListener, Observer {
      * @see GNSSDataProcessor handles location data.
      */
     public void stopListening() {
+        this.listening = false;
         if(!saveRecording) {
-            // Unregister sensor-manager based devices
-            accelerometerSensor.sensorManager.unregisterListener(this);
-            barometerSensor.sensorManager.unregisterListener(this);
-            gyroscopeSensor.sensorManager.unregisterListener(this);
-            lightSensor.sensorManager.unregisterListener(this);
-            proximitySensor.sensorManager.unregisterListener(this);
-            magnetometerSensor.sensorManager.unregisterListener(this);
-            stepDetectionSensor.sensorManager.unregisterListener(this);
-            rotationSensor.sensorManager.unregisterListener(this);
-            linearAccelerationSensor.sensorManager.unregisterListener(this);
-            gravitySensor.sensorManager.unregisterListener(this);
+            // Unregister sensor-manager based devices, unless resumed in the meantime
+            sensorHandler.post(() -> {
+                if(!listening) {
+                    unregisterSensors();
+                }
+            });
             //The app often crashes here because the scan receiver stops after it has found the list.
             // It will only unregister one if there is to unregister
             try {
@@ -816,20 +1151,50 @@ public class SensorFusion implements SensorEventListener, Observer {
     /**
      * Enables saving sensor values to the trajectory object.
      *
-     * Sets save recording to true, resets the absolute start time and create new timer object for
-     * periodically writing data to trajectory.
+     * Sets save recording to true, resets the absolute start time and the
+     * {@link RecordingClock}, and create new timer object for
+     * periodically writing data to trajectory. A new {@link TrajectoryWriter} is created with the
+     * metadata of the recording, discarding any previous recording that was not sent.
+     * <p>
+     * If batched recording is enabled, no timer is created and the sensors are re-registered with
+     * the configured report latency and the recording uses event capture. No wakelock is held in
+     * this mode, the wake-up sensors wake the CPU when their FIFO needs to be emptied.
      *
      * @see Traj object for storing data.
+     * @see TrajectoryWriter streaming the samples to local storage.
      */
     public void startRecording() {
-        // Acquire wakelock so the phone will record with a locked screen. Timeout after 31 minutes.
-        this.wakeLock.acquire(31*60*1000L /*31 minutes*/);
-        this.saveRecording = true;
+        // Finish a batched recording that was stopped but never sent
+        Recording previous = this.recording;
+        if(previous != null) {
+            completeStop(previous);
+        }
+        this.batchedRecording = settings.getBoolean("batched_recording", false);
+        if(batchedRecording) {
+            // Collect events in the sensor hub FIFOs and let the CPU sleep in between
+            int latencyUs = settings.getInt("batch_latency", 10) * S2US;
+            sensorHandler.post(() -> {
+                unregisterSensors();
+                registerSensors(latencyUs);
+            });
+        }
+        else {
+            // Acquire wakelock so the phone will record with a locked screen. Timeout after 31 minutes.
+            this.wakeLock.acquire(31*60*1000L /*31 minutes*/);
+        }
         this.stepCounter = 0;
         this.absoluteStartTime = System.currentTimeMillis();
-        this.bootTime = android.os.SystemClock.uptimeMillis();
-        // Protobuf trajectory class for sending sensor data to restful API
-        this.trajectory = Traj.Trajectory.newBuilder()
+        this.recordingClock = RecordingClock.startNow();
+        // Drop a previous recording that was cancelled instead of sent, a sent one is no longer
+        // referenced here and is left to its finalization
+        if(this.trajectory != null) {
+            this.trajectory.discard();
+        }
+        if(this.eventRecorder instanceof RawSensorLog) {
+            ((RawSensorLog) this.eventRecorder).discard();
+        }
+        // Protobuf trajectory header for sending sensor data to restful API
+        Traj.Trajectory header = Traj.Trajectory.newBuilder()
                 .setAndroidVersion(Build.VERSION.RELEASE)
                 .setStartTimestamp(absoluteStartTime)
                 /*.addApsData(Traj.AP_Data.newBuilder().setMac(example_mac).setSsid(example_ssid)
@@ -838,50 +1203,240 @@ public class SensorFusion implements SensorEventListener, Observer {
                 .setGyroscopeInfo(createInfoBuilder(gyroscopeSensor))
                 .setMagnetometerInfo(createInfoBuilder(magnetometerSensor))
                 .setBarometerInfo(createInfoBuilder(barometerSensor))
-                .setLightSensorInfo(createInfoBuilder(lightSensor));
-        this.storeTrajectoryTimer = new Timer();
-        this.storeTrajectoryTimer.scheduleAtFixedRate(new storeDataInTrajectory(), 0, TIME_CONST);
-        this.pdrProcessing.resetPDR();
-        if(settings.getBoolean("overwrite_constants", false)) {
-            this.filter_coefficient = Float.parseFloat(settings.getString("accel_filter", "0.96"));
+                .setLightSensorInfo(createInfoBuilder(lightSensor))
+                .setRotationVectorInfo(createInfoBuilder(rotationSensor))
+                .build();
+        // Samples are streamed to local storage in chunks during the recording
+        this.trajectory = new TrajectoryWriter(recordingDirectory, header);
+        this.trajectory.setSyncInterval(settings.getInt("sync_interval", 5) * 1000L);
+        // Record every sensor event once instead of sampling with the timer if enabled
+        // Lower the motion sensor rate while standing still if enabled
+        this.rateController = settings.getBoolean("adaptive_rate", false)
+                ? new AdaptiveRateController(this::onRateChanged) : null;
+        // Resampling and raw capture only apply to event capture, as in the settings screen
+        boolean eventCapture = settings.getBoolean("event_capture", false);
+        boolean resample = eventCapture && settings.getBoolean("resample_imu", false);
+        if(eventCapture && settings.getBoolean("raw_capture", false)) {
+            // Capture raw records and convert them once the recording is sent
+            this.eventRecorder = new RawSensorLog(recordingDirectory, trajectory, recordingClock,
+                    resample);
+        }
+        else if(batchedRecording || eventCapture) {
+            this.eventRecorder = new SensorEventRecorder(trajectory, recordingClock, resample);
         }
-        else {this.filter_coefficient = FILTER_COEFFICIENT;}
+        else {
+            this.eventRecorder = null;
+        }
+        this.recording = new Recording(trajectory, eventRecorder);
+        this.saveRecording = true;
+        if(batchedRecording) {
+            // Events are stored with their own timestamps, a timer would keep waking the CPU
+            this.storeTrajectoryTimer = null;
+        }
+        else {
+            this.storeTrajectoryTimer = new Timer();
+            this.storeTrajectoryTimer.scheduleAtFixedRate(new storeDataInTrajectory(), 0,
+                    TIME_CONST);
+        }
+        // PDR state is owned by the sensor thread
+        this.softwareSteps = settings.getBoolean("software_steps", false);
+        SoftwareStepDetector detector = createStepDetector();
+        this.sensorHandler.post(() -> {
+            this.stepDetector = detector;
+            // The hardware step detector is only needed without software step detection
+            updateStepSensor();
+            this.pdrProcessing.resetPDR();
+            this.pdrRegister.write(this.pdrProcessing.getPDRMovement());
+        });
     }
 
     /**
      * Disables saving sensor values to the trajectory object.
      *
-     * Check if a recording is in progress. If it is, it sets save recording to false, and cancels
-     * the timer objects.
+     * Check if a recording is in progress. If it is, it cancels the timer objects and completes the
+     * recording. In batched recording mode the sensor FIFOs are flushed first, and the recording is
+     * only completed once the flushed events have been stored, see
+     * {@link SensorFusion#onFlushCompleted(Sensor)}.
      *
      * @see Traj object for storing data.
      * @see com.example.cloud.fragments.SettingsFragment navigation that might cancel recording.
      */
     public void stopRecording() {
-        // Only cancel if we are running
-        if(this.saveRecording) {
-            this.saveRecording = false;
-            storeTrajectoryTimer.cancel();
+        // Only cancel if we are running and the recording was not stopped yet
+        Recording current = this.recording;
+        if(this.saveRecording && current != null && current.stopping.compareAndSet(false, true)) {
+            if(storeTrajectoryTimer != null) {
+                storeTrajectoryTimer.cancel();
+            }
+            if(batchedRecording) {
+                // Flush on the sensor thread, after the registration changes posted before
+                sensorHandler.post(() -> flushForStop(current));
+            }
+            else {
+                completeStop(current);
+            }
         }
         if(wakeLock.isHeld()) {
             this.wakeLock.release();
         }
     }
 
+    /**
+     * Stores the last events of a stopped recording and disables saving sensor values. Sensors
+     * batched for the recording are registered again for continuous delivery. Only has an effect
+     * once per recording, and callers racing on the same recording return once it is complete.
+     *
+     * @param stopped   recording to complete.
+     */
+    private synchronized void completeStop(Recording stopped) {
+        if(stopped.completed.getAndSet(true)) return;
+        stopped.stopping.set(true);
+        this.saveRecording = false;
+        if(stopped.sink != null) {
+            stopped.sink.drain();
+        }
+        this.rateController = null;
+        boolean wasBatched = batchedRecording;
+        this.batchedRecording = false;
+        // Restore the registrations on the sensor thread, after any pending controller callback
+        sensorHandler.post(() -> restoreRegistrations(wasBatched));
+        stopped.latch.countDown();
+    }
+
+    /**
+     * Flushes the sensor FIFOs at the end of a batched recording, completing it once every
+     * registered sensor has reported, see {@link SensorFusion#onFlushCompleted(Sensor)}. Waits for
+     * a rate change in progress, whose flush completions cannot be told apart. Must be called on
+     * the sensor thread.
+     *
+     * @param stopped   recording to flush.
+     */
+    private void flushForStop(Recording stopped) {
+        if(stopped.completed.get()) return;
+        if(rateChangeFlushes > 0) {
+            this.flushAfterRateChange = stopped;
+            return;
+        }
+        if(registeredSensors == 0) {
+            completeStop(stopped);
+            return;
+        }
+        stopped.pendingFlushes.set(registeredSensors);
+        if(!accelerometerSensor.sensorManager.flush(this)) {
+            stopped.pendingFlushes.set(0);
+            completeStop(stopped);
+        }
+    }
+
+    /**
+     * Returns the sensor registrations to continuous delivery at full rate after a recording. If
+     * the app was paused in the meantime, the sensors kept for the recording are released instead.
+     * Must be called on the sensor thread.
+     *
+     * @param wasBatched    true if the sensors were registered with a report latency.
+     */
+    private void restoreRegistrations(boolean wasBatched) {
+        if(!listening) {
+            this.imuPeriodUs = AdaptiveRateController.ACTIVE_PERIOD_US;
+            unregisterSensors();
+        }
+        else if(wasBatched) {
+            this.imuPeriodUs = AdaptiveRateController.ACTIVE_PERIOD_US;
+            unregisterSensors();
+            registerSensors(0);
+        }
+        else if(imuPeriodUs != AdaptiveRateController.ACTIVE_PERIOD_US) {
+            setMotionSamplingPeriod(AdaptiveRateController.ACTIVE_PERIOD_US);
+        }
+    }
+
+    /**
+     * Waits for the sensor FIFOs flushed at the end of a batched recording, completing the
+     * recording regardless if the flush does not finish in time. A recording that was not stopped
+     * is completed immediately.
+     *
+     * @param stopped   recording handed over for sending.
+     */
+    private void awaitStop(Recording stopped) {
+        if(stopped.stopping.get()) {
+            try {
+                if(!stopped.latch.await(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    System.err.println("Sensor flush timed out");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        stopped.pendingFlushes.set(0);
+        completeStop(stopped);
+    }
+
     //endregion
 
     //region Trajectory object
 
+    /**
+     * Send the trajectory object to servers without following the progress.
+     *
+     * @see SensorFusion#sendTrajectoryToCloud(TrajectoryFinalizationListener)
+     */
+    public void sendTrajectoryToCloud() {
+        sendTrajectoryToCloud(null);
+    }
+
     /**
      * Send the trajectory object to servers.
+     * The trajectory is finalized on a background thread and the method returns immediately. The
+     * chunks written during the recording are stitched into a single trajectory file, which is
+     * then passed to the server communication class to enqueue the upload. In raw capture mode the
+     * captured records are converted into trajectory samples first. Progress and the result are
+     * reported to the listener on the main thread.
+     *
+     * @param listener  receiver of progress and completion callbacks, or null.
      *
+     * @see TrajectoryWriter#finish(TrajectoryWriter.ProgressListener) creating the trajectory file.
      * @see ServerCommunications for sending and receiving data via HTTPS.
      */
-    public void sendTrajectoryToCloud() {
-        // Build object
-        Traj.Trajectory sentTrajectory = trajectory.build();
-        // Pass object to communications object
-        this.serverCommunications.sendTrajectory(sentTrajectory);
+    public void sendTrajectoryToCloud(TrajectoryFinalizationListener listener) {
+        // Finalize the current recording even if a new one is started in the meantime
+        final Recording sent = this.recording;
+        if(sent == null || this.trajectory != sent.writer) {
+            if(listener != null) listener.onFailed();
+            return;
+        }
+        final TrajectoryWriter writer = sent.writer;
+        final SensorEventSink sink = sent.sink;
+        // Hand the recording over, so starting a new one does not discard it
+        this.trajectory = null;
+        this.eventRecorder = null;
+        finalizationExecutor.execute(() -> {
+            // Make sure batched events still in the FIFOs have been stored
+            awaitStop(sent);
+            // Convert raw captured records into trajectory samples
+            if(sink instanceof RawSensorLog) {
+                ((RawSensorLog) sink).convert();
+            }
+            // Stitch the recorded chunks into a trajectory file
+            int[] lastPercent = {-1};
+            File trajectoryFile = writer.finish((written, total) -> {
+                int percent = (total > 0) ? (int) (100 * written / total) : 100;
+                if(listener != null && percent != lastPercent[0]) {
+                    lastPercent[0] = percent;
+                    mainHandler.post(() -> listener.onProgress(percent));
+                }
+            });
+            // Record the file in the catalog and pass it to communications object
+            if(trajectoryFile != null) {
+                trajectoryCatalog.add(trajectoryFile, writer.getSummary());
+                this.serverCommunications.sendTrajectory(trajectoryFile);
+            }
+            if(listener != null) {
+                mainHandler.post(() -> {
+                    if(trajectoryFile != null) listener.onFinalized(trajectoryFile);
+                    else listener.onFailed();
+                });
+            }
+        });
     }
 
     /**
@@ -903,6 +1458,53 @@ public class SensorFusion implements SensorEventListener, Observer {
                 .setType(sensor.sensorInfo.getType());
     }
 
+    /**
+     * Stores the access point the device is currently connected to in the trajectory.
+     *
+     * @param writer    writer of the current recording.
+     */
+    private void storeCurrentAp(TrajectoryWriter writer) {
+        //Current Wifi Object
+        Wifi currentWifi = wifiProcessor.getCurrentWifiData();
+        writer.addApsData(Traj.AP_Data.newBuilder()
+                .setMac(currentWifi.getBssid())
+                .setSsid(currentWifi.getSsid())
+                .setFrequency(currentWifi.getFrequency()));
+    }
+
+    /**
+     * Writer, event sink and stop state of a single recording. A new instance is created with every
+     * recording, so finalizing a sent recording never waits on or completes the stop of the next.
+     */
+    private static final class Recording {
+        // Destinations of the recorded samples, the sink is null when sampling with the timer
+        final TrajectoryWriter writer;
+        final SensorEventSink sink;
+        // Set once the recording is stopped, before the flushed events have been stored
+        final AtomicBoolean stopping;
+        // Set once the last events have been stored
+        final AtomicBoolean completed;
+        // Flushes still outstanding at the end of a batched recording
+        final AtomicInteger pendingFlushes;
+        // Released once the recording is completed
+        final CountDownLatch latch;
+
+        /**
+         * Creates the state of a recording that has just started.
+         *
+         * @param writer    writer streaming the trajectory to local storage.
+         * @param sink      sink storing each sensor event, or null.
+         */
+        Recording(TrajectoryWriter writer, SensorEventSink sink) {
+            this.writer = writer;
+            this.sink = sink;
+            this.stopping = new AtomicBoolean(false);
+            this.completed = new AtomicBoolean(false);
+            this.pendingFlushes = new AtomicInteger();
+            this.latch = new CountDownLatch(1);
+        }
+    }
+
     /**
      * Timer task to record data with the desired frequency in the trajectory class.
      *
@@ -910,69 +1512,30 @@ public class SensorFusion implements SensorEventListener, Observer {
      * destroyed in {@link SensorFusion#stopRecording()}.
      */
     private class storeDataInTrajectory extends TimerTask {
+        // Snapshots of the latest sensor values, owned by the timer thread
+        private final float[] tickAcceleration = new float[3];
+        private final float[] tickAngularVelocity = new float[3];
+        private final float[] tickMagneticField = new float[3];
+        private final float[] tickRotation = new float[4];
+        // Ticks since the last stored motion sample
+        private int motionTick = 0;
+
         public void run() {
-            // Calculate orientation based on magnetometer-based and gyro-based orientation
-            float oneMinusCoeff = 1.0f - filter_coefficient;
-            // Value is only filtered between -3 and 3 radians to avoid the orientation going
-            // back and forth.
-            if (accMagOrientation[0] < 3 && accMagOrientation[0] > -3){
-                orientation[0] = filter_coefficient * gyroOrientation[0]
-                        + oneMinusCoeff * accMagOrientation[0];
-
-            } else {
-                orientation[0] = accMagOrientation[0];
+            Recording current = recording;
+            if(!saveRecording || current == null) return;
+            // Sensor events are already stored by the event recorder in event capture mode
+            if(current.sink == null) {
+                storeSensorValues(current.writer);
             }
-            orientation[1] = filter_coefficient * gyroOrientation[1]
-                    + oneMinusCoeff * accMagOrientation[1];
-            orientation[2] = filter_coefficient * gyroOrientation[2]
-                    + oneMinusCoeff * accMagOrientation[2];
-            // overwrite gyro matrix and orientation with fused orientation to compensate for gyro
-            // drift
-            gyroMatrix = getRotationMatrixFromOrientation(orientation);
-            System.arraycopy(orientation, 0, gyroOrientation, 0, 3);
-
-            // Store IMU and magnetometer data in Trajectory class
-            trajectory.addImuData(Traj.Motion_Sample.newBuilder()
-                    .setRelativeTimestamp(android.os.SystemClock.uptimeMillis()-bootTime)
-                    .setAccX(acceleration[0])
-                    .setAccY(acceleration[1])
-                    .setAccZ(acceleration[2])
-                    .setGyrX(angularVelocity[0])
-                    .setGyrY(angularVelocity[1])
-                    .setGyrZ(angularVelocity[2])
-                    .setGyrZ(angularVelocity[2])
-                    .setRotationVectorW(rotation[0])
-                    .setRotationVectorX(rotation[1])
-                    .setRotationVectorY(rotation[2])
-                    .setRotationVectorZ(rotation[3])
-                    .setStepCount(stepCounter))
-                    .addPositionData(Traj.Position_Sample.newBuilder()
-                            .setMagX(magneticField[0])
-                            .setMagY(magneticField[1])
-                            .setMagZ(magneticField[2])
-                            .setRelativeTimestamp(android.os.SystemClock.uptimeMillis()-bootTime));
 
             // Divide timer with a counter for storing data every 1 second
             if (counter == 99) {
                 counter = 0;
-                // Store pressure and light data
-                trajectory.addPressureData(Traj.Pressure_Sample.newBuilder()
-                        .setPressure(pressure)
-                        .setRelativeTimestamp(android.os.SystemClock.uptimeMillis()-bootTime))
-                        .addLightData(Traj.Light_Sample.newBuilder()
-                                .setLight(light)
-                                .setRelativeTimestamp(android.os.SystemClock.uptimeMillis()-bootTime)
-                                .build());
 
                 // Divide the timer for storing AP data every 5 seconds
                 if (secondCounter == 4) {
                     secondCounter = 0;
-                    //Current Wifi Object
-                    Wifi currentWifi = wifiProcessor.getCurrentWifiData();
-                    trajectory.addApsData(Traj.AP_Data.newBuilder()
-                            .setMac(currentWifi.getBssid())
-                            .setSsid(currentWifi.getSsid())
-                            .setFrequency(currentWifi.getFrequency()));
+                    storeCurrentAp(current.writer);
                 }
                 else {
                     secondCounter++;
@@ -983,6 +1546,43 @@ public class SensorFusion implements SensorEventListener, Observer {
             }
 
         }
+
+        /**
+         * Copies the latest sensor values into the trajectory. IMU and magnetometer data is stored
+         * at the sampling period of the motion sensors, every tick at full rate, pressure and light
+         * data once per second. Multi-axis values are read from the registers, so each sample holds
+         * the values of a single sensor event.
+         *
+         * @param writer    writer of the current recording.
+         */
+        private void storeSensorValues(TrajectoryWriter writer) {
+            // Single timestamp for all samples of this tick
+            long relativeTimestamp = recordingClock.now();
+            // Only store as many motion samples as the sensors currently deliver
+            motionTick++;
+            if(motionTick * TIME_CONST * 1000 >= imuPeriodUs) {
+                motionTick = 0;
+                // Consistent snapshots of the latest sensor values
+                accelerationRegister.read(tickAcceleration);
+                angularVelocityRegister.read(tickAngularVelocity);
+                magneticFieldRegister.read(tickMagneticField);
+                rotationRegister.read(tickRotation);
+                // Store IMU and magnetometer data in the columnar stores of the trajectory writer
+                writer.addImuSample(relativeTimestamp, tickAcceleration, tickAngularVelocity,
+                        tickRotation, stepCounter);
+                writer.addMagnetometerSample(relativeTimestamp, tickMagneticField);
+            }
+
+            // Store pressure and light data every 1 second
+            if (counter == 99) {
+                writer.addPressureData(Traj.Pressure_Sample.newBuilder()
+                        .setPressure(pressure)
+                        .setRelativeTimestamp(relativeTimestamp));
+                writer.addLightData(Traj.Light_Sample.newBuilder()
+                        .setLight(light)
+                        .setRelativeTimestamp(relativeTimestamp));
+            }
+        }
     }
 
     //endregion
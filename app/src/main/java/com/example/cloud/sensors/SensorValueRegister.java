@@ -0,0 +1,108 @@
+package com.example.cloud.sensors;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free register holding the latest values of a multi-axis sensor.
+ * <p>
+ * Sensor callbacks update the values of a sensor element by element, while the recording timer
+ * and the UI read them from other threads. Without synchronisation readers can observe a vector
+ * made up of two different events. The register implements a sequence lock: the single writer
+ * makes the sequence number odd while it updates the values and even again once it is done.
+ * Readers copy the values and retry if the sequence number was odd or changed in the meantime, so
+ * they always get a consistent snapshot and never block the writer.
+ * <p>
+ * Values are stored as raw int bits in an {@link AtomicIntegerArray}, so every access is volatile
+ * and the reads of the values cannot be reordered around the reads of the sequence number.
+ *
+ * @see SensorFusion where registers are written from the sensor callbacks.
+ */
+public class SensorValueRegister {
+
+    // Number of values held in the register
+    private final int dimension;
+    // Raw bits of the float values
+    private final AtomicIntegerArray values;
+    // Even when the values are consistent, odd while a write is in progress
+    private volatile int sequence;
+
+    /**
+     * Public default constructor of the SensorValueRegister, with all values set to zero.
+     *
+     * @param dimension number of values held, e.g. 3 for a three-axis sensor.
+     */
+    public SensorValueRegister(int dimension) {
+        this.dimension = dimension;
+        this.values = new AtomicIntegerArray(dimension);
+        this.sequence = 0;
+    }
+
+    /**
+     * Publish new values. Must only be called from a single thread, typically the sensor callback.
+     * If fewer values than the dimension are provided, the remaining ones are left unchanged.
+     *
+     * @param source    array of new values, only read during the call.
+     */
+    public void write(float[] source) {
+        int current = sequence;
+        // Mark the write as in progress
+        sequence = current + 1;
+        int length = Math.min(source.length, dimension);
+        for (int i = 0; i < length; i++) {
+            values.set(i, Float.floatToRawIntBits(source[i]));
+        }
+        // Publish the consistent values
+        sequence = current + 2;
+    }
+
+    /**
+     * Copy a consistent snapshot of the values into the destination array. Retries without
+     * blocking while a write is in progress.
+     *
+     * @param destination   array of at least the register's dimension to copy the values into.
+     * @return              version of the copied values, incremented by two with each write.
+     */
+    public int read(float[] destination) {
+        while (true) {
+            int before = sequence;
+            if ((before & 1) == 0) {
+                for (int i = 0; i < dimension; i++) {
+                    destination[i] = Float.intBitsToFloat(values.get(i));
+                }
+                if (sequence == before) {
+                    return before;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Get a consistent copy of the values in a new array.
+     *
+     * @return  float array of the register's dimension with the latest values.
+     */
+    public float[] snapshot() {
+        float[] copy = new float[dimension];
+        read(copy);
+        return copy;
+    }
+
+    /**
+     * Get the current version of the register, which changes with every completed write.
+     *
+     * @return  even int version number, or odd if a write is in progress.
+     */
+    public int getVersion() {
+        return sequence;
+    }
+
+    /**
+     * Get the number of values held in the register.
+     *
+     * @return  int dimension of the register.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+}
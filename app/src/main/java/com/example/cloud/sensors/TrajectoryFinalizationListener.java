@@ -0,0 +1,33 @@
+package com.example.cloud.sensors;
+
+import java.io.File;
+
+/**
+ * Listener interface for following the finalization of a recorded trajectory.
+ *
+ * Finalization runs on a background thread started by
+ * {@link SensorFusion#sendTrajectoryToCloud(TrajectoryFinalizationListener)}. All callbacks are
+ * delivered on the main thread, so implementations can update the UI directly.
+ *
+ * @see SensorFusion finalizing and uploading the recording.
+ */
+public interface TrajectoryFinalizationListener {
+    /**
+     * Called while the trajectory file is being written.
+     *
+     * @param percent   progress of writing the file between 0 and 100.
+     */
+    void onProgress(int percent);
+
+    /**
+     * Called once the trajectory file has been written and its upload has been requested.
+     *
+     * @param file  the trajectory file in local storage.
+     */
+    void onFinalized(File file);
+
+    /**
+     * Called if no trajectory file could be written.
+     */
+    void onFailed();
+}
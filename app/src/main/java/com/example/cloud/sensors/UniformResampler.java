@@ -0,0 +1,139 @@
+package com.example.cloud.sensors;
+
+/**
+ * Streaming resampler converting irregularly timestamped samples to an exact uniform grid.
+ * <p>
+ * Sensor events do not arrive at exactly the requested rate, and their timestamps jitter around
+ * it. The resampler keeps the previous sample and, whenever a new sample is pushed, emits every grid
+ * point between the two by linear interpolation. The first columns of a sample are interpolated,
+ * the remaining ones, such as counters, hold the value of the previous sample. Grid points falling
+ * into gaps longer than {@link UniformResampler#MAX_GAP_PERIODS} periods are skipped rather than
+ * filled with made up values. No memory is allocated after construction: the emitted values are
+ * written into a single array that is reused for every grid point.
+ * <p>
+ * Samples must be pushed in timestamp order, older or duplicate samples are ignored. The class is
+ * not thread safe.
+ *
+ * @see SensorEventRecorder resampling motion and magnetometer samples.
+ */
+public class UniformResampler {
+
+    // Longest gap, in periods, that is bridged by interpolation
+    public static final int MAX_GAP_PERIODS = 10;
+
+    /**
+     * Receiver of the resampled values.
+     */
+    public interface Output {
+        /**
+         * Called for every grid point in order.
+         *
+         * @param timestamp timestamp of the grid point.
+         * @param values    interpolated values, only valid during the call.
+         */
+        void onSample(long timestamp, float[] values);
+    }
+
+    // Grid definition
+    private final long origin;
+    private final long period;
+    // Number of values per sample and how many of them are interpolated
+    private final int dimension;
+    private final int interpolatedColumns;
+    // Receiver of the grid samples
+    private final Output output;
+
+    // Previous input sample
+    private final float[] previous;
+    private long previousTimestamp;
+    private boolean hasPrevious;
+    // Next grid point to be emitted
+    private long nextTimestamp;
+    // Reused output array
+    private final float[] resampled;
+
+    /**
+     * Public default constructor of the UniformResampler.
+     *
+     * @param origin                a timestamp on the grid, e.g. the start of the recording.
+     * @param period                spacing of the grid, in the unit of the timestamps.
+     * @param dimension             number of values per sample.
+     * @param interpolatedColumns   number of leading values to interpolate, the rest are held.
+     * @param output                receiver of the grid samples.
+     */
+    public UniformResampler(long origin, long period, int dimension, int interpolatedColumns,
+                            Output output) {
+        this.origin = origin;
+        this.period = period;
+        this.dimension = dimension;
+        this.interpolatedColumns = Math.min(interpolatedColumns, dimension);
+        this.output = output;
+        this.previous = new float[dimension];
+        this.resampled = new float[dimension];
+        this.hasPrevious = false;
+    }
+
+    /**
+     * Push a new input sample, emitting the grid points up to and including its timestamp.
+     *
+     * @param timestamp timestamp of the sample.
+     * @param values    values of the sample, at least the dimension of the resampler.
+     */
+    public void push(long timestamp, float[] values) {
+        if(!hasPrevious) {
+            nextTimestamp = firstGridPoint(timestamp);
+        }
+        else if(timestamp <= previousTimestamp) {
+            return;
+        }
+        else if(timestamp - previousTimestamp > MAX_GAP_PERIODS * period) {
+            // Do not invent data across a gap
+            nextTimestamp = firstGridPoint(timestamp);
+        }
+        else {
+            double span = timestamp - previousTimestamp;
+            while (nextTimestamp < timestamp) {
+                double fraction = (nextTimestamp - previousTimestamp) / span;
+                for (int c = 0; c < interpolatedColumns; c++) {
+                    resampled[c] = (float) (previous[c] + (values[c] - previous[c]) * fraction);
+                }
+                for (int c = interpolatedColumns; c < dimension; c++) {
+                    resampled[c] = previous[c];
+                }
+                output.onSample(nextTimestamp, resampled);
+                nextTimestamp += period;
+            }
+        }
+        System.arraycopy(values, 0, previous, 0, dimension);
+        previousTimestamp = timestamp;
+        hasPrevious = true;
+        // A sample exactly on the grid is emitted as is
+        if(nextTimestamp == timestamp) {
+            System.arraycopy(values, 0, resampled, 0, dimension);
+            output.onSample(nextTimestamp, resampled);
+            nextTimestamp += period;
+        }
+    }
+
+    /**
+     * Forget the previous sample, so the next sample starts a new stretch of the grid.
+     */
+    public void reset() {
+        hasPrevious = false;
+    }
+
+    /**
+     * Get the first grid point at or after a timestamp.
+     *
+     * @param timestamp timestamp to start from.
+     * @return          timestamp of the grid point.
+     */
+    private long firstGridPoint(long timestamp) {
+        long offset = timestamp - origin;
+        long periods = Math.floorDiv(offset, period);
+        if(periods * period < offset) {
+            periods++;
+        }
+        return origin + periods * period;
+    }
+}
@@ -8,11 +8,11 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.cloud.R;
+import com.example.cloud.TrajectoryEntry;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Adapter used for displaying Trajectory metadata in a RecyclerView list.
@@ -29,22 +29,45 @@ public class TrajDownloadListAdapter extends RecyclerView.Adapter<TrajDownloadVi
     private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     private final Context context;
-    private final List<Map<String, String>>  responseItems;
+    private List<TrajectoryEntry> responseItems;
     private final DownloadClickListener listener;
 
     /**
      * Default public constructor with context for inflating views and list to be displayed.
      *
      * @param context       application context to enable inflating views used in the list.
-     * @param responseItems List of Maps, where each map is a response item from the server.
+     * @param responseItems List of trajectory entries received from the server.
      * @param listener      clickListener to download trajectories when clicked.
      *
      * @see com.example.cloud.Traj protobuf objects exchanged with the server.
      */
-    public TrajDownloadListAdapter(Context context, List<Map<String, String>> responseItems, DownloadClickListener listener) {
+    public TrajDownloadListAdapter(Context context, List<TrajectoryEntry> responseItems, DownloadClickListener listener) {
         this.context = context;
         this.responseItems = responseItems;
         this.listener = listener;
+        // Ids let the RecyclerView keep unchanged rows when the listing is replaced
+        setHasStableIds(true);
+    }
+
+    /**
+     * Replace the displayed entries, for example after the listing was revalidated with the
+     * server. Must be called from the UI thread.
+     *
+     * @param responseItems List of trajectory entries received from the server.
+     */
+    public void setEntries(List<TrajectoryEntry> responseItems) {
+        this.responseItems = responseItems;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Get the entry displayed at a position.
+     *
+     * @param position  position in the list.
+     * @return          the trajectory entry.
+     */
+    public TrajectoryEntry getEntry(int position) {
+        return responseItems.get(position);
     }
 
     /**
@@ -67,7 +90,7 @@ public class TrajDownloadListAdapter extends RecyclerView.Adapter<TrajDownloadVi
      */
     @Override
     public void onBindViewHolder(@NonNull TrajDownloadViewHolder holder, int position) {
-        String id = responseItems.get(position).get("id");
+        String id = String.valueOf(responseItems.get(position).getId());
         holder.trajId.setText(id);
         if(id.length() > 2) holder.trajId.setTextSize(58);
         else holder.trajId.setTextSize(65);
@@ -75,12 +98,21 @@ public class TrajDownloadListAdapter extends RecyclerView.Adapter<TrajDownloadVi
                 dateFormat.format(
                         LocalDateTime.parse(
                                 responseItems.get(position)
-                                        .get("date_submitted").split("\\.")[0]
+                                        .getDateSubmitted().split("\\.")[0]
                         )
                 )
         );
     }
 
+    /**
+     * {@inheritDoc}
+     * Server id of the trajectory.
+     */
+    @Override
+    public long getItemId(int position) {
+        return responseItems.get(position).getId();
+    }
+
     /**
      * {@inheritDoc}
      * Number of response maps.
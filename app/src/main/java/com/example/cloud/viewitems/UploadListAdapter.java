@@ -1,6 +1,7 @@
 package com.example.cloud.viewitems;
 
 import android.content.Context;
+import android.text.format.Formatter;
 import android.view.LayoutInflater;
 import android.view.ViewGroup;
 
@@ -8,11 +9,13 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.cloud.R;
+import com.example.cloud.TrajectoryCatalog;
+import com.example.cloud.TrajectorySummary;
 
-import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 /**
  * Adapter used for displaying local Trajectory file data
@@ -25,22 +28,24 @@ import java.util.regex.Pattern;
 public class UploadListAdapter extends RecyclerView.Adapter<UploadViewHolder> {
 
     private final Context context;
-    private final List<File> uploadItems;
+    private final List<TrajectoryCatalog.Entry> uploadItems;
     private final DownloadClickListener listener;
+    private final SimpleDateFormat dateFormat;
 
     /**
      * Default public constructor with context for inflating views and list to be displayed.
      *
      * @param context       application context to enable inflating views used in the list.
-     * @param uploadItems   List of trajectory Files found locally on the device.
+     * @param uploadItems   List of catalog entries of the trajectory files on the device.
      * @param listener      clickListener to download trajectories when clicked.
      *
      * @see com.example.cloud.Traj protobuf objects exchanged with the server.
      */
-    public UploadListAdapter(Context context, List<File> uploadItems, DownloadClickListener listener) {
+    public UploadListAdapter(Context context, List<TrajectoryCatalog.Entry> uploadItems, DownloadClickListener listener) {
         this.context = context;
         this.uploadItems = uploadItems;
         this.listener = listener;
+        this.dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
     }
 
     /**
@@ -56,19 +61,33 @@ public class UploadListAdapter extends RecyclerView.Adapter<UploadViewHolder> {
 
     /**
      * {@inheritDoc}
-     * Formats and assigns the data fields from the local Trajectory Files object to the TextView fields.
+     * Formats and assigns the metadata from the catalog entry to the TextView fields. The
+     * trajectory file itself is not accessed.
      *
      * @see com.example.cloud.fragments.UploadFragment finding the data from on local storage.
      * @see com.example.cloud.R.layout#item_upload_card_view xml layout file.
      */
     @Override
     public void onBindViewHolder(@NonNull UploadViewHolder holder, int position) {
+        TrajectoryCatalog.Entry entry = uploadItems.get(position);
+        TrajectorySummary summary = entry.getSummary();
         holder.trajId.setText(String.valueOf(position));
-        Pattern datePattern = Pattern.compile("_(.*?)\\.txt");
-        Matcher dateMatcher = datePattern.matcher(uploadItems.get(position).getName());
-        String dateString = dateMatcher.find() ? dateMatcher.group(1) : "N/A";
-        System.err.println("UPLOAD - Date string: " + dateString);
-        holder.trajDate.setText(dateString);
+        holder.trajDate.setText(summary.getStartTimestamp() > 0
+                ? dateFormat.format(new Date(summary.getStartTimestamp())) : "N/A");
+        long seconds = summary.getDurationMs() / 1000;
+        StringBuilder info = new StringBuilder(String.format(Locale.getDefault(), "%d:%02d",
+                seconds / 60, seconds % 60))
+                .append(" | ").append(Formatter.formatShortFileSize(context, summary.getSizeBytes()))
+                .append("\nIMU ").append(summary.getSampleCount(TrajectorySummary.IMU))
+                .append(" | GNSS ").append(summary.getSampleCount(TrajectorySummary.GNSS))
+                .append(" | WiFi ").append(summary.getSampleCount(TrajectorySummary.WIFI));
+        if(entry.getUploadState() == TrajectoryCatalog.STATE_QUEUED) {
+            info.append("\nQueued for upload");
+        }
+        else if(entry.getUploadState() == TrajectoryCatalog.STATE_REJECTED) {
+            info.append("\nRejected by server");
+        }
+        holder.trajInfo.setText(info);
     }
 
     /**
@@ -23,6 +23,7 @@ public class UploadViewHolder extends RecyclerView.ViewHolder implements View.On
 
     TextView trajId;
     TextView trajDate;
+    TextView trajInfo;
     ImageButton uploadButton;
     // Weak reference to the click listener to enable garbage collection on recyclerview items
     private WeakReference<DownloadClickListener> listenerReference;
@@ -42,6 +43,7 @@ public class UploadViewHolder extends RecyclerView.ViewHolder implements View.On
         this.listenerReference = new WeakReference<>(listener);
         this.trajId = itemView.findViewById(R.id.trajectoryIdItem);
         this.trajDate = itemView.findViewById(R.id.trajectoryDateItem);
+        this.trajInfo = itemView.findViewById(R.id.trajectoryInfoItem);
         this.uploadButton = itemView.findViewById(R.id.uploadTrajectoryButton);
 
         this.uploadButton.setOnClickListener(this);
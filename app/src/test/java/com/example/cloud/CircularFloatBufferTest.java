@@ -0,0 +1,140 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the window statistics of {@link CircularFloatBuffer}, compared against
+ * values computed directly from the buffer contents.
+ */
+public class CircularFloatBufferTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Check the statistics of a full buffer against the values in {@link
+     * CircularFloatBuffer#getListCopy()}, which holds the window while nothing has been read.
+     *
+     * @param buffer    full buffer to check.
+     */
+    private static void assertStatistics(CircularFloatBuffer buffer) {
+        List<Float> values = buffer.getListCopy();
+        assertNotNull(values);
+        assertEquals(buffer.getCapacity(), values.size());
+        assertEquals(buffer.getCapacity(), buffer.getWindowSize());
+
+        double sum = 0, sumAbs = 0;
+        float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+        for (float value : values) {
+            sum += value;
+            sumAbs += Math.abs(value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double mean = sum / values.size();
+        double variance = 0;
+        for (float value : values) {
+            variance += (value - mean) * (value - mean);
+        }
+        variance /= values.size();
+
+        assertEquals(mean, buffer.getMean(), TOLERANCE);
+        assertEquals(sumAbs / values.size(), buffer.getAbsMean(), TOLERANCE);
+        assertEquals(variance, buffer.getVariance(), TOLERANCE);
+        assertEquals(min, buffer.getMin(), 0);
+        assertEquals(max, buffer.getMax(), 0);
+    }
+
+    @Test
+    public void statistics_matchBruteForceOverRandomValues() {
+        Random random = new Random(7);
+        for (int capacity : new int[]{1, 2, 3, 10, 64}) {
+            CircularFloatBuffer buffer = new CircularFloatBuffer(capacity);
+            // Several passes over the array, so values are overwritten and sums recomputed
+            for (int i = 0; i < capacity * 7 + 3; i++) {
+                buffer.putNewest((float) (20 * random.nextGaussian()));
+                if(buffer.isFull()) assertStatistics(buffer);
+            }
+        }
+    }
+
+    @Test
+    public void statistics_matchBruteForceOverMonotonicValues() {
+        // Rising and falling runs drop every earlier position from one of the extreme queues
+        for (int capacity : new int[]{1, 4, 16}) {
+            CircularFloatBuffer buffer = new CircularFloatBuffer(capacity);
+            for (int i = 0; i < capacity * 5; i++) {
+                buffer.putNewest(i);
+                if(buffer.isFull()) assertStatistics(buffer);
+            }
+            for (int i = capacity * 5; i > -capacity * 5; i--) {
+                buffer.putNewest(i);
+                assertStatistics(buffer);
+            }
+        }
+    }
+
+    @Test
+    public void statistics_ofConstantValues() {
+        for (int capacity : new int[]{1, 5, 32}) {
+            CircularFloatBuffer buffer = new CircularFloatBuffer(capacity);
+            for (int i = 0; i < capacity * 4 + 1; i++) {
+                buffer.putNewest(-0.1f);
+                if(buffer.isFull()) {
+                    assertStatistics(buffer);
+                    assertTrue(buffer.getVariance() >= 0);
+                    assertEquals(-0.1f, buffer.getMin(), 0);
+                    assertEquals(-0.1f, buffer.getMax(), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void statistics_ofCapacityOneFollowLatestValue() {
+        CircularFloatBuffer buffer = new CircularFloatBuffer(1);
+        float[] values = {3f, -2f, 5f, 5f, -7.5f};
+        for (float value : values) {
+            buffer.putNewest(value);
+
+            assertEquals(1, buffer.getWindowSize());
+            assertEquals(value, buffer.getMean(), TOLERANCE);
+            assertEquals(Math.abs(value), buffer.getAbsMean(), TOLERANCE);
+            assertEquals(0, buffer.getVariance(), TOLERANCE);
+            assertEquals(value, buffer.getMin(), 0);
+            assertEquals(value, buffer.getMax(), 0);
+        }
+    }
+
+    @Test
+    public void statistics_ofPartiallyFilledBuffer() {
+        CircularFloatBuffer buffer = new CircularFloatBuffer(10);
+        buffer.putNewest(1f);
+        buffer.putNewest(-3f);
+        buffer.putNewest(5f);
+
+        assertNull(buffer.getListCopy());
+        assertEquals(3, buffer.getWindowSize());
+        assertEquals(1, buffer.getMean(), TOLERANCE);
+        assertEquals(3, buffer.getAbsMean(), TOLERANCE);
+        assertEquals(32 / 3.0, buffer.getVariance(), TOLERANCE);
+        assertEquals(-3f, buffer.getMin(), 0);
+        assertEquals(5f, buffer.getMax(), 0);
+    }
+
+    @Test
+    public void statistics_ofEmptyBufferAreNaN() {
+        CircularFloatBuffer buffer = new CircularFloatBuffer(4);
+
+        assertEquals(0, buffer.getWindowSize());
+        assertTrue(Double.isNaN(buffer.getMean()));
+        assertTrue(Double.isNaN(buffer.getAbsMean()));
+        assertTrue(Double.isNaN(buffer.getVariance()));
+        assertTrue(Float.isNaN(buffer.getMin()));
+        assertTrue(Float.isNaN(buffer.getMax()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link ColumnarSampleStore}.
+ */
+public class ColumnarSampleStoreTest {
+
+    @Test
+    public void appendRow_growsBeyondInitialCapacity() {
+        ColumnarSampleStore store = new ColumnarSampleStore(3, 4);
+        for (int i = 0; i < 100; i++) {
+            int row = store.appendRow(i * 10L);
+            assertEquals(i, row);
+            for (int c = 0; c < 3; c++) {
+                store.set(row, c, i * 3 + c);
+            }
+        }
+
+        assertEquals(100, store.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * 10L, store.getTimestamp(i));
+            for (int c = 0; c < 3; c++) {
+                assertEquals(i * 3 + c, store.get(i, c), 0);
+            }
+        }
+    }
+
+    @Test
+    public void appendRow_startsWithZeroValues() {
+        ColumnarSampleStore store = new ColumnarSampleStore(2, 2);
+        store.set(store.appendRow(0), 1, 5f);
+        store.clear();
+
+        int row = store.appendRow(1);
+
+        assertEquals(0, row);
+        assertEquals(0, store.get(row, 0), 0);
+        assertEquals(0, store.get(row, 1), 0);
+    }
+
+    @Test
+    public void clear_removesAllRows() {
+        ColumnarSampleStore store = new ColumnarSampleStore(1, 0);
+        store.appendRow(1);
+        store.appendRow(2);
+
+        store.clear();
+
+        assertEquals(0, store.getSize());
+        assertEquals(0, store.appendRow(3));
+        assertEquals(3, store.getTimestamp(0));
+    }
+}
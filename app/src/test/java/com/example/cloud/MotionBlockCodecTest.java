@@ -0,0 +1,310 @@
+package com.example.cloud;
+
+import com.google.protobuf.CodedOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link MotionBlockCodec}, encoding columnar IMU samples into Motion_Blocks
+ * and decoding them back into Motion_Samples.
+ */
+public class MotionBlockCodecTest {
+
+    private static final int COLUMNS = 11;
+    private static final MotionBlockCodec.Resolutions RESOLUTIONS =
+            new MotionBlockCodec.Resolutions(0.0012f, 0.0011f, 1e-5f);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Fill a store with a noisy walking signal at roughly 100Hz with jittered timestamps.
+     *
+     * @param rows  number of samples.
+     * @param seed  seed of the noise.
+     * @return      store with the column layout of {@link TrajectoryWriter}.
+     */
+    private static ColumnarSampleStore walk(int rows, long seed) {
+        Random random = new Random(seed);
+        ColumnarSampleStore store = new ColumnarSampleStore(COLUMNS, rows);
+        long timestamp = 0;
+        for (int i = 0; i < rows; i++) {
+            timestamp += 8 + random.nextInt(5);
+            int row = store.appendRow(timestamp);
+            double phase = 2 * Math.PI * 1.8 * timestamp / 1000.0;
+            store.set(row, TrajectoryWriter.ACC_X, (float) (0.5 * Math.sin(phase) + 0.05 * random.nextGaussian()));
+            store.set(row, TrajectoryWriter.ACC_Y, (float) (0.3 * Math.cos(phase) + 0.05 * random.nextGaussian()));
+            store.set(row, TrajectoryWriter.ACC_Z, (float) (9.81 + 2 * Math.sin(2 * phase)));
+            store.set(row, TrajectoryWriter.GYR_X, (float) (0.2 * Math.sin(phase)));
+            store.set(row, TrajectoryWriter.GYR_Y, (float) (0.01 * random.nextGaussian()));
+            store.set(row, TrajectoryWriter.GYR_Z, (float) (-0.1 * Math.cos(phase)));
+            store.set(row, TrajectoryWriter.ROTATION_VECTOR_X, (float) (0.01 * Math.sin(phase)));
+            store.set(row, TrajectoryWriter.ROTATION_VECTOR_Y, (float) (0.02 * Math.cos(phase)));
+            store.set(row, TrajectoryWriter.ROTATION_VECTOR_Z, 0.7071f);
+            store.set(row, TrajectoryWriter.ROTATION_VECTOR_W, 0.7068f);
+            store.set(row, TrajectoryWriter.STEP_COUNT, i / 55);
+        }
+        return store;
+    }
+
+    /**
+     * Encode rows of a store as a trajectory holding a single imu_blocks field.
+     */
+    private static byte[] encode(ColumnarSampleStore store, int from, int to,
+                                 MotionBlockCodec.Resolutions resolutions) throws IOException {
+        byte[] data = new byte[MotionBlockCodec.computeFieldSize(store, from, to, resolutions)];
+        CodedOutputStream out = CodedOutputStream.newInstance(data);
+        MotionBlockCodec.writeField(out, store, from, to, resolutions);
+        out.checkNoSpaceLeft();
+        return data;
+    }
+
+    /**
+     * Get a channel of a decoded sample in the column order of the store.
+     */
+    static float channel(Traj.Motion_Sample sample, int column) {
+        switch (column) {
+            case TrajectoryWriter.ACC_X: return sample.getAccX();
+            case TrajectoryWriter.ACC_Y: return sample.getAccY();
+            case TrajectoryWriter.ACC_Z: return sample.getAccZ();
+            case TrajectoryWriter.GYR_X: return sample.getGyrX();
+            case TrajectoryWriter.GYR_Y: return sample.getGyrY();
+            case TrajectoryWriter.GYR_Z: return sample.getGyrZ();
+            case TrajectoryWriter.ROTATION_VECTOR_X: return sample.getRotationVectorX();
+            case TrajectoryWriter.ROTATION_VECTOR_Y: return sample.getRotationVectorY();
+            case TrajectoryWriter.ROTATION_VECTOR_Z: return sample.getRotationVectorZ();
+            case TrajectoryWriter.ROTATION_VECTOR_W: return sample.getRotationVectorW();
+            default: return sample.getStepCount();
+        }
+    }
+
+    /**
+     * Get the resolution of a column.
+     */
+    static float resolution(MotionBlockCodec.Resolutions resolutions, int column) {
+        if(column <= TrajectoryWriter.ACC_Z) return resolutions.acc;
+        if(column <= TrajectoryWriter.GYR_Z) return resolutions.gyr;
+        if(column <= TrajectoryWriter.ROTATION_VECTOR_W) return resolutions.rotationVector;
+        return 0;
+    }
+
+    /**
+     * Check that a decoded sample matches a row of the store to within half a resolution step,
+     * plus the rounding of the float multiplication.
+     */
+    static void assertDecoded(ColumnarSampleStore store, int row, Traj.Motion_Sample sample,
+                              MotionBlockCodec.Resolutions resolutions) {
+        assertEquals(store.getTimestamp(row), sample.getRelativeTimestamp());
+        for (int column = 0; column < COLUMNS; column++) {
+            float expected = store.get(row, column);
+            float bound = resolution(resolutions, column) / 2 + Math.ulp(expected) * 4;
+            assertEquals("column " + column + " of row " + row, expected,
+                    channel(sample, column), bound);
+        }
+    }
+
+    @Test
+    public void roundTrip_reproducesSamplesWithinResolution() throws IOException {
+        ColumnarSampleStore store = walk(1000, 1);
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(encode(store, 0, store.getSize(), RESOLUTIONS)));
+
+        assertEquals(1000, trajectory.getImuDataCount());
+        assertEquals(0, trajectory.getImuBlocksCount());
+        for (int row = 0; row < store.getSize(); row++) {
+            assertDecoded(store, row, trajectory.getImuData(row), RESOLUTIONS);
+        }
+    }
+
+    @Test
+    public void roundTrip_keepsIrregularTimestamps() throws IOException {
+        ColumnarSampleStore store = new ColumnarSampleStore(COLUMNS, 8);
+        long[] timestamps = {5000, 5000, 5003, 5100, 4990, 70000, 70001};
+        for (long timestamp : timestamps) {
+            store.appendRow(timestamp);
+        }
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(encode(store, 0, store.getSize(), RESOLUTIONS)));
+
+        assertEquals(timestamps.length, trajectory.getImuDataCount());
+        for (int i = 0; i < timestamps.length; i++) {
+            assertEquals(timestamps[i], trajectory.getImuData(i).getRelativeTimestamp());
+        }
+    }
+
+    @Test
+    public void roundTrip_encodesPartOfStore() throws IOException {
+        ColumnarSampleStore store = walk(300, 2);
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(encode(store, 100, 250, RESOLUTIONS)));
+
+        assertEquals(150, trajectory.getImuDataCount());
+        for (int i = 0; i < 150; i++) {
+            assertDecoded(store, 100 + i, trajectory.getImuData(i), RESOLUTIONS);
+        }
+    }
+
+    @Test
+    public void writeField_coarsensStepForLargeValues() throws IOException {
+        ColumnarSampleStore store = new ColumnarSampleStore(COLUMNS, 4);
+        float[] values = {1e6f, -1e6f, 3.5f, 0f};
+        for (int i = 0; i < values.length; i++) {
+            store.set(store.appendRow(i), TrajectoryWriter.ACC_X, values[i]);
+        }
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(encode(store, 0, store.getSize(), RESOLUTIONS)));
+
+        // Differences of up to 2e6 / 0.0012 steps would overflow an int, the step is coarsened
+        float step = 1e6f / (1 << 29);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], trajectory.getImuData(i).getAccX(), step / 2 + Math.ulp(values[i]) * 4);
+        }
+    }
+
+    @Test
+    public void writeField_storesNonFiniteValuesAsZero() throws IOException {
+        ColumnarSampleStore store = new ColumnarSampleStore(COLUMNS, 3);
+        store.set(store.appendRow(0), TrajectoryWriter.GYR_Y, Float.NaN);
+        store.set(store.appendRow(1), TrajectoryWriter.GYR_Y, Float.POSITIVE_INFINITY);
+        int row = store.appendRow(2);
+        store.set(row, TrajectoryWriter.GYR_X, 0.5f);
+        store.set(row, TrajectoryWriter.GYR_Y, 0.25f);
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(encode(store, 0, 3, RESOLUTIONS)));
+
+        assertEquals(0, trajectory.getImuData(0).getGyrY(), 0);
+        assertEquals(0, trajectory.getImuData(1).getGyrY(), 0);
+        // The other values of the group keep the sensor resolution
+        assertDecoded(store, 2, trajectory.getImuData(2), RESOLUTIONS);
+    }
+
+    @Test
+    public void resolutions_replaceInvalidValues() {
+        MotionBlockCodec.Resolutions resolutions = new MotionBlockCodec.Resolutions(
+                Traj.Trajectory.newBuilder()
+                        .setAccelerometerInfo(Traj.Sensor_Info.newBuilder().setResolution(0.01f))
+                        .setGyroscopeInfo(Traj.Sensor_Info.newBuilder().setResolution(-1f))
+                        .setRotationVectorInfo(Traj.Sensor_Info.newBuilder()
+                                .setResolution(Float.POSITIVE_INFINITY))
+                        .build());
+
+        assertEquals(0.01f, resolutions.acc, 0);
+        assertEquals(1e-6f, resolutions.gyr, 0);
+        assertEquals(1e-6f, resolutions.rotationVector, 0);
+    }
+
+    @Test
+    public void writeField_isSmallerThanMotionSamples() throws IOException {
+        ColumnarSampleStore store = walk(1000, 3);
+        Traj.Trajectory.Builder samples = Traj.Trajectory.newBuilder();
+        samples.addAllImuData(MotionBlockCodec.parseTrajectory(new ByteArrayInputStream(
+                encode(store, 0, store.getSize(), RESOLUTIONS))).getImuDataList());
+
+        int compact = MotionBlockCodec.computeFieldSize(store, 0, store.getSize(), RESOLUTIONS);
+
+        assertTrue("compact " + compact + " of " + samples.build().getSerializedSize(),
+                compact * 3 < samples.build().getSerializedSize());
+    }
+
+    @Test
+    public void parseTrajectory_keepsOtherFieldsAndOrder() throws IOException {
+        ColumnarSampleStore store = walk(10, 4);
+        Traj.Trajectory plain = Traj.Trajectory.newBuilder()
+                .setStartTimestamp(1234)
+                .addImuData(Traj.Motion_Sample.newBuilder().setRelativeTimestamp(1).setAccX(7))
+                .addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(2).setX(1))
+                .build();
+        byte[] block = encode(store, 0, store.getSize(), RESOLUTIONS);
+        byte[] data = new byte[plain.getSerializedSize() + block.length];
+        System.arraycopy(block, 0, data, 0, block.length);
+        System.arraycopy(plain.toByteArray(), 0, data, block.length, plain.getSerializedSize());
+
+        Traj.Trajectory trajectory = MotionBlockCodec.parseTrajectory(new ByteArrayInputStream(data));
+
+        assertEquals(1234, trajectory.getStartTimestamp());
+        assertEquals(1, trajectory.getPdrDataCount());
+        // Samples of the blocks follow the imu_data samples
+        assertEquals(11, trajectory.getImuDataCount());
+        assertEquals(7, trajectory.getImuData(0).getAccX(), 0);
+        assertDecoded(store, 0, trajectory.getImuData(1), RESOLUTIONS);
+    }
+
+    @Test
+    public void parseTrajectory_withoutBlocksMatchesGeneratedParser() throws IOException {
+        Traj.Trajectory trajectory = Traj.Trajectory.newBuilder()
+                .setAndroidVersion("13")
+                .setStartTimestamp(99)
+                .addImuData(Traj.Motion_Sample.newBuilder().setRelativeTimestamp(1).setGyrZ(3))
+                .addPositionData(Traj.Position_Sample.newBuilder().setRelativeTimestamp(2))
+                .addWifiData(Traj.WiFi_Sample.newBuilder().addMacScans(
+                        Traj.Mac_Scan.newBuilder().setMac(207394925843984L).setRssi(-60)))
+                .build();
+
+        assertEquals(trajectory, MotionBlockCodec.parseTrajectory(
+                new ByteArrayInputStream(trajectory.toByteArray())));
+    }
+
+    @Test
+    public void trajectoryWriter_writesImuSamplesAsBlocks() throws IOException {
+        Traj.Trajectory header = TrajectoryWriterTest.header(1674819807315L);
+        MotionBlockCodec.Resolutions resolutions = new MotionBlockCodec.Resolutions(header);
+        TrajectoryWriter writer = new TrajectoryWriter(folder.getRoot(), header, true);
+        writer.setSyncInterval(3600 * 1000L);
+        ColumnarSampleStore store = walk(1600, 5);
+        float[] acceleration = new float[3];
+        float[] angularVelocity = new float[3];
+        float[] rotationVector = new float[4];
+        for (int row = 0; row < store.getSize(); row++) {
+            for (int i = 0; i < 3; i++) {
+                acceleration[i] = store.get(row, TrajectoryWriter.ACC_X + i);
+                angularVelocity[i] = store.get(row, TrajectoryWriter.GYR_X + i);
+            }
+            // The writer stores the first sensor component as w, followed by x, y and z
+            rotationVector[0] = store.get(row, TrajectoryWriter.ROTATION_VECTOR_W);
+            for (int i = 0; i < 3; i++) {
+                rotationVector[i + 1] = store.get(row, TrajectoryWriter.ROTATION_VECTOR_X + i);
+            }
+            writer.addImuSample(store.getTimestamp(row), acceleration, angularVelocity,
+                    rotationVector, (int) store.get(row, TrajectoryWriter.STEP_COUNT));
+            writer.addMagnetometerSample(store.getTimestamp(row), new float[]{row, 0, 0});
+        }
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(1));
+
+        File file = writer.finish();
+
+        // One block per chunk, every other sample type stays as it was
+        Traj.Trajectory raw = TrajectoryWriterTest.parse(file);
+        assertEquals(0, raw.getImuDataCount());
+        assertEquals(4, raw.getImuBlocksCount());
+        assertEquals(1600, raw.getPositionDataCount());
+        assertEquals(1, raw.getPdrDataCount());
+        Traj.Trajectory trajectory;
+        try (InputStream in = new FileInputStream(file)) {
+            trajectory = MotionBlockCodec.parseTrajectory(in);
+        }
+        assertEquals(header.getStartTimestamp(), trajectory.getStartTimestamp());
+        assertEquals(1600, trajectory.getImuDataCount());
+        for (int row = 0; row < store.getSize(); row++) {
+            assertDecoded(store, row, trajectory.getImuData(row), resolutions);
+            assertEquals(row, trajectory.getPositionData(row).getMagX(), 0);
+        }
+        assertEquals(1600, writer.getSummary().getSampleCount(TrajectorySummary.IMU));
+        assertEquals(1600, TrajectorySummary.scan(file).getSampleCount(TrajectorySummary.IMU));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link OrientationFilter}, fed with synthetic gravity, magnetic field and
+ * gyroscope values sampled at 100Hz.
+ */
+public class OrientationFilterTest {
+
+    private static final float GRAVITY = 9.81f;
+    private static final long PERIOD_NS = 10000000L;
+    private static final float TOLERANCE = 1e-3f;
+
+    /**
+     * Get the magnetic field measured by a device lying flat with the given heading, with a
+     * horizontal component of 20uT and pointing downwards as in the northern hemisphere.
+     *
+     * @param azimuth   heading relative to magnetic north in radians.
+     * @return          magnetic field along the x-y-z axis in uT.
+     */
+    private static float[] magneticField(double azimuth) {
+        return new float[]{(float) (-20 * Math.sin(azimuth)), (float) (20 * Math.cos(azimuth)),
+                -40};
+    }
+
+    /**
+     * Run the filter for some time with the same sensor values, fusing after every gyroscope
+     * sample as {@link com.example.cloud.sensors.SensorFusion} does.
+     *
+     * @param filter    filter receiving the values.
+     * @param start     index of the first sample.
+     * @param samples   number of samples.
+     * @param gyro      angular velocity around the x-y-z axis in rad/s.
+     * @return          index of the next sample.
+     */
+    private static int run(OrientationFilter filter, int start, int samples, float[] gyro) {
+        for (int i = start; i < start + samples; i++) {
+            filter.updateGyroscope(i * PERIOD_NS, gyro);
+            filter.fuse();
+        }
+        return start + samples;
+    }
+
+    @Test
+    public void fuse_followsMagneticHeading() {
+        for (double azimuth : new double[]{0, 1.0, -2.5}) {
+            OrientationFilter filter = new OrientationFilter(0.96f);
+            filter.updateGravity(new float[]{0, 0, GRAVITY});
+            filter.updateMagneticField(magneticField(azimuth));
+
+            run(filter, 1, 500, new float[3]);
+
+            assertEquals(azimuth, filter.getAzimuth(), TOLERANCE);
+        }
+    }
+
+    @Test
+    public void getOrientation_ofTiltedDevice() {
+        OrientationFilter filter = new OrientationFilter(0.96f);
+        // Top of the device raised by 0.3 radians
+        filter.updateGravity(new float[]{0, (float) (GRAVITY * Math.sin(0.3)),
+                (float) (GRAVITY * Math.cos(0.3))});
+        filter.updateMagneticField(magneticField(0));
+
+        run(filter, 1, 500, new float[3]);
+
+        float[] orientation = new float[3];
+        filter.getOrientation(orientation);
+        assertEquals(0, orientation[0], TOLERANCE);
+        assertEquals(-0.3, orientation[1], TOLERANCE);
+        assertEquals(0, orientation[2], TOLERANCE);
+    }
+
+    @Test
+    public void updateGyroscope_integratesRotation() {
+        // Gyroscope only, the magnetic heading is ignored after initialisation
+        OrientationFilter filter = new OrientationFilter(1);
+        filter.updateGravity(new float[]{0, 0, GRAVITY});
+        filter.updateMagneticField(magneticField(0));
+
+        // Counterclockwise around z at 0.5 rad/s for 100 intervals of 10 ms
+        run(filter, 1, 101, new float[]{0, 0, 0.5f});
+
+        // Turning left decreases the heading
+        assertEquals(-0.5, filter.getAzimuth(), TOLERANCE);
+    }
+
+    @Test
+    public void setFilterCoefficient_changesWeightOfGyroscope() {
+        OrientationFilter filter = new OrientationFilter(1);
+        filter.updateGravity(new float[]{0, 0, GRAVITY});
+        filter.updateMagneticField(magneticField(0));
+        int next = run(filter, 1, 101, new float[]{0, 0, 0.5f});
+        assertEquals(-0.5, filter.getAzimuth(), TOLERANCE);
+
+        filter.setFilterCoefficient(0);
+        run(filter, next, 1, new float[3]);
+
+        // Only the magnetic heading is left
+        assertEquals(0, filter.getAzimuth(), TOLERANCE);
+    }
+
+    @Test
+    public void updateGravity_keepsOrientationInFreeFall() {
+        OrientationFilter filter = new OrientationFilter(0.96f);
+        filter.updateGravity(new float[]{0, 0, GRAVITY});
+        filter.updateMagneticField(magneticField(1.0));
+        int next = run(filter, 1, 500, new float[3]);
+
+        // Gravity vanishes in free fall, and the field parallel to gravity gives no heading
+        filter.updateGravity(new float[]{0, 0, 0.05f});
+        run(filter, next, 10, new float[3]);
+        assertEquals(1.0, filter.getAzimuth(), TOLERANCE);
+        filter.updateGravity(new float[]{0, 0, GRAVITY});
+        filter.updateMagneticField(new float[]{0, 0, -40});
+        run(filter, next + 10, 10, new float[3]);
+
+        assertEquals(1.0, filter.getAzimuth(), TOLERANCE);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the validation of {@link PdrParameters} entered in the settings.
+ */
+public class PdrParametersTest {
+
+    @Test
+    public void parse_acceptsValuesInRange() {
+        assertEquals(0.364, PdrParameters.parse("weiberg_k", "0.364"), 1e-9);
+        assertEquals(1.5, PdrParameters.parse("step_threshold", " 1.5 "), 1e-9);
+        assertEquals(0, PdrParameters.parse("epsilon", "0"), 0);
+        assertEquals(0, PdrParameters.parse("accel_filter", "0"), 0);
+        assertEquals(1, PdrParameters.parse("accel_filter", "1"), 0);
+        assertEquals(1, PdrParameters.parse("elevation_seconds", "1"), 0);
+        assertEquals(10000, PdrParameters.parse("accel_samples", "10000"), 0);
+        assertEquals(0, PdrParameters.parse("step_lookahead", "0"), 0);
+    }
+
+    @Test
+    public void parse_rejectsValuesOutOfRange() {
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", "0")));
+        assertTrue(Double.isNaN(PdrParameters.parse("step_threshold", "-1")));
+        assertTrue(Double.isNaN(PdrParameters.parse("epsilon", "-0.1")));
+        assertTrue(Double.isNaN(PdrParameters.parse("accel_filter", "1.01")));
+        assertTrue(Double.isNaN(PdrParameters.parse("accel_filter", "-0.5")));
+        assertTrue(Double.isNaN(PdrParameters.parse("elevation_seconds", "0")));
+        assertTrue(Double.isNaN(PdrParameters.parse("accel_samples", "10001")));
+        assertTrue(Double.isNaN(PdrParameters.parse("step_lookahead", "-1")));
+    }
+
+    @Test
+    public void parse_rejectsFractionalCounts() {
+        assertTrue(Double.isNaN(PdrParameters.parse("elevation_seconds", "2.5")));
+        assertTrue(Double.isNaN(PdrParameters.parse("accel_samples", "4.1")));
+        assertTrue(Double.isNaN(PdrParameters.parse("step_lookahead", "100.5")));
+        assertEquals(4, PdrParameters.parse("accel_samples", "4.0"), 0);
+    }
+
+    @Test
+    public void parse_rejectsText() {
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", "")));
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", "abc")));
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", null)));
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", "NaN")));
+        assertTrue(Double.isNaN(PdrParameters.parse("weiberg_k", "Infinity")));
+        assertTrue(Double.isNaN(PdrParameters.parse("epsilon", "-Infinity")));
+    }
+
+    @Test
+    public void isValid_matchesParse() {
+        assertTrue(PdrParameters.isValid("weiberg_k", "0.3"));
+        assertFalse(PdrParameters.isValid("weiberg_k", "-0.3"));
+        assertFalse(PdrParameters.isValid("accel_filter", "2"));
+        assertFalse(PdrParameters.isValid("elevation_seconds", "x"));
+    }
+
+    @Test
+    public void isValid_acceptsAnyNumberForOtherKeys() {
+        assertTrue(PdrParameters.isValid("unrelated", "-12.5"));
+    }
+
+    @Test
+    public void isParameterKey_onlyMatchesPdrPreferences() {
+        assertTrue(PdrParameters.isParameterKey("weiberg_k"));
+        assertTrue(PdrParameters.isParameterKey("manual_step_values"));
+        assertTrue(PdrParameters.isParameterKey("user_step_length"));
+        assertTrue(PdrParameters.isParameterKey("floor_height"));
+        assertFalse(PdrParameters.isParameterKey("batch_latency"));
+        assertFalse(PdrParameters.isParameterKey("compress_uploads"));
+    }
+
+    @Test
+    public void with_returnsModifiedCopy() {
+        PdrParameters parameters = PdrParameters.DEFAULT.withWeibergK(0.5f);
+
+        assertEquals(0.5f, parameters.getWeibergK(), 0);
+        assertEquals(0.364f, PdrParameters.DEFAULT.getWeibergK(), 0);
+        assertEquals(PdrParameters.DEFAULT.getEpsilon(), parameters.getEpsilon(), 0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the elevator and floor estimates of {@link PdrProcessing}, which read the
+ * window statistics of {@link CircularFloatBuffer}.
+ */
+public class PdrProcessingTest {
+
+    private static final float G = 9.81f;
+
+    /**
+     * Average of the absolute values in a window, as computed from the list copy before.
+     */
+    private static double absAverage(Deque<Float> window) {
+        return window.stream().mapToDouble(Math::abs).average().orElse(Double.NaN);
+    }
+
+    @Test
+    public void estimateElevator_detectsVerticalMovementOnly() {
+        PdrProcessing pdr = new PdrProcessing(PdrParameters.DEFAULT);
+        float[] gravity = {0, 0, G};
+        int samples = PdrParameters.DEFAULT.getAccelSamples();
+
+        // Evaluated once the window is full
+        for (int i = 0; i < samples - 1; i++) {
+            assertFalse(pdr.estimateElevator(gravity, new float[]{0, 0, 0.5f}));
+        }
+        assertTrue(pdr.estimateElevator(gravity, new float[]{0, 0, 0.5f}));
+
+        // Walking adds horizontal movement
+        for (int i = 0; i < samples; i++) {
+            pdr.estimateElevator(gravity, new float[]{1, 0, 0.5f});
+        }
+        assertFalse(pdr.estimateElevator(gravity, new float[]{1, 0, 0.5f}));
+    }
+
+    @Test
+    public void estimateElevator_matchesAverageOfWindow() {
+        PdrParameters parameters = PdrParameters.DEFAULT;
+        PdrProcessing pdr = new PdrProcessing(parameters);
+        Deque<Float> vertical = new ArrayDeque<>();
+        Deque<Float> horizontal = new ArrayDeque<>();
+        Random random = new Random(13);
+        int detected = 0;
+
+        for (int i = 0; i < 2000; i++) {
+            float[] gravity = {0, 0, G};
+            // Alternate between elevator-like and walking periods
+            float horizontalScale = (i / 250) % 2 == 0 ? 0.05f : 1f;
+            float[] acc = {horizontalScale * (float) random.nextGaussian(),
+                    horizontalScale * (float) random.nextGaussian(),
+                    0.4f + 0.2f * (float) random.nextGaussian()};
+            // Device lying flat, z is vertical
+            vertical.addLast(Math.abs(acc[2]));
+            horizontal.addLast((float) Math.sqrt(acc[0] * acc[0] + acc[1] * acc[1]));
+            if(vertical.size() > parameters.getAccelSamples()) {
+                vertical.removeFirst();
+                horizontal.removeFirst();
+            }
+
+            boolean expected = vertical.size() == parameters.getAccelSamples()
+                    && absAverage(horizontal) < parameters.getEpsilon()
+                    && absAverage(vertical) > parameters.getMovementThreshold();
+            boolean inElevator = pdr.estimateElevator(gravity, acc);
+            assertEquals("sample " + i, expected, inElevator);
+            if(inElevator) detected++;
+        }
+        assertTrue(detected > 0);
+    }
+
+    @Test
+    public void updateElevation_countsFloorChange() {
+        PdrProcessing pdr = new PdrProcessing(PdrParameters.DEFAULT);
+        int floorHeight = PdrParameters.DEFAULT.getFloorHeight();
+
+        // Median of the first three values is the start elevation
+        assertEquals(0, pdr.updateElevation(101), 0);
+        assertEquals(0, pdr.updateElevation(99), 0);
+        assertEquals(0, pdr.updateElevation(100), 0);
+        for (int i = 0; i < PdrParameters.DEFAULT.getElevationSeconds() - 1; i++) {
+            assertEquals(floorHeight + 0.5f, pdr.updateElevation(100 + floorHeight + 0.5f),
+                    1e-4f);
+            assertEquals(0, pdr.getCurrentFloor());
+        }
+
+        // Average of the full window one floor up
+        pdr.updateElevation(100 + floorHeight + 0.5f);
+
+        assertEquals(1, pdr.getCurrentFloor());
+        assertEquals(floorHeight + 0.5f, pdr.getCurrentElevation(), 1e-4f);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link PdrReplay}, replaying synthetic trajectories.
+ */
+public class PdrReplayTest {
+
+    private static final float GRAVITY = 9.81f;
+
+    /**
+     * Build a trajectory of a device lying flat and walking north at two steps per second, with
+     * IMU and magnetometer samples at 100Hz and a recorded step every 500 ms after the first
+     * second.
+     *
+     * @param steps number of recorded steps.
+     * @return      the trajectory.
+     */
+    static Traj.Trajectory walkNorth(int steps) {
+        Traj.Trajectory.Builder trajectory = Traj.Trajectory.newBuilder();
+        long end = 1000 + steps * 500L;
+        for (long time = 0; time <= end; time += 10) {
+            trajectory.addImuData(Traj.Motion_Sample.newBuilder()
+                    .setRelativeTimestamp(time)
+                    .setAccZ(GRAVITY + 2 * (float) Math.sin(2 * Math.PI * 2 * time / 1000.0)));
+            // Horizontal component along the y axis of the device, which points north
+            trajectory.addPositionData(Traj.Position_Sample.newBuilder()
+                    .setRelativeTimestamp(time)
+                    .setMagY(20)
+                    .setMagZ(-40));
+        }
+        for (int step = 1; step <= steps; step++) {
+            trajectory.addPdrData(Traj.Pdr_Sample.newBuilder()
+                    .setRelativeTimestamp(500 + step * 500L));
+        }
+        return trajectory.build();
+    }
+
+    /**
+     * Convert a pressure to an altitude as the app does.
+     */
+    private static float altitude(float pressure) {
+        return 44330.0f * (1.0f - (float) Math.pow(pressure / 1013.25f, 1.0f / 5.255f));
+    }
+
+    @Test
+    public void run_followsRecordedSteps() {
+        PdrReplay replay = new PdrReplay("walk", walkNorth(10), false);
+
+        PdrReplay.Result result = replay.run(PdrParameters.DEFAULT);
+
+        assertFalse(result.usesDetectedSteps());
+        assertEquals(10, result.getSteps());
+        assertEquals(1000, result.getStepTime(0));
+        assertTrue(result.getDistance() > 0);
+        // A straight walk north ends as far from the start as it walked
+        assertEquals(0, result.getX(9), 0.01f * result.getDistance());
+        assertEquals(result.getDistance(), result.getY(9), 0.01f * result.getDistance());
+        assertEquals(result.getDistance(), result.getClosureError(), 0.01f * result.getDistance());
+    }
+
+    @Test
+    public void run_usesManualStepLength() {
+        PdrReplay replay = new PdrReplay("walk", walkNorth(8), false);
+
+        PdrReplay.Result result = replay.run(PdrParameters.DEFAULT.withManualStepLength(0.7f));
+
+        assertEquals(8 * 0.7f, result.getDistance(), 1e-4f);
+    }
+
+    @Test
+    public void run_detectsStepsWithoutRecordedSteps() {
+        Traj.Trajectory walk = walkNorth(10).toBuilder().clearPdrData().build();
+
+        PdrReplay.Result result = new PdrReplay("walk", walk, false).run(PdrParameters.DEFAULT);
+
+        assertTrue(result.usesDetectedSteps());
+        assertTrue("steps: " + result.getSteps(), result.getSteps() >= 10);
+    }
+
+    @Test
+    public void run_usesRecordedPressureWithoutFilteringAgain() {
+        Traj.Trajectory.Builder trajectory = Traj.Trajectory.newBuilder();
+        for (int second = 0; second < 6; second++) {
+            trajectory.addPressureData(Traj.Pressure_Sample.newBuilder()
+                    .setRelativeTimestamp(second * 1000L)
+                    .setPressure(second < 5 ? 1000f : 999.5f));
+        }
+
+        PdrReplay.Result result = new PdrReplay("stairs", trajectory.build(), false)
+                .run(PdrParameters.DEFAULT);
+
+        // The recorded values are already low-pass filtered, so a change applies at once
+        assertEquals(altitude(999.5f) - altitude(1000f), result.getElevation(), 0.01f);
+    }
+
+    @Test
+    public void run_isRepeatable() {
+        PdrReplay replay = new PdrReplay("walk", walkNorth(10), false);
+        PdrParameters parameters = PdrParameters.DEFAULT.withWeibergK(0.3f);
+
+        PdrReplay.Result first = replay.run(parameters);
+        PdrReplay.Result second = replay.run(parameters);
+
+        assertEquals(first.getSteps(), second.getSteps());
+        for (int i = 0; i < first.getSteps(); i++) {
+            assertEquals(first.getX(i), second.getX(i), 0);
+            assertEquals(first.getY(i), second.getY(i), 0);
+        }
+    }
+}
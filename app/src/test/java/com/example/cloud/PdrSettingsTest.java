@@ -0,0 +1,109 @@
+package com.example.cloud;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link PdrSettings} and the parameters {@link PdrProcessing} takes from it,
+ * run by Robolectric with preferences private to each test.
+ */
+@RunWith(RobolectricTestRunner.class)
+// Minimum SDK of the application, the settings do not use any resources
+@Config(sdk = 28, manifest = Config.NONE)
+public class PdrSettingsTest {
+
+    private SharedPreferences preferences;
+
+    @Before
+    public void setUp() {
+        preferences = RuntimeEnvironment.getApplication()
+                .getSharedPreferences("pdr_settings_test", Context.MODE_PRIVATE);
+    }
+
+    @Test
+    public void get_readsDefaultsWithoutPreferences() {
+        PdrSettings settings = new PdrSettings(preferences);
+
+        PdrParameters parameters = settings.get();
+
+        assertEquals(PdrParameters.DEFAULT.getWeibergK(), parameters.getWeibergK(), 0);
+        assertEquals(PdrParameters.DEFAULT.getEpsilon(), parameters.getEpsilon(), 0);
+        assertFalse(parameters.usesManualStep());
+    }
+
+    @Test
+    public void get_ignoresConstantsUnlessOverwritten() {
+        preferences.edit().putString("weiberg_k", "0.5").commit();
+
+        PdrSettings settings = new PdrSettings(preferences);
+
+        assertEquals(PdrParameters.DEFAULT.getWeibergK(), settings.get().getWeibergK(), 0);
+    }
+
+    @Test
+    public void onSharedPreferenceChanged_replacesParameters() {
+        PdrSettings settings = new PdrSettings(preferences);
+        PdrParameters before = settings.get();
+
+        preferences.edit().putBoolean("overwrite_constants", true)
+                .putString("weiberg_k", "0.5").putString("epsilon", "0.2").commit();
+
+        PdrParameters after = settings.get();
+        assertNotSame(before, after);
+        assertEquals(0.5f, after.getWeibergK(), 0);
+        assertEquals(0.2f, after.getEpsilon(), 0);
+        // The previous snapshot is not modified
+        assertEquals(PdrParameters.DEFAULT.getWeibergK(), before.getWeibergK(), 0);
+    }
+
+    @Test
+    public void onSharedPreferenceChanged_keepsParametersForOtherKeys() {
+        PdrSettings settings = new PdrSettings(preferences);
+        PdrParameters before = settings.get();
+
+        preferences.edit().putString("user_id", "someone").commit();
+
+        assertSame(before, settings.get());
+    }
+
+    @Test
+    public void onSharedPreferenceChanged_replacesMalformedValuesByDefaults() {
+        PdrSettings settings = new PdrSettings(preferences);
+
+        preferences.edit().putBoolean("overwrite_constants", true)
+                .putString("weiberg_k", "not a number").putString("epsilon", "0.2").commit();
+
+        assertEquals(PdrParameters.DEFAULT.getWeibergK(), settings.get().getWeibergK(), 0);
+        assertEquals(0.2f, settings.get().getEpsilon(), 0);
+    }
+
+    @Test
+    public void updatePdr_followsSwitchBetweenManualAndEstimatedStepLength() {
+        PdrProcessing pdr = new PdrProcessing(new PdrSettings(preferences));
+        StepFeatureAccumulator step = new StepFeatureAccumulator();
+        step.add(8.81);
+        step.add(10.81);
+        // Weiberg estimate of a range of 2 m/s^2, heading north
+        float estimate = (float) Math.pow(2, 0.25) * PdrParameters.DEFAULT.getWeibergK() * 2;
+        assertEquals(estimate, pdr.updatePdr(500, step, 0)[1], 1e-6f);
+
+        preferences.edit().putBoolean("manual_step_values", true)
+                .putInt("user_step_length", 60).commit();
+        assertEquals(estimate + 0.6f, pdr.updatePdr(1000, step, 0)[1], 1e-6f);
+
+        // Back to estimates, the manual length is kept for a step without samples
+        preferences.edit().putBoolean("manual_step_values", false).commit();
+        assertEquals(estimate + 1.2f, pdr.updatePdr(1500, new StepFeatureAccumulator(), 0)[1],
+                1e-6f);
+        assertEquals(2 * estimate + 1.2f, pdr.updatePdr(2000, step, 0)[1], 1e-6f);
+    }
+}
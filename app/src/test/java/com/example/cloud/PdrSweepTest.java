@@ -0,0 +1,97 @@
+package com.example.cloud;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link PdrSweep}, sweeping synthetic trajectories stored in temporary files.
+ */
+public class PdrSweepTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Store a trajectory in a new file.
+     */
+    private File store(String name, Traj.Trajectory trajectory) throws IOException {
+        File file = folder.newFile(name);
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            trajectory.writeTo(stream);
+        }
+        return file;
+    }
+
+    @Test
+    public void grid_buildsCartesianProduct() {
+        List<PdrParameters> grid = PdrSweep.grid(new float[]{0.3f, 0.364f}, new float[0],
+                new float[]{0.9f, 0.96f, 0.98f}, new int[0], new int[]{8});
+
+        assertEquals(6, grid.size());
+        for (PdrParameters parameters : grid) {
+            assertEquals(PdrParameters.DEFAULT.getEpsilon(), parameters.getEpsilon(), 0);
+            assertEquals(8, parameters.getAccelSamples());
+        }
+        assertEquals(0.3f, grid.get(0).getWeibergK(), 0);
+        assertEquals(0.9f, grid.get(0).getFilterCoefficient(), 0);
+        assertEquals(0.364f, grid.get(5).getWeibergK(), 0);
+        assertEquals(0.98f, grid.get(5).getFilterCoefficient(), 0);
+    }
+
+    @Test
+    public void grid_withoutValuesKeepsDefaults() {
+        List<PdrParameters> grid = PdrSweep.grid(new float[0], new float[0], new float[0],
+                new int[0], new int[0]);
+
+        assertEquals(1, grid.size());
+        assertSame(PdrParameters.DEFAULT, grid.get(0));
+    }
+
+    @Test
+    public void run_matchesSequentialReplays() throws Exception {
+        List<File> files = Arrays.asList(store("short.txt", PdrReplayTest.walkNorth(6)),
+                store("long.txt", PdrReplayTest.walkNorth(12)));
+        List<PdrParameters> grid = PdrSweep.grid(new float[]{0.3f, 0.364f, 0.4f}, new float[0],
+                new float[0], new int[0], new int[0]);
+
+        List<PdrReplay.Result> results = PdrSweep.run(files, grid, false, 4);
+
+        // Ordered by trajectory, then by parameter set, as a sequential sweep would be
+        assertEquals(6, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            PdrReplay.Result result = results.get(i);
+            PdrReplay.Result expected = PdrReplay.load(files.get(i / 3), false)
+                    .run(grid.get(i % 3));
+            assertEquals(files.get(i / 3).getName(), result.getName());
+            assertSame(grid.get(i % 3), result.getParameters());
+            assertEquals(expected.getSteps(), result.getSteps());
+            assertEquals(expected.getDistance(), result.getDistance(), 0);
+        }
+    }
+
+    @Test
+    public void run_skipsUnreadableTrajectories() throws Exception {
+        File broken = folder.newFile("broken.txt");
+        try (FileOutputStream stream = new FileOutputStream(broken)) {
+            // imu_data field announcing more bytes than the file holds
+            stream.write(new byte[]{0x12, 0x05, 0x01});
+        }
+        List<File> files = Arrays.asList(broken, store("walk.txt", PdrReplayTest.walkNorth(6)));
+
+        List<PdrReplay.Result> results = PdrSweep.run(files,
+                PdrSweep.grid(new float[0], new float[0], new float[0], new int[0], new int[0]),
+                false, 2);
+
+        assertEquals(1, results.size());
+        assertEquals("walk.txt", results.get(0).getName());
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.cloud;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link ResumableUploader}, using a {@link MockWebServer} running a minimal
+ * in-process implementation of the resumable upload protocol as a stand-in for the API server.
+ */
+public class ResumableUploaderTest {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int FILE_SIZE = 5 * CHUNK_SIZE + 1234;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private StandInServer standIn;
+    private OkHttpClient client;
+    private File journals;
+    private File trajectory;
+    private byte[] contents;
+
+    @Before
+    public void setUp() throws IOException {
+        standIn = new StandInServer();
+        server = new MockWebServer();
+        server.setDispatcher(standIn);
+        server.start();
+        // Disable transparent retries so that injected failures reach the uploader
+        client = new OkHttpClient.Builder().retryOnConnectionFailure(false).build();
+        journals = folder.newFolder("uploads");
+
+        contents = new byte[FILE_SIZE];
+        new Random(7).nextBytes(contents);
+        trajectory = folder.newFile("trajectory_test.txt");
+        try (FileOutputStream stream = new FileOutputStream(trajectory)) {
+            stream.write(contents);
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private ResumableUploader newUploader() {
+        return new ResumableUploader(client, server.url("/files/"), journals, CHUNK_SIZE);
+    }
+
+    @Test
+    public void upload_sendsAllChunks() throws IOException {
+        assertEquals(200, newUploader().upload(trajectory));
+
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(1, standIn.sessionsCreated);
+        assertEquals(6, standIn.chunksReceived);
+        assertEquals(0, journals.listFiles().length);
+    }
+
+    @Test
+    public void upload_resumesAfterConnectionLossAndRestart() throws IOException {
+        standIn.disconnectAtChunk = 3;
+        ResumableUploader first = newUploader();
+        try {
+            first.upload(trajectory);
+            fail("connection loss not reported");
+        } catch (IOException expected) {
+            // The interrupted chunk was not acknowledged
+        }
+        assertEquals(2L * CHUNK_SIZE, first.getAcknowledgedOffset(trajectory));
+
+        // A new uploader only has the journal, as after a restart of the application
+        ResumableUploader second = newUploader();
+        int bytesBefore = standIn.bytesReceived;
+        assertEquals(200, second.upload(trajectory));
+
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(1, standIn.sessionsCreated);
+        // Only the remaining part of the file was sent again
+        assertEquals(FILE_SIZE - 2 * CHUNK_SIZE, standIn.bytesReceived - bytesBefore);
+        assertEquals(0, second.getAcknowledgedOffset(trajectory));
+    }
+
+    @Test
+    public void upload_resendsCorruptedChunk() throws IOException {
+        standIn.corruptChunk = 2;
+
+        assertEquals(200, newUploader().upload(trajectory));
+
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(7, standIn.chunksReceived);
+    }
+
+    @Test
+    public void upload_startsNewSessionWhenSessionExpired() throws IOException {
+        standIn.disconnectAtChunk = 2;
+        try {
+            newUploader().upload(trajectory);
+            fail("connection loss not reported");
+        } catch (IOException expected) {
+            // Progress kept in the journal
+        }
+        standIn.expireSessions();
+
+        assertEquals(200, newUploader().upload(trajectory));
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(2, standIn.sessionsCreated);
+    }
+
+    @Test
+    public void upload_startsNewSessionWhenSessionDroppedDuringUpload() throws IOException {
+        standIn.expireAtChunk = 3;
+
+        assertEquals(200, newUploader().upload(trajectory));
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(2, standIn.sessionsCreated);
+        assertEquals(0, journals.listFiles().length);
+    }
+
+    @Test
+    public void upload_keepsSessionWhenOffsetQueryFails() throws IOException {
+        standIn.disconnectAtChunk = 2;
+        try {
+            newUploader().upload(trajectory);
+            fail("connection loss not reported");
+        } catch (IOException expected) {
+            // Progress kept in the journal
+        }
+        standIn.headStatus = 503;
+        try {
+            newUploader().upload(trajectory);
+            fail("server error not reported");
+        } catch (IOException expected) {
+            // Session may still be valid, the journal is kept
+        }
+        assertEquals(CHUNK_SIZE, newUploader().getAcknowledgedOffset(trajectory));
+
+        standIn.headStatus = 0;
+        assertEquals(200, newUploader().upload(trajectory));
+        assertArrayEquals(contents, standIn.stored.toByteArray());
+        assertEquals(1, standIn.sessionsCreated);
+    }
+
+    @Test
+    public void upload_reportsUnsupportedServer() throws IOException {
+        standIn.supported = false;
+
+        try {
+            newUploader().upload(trajectory);
+            fail("unsupported server not reported");
+        } catch (ResumableUploader.UnsupportedServerException expected) {
+            assertEquals(404, expected.getCode());
+        }
+        assertEquals(0, standIn.chunksReceived);
+    }
+
+    /**
+     * Minimal server side of the resumable upload protocol, holding a single upload session.
+     */
+    private static class StandInServer extends Dispatcher {
+        boolean supported = true;
+        // Chunk numbers (1-based) at which failures are injected, 0 for none
+        int disconnectAtChunk;
+        int corruptChunk;
+        int expireAtChunk;
+        // Status code of all HEAD requests, 0 for the normal response
+        int headStatus;
+
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        int sessionsCreated;
+        int chunksReceived;
+        int bytesReceived;
+        private String session;
+
+        synchronized void expireSessions() {
+            session = null;
+            stored.reset();
+        }
+
+        @Override
+        public synchronized MockResponse dispatch(RecordedRequest request) {
+            if(!supported) return new MockResponse().setResponseCode(404);
+            String path = request.getPath();
+            switch (request.getMethod()) {
+                case "POST":
+                    sessionsCreated++;
+                    session = "/files/" + sessionsCreated;
+                    stored.reset();
+                    return new MockResponse().setResponseCode(201).setHeader("Location", session);
+                case "HEAD":
+                    if(headStatus != 0) return new MockResponse().setResponseCode(headStatus);
+                    if(!path.equals(session)) return new MockResponse().setResponseCode(404);
+                    return new MockResponse().setResponseCode(200)
+                            .setHeader("Upload-Offset", stored.size());
+                case "PATCH":
+                    if(!path.equals(session)) return new MockResponse().setResponseCode(404);
+                    byte[] chunk = request.getBody().readByteArray();
+                    chunksReceived++;
+                    bytesReceived += chunk.length;
+                    if(chunksReceived == expireAtChunk) {
+                        expireSessions();
+                        return new MockResponse().setResponseCode(404);
+                    }
+                    if(chunksReceived == disconnectAtChunk) {
+                        return new MockResponse()
+                                .setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+                    }
+                    if(Long.parseLong(request.getHeader("Upload-Offset")) != stored.size()) {
+                        return new MockResponse().setResponseCode(409);
+                    }
+                    String checksum = "sha256 " + ResumableUploader.checksum(chunk, chunk.length);
+                    if(chunksReceived == corruptChunk
+                            || !checksum.equals(request.getHeader("Upload-Checksum"))) {
+                        return new MockResponse().setResponseCode(
+                                ResumableUploader.CHECKSUM_MISMATCH);
+                    }
+                    stored.write(chunk, 0, chunk.length);
+                    return new MockResponse().setResponseCode(204)
+                            .setHeader("Upload-Offset", stored.size());
+                default:
+                    return new MockResponse().setResponseCode(405);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.cloud;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for selecting downloaded trajectories with
+ * {@link ServerCommunications#extractTrajectory(InputStream, String, File)}.
+ */
+public class ServerCommunicationsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Build a zip file of the given entries.
+     *
+     * @param entries   alternating entry names and contents.
+     * @return          stream of the zip file.
+     */
+    private static InputStream zip(Object... entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry((String) entries[i]));
+                zip.write((byte[]) entries[i + 1]);
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    /**
+     * Serialise a trajectory identified by its start timestamp.
+     */
+    private static byte[] trajectory(long start) {
+        return TrajectoryWriterTest.header(start).toByteArray();
+    }
+
+    @Test
+    public void extractTrajectory_selectsEntryById() throws IOException {
+        File target = new File(folder.getRoot(), "1002.part");
+
+        ServerCommunications.extractTrajectory(zip("1001.txt", trajectory(1),
+                "trajectories/1002.txt", trajectory(2), "1003.txt", trajectory(3)), "1002", target);
+
+        assertEquals(2, TrajectoryWriterTest.parse(target).getStartTimestamp());
+    }
+
+    @Test
+    public void extractTrajectory_doesNotMatchPartOfOtherId() throws IOException {
+        File target = new File(folder.getRoot(), "12.part");
+
+        ServerCommunications.extractTrajectory(zip("trajectory_123.txt", trajectory(1),
+                "trajectory_12.txt", trajectory(2)), "12", target);
+
+        assertEquals(2, TrajectoryWriterTest.parse(target).getStartTimestamp());
+    }
+
+    @Test
+    public void extractTrajectory_usesOnlyEntryOfPage() throws IOException {
+        File target = new File(folder.getRoot(), "1001.part");
+        byte[] contents = trajectory(1);
+
+        long size = ServerCommunications.extractTrajectory(zip("download.txt", contents),
+                "1001", target);
+
+        assertEquals(contents.length, size);
+        assertEquals(1, TrajectoryWriterTest.parse(target).getStartTimestamp());
+    }
+
+    @Test
+    public void extractTrajectory_rejectsDownloadWithoutId() throws IOException {
+        File target = new File(folder.getRoot(), "1002.part");
+        try {
+            ServerCommunications.extractTrajectory(zip("1001.txt", trajectory(1),
+                    "1003.txt", trajectory(3)), "1002", target);
+            fail("wrong trajectory accepted");
+        } catch (IOException expected) {
+            assertFalse(target.exists());
+        }
+    }
+
+    @Test
+    public void extractTrajectory_rejectsEmptyDownload() throws IOException {
+        File target = new File(folder.getRoot(), "1001.part");
+        try {
+            ServerCommunications.extractTrajectory(zip(), "1001", target);
+            fail("empty download accepted");
+        } catch (IOException expected) {
+            assertFalse(target.exists());
+        }
+    }
+
+    @Test
+    public void extractTrajectory_rejectsMalformedTrajectory() throws IOException {
+        File target = new File(folder.getRoot(), "1001.part");
+        try {
+            ServerCommunications.extractTrajectory(zip("1001.txt",
+                    "not a trajectory".getBytes(StandardCharsets.UTF_8)), "1001", target);
+            fail("malformed trajectory accepted");
+        } catch (IOException expected) {
+            assertFalse(target.exists());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link SoftwareStepDetector}, using synthetic accelerometer magnitudes
+ * sampled at 100Hz.
+ */
+public class SoftwareStepDetectorTest {
+
+    private static final double GRAVITY = 9.81;
+    private static final long PERIOD_NS = 10000000L;
+    private static final long MS2NS = 1000000L;
+
+    /**
+     * Push a walking signal, a sine of the step frequency around gravity, into a detector.
+     *
+     * @param detector  detector receiving the samples.
+     * @param frequency step frequency in Hz.
+     * @param seconds   length of the signal.
+     * @return          peak timestamps of the confirmed steps in nanoseconds.
+     */
+    private static List<Long> walk(SoftwareStepDetector detector, double frequency, int seconds) {
+        List<Long> steps = new ArrayList<>();
+        for (int i = 0; i < seconds * 100; i++) {
+            double magnitude = GRAVITY + 3 * Math.sin(2 * Math.PI * frequency * i / 100);
+            if(detector.push(i * PERIOD_NS, magnitude)) {
+                steps.add(detector.getLastStepTimestamp());
+            }
+        }
+        return steps;
+    }
+
+    @Test
+    public void push_countsWalkingSteps() {
+        SoftwareStepDetector detector = new SoftwareStepDetector();
+
+        List<Long> steps = walk(detector, 1.8, 10);
+
+        // 18 steps in 10 seconds, the first may be missed while the baseline settles
+        assertTrue("steps: " + steps.size(), steps.size() >= 17 && steps.size() <= 18);
+        assertEquals(steps.size(), detector.getStepCount());
+    }
+
+    @Test
+    public void push_ignoresStationaryNoise() {
+        SoftwareStepDetector detector = new SoftwareStepDetector();
+        Random random = new Random(1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(detector.push(i * PERIOD_NS, GRAVITY + 0.05 * random.nextGaussian()));
+        }
+        assertEquals(0, detector.getStepCount());
+    }
+
+    @Test
+    public void push_confirmsStepsAfterLookahead() {
+        for (long lookaheadMs : new long[]{0, 100, 200}) {
+            SoftwareStepDetector detector = new SoftwareStepDetector(
+                    SoftwareStepDetector.DEFAULT_PEAK_THRESHOLD, lookaheadMs,
+                    SoftwareStepDetector.DEFAULT_MIN_STEP_INTERVAL_MS);
+            int steps = 0;
+            for (int i = 0; i < 1000; i++) {
+                double magnitude = GRAVITY + 3 * Math.sin(2 * Math.PI * 1.8 * i / 100);
+                if(detector.push(i * PERIOD_NS, magnitude)) {
+                    steps++;
+                    // Confirmed by the first sample after the lookahead has passed
+                    long latency = detector.getLastLatencyNs();
+                    long lookaheadNs = lookaheadMs * MS2NS;
+                    assertTrue("latency: " + latency, latency >= lookaheadNs);
+                    assertTrue("latency: " + latency, latency <= lookaheadNs + PERIOD_NS);
+                    assertEquals(i * PERIOD_NS - latency, detector.getLastStepTimestamp());
+                }
+            }
+            assertTrue("steps: " + steps, steps >= 17);
+        }
+    }
+
+    @Test
+    public void push_waitsForLookaheadBeforeConfirming() {
+        SoftwareStepDetector detector = new SoftwareStepDetector(
+                SoftwareStepDetector.DEFAULT_PEAK_THRESHOLD, 300,
+                SoftwareStepDetector.DEFAULT_MIN_STEP_INTERVAL_MS);
+        // Settle the baseline, then a single peak of one step followed by standing still
+        int i = 0;
+        for (; i < 200; i++) {
+            assertFalse(detector.push(i * PERIOD_NS, GRAVITY));
+        }
+        long confirmed = -1;
+        for (int j = 0; j < 100; j++, i++) {
+            double magnitude = GRAVITY + (j < 50 ? 3 * Math.sin(Math.PI * j / 50) : 0);
+            if(detector.push(i * PERIOD_NS, magnitude)) {
+                confirmed = i * PERIOD_NS;
+            }
+        }
+
+        assertEquals(1, detector.getStepCount());
+        assertEquals(confirmed - detector.getLastStepTimestamp(), detector.getLastLatencyNs());
+        assertTrue(detector.getLastLatencyNs() >= 300 * MS2NS);
+    }
+
+    @Test
+    public void push_enforcesMinimumStepInterval() {
+        SoftwareStepDetector detector = new SoftwareStepDetector(
+                SoftwareStepDetector.DEFAULT_PEAK_THRESHOLD,
+                SoftwareStepDetector.DEFAULT_LOOKAHEAD_MS, 700);
+
+        List<Long> steps = walk(detector, 1.8, 10);
+
+        // Peaks 556ms apart, every second one falls within the minimum interval
+        assertTrue("steps: " + steps.size(), steps.size() > 0 && steps.size() < 17);
+        for (int i = 1; i < steps.size(); i++) {
+            assertTrue(steps.get(i) - steps.get(i - 1) >= 700 * MS2NS);
+        }
+    }
+
+    @Test
+    public void reset_clearsStepCount() {
+        SoftwareStepDetector detector = new SoftwareStepDetector();
+        walk(detector, 1.8, 5);
+        assertTrue(detector.getStepCount() > 0);
+
+        detector.reset();
+
+        assertEquals(0, detector.getStepCount());
+    }
+
+    @Test
+    public void detect_findsStepsInRecordedImuData() {
+        // The walking signal along z, as recorded in the imu_data of a trajectory
+        List<Traj.Motion_Sample> samples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            float magnitude = (float) (GRAVITY + 3 * Math.sin(2 * Math.PI * 1.8 * i / 100));
+            samples.add(Traj.Motion_Sample.newBuilder().setRelativeTimestamp(i * 10L)
+                    .setAccX(0).setAccY(0).setAccZ(magnitude).build());
+        }
+        List<Long> expected = new ArrayList<>();
+        for (long step : walk(new SoftwareStepDetector(), 1.8, 10)) {
+            expected.add(step / MS2NS);
+        }
+        SoftwareStepDetector detector = new SoftwareStepDetector();
+
+        assertEquals(expected, detector.detect(samples));
+        // Detection starts from a reset detector every time
+        assertEquals(expected, detector.detect(samples));
+        assertEquals(expected.size(), detector.getStepCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsInvalidThreshold() {
+        new SoftwareStepDetector(0, SoftwareStepDetector.DEFAULT_LOOKAHEAD_MS,
+                SoftwareStepDetector.DEFAULT_MIN_STEP_INTERVAL_MS);
+    }
+}
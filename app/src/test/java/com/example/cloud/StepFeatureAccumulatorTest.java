@@ -0,0 +1,127 @@
+package com.example.cloud;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link StepFeatureAccumulator}, compared against the features computed from
+ * the list of magnitudes that was kept for every step before.
+ */
+public class StepFeatureAccumulatorTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Generate the acceleration magnitudes of a step around gravity.
+     *
+     * @param random    source of the values.
+     * @param count     number of magnitudes.
+     * @return          list of magnitudes in m/s^2.
+     */
+    private static List<Double> magnitudes(Random random, int count) {
+        List<Double> magnitudes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            magnitudes.add(9.81 + 3 * random.nextGaussian());
+        }
+        return magnitudes;
+    }
+
+    private static StepFeatureAccumulator accumulate(List<Double> magnitudes) {
+        StepFeatureAccumulator features = new StepFeatureAccumulator();
+        for (double magnitude : magnitudes) {
+            features.add(magnitude);
+        }
+        return features;
+    }
+
+    /**
+     * Step length of the Weiberg estimate as computed from the list of magnitudes.
+     */
+    private static float weibergOfList(List<Double> magnitudes, float weibergK) {
+        double maxAccel = Collections.max(magnitudes);
+        double minAccel = Collections.min(magnitudes);
+        float bounce = (float) Math.pow((maxAccel - minAccel), 0.25);
+        return bounce * weibergK * 2;
+    }
+
+    @Test
+    public void features_matchBruteForce() {
+        Random random = new Random(11);
+        for (int count : new int[]{1, 2, 7, 50, 1000}) {
+            List<Double> magnitudes = magnitudes(random, count);
+
+            StepFeatureAccumulator features = accumulate(magnitudes);
+
+            double sum = 0;
+            for (double magnitude : magnitudes) {
+                sum += magnitude;
+            }
+            assertFalse(features.isEmpty());
+            assertEquals(count, features.getCount());
+            assertEquals(Collections.min(magnitudes), features.getMin(), 0);
+            assertEquals(Collections.max(magnitudes), features.getMax(), 0);
+            assertEquals(sum / count, features.getMean(), TOLERANCE);
+            assertEquals(Collections.max(magnitudes) - Collections.min(magnitudes),
+                    features.getRange(), 0);
+        }
+    }
+
+    @Test
+    public void features_ofEmptyAccumulator() {
+        StepFeatureAccumulator features = new StepFeatureAccumulator();
+
+        assertTrue(features.isEmpty());
+        assertEquals(0, features.getCount());
+        assertTrue(Double.isNaN(features.getMin()));
+        assertTrue(Double.isNaN(features.getMax()));
+        assertTrue(Double.isNaN(features.getMean()));
+        assertEquals(0, features.getRange(), 0);
+    }
+
+    @Test
+    public void reset_startsNextStep() {
+        StepFeatureAccumulator features = accumulate(magnitudes(new Random(3), 100));
+
+        features.reset();
+        assertTrue(features.isEmpty());
+        features.add(9.5);
+        features.add(10.25);
+
+        assertEquals(2, features.getCount());
+        assertEquals(9.5, features.getMin(), 0);
+        assertEquals(10.25, features.getMax(), 0);
+        assertEquals(0.75, features.getRange(), 0);
+    }
+
+    @Test
+    public void updatePdr_matchesWeibergOfMagnitudeList() {
+        Random random = new Random(5);
+        for (int step = 0; step < 50; step++) {
+            List<Double> magnitudes = magnitudes(random, 1 + random.nextInt(120));
+            PdrProcessing pdr = new PdrProcessing(PdrParameters.DEFAULT);
+
+            // Heading north, the step length is added to y
+            float[] position = pdr.updatePdr(500, accumulate(magnitudes), 0);
+
+            assertEquals(weibergOfList(magnitudes, PdrParameters.DEFAULT.getWeibergK()),
+                    position[1], 0);
+        }
+    }
+
+    @Test
+    public void updatePdr_keepsStepLengthOfStepWithoutSamples() {
+        List<Double> magnitudes = magnitudes(new Random(9), 60);
+        PdrProcessing pdr = new PdrProcessing(PdrParameters.DEFAULT);
+        float length = pdr.updatePdr(500, accumulate(magnitudes), 0)[1];
+
+        float[] position = pdr.updatePdr(1000, new StepFeatureAccumulator(), 0);
+
+        assertEquals(2 * length, position[1], 1e-6f);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.cloud;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link TrajectoryCache}, caching generated files in a temporary folder.
+ */
+public class TrajectoryCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    @Before
+    public void setUp() {
+        directory = new File(folder.getRoot(), "trajectory_cache");
+    }
+
+    /**
+     * Create a loader writing the given number of bytes.
+     */
+    private static TrajectoryCache.Loader bytes(int size) {
+        return target -> write(target, size);
+    }
+
+    private static void write(File file, int size) throws IOException {
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(new byte[size]);
+        }
+    }
+
+    @Test
+    public void get_loadsOnceForConcurrentRequests() throws Exception {
+        TrajectoryCache cache = new TrajectoryCache(directory, 1024);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TrajectoryCache.Loader loader = target -> {
+            loads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            write(target, 100);
+        };
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        List<Future<File>> results = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            results.add(threads.submit(() -> cache.get("1001", loader)));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // Let the other requests reach the cache while the download is in progress
+        Thread.sleep(200);
+        release.countDown();
+
+        File file = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<File> result : results) {
+            assertEquals(file, result.get(10, TimeUnit.SECONDS));
+        }
+        threads.shutdown();
+        assertEquals(1, loads.get());
+        assertEquals(100, file.length());
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void get_usesCachedFileWithoutLoading() throws IOException {
+        TrajectoryCache cache = new TrajectoryCache(directory, 1024);
+        File file = cache.get("1001", bytes(100));
+
+        assertEquals(file, cache.get("1001", target -> fail("loaded again")));
+        assertTrue(cache.contains("1001"));
+    }
+
+    @Test
+    public void get_evictsLeastRecentlyUsed() throws IOException {
+        TrajectoryCache cache = new TrajectoryCache(directory, 300);
+        cache.get("a", bytes(100));
+        cache.get("b", bytes(100));
+        cache.get("c", bytes(100));
+        // Use a, leaving b as the least recently used
+        assertNotNull(cache.peek("a"));
+
+        cache.get("d", bytes(100));
+
+        assertFalse(cache.contains("b"));
+        assertFalse(new File(directory, "b.pb").exists());
+        assertTrue(cache.contains("a"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+        assertEquals(300, cache.size());
+    }
+
+    @Test
+    public void get_keepsNewTrajectoryLargerThanBudget() throws IOException {
+        TrajectoryCache cache = new TrajectoryCache(directory, 300);
+        cache.get("a", bytes(100));
+
+        File file = cache.get("b", bytes(500));
+
+        assertTrue(file.exists());
+        assertTrue(cache.contains("b"));
+        assertFalse(cache.contains("a"));
+        assertEquals(500, cache.size());
+    }
+
+    @Test
+    public void setMaxBytes_evictsToNewBudget() throws IOException {
+        TrajectoryCache cache = new TrajectoryCache(directory, 1024);
+        cache.get("a", bytes(100));
+        cache.get("b", bytes(100));
+
+        cache.setMaxBytes(150);
+
+        assertFalse(cache.contains("a"));
+        assertTrue(cache.contains("b"));
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void get_deletesTemporaryFileWhenLoadFails() throws IOException {
+        TrajectoryCache cache = new TrajectoryCache(directory, 1024);
+        try {
+            cache.get("1001", target -> {
+                write(target, 50);
+                throw new IOException("connection lost");
+            });
+            fail("failure not reported");
+        } catch (IOException expected) {
+            assertEquals("connection lost", expected.getMessage());
+        }
+
+        assertEquals(0, directory.list().length);
+        assertFalse(cache.contains("1001"));
+        assertEquals(0, cache.size());
+        // The next request loads again
+        assertEquals(100, cache.get("1001", bytes(100)).length());
+    }
+
+    @Test
+    public void constructor_restoresCacheAndRemovesLeftovers() throws IOException {
+        TrajectoryCache first = new TrajectoryCache(directory, 1024);
+        File older = first.get("a", bytes(100));
+        File newer = first.get("b", bytes(100));
+        assertTrue(older.setLastModified(System.currentTimeMillis() - 60000));
+        assertTrue(newer.setLastModified(System.currentTimeMillis()));
+        // Left behind by a download interrupted when the application was stopped
+        File partial = new File(directory, "c.part");
+        write(partial, 30);
+
+        TrajectoryCache second = new TrajectoryCache(directory, 1024);
+
+        assertFalse(partial.exists());
+        assertTrue(second.contains("a"));
+        assertTrue(second.contains("b"));
+        assertEquals(200, second.size());
+        // The order of use is restored from the modification times
+        second.setMaxBytes(150);
+        assertFalse(second.contains("a"));
+        assertTrue(second.contains("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void get_rejectsIdsOutsideDirectory() throws IOException {
+        new TrajectoryCache(directory, 1024).get("../trajectory", bytes(10));
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.cloud;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link TrajectoryCatalog}, run by Robolectric with the catalog in an
+ * in-memory database and trajectory files in a temporary folder.
+ */
+@RunWith(RobolectricTestRunner.class)
+// Minimum SDK of the application, the catalog does not use any resources
+@Config(sdk = 28, manifest = Config.NONE)
+public class TrajectoryCatalogTest {
+
+    private static final long START = 1674819807315L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TrajectoryCatalog catalog;
+
+    @Before
+    public void setUp() {
+        catalog = new TrajectoryCatalog(RuntimeEnvironment.getApplication(), null);
+    }
+
+    @After
+    public void tearDown() {
+        catalog.close();
+    }
+
+    /**
+     * Record a trajectory file with PDR samples every 100 milliseconds.
+     *
+     * @param start     start timestamp of the recording.
+     * @param samples   number of PDR samples.
+     * @return          the trajectory file, named after the start timestamp so files recorded
+     *                  within the same second do not collide.
+     */
+    private File trajectory(long start, int samples) {
+        TrajectoryWriter writer = new TrajectoryWriter(folder.getRoot(),
+                TrajectoryWriterTest.header(start));
+        for (int i = 0; i < samples; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i * 100L));
+        }
+        File file = new File(folder.getRoot(), "trajectory_" + start + ".txt");
+        assertTrue(writer.finish().renameTo(file));
+        return file;
+    }
+
+    /**
+     * Find the entry of a file in the catalog.
+     *
+     * @return  the entry, or null if the file is not in the catalog.
+     */
+    private TrajectoryCatalog.Entry entry(File file) {
+        for (TrajectoryCatalog.Entry entry : catalog.getLocalTrajectories()) {
+            if(entry.getFile().equals(file)) return entry;
+        }
+        return null;
+    }
+
+    @Test
+    public void add_storesSummaryAsPending() throws IOException {
+        File file = trajectory(START, 20);
+
+        catalog.add(file, TrajectorySummary.scan(file));
+
+        TrajectoryCatalog.Entry entry = entry(file);
+        assertNotNull(entry);
+        assertEquals(TrajectoryCatalog.STATE_PENDING, entry.getUploadState());
+        assertEquals(START, entry.getSummary().getStartTimestamp());
+        assertEquals(1900, entry.getSummary().getDurationMs());
+        assertEquals(20, entry.getSummary().getSampleCount(TrajectorySummary.PDR));
+        assertEquals(file.length(), entry.getSummary().getSizeBytes());
+    }
+
+    @Test
+    public void getLocalTrajectories_listsMostRecentFirst() throws IOException {
+        File older = trajectory(START, 1);
+        File newer = trajectory(START + 60000, 1);
+        catalog.add(older, TrajectorySummary.scan(older));
+        catalog.add(newer, TrajectorySummary.scan(newer));
+
+        List<TrajectoryCatalog.Entry> entries = catalog.getLocalTrajectories();
+
+        assertEquals(2, entries.size());
+        assertEquals(newer, entries.get(0).getFile());
+        assertEquals(older, entries.get(1).getFile());
+    }
+
+    @Test
+    public void setUploadState_followsUploadQueue() throws IOException {
+        File file = trajectory(START, 1);
+        catalog.add(file, TrajectorySummary.scan(file));
+
+        catalog.setUploadState(file, TrajectoryCatalog.STATE_QUEUED);
+        assertEquals(TrajectoryCatalog.STATE_QUEUED, entry(file).getUploadState());
+
+        catalog.setUploadState(file, TrajectoryCatalog.STATE_REJECTED);
+        assertEquals(TrajectoryCatalog.STATE_REJECTED, entry(file).getUploadState());
+
+        // Uploaded files are removed from the catalog
+        catalog.remove(file);
+        assertNull(entry(file));
+        assertTrue(catalog.getLocalTrajectories().isEmpty());
+    }
+
+    @Test
+    public void setUploadState_ignoresFilesNotInCatalog() {
+        File file = new File(folder.getRoot(), "trajectory_missing.txt");
+
+        catalog.setUploadState(file, TrajectoryCatalog.STATE_QUEUED);
+
+        assertTrue(catalog.getLocalTrajectories().isEmpty());
+    }
+
+    @Test
+    public void add_resetsStateOfReplacedFile() throws IOException {
+        File file = trajectory(START, 1);
+        catalog.add(file, TrajectorySummary.scan(file));
+        catalog.setUploadState(file, TrajectoryCatalog.STATE_REJECTED);
+
+        catalog.add(file, TrajectorySummary.scan(file));
+
+        assertEquals(1, catalog.getLocalTrajectories().size());
+        assertEquals(TrajectoryCatalog.STATE_PENDING, entry(file).getUploadState());
+    }
+
+    @Test
+    public void reconcile_addsFilesMissingFromCatalog() {
+        File first = trajectory(START, 5);
+        File second = trajectory(START + 60000, 8);
+
+        assertEquals(2, catalog.reconcile(folder.getRoot()));
+
+        assertEquals(5, entry(first).getSummary().getSampleCount(TrajectorySummary.PDR));
+        assertEquals(8, entry(second).getSummary().getSampleCount(TrajectorySummary.PDR));
+        assertEquals(TrajectoryCatalog.STATE_PENDING, entry(second).getUploadState());
+        // Nothing changed since the last reconcile
+        assertEquals(0, catalog.reconcile(folder.getRoot()));
+        assertEquals(2, catalog.getLocalTrajectories().size());
+    }
+
+    @Test
+    public void reconcile_keepsStateOfKnownFiles() throws IOException {
+        File file = trajectory(START, 1);
+        catalog.add(file, TrajectorySummary.scan(file));
+        catalog.setUploadState(file, TrajectoryCatalog.STATE_QUEUED);
+
+        assertEquals(0, catalog.reconcile(folder.getRoot()));
+
+        assertEquals(TrajectoryCatalog.STATE_QUEUED, entry(file).getUploadState());
+    }
+
+    @Test
+    public void reconcile_removesRowsOfDeletedFiles() throws IOException {
+        File kept = trajectory(START, 1);
+        File deleted = trajectory(START + 60000, 1);
+        catalog.reconcile(folder.getRoot());
+        assertTrue(deleted.delete());
+
+        assertEquals(0, catalog.reconcile(folder.getRoot()));
+
+        assertNotNull(entry(kept));
+        assertNull(entry(deleted));
+    }
+
+    @Test
+    public void reconcile_skipsOtherAndMalformedFiles() throws IOException {
+        File file = trajectory(START, 1);
+        // Segment, stitch and unrelated files are not trajectories
+        assertTrue(folder.newFile("recording_" + START + ".seg").exists());
+        assertTrue(folder.newFile("stitching_trajectory_27-01-23-11-43-27.txt").exists());
+        assertTrue(folder.newFile("upload_queue.journal").exists());
+        File malformed = folder.newFile("trajectory_malformed.txt");
+        try (FileOutputStream stream = new FileOutputStream(malformed)) {
+            stream.write("not a trajectory".getBytes("UTF-8"));
+        }
+
+        assertEquals(1, catalog.reconcile(folder.getRoot()));
+
+        assertEquals(1, catalog.getLocalTrajectories().size());
+        assertNotNull(entry(file));
+    }
+}
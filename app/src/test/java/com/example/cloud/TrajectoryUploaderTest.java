@@ -0,0 +1,174 @@
+package com.example.cloud;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link TrajectoryUploader}, using a {@link MockWebServer} as a stand-in
+ * for the API server.
+ */
+public class TrajectoryUploaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private TrajectoryUploader uploader;
+    private File trajectory;
+    private byte[] contents;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        uploader = new TrajectoryUploader(new OkHttpClient(), server.url("/upload/"));
+
+        // Repetitive sensor-like data with some noise, which compresses well
+        contents = new byte[256 * 1024];
+        Random random = new Random(42);
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) ((i % 64) + (i % 16 == 0 ? random.nextInt(4) : 0));
+        }
+        trajectory = folder.newFile("trajectory_test.txt");
+        try (FileOutputStream stream = new FileOutputStream(trajectory)) {
+            stream.write(contents);
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void compressedUpload_sendsGzipBody() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        assertEquals(200, uploader.upload(trajectory, true));
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("gzip", request.getHeader("Content-Encoding"));
+        byte[] sent = request.getBody().readByteArray();
+        assertTrue("compressed body not smaller", sent.length < contents.length / 2);
+        assertTrue(contains(gunzip(sent), contents));
+        assertTrue(uploader.isCompressionSupported());
+    }
+
+    @Test
+    public void uncompressedUpload_sendsPlainBody() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        assertEquals(200, uploader.upload(trajectory, false));
+
+        RecordedRequest request = server.takeRequest();
+        assertNull(request.getHeader("Content-Encoding"));
+        assertTrue(contains(request.getBody().readByteArray(), contents));
+    }
+
+    @Test
+    public void unsupportedEncoding_fallsBackToUncompressed() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(415).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        assertEquals(200, uploader.upload(trajectory, true));
+        assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"));
+        RecordedRequest retry = server.takeRequest();
+        assertNull(retry.getHeader("Content-Encoding"));
+        assertTrue(contains(retry.getBody().readByteArray(), contents));
+        assertFalse(uploader.isCompressionSupported());
+
+        // Later uploads are sent uncompressed straight away
+        assertEquals(200, uploader.upload(trajectory, true));
+        assertNull(server.takeRequest().getHeader("Content-Encoding"));
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void undecodableBody_fallsBackAndStopsCompressing() throws Exception {
+        for (int code : new int[]{400, 411, 422}) {
+            uploader = new TrajectoryUploader(new OkHttpClient(), server.url("/upload/"));
+            server.enqueue(new MockResponse().setResponseCode(code).setBody("{}"));
+            server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+            assertEquals(200, uploader.upload(trajectory, true));
+            assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"));
+            assertNull(server.takeRequest().getHeader("Content-Encoding"));
+            assertFalse(uploader.isCompressionSupported());
+        }
+    }
+
+    @Test
+    public void rejectedFile_keepsCompressing() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("{}"));
+
+        // Rejected uncompressed as well, so the encoding was not the problem
+        assertEquals(400, uploader.upload(trajectory, true));
+        assertEquals(2, server.getRequestCount());
+        assertTrue(uploader.isCompressionSupported());
+    }
+
+    @Test
+    public void confirmedCompression_isNotRetriedUncompressed() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(422).setBody("{}"));
+
+        assertEquals(200, uploader.upload(trajectory, true));
+        assertEquals(422, uploader.upload(trajectory, true));
+        assertEquals(2, server.getRequestCount());
+        assertTrue(uploader.isCompressionSupported());
+    }
+
+    @Test
+    public void serverError_isReturnedWithoutFallback() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+
+        assertEquals(503, uploader.upload(trajectory, true));
+        assertEquals(1, server.getRequestCount());
+        assertTrue(uploader.isCompressionSupported());
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean contains(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,422 @@
+package com.example.cloud;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link TrajectoryWriter}, recording into a temporary folder.
+ */
+public class TrajectoryWriterTest {
+
+    private static final long START = 1674819807315L;
+    // Sync interval long enough that chunks are only written when they are full
+    private static final long NO_SYNC_MS = 3600 * 1000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Build the metadata of a recording.
+     *
+     * @param start start timestamp of the recording.
+     * @return      the header without samples.
+     */
+    static Traj.Trajectory header(long start) {
+        return Traj.Trajectory.newBuilder()
+                .setAndroidVersion("13")
+                .setStartTimestamp(start)
+                .setDataIdentifier("test")
+                .setAccelerometerInfo(Traj.Sensor_Info.newBuilder()
+                        .setName("accelerometer").setResolution(0.0012f))
+                .setGyroscopeInfo(Traj.Sensor_Info.newBuilder()
+                        .setName("gyroscope").setResolution(0.0011f))
+                .setRotationVectorInfo(Traj.Sensor_Info.newBuilder()
+                        .setName("rotation").setResolution(1e-5f))
+                .build();
+    }
+
+    /**
+     * Create a writer that only writes full chunks.
+     */
+    private TrajectoryWriter writer() {
+        TrajectoryWriter writer = new TrajectoryWriter(folder.getRoot(), header(START));
+        writer.setSyncInterval(NO_SYNC_MS);
+        return writer;
+    }
+
+    /**
+     * Get the segment file of the test recording.
+     */
+    private File segment() {
+        return new File(folder.getRoot(), "recording_" + START + ".seg");
+    }
+
+    /**
+     * Parse a trajectory file.
+     */
+    static Traj.Trajectory parse(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return Traj.Trajectory.parseFrom(in);
+        }
+    }
+
+    /**
+     * Record full chunks of PDR samples and copy the segment file into a separate directory, as
+     * left behind by a writer of an application that was killed while recording.
+     *
+     * @param chunks    number of chunks to record.
+     * @return          the copied segment file, in a directory without active writers.
+     */
+    private File interruptedSegment(int chunks) throws IOException {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < chunks * TrajectoryWriter.CHUNK_SIZE; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i).setX(i));
+        }
+        File copy = new File(folder.newFolder("interrupted"), segment().getName());
+        Files.copy(segment().toPath(), copy.toPath());
+        writer.discard();
+        return copy;
+    }
+
+    /**
+     * Find the end offsets of the frames of a segment file: type byte, varint length, payload and
+     * four bytes of CRC32.
+     *
+     * @param segment   segment file to read.
+     * @return          offset after each frame, starting with the header frame.
+     */
+    private static List<Long> frameEnds(File segment) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment.toPath());
+        List<Long> ends = new ArrayList<>();
+        int position = 0;
+        while (position < bytes.length) {
+            position++;
+            int length = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = bytes[position++];
+                length |= (next & 0x7f) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            position += length + 4;
+            ends.add((long) position);
+        }
+        return ends;
+    }
+
+    /**
+     * Recover the only recording in a directory and check that it holds the PDR samples of the
+     * given number of complete chunks, in order.
+     *
+     * @param directory directory holding the interrupted recording.
+     * @param chunks    number of complete chunks expected.
+     * @return          the recovered trajectory.
+     */
+    private static Traj.Trajectory assertRecovered(File directory, int chunks) throws IOException {
+        List<File> recovered = TrajectoryWriter.recover(directory);
+
+        assertEquals(1, recovered.size());
+        File file = recovered.get(0);
+        assertTrue(file.getName().startsWith("trajectory_"));
+        // Only the trajectory file is left behind
+        assertArrayEquals(new String[]{file.getName()}, directory.list());
+        Traj.Trajectory trajectory = parse(file);
+        assertEquals(START, trajectory.getStartTimestamp());
+        assertEquals("accelerometer", trajectory.getAccelerometerInfo().getName());
+        assertEquals(chunks * TrajectoryWriter.CHUNK_SIZE, trajectory.getPdrDataCount());
+        for (int i = 0; i < trajectory.getPdrDataCount(); i++) {
+            assertEquals(i, trajectory.getPdrData(i).getRelativeTimestamp());
+            assertEquals(i, trajectory.getPdrData(i).getX(), 0);
+        }
+        return trajectory;
+    }
+
+    @Test
+    public void addSample_writesChunkOnceFull() {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < TrajectoryWriter.CHUNK_SIZE - 1; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i));
+        }
+        assertFalse(segment().exists());
+
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(1000));
+
+        assertTrue(segment().exists());
+        long length = segment().length();
+        assertTrue(length > 0);
+        // The next chunk stays in memory until it is full
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(1001));
+        assertEquals(length, segment().length());
+        writer.discard();
+    }
+
+    @Test
+    public void finish_stitchesChunksInOrder() throws IOException {
+        TrajectoryWriter writer = writer();
+        int samples = 2 * TrajectoryWriter.CHUNK_SIZE + 345;
+        for (int i = 0; i < samples; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder()
+                    .setRelativeTimestamp(i * 10L).setX(i).setY(-i));
+            if(i % 100 == 0) {
+                writer.addPressureData(Traj.Pressure_Sample.newBuilder()
+                        .setRelativeTimestamp(i * 10L).setPressure(1000 + i));
+            }
+        }
+
+        File file = writer.finish();
+
+        assertNotNull(file);
+        assertTrue(file.getName().startsWith("trajectory_"));
+        assertFalse(segment().exists());
+        Traj.Trajectory trajectory = parse(file);
+        assertEquals("13", trajectory.getAndroidVersion());
+        assertEquals(START, trajectory.getStartTimestamp());
+        assertEquals("accelerometer", trajectory.getAccelerometerInfo().getName());
+        assertEquals(samples, trajectory.getPdrDataCount());
+        for (int i = 0; i < samples; i++) {
+            assertEquals(i * 10L, trajectory.getPdrData(i).getRelativeTimestamp());
+            assertEquals(i, trajectory.getPdrData(i).getX(), 0);
+        }
+        assertEquals((samples + 99) / 100, trajectory.getPressureDataCount());
+        assertEquals(1000, trajectory.getPressureData(0).getPressure(), 0);
+    }
+
+    @Test
+    public void finish_convertsColumnarRowsToSamples() throws IOException {
+        TrajectoryWriter writer = writer();
+        int samples = TrajectoryWriter.CHUNK_SIZE + 250;
+        for (int i = 0; i < samples; i++) {
+            writer.addImuSample(i * 10L, new float[]{i, i + 0.25f, i + 0.5f},
+                    new float[]{-i, -i - 0.25f, -i - 0.5f},
+                    new float[]{0.1f * (i % 7), 0.2f, 0.3f, 0.4f}, i / 50);
+            writer.addMagnetometerSample(i * 10L + 5, new float[]{20 + i, -i, -40});
+        }
+
+        Traj.Trajectory trajectory = parse(writer.finish());
+
+        assertEquals(samples, trajectory.getImuDataCount());
+        assertEquals(samples, trajectory.getPositionDataCount());
+        for (int i = 0; i < samples; i++) {
+            Traj.Motion_Sample motion = trajectory.getImuData(i);
+            assertEquals(i * 10L, motion.getRelativeTimestamp());
+            assertEquals(i, motion.getAccX(), 0);
+            assertEquals(i + 0.25f, motion.getAccY(), 0);
+            assertEquals(i + 0.5f, motion.getAccZ(), 0);
+            assertEquals(-i, motion.getGyrX(), 0);
+            assertEquals(-i - 0.25f, motion.getGyrY(), 0);
+            assertEquals(-i - 0.5f, motion.getGyrZ(), 0);
+            // Field order of earlier recordings, the first sensor component is stored as w
+            assertEquals(0.1f * (i % 7), motion.getRotationVectorW(), 0);
+            assertEquals(0.2f, motion.getRotationVectorX(), 0);
+            assertEquals(0.3f, motion.getRotationVectorY(), 0);
+            assertEquals(0.4f, motion.getRotationVectorZ(), 0);
+            assertEquals(i / 50, motion.getStepCount());
+
+            Traj.Position_Sample position = trajectory.getPositionData(i);
+            assertEquals(i * 10L + 5, position.getRelativeTimestamp());
+            assertEquals(20 + i, position.getMagX(), 0);
+            assertEquals(-i, position.getMagY(), 0);
+            assertEquals(-40, position.getMagZ(), 0);
+        }
+    }
+
+    @Test
+    public void addImuSample_doesNotRetainArrays() throws IOException {
+        TrajectoryWriter writer = writer();
+        float[] acceleration = {1, 2, 3};
+        float[] magneticField = {4, 5, 6};
+        writer.addImuSample(0, acceleration, new float[3], new float[4], 0);
+        writer.addMagnetometerSample(0, magneticField);
+        acceleration[0] = 100;
+        magneticField[0] = 100;
+
+        Traj.Trajectory trajectory = parse(writer.finish());
+
+        assertEquals(1, trajectory.getImuData(0).getAccX(), 0);
+        assertEquals(4, trajectory.getPositionData(0).getMagX(), 0);
+    }
+
+    @Test
+    public void finish_summarisesRecording() {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < 1500; i++) {
+            writer.addImuSample(i * 10L, new float[]{0, 0, 9.81f}, new float[3],
+                    new float[]{0, 0, 0, 1}, 0);
+            writer.addMagnetometerSample(i * 10L, new float[]{20, 0, -40});
+        }
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(15000));
+        assertNull(writer.getSummary());
+
+        File file = writer.finish();
+
+        TrajectorySummary summary = writer.getSummary();
+        assertEquals(START, summary.getStartTimestamp());
+        assertEquals(15000, summary.getDurationMs());
+        assertEquals(1500, summary.getSampleCount(TrajectorySummary.IMU));
+        assertEquals(1500, summary.getSampleCount(TrajectorySummary.POSITION));
+        assertEquals(1, summary.getSampleCount(TrajectorySummary.PDR));
+        assertEquals(0, summary.getSampleCount(TrajectorySummary.GNSS));
+        assertEquals(file.length(), summary.getSizeBytes());
+    }
+
+    @Test
+    public void finish_withoutSamplesKeepsHeader() throws IOException {
+        File file = writer().finish();
+
+        Traj.Trajectory trajectory = parse(file);
+        assertEquals(header(START), trajectory);
+    }
+
+    @Test
+    public void finish_reportsProgress() {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < 3 * TrajectoryWriter.CHUNK_SIZE; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i));
+        }
+        List<long[]> updates = new ArrayList<>();
+
+        writer.finish((written, total) -> updates.add(new long[]{written, total}));
+
+        assertFalse(updates.isEmpty());
+        for (int i = 1; i < updates.size(); i++) {
+            assertTrue(updates.get(i)[0] > updates.get(i - 1)[0]);
+        }
+        long[] last = updates.get(updates.size() - 1);
+        assertTrue(last[0] > 0 && last[0] <= last[1]);
+    }
+
+    @Test
+    public void finish_closesWriter() {
+        TrajectoryWriter writer = writer();
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(1));
+        assertNotNull(writer.finish());
+
+        assertNull(writer.finish());
+        writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(2));
+        assertFalse(segment().exists());
+    }
+
+    @Test
+    public void discard_deletesSegments() {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < TrajectoryWriter.CHUNK_SIZE + 1; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i));
+        }
+        assertTrue(segment().exists());
+
+        writer.discard();
+
+        assertFalse(segment().exists());
+        assertNull(writer.finish());
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void recover_stitchesInterruptedRecording() throws IOException {
+        File segment = interruptedSegment(3);
+
+        assertRecovered(segment.getParentFile(), 3);
+    }
+
+    @Test
+    public void recover_keepsCompleteChunksOfTruncatedSegment() throws IOException {
+        File segment = interruptedSegment(3);
+        List<Long> ends = frameEnds(segment);
+        assertEquals(4, ends.size());
+        // Cut the last chunk in the middle of its payload, as by a write interrupted by a crash
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.setLength(ends.get(2) + (ends.get(3) - ends.get(2)) / 2);
+        }
+
+        assertRecovered(segment.getParentFile(), 2);
+    }
+
+    @Test
+    public void recover_keepsCompleteChunksOfSegmentCutInFraming() throws IOException {
+        File segment = interruptedSegment(2);
+        List<Long> ends = frameEnds(segment);
+        // Cut after the type byte and the first byte of the length of the last chunk
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.setLength(ends.get(1) + 2);
+        }
+
+        assertRecovered(segment.getParentFile(), 1);
+    }
+
+    @Test
+    public void recover_stopsAtCorruptedChunk() throws IOException {
+        File segment = interruptedSegment(3);
+        List<Long> ends = frameEnds(segment);
+        // Flip a bit in the checksum of the second chunk
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(ends.get(2) - 1);
+            int value = file.read();
+            file.seek(ends.get(2) - 1);
+            file.write(value ^ 1);
+        }
+
+        assertRecovered(segment.getParentFile(), 1);
+    }
+
+    @Test
+    public void recover_replacesPartialStitch() throws IOException {
+        File segment = interruptedSegment(2);
+        File directory = segment.getParentFile();
+        // Left behind by a stitch interrupted before its rename, the segment is still complete
+        File partial = new File(directory, "stitching_trajectory_27-01-23-11-43-27.txt");
+        try (RandomAccessFile file = new RandomAccessFile(partial, "rw")) {
+            file.write(header(START).toByteArray());
+            file.write(new byte[]{0x2a, 0x10, 0x08});
+        }
+
+        assertRecovered(directory, 2);
+        assertFalse(partial.exists());
+    }
+
+    @Test
+    public void recover_deletesPartialStitchWithoutSegment() throws IOException {
+        File directory = folder.newFolder("interrupted");
+        File partial = new File(directory, "stitching_trajectory_27-01-23-11-43-27.txt");
+        assertTrue(partial.createNewFile());
+
+        assertTrue(TrajectoryWriter.recover(directory).isEmpty());
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void recover_deletesSegmentWithoutHeader() throws IOException {
+        File segment = interruptedSegment(1);
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(3);
+            file.write(file.read() ^ 0xff);
+        }
+
+        assertTrue(TrajectoryWriter.recover(segment.getParentFile()).isEmpty());
+        assertFalse(segment.exists());
+    }
+
+    @Test
+    public void recover_skipsActiveRecording() {
+        TrajectoryWriter writer = writer();
+        for (int i = 0; i < TrajectoryWriter.CHUNK_SIZE; i++) {
+            writer.addPdrData(Traj.Pdr_Sample.newBuilder().setRelativeTimestamp(i));
+        }
+
+        assertTrue(TrajectoryWriter.recover(folder.getRoot()).isEmpty());
+        assertTrue(segment().exists());
+        writer.discard();
+    }
+}
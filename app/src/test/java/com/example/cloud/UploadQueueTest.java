@@ -0,0 +1,315 @@
+package com.example.cloud;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link UploadQueue}, uploading with a {@link TrajectoryUploader} to a
+ * {@link MockWebServer} as a stand-in for the API server.
+ */
+public class UploadQueueTest {
+
+    // Delay before the first retry, see UploadQueue
+    private static final long BASE_BACKOFF_MS = 30 * 1000L;
+    private static final long MAX_BACKOFF_MS = 60 * 60 * 1000L;
+    // Time allowed for asynchronous results
+    private static final long TIMEOUT_S = 10;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private TrajectoryUploader trajectoryUploader;
+    private File journals;
+    // Upload states recorded by the queue, by file
+    private final Map<File, Integer> states = Collections.synchronizedMap(new HashMap<>());
+    // Observer updates of the queue: result and retry delay
+    private final BlockingQueue<Object[]> updates = new LinkedBlockingQueue<>();
+    private final List<UploadQueue> queues = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        trajectoryUploader = new TrajectoryUploader(
+                new OkHttpClient.Builder().retryOnConnectionFailure(false).build(),
+                server.url("/upload/"));
+        journals = folder.newFolder("files");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (UploadQueue queue : queues) {
+            queue.shutdown();
+        }
+        server.shutdown();
+    }
+
+    /**
+     * Create a queue journalled in the test folder, as after a start of the application.
+     *
+     * @param networkAllowed    whether uploads may be attempted.
+     * @return                  queue with an observer adding to the updates.
+     */
+    private UploadQueue newQueue(boolean networkAllowed) {
+        UploadQueue queue = new UploadQueue(journals, file -> trajectoryUploader.upload(file, false),
+                new UploadQueue.StateStore() {
+                    @Override
+                    public void setUploadState(File file, int uploadState) {
+                        states.put(file, uploadState);
+                    }
+
+                    @Override
+                    public void remove(File file) {
+                        states.remove(file);
+                    }
+                }, () -> networkAllowed);
+        queue.registerObserver(updates::add);
+        queues.add(queue);
+        return queue;
+    }
+
+    /**
+     * Create a trajectory file in the test folder.
+     */
+    private File trajectory(String name) throws IOException {
+        File file = folder.newFile(name);
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(TrajectoryWriterTest.header(1674819807315L).toByteArray());
+        }
+        return file;
+    }
+
+    /**
+     * Wait for the next observer update.
+     *
+     * @return  result of the attempt and retry delay.
+     */
+    private Object[] nextUpdate() throws InterruptedException {
+        Object[] update = updates.poll(TIMEOUT_S, TimeUnit.SECONDS);
+        assertNotNull("no upload attempt", update);
+        return update;
+    }
+
+    /**
+     * Read the lines of the journal.
+     */
+    private List<String[]> journal() throws IOException {
+        List<String[]> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(
+                new File(journals, "upload_queue.journal")))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line.split("\t", 3));
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void enqueue_uploadsAndDeletesFile() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        File file = trajectory("trajectory_a.txt");
+        UploadQueue queue = newQueue(true);
+
+        queue.enqueue(file);
+
+        assertEquals(UploadQueue.UPLOADED, nextUpdate()[0]);
+        assertEquals(1, server.getRequestCount());
+        assertFalse(file.exists());
+        assertEquals(0, queue.size());
+        assertFalse(states.containsKey(file));
+        queue.shutdown();
+        assertTrue(journal().isEmpty());
+    }
+
+    @Test
+    public void journal_replaysQueuedFilesAfterRestart() throws Exception {
+        File[] files = {trajectory("trajectory_a.txt"), trajectory("trajectory_b.txt"),
+                trajectory("trajectory_c.txt")};
+        // Without network nothing is uploaded before the application stops
+        UploadQueue first = newQueue(false);
+        for (File file : files) {
+            first.enqueue(file);
+        }
+        first.shutdown();
+        assertEquals(0, server.getRequestCount());
+        assertEquals(3, journal().size());
+        assertEquals(TrajectoryCatalog.STATE_QUEUED, (int) states.get(files[0]));
+
+        for (int i = 0; i < files.length; i++) {
+            server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        }
+        UploadQueue second = newQueue(true);
+
+        for (int i = 0; i < files.length; i++) {
+            assertEquals(UploadQueue.UPLOADED, nextUpdate()[0]);
+        }
+        assertEquals(3, server.getRequestCount());
+        for (File file : files) {
+            assertFalse(file.exists());
+        }
+        assertEquals(0, second.size());
+    }
+
+    @Test
+    public void journal_dropsEntriesOfDeletedFiles() throws Exception {
+        File kept = trajectory("trajectory_a.txt");
+        File deleted = trajectory("trajectory_b.txt");
+        UploadQueue first = newQueue(false);
+        first.enqueue(kept);
+        first.enqueue(deleted);
+        first.shutdown();
+        assertTrue(deleted.delete());
+
+        UploadQueue second = newQueue(false);
+
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    public void attempt_retriesServerErrorsWithBackoff() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        File file = trajectory("trajectory_a.txt");
+        UploadQueue first = newQueue(true);
+        long before = System.currentTimeMillis();
+
+        first.enqueue(file);
+
+        Object[] update = nextUpdate();
+        assertEquals(UploadQueue.RETRYING, update[0]);
+        long delay = (Long) update[1];
+        assertTrue("delay " + delay, delay >= BASE_BACKOFF_MS && delay <= BASE_BACKOFF_MS * 6 / 5);
+        assertTrue(file.exists());
+        assertEquals(1, first.size());
+        // No further attempt before the retry is due
+        assertNull(updates.poll(500, TimeUnit.MILLISECONDS));
+        assertEquals(1, server.getRequestCount());
+
+        // The backoff survives a restart of the application
+        first.shutdown();
+        String[] entry = journal().get(0);
+        assertEquals("1", entry[0]);
+        assertTrue(Long.parseLong(entry[1]) >= before + BASE_BACKOFF_MS);
+        assertEquals(file.getAbsolutePath(), entry[2]);
+        newQueue(true);
+        assertNull(updates.poll(500, TimeUnit.MILLISECONDS));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void attempt_retriesConnectionFailures() throws Exception {
+        File file = trajectory("trajectory_a.txt");
+        server.shutdown();
+        UploadQueue queue = newQueue(true);
+
+        queue.enqueue(file);
+
+        Object[] update = nextUpdate();
+        assertEquals(UploadQueue.RETRYING, update[0]);
+        assertTrue((Long) update[1] >= BASE_BACKOFF_MS);
+        assertTrue(file.exists());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void backoff_doublesUpToLimit() {
+        UploadQueue queue = newQueue(false);
+        for (int attempts = 1; attempts <= 20; attempts++) {
+            long expected = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << (attempts - 1));
+            for (int i = 0; i < 20; i++) {
+                long delay = queue.backoff(attempts);
+                // Up to a fifth of jitter is added
+                assertTrue("attempt " + attempts + " delay " + delay,
+                        delay >= expected && delay <= expected * 6 / 5);
+            }
+        }
+    }
+
+    @Test
+    public void attempt_keepsRejectedFileInStorage() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(400));
+        File file = trajectory("trajectory_a.txt");
+        UploadQueue queue = newQueue(true);
+
+        queue.enqueue(file);
+
+        assertEquals(UploadQueue.REJECTED, nextUpdate()[0]);
+        assertTrue(file.exists());
+        assertEquals(0, queue.size());
+        assertEquals(TrajectoryCatalog.STATE_REJECTED, (int) states.get(file));
+        queue.shutdown();
+        assertTrue(journal().isEmpty());
+    }
+
+    @Test
+    public void drain_limitsParallelUploads() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        int[] active = new int[1];
+        int[] maxActive = new int[1];
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                synchronized (active) {
+                    active[0]++;
+                    maxActive[0] = Math.max(maxActive[0], active[0]);
+                }
+                release.await(TIMEOUT_S, TimeUnit.SECONDS);
+                synchronized (active) {
+                    active[0]--;
+                }
+                return new MockResponse().setResponseCode(200).setBody("{}");
+            }
+        });
+        UploadQueue queue = newQueue(true);
+        int files = 6;
+
+        for (int i = 0; i < files; i++) {
+            queue.enqueue(trajectory("trajectory_" + i + ".txt"));
+        }
+        // Give the queue time to start more uploads than allowed
+        long deadline = System.currentTimeMillis() + TIMEOUT_S * 1000;
+        while (server.getRequestCount() < UploadQueue.MAX_PARALLEL_UPLOADS
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(300);
+        assertEquals(UploadQueue.MAX_PARALLEL_UPLOADS, server.getRequestCount());
+        release.countDown();
+
+        for (int i = 0; i < files; i++) {
+            assertEquals(UploadQueue.UPLOADED, nextUpdate()[0]);
+        }
+        assertEquals(files, server.getRequestCount());
+        synchronized (active) {
+            assertEquals(UploadQueue.MAX_PARALLEL_UPLOADS, maxActive[0]);
+        }
+        assertEquals(0, queue.size());
+    }
+}
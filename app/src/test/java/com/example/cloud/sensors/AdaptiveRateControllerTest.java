@@ -0,0 +1,168 @@
+package com.example.cloud.sensors;
+
+import com.example.cloud.Traj;
+import com.example.cloud.TrajectoryWriter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link AdaptiveRateController}, feeding synthetic linear acceleration of a
+ * user standing still and then walking.
+ */
+public class AdaptiveRateControllerTest {
+
+    private static final long MS2NS = 1000000L;
+    // Step frequency of the walking signal and the resulting time between steps
+    private static final double STEP_FREQUENCY = 1.8;
+    private static final long STEP_PERIOD_NS = (long) (1e9 / STEP_FREQUENCY);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Rate changes reported by the controller: timestamp, stationary and period
+    private final List<long[]> changes = new ArrayList<>();
+
+    private AdaptiveRateController controller() {
+        return new AdaptiveRateController((timestamp, stationary, samplingPeriodUs) ->
+                changes.add(new long[]{timestamp, stationary ? 1 : 0, samplingPeriodUs}));
+    }
+
+    /**
+     * Feed sensor noise of a device lying still.
+     *
+     * @param controller    controller receiving the events.
+     * @param from          timestamp of the first event in nanoseconds.
+     * @param to            timestamp after the last event in nanoseconds.
+     * @param periodNs      time between events.
+     * @return              timestamp after the last event.
+     */
+    private static long still(AdaptiveRateController controller, long from, long to,
+                              long periodNs) {
+        Random random = new Random(from);
+        long timestamp = from;
+        for (; timestamp < to; timestamp += periodNs) {
+            controller.onLinearAcceleration(timestamp, new float[]{
+                    (float) (0.03 * random.nextGaussian()), (float) (0.03 * random.nextGaussian()),
+                    (float) (0.03 * random.nextGaussian())});
+        }
+        return timestamp;
+    }
+
+    /**
+     * Feed the vertical linear acceleration of walking, starting at rest.
+     */
+    private static long walk(AdaptiveRateController controller, long from, long to,
+                             long periodNs) {
+        long timestamp = from;
+        for (; timestamp < to; timestamp += periodNs) {
+            double phase = 2 * Math.PI * STEP_FREQUENCY * (timestamp - from) / 1e9;
+            controller.onLinearAcceleration(timestamp,
+                    new float[]{0, 0, (float) (3 * Math.sin(phase))});
+        }
+        return timestamp;
+    }
+
+    @Test
+    public void onLinearAcceleration_lowersRateAfterSustainedRest() {
+        AdaptiveRateController controller = controller();
+
+        still(controller, 0, 10000 * MS2NS, 10 * MS2NS);
+
+        assertEquals(1, changes.size());
+        assertTrue(controller.isStationary());
+        assertEquals(1, changes.get(0)[1]);
+        assertEquals(AdaptiveRateController.IDLE_PERIOD_US, changes.get(0)[2]);
+        // Only once the energy has stayed low for three seconds
+        assertTrue(changes.get(0)[0] >= 3000 * MS2NS);
+        assertTrue(changes.get(0)[0] < 6000 * MS2NS);
+    }
+
+    @Test
+    public void onLinearAcceleration_restoresFullRateWithinFirstStep() {
+        AdaptiveRateController controller = controller();
+        long start = still(controller, 0, 10000 * MS2NS, 10 * MS2NS);
+        assertTrue(controller.isStationary());
+
+        // Sampled at the idle rate until the controller restores the full rate
+        walk(controller, start, start + 5000 * MS2NS,
+                AdaptiveRateController.IDLE_PERIOD_US * 1000L);
+
+        assertEquals(2, changes.size());
+        assertFalse(controller.isStationary());
+        assertEquals(0, changes.get(1)[1]);
+        assertEquals(AdaptiveRateController.ACTIVE_PERIOD_US, changes.get(1)[2]);
+        long delay = changes.get(1)[0] - start;
+        assertTrue("delay " + delay / MS2NS + "ms", delay < STEP_PERIOD_NS);
+    }
+
+    @Test
+    public void onLinearAcceleration_keepsFullRateWhileWalkingWithShortPauses() {
+        AdaptiveRateController controller = controller();
+        long timestamp = 0;
+        for (int i = 0; i < 5; i++) {
+            timestamp = walk(controller, timestamp, timestamp + 4000 * MS2NS, 10 * MS2NS);
+            timestamp = still(controller, timestamp, timestamp + 2000 * MS2NS, 10 * MS2NS);
+        }
+
+        assertTrue(changes.isEmpty());
+        assertFalse(controller.isStationary());
+    }
+
+    @Test
+    public void onStep_restoresFullRate() {
+        AdaptiveRateController controller = controller();
+        long timestamp = still(controller, 0, 10000 * MS2NS, 10 * MS2NS);
+
+        controller.onStep(timestamp);
+        controller.onStep(timestamp + STEP_PERIOD_NS);
+
+        assertEquals(2, changes.size());
+        assertEquals(timestamp, changes.get(1)[0]);
+        assertFalse(controller.isStationary());
+    }
+
+    @Test
+    public void rateChanges_areRecordedOnEachSwitch() throws IOException {
+        RecordingClock clock = new RecordingClock(0);
+        TrajectoryWriter writer = new TrajectoryWriter(folder.getRoot(),
+                Traj.Trajectory.newBuilder().setStartTimestamp(1674819807315L).build());
+        // Recorded the way SensorFusion records the changes of the controller
+        AdaptiveRateController controller = new AdaptiveRateController(
+                (timestamp, stationary, samplingPeriodUs) -> {
+                    changes.add(new long[]{timestamp, stationary ? 1 : 0, samplingPeriodUs});
+                    writer.addRateChange(clock.toRelative(timestamp), samplingPeriodUs, stationary);
+                });
+        long timestamp = 0;
+        for (int i = 0; i < 3; i++) {
+            timestamp = still(controller, timestamp, timestamp + 8000 * MS2NS, 10 * MS2NS);
+            timestamp = walk(controller, timestamp, timestamp + 4000 * MS2NS, 10 * MS2NS);
+        }
+
+        Traj.Trajectory trajectory;
+        try (InputStream in = new FileInputStream(writer.finish())) {
+            trajectory = Traj.Trajectory.parseFrom(in);
+        }
+
+        assertEquals(6, changes.size());
+        assertEquals(6, trajectory.getRateChangesCount());
+        for (int i = 0; i < 6; i++) {
+            Traj.Rate_Change change = trajectory.getRateChanges(i);
+            boolean stationary = i % 2 == 0;
+            assertEquals(stationary, change.getStationary());
+            assertEquals(stationary ? AdaptiveRateController.IDLE_PERIOD_US
+                    : AdaptiveRateController.ACTIVE_PERIOD_US, change.getSamplingPeriodUs());
+            assertEquals(changes.get(i)[0] / MS2NS, change.getRelativeTimestamp());
+        }
+    }
+}
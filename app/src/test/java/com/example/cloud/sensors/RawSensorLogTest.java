@@ -0,0 +1,219 @@
+package com.example.cloud.sensors;
+
+import android.hardware.Sensor;
+
+import com.example.cloud.Traj;
+import com.example.cloud.TrajectoryWriter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link RawSensorLog}, capturing synthetic sensor events into segments in a
+ * temporary folder and converting them into a {@link TrajectoryWriter}.
+ */
+public class RawSensorLogTest {
+
+    private static final long START = 1674819807315L;
+    // Start of the recording in the elapsed realtime time base
+    private static final long START_NS = 5000000000L;
+    private static final long MS2NS = 1000000L;
+    // Every hundredth record of the generated logs is a step
+    private static final int STEP_EVERY = 100;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Traj.Trajectory header() {
+        return Traj.Trajectory.newBuilder().setStartTimestamp(START).build();
+    }
+
+    /**
+     * Get the hardware timestamp of an event some time after the start of the recording.
+     */
+    private static long at(long ms) {
+        return START_NS + ms * MS2NS;
+    }
+
+    /**
+     * Get a raw segment file of the test recording.
+     */
+    private static File rawSegment(File directory, int index) {
+        return new File(directory, "raw_" + START + "_" + index + ".bin");
+    }
+
+    /**
+     * Capture one magnetometer event or step every millisecond, with values holding the index of
+     * the record.
+     *
+     * @param log       log capturing the records.
+     * @param records   number of records to write.
+     */
+    private static void capture(RawSensorLog log, int records) {
+        int steps = 0;
+        for (int i = 0; i < records; i++) {
+            if(i % STEP_EVERY == STEP_EVERY - 1) {
+                log.recordStep(at(i), ++steps, i, -i);
+            }
+            else {
+                log.record(Sensor.TYPE_MAGNETIC_FIELD, at(i), new float[]{i, -i, 40});
+            }
+        }
+    }
+
+    /**
+     * Check that a trajectory holds the records written by {@link RawSensorLogTest#capture}, in
+     * order and at their times relative to the start of the recording.
+     */
+    private static void assertCaptured(Traj.Trajectory trajectory, int records) {
+        int steps = records / STEP_EVERY;
+        assertEquals(records - steps, trajectory.getPositionDataCount());
+        assertEquals(steps, trajectory.getPdrDataCount());
+        int position = 0;
+        int step = 0;
+        for (int i = 0; i < records; i++) {
+            if(i % STEP_EVERY == STEP_EVERY - 1) {
+                Traj.Pdr_Sample sample = trajectory.getPdrData(step++);
+                assertEquals(i, sample.getRelativeTimestamp());
+                assertEquals(i, sample.getX(), 0);
+                assertEquals(-i, sample.getY(), 0);
+            }
+            else {
+                Traj.Position_Sample sample = trajectory.getPositionData(position++);
+                assertEquals(i, sample.getRelativeTimestamp());
+                assertEquals(i, sample.getMagX(), 0);
+                assertEquals(-i, sample.getMagY(), 0);
+            }
+        }
+    }
+
+    private static Traj.Trajectory parse(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return Traj.Trajectory.parseFrom(in);
+        }
+    }
+
+    @Test
+    public void convert_replaysRecordsOfAllSegmentsInOrder() throws IOException {
+        File directory = folder.getRoot();
+        TrajectoryWriter writer = new TrajectoryWriter(directory, header());
+        RawSensorLog log = new RawSensorLog(directory, writer, new RecordingClock(START_NS), false);
+        int records = RawSensorLog.SEGMENT_RECORDS + 1000;
+
+        capture(log, records);
+
+        assertTrue(rawSegment(directory, 0).exists());
+        assertTrue(rawSegment(directory, 1).exists());
+        assertFalse(rawSegment(directory, 2).exists());
+        assertEquals(records, log.convert());
+        assertFalse(rawSegment(directory, 0).exists());
+        assertFalse(rawSegment(directory, 1).exists());
+        assertCaptured(parse(writer.finish()), records);
+    }
+
+    @Test
+    public void convert_stopsAtEndMarker() throws IOException {
+        File directory = folder.getRoot();
+        TrajectoryWriter writer = new TrajectoryWriter(directory, header());
+        RawSensorLog log = new RawSensorLog(directory, writer, new RecordingClock(START_NS), false);
+        capture(log, 250);
+
+        log.drain();
+        // Events delivered after the recording stopped are not captured
+        log.record(Sensor.TYPE_MAGNETIC_FIELD, at(250), new float[]{250, -250, 40});
+
+        // The zero filled tail of the segment ends the log
+        assertEquals((RawSensorLog.SEGMENT_RECORDS + 1L) * RawSensorLog.RECORD_BYTES,
+                rawSegment(directory, 0).length());
+        assertEquals(250, log.convert());
+        assertEquals(0, log.convert());
+        assertCaptured(parse(writer.finish()), 250);
+    }
+
+    @Test
+    public void recover_convertsSegmentsOfInterruptedRecording() throws IOException {
+        File directory = folder.newFolder("recording");
+        TrajectoryWriter writer = new TrajectoryWriter(directory, header());
+        RawSensorLog log = new RawSensorLog(directory, writer, new RecordingClock(START_NS), false);
+        int records = RawSensorLog.SEGMENT_RECORDS + 500;
+        capture(log, records);
+        log.drain();
+
+        // Only the files are left after the application was killed, without any chunk written
+        File interrupted = folder.newFolder("interrupted");
+        for (File file : directory.listFiles()) {
+            Files.copy(file.toPath(), new File(interrupted, file.getName()).toPath());
+        }
+        log.discard();
+        writer.discard();
+        List<File> recovered = TrajectoryWriter.recover(interrupted);
+
+        assertEquals(1, recovered.size());
+        assertArrayEquals(new String[]{recovered.get(0).getName()}, interrupted.list());
+        Traj.Trajectory trajectory = parse(recovered.get(0));
+        assertEquals(START, trajectory.getStartTimestamp());
+        // Timestamps relative to the start read from the segment header
+        assertCaptured(trajectory, records);
+    }
+
+    @Test
+    public void recover_resamplesIfRecordingDid() throws IOException {
+        File directory = folder.getRoot();
+        TrajectoryWriter recording = new TrajectoryWriter(directory, header());
+        RawSensorLog log = new RawSensorLog(directory, recording, new RecordingClock(START_NS),
+                true);
+        // Acceleration along x equal to the time in milliseconds, so interpolation is exact
+        for (long ms : new long[]{3, 12, 27, 31, 44}) {
+            log.record(Sensor.TYPE_ACCELEROMETER, at(ms), new float[]{ms, 0, 0});
+            log.record(Sensor.TYPE_GYROSCOPE, at(ms), new float[3]);
+        }
+        log.drain();
+        recording.discard();
+
+        TrajectoryWriter writer = new TrajectoryWriter(directory, header());
+        assertEquals(10, RawSensorLog.recover(directory, writer));
+
+        assertFalse(rawSegment(directory, 0).exists());
+        Traj.Trajectory trajectory = parse(writer.finish());
+        assertEquals(4, trajectory.getImuDataCount());
+        for (int i = 0; i < 4; i++) {
+            long expected = (i + 1) * 10L;
+            assertEquals(expected, trajectory.getImuData(i).getRelativeTimestamp());
+            assertEquals(expected, trajectory.getImuData(i).getAccX(), 1e-4f);
+        }
+    }
+
+    @Test
+    public void discard_deletesSegments() {
+        File directory = folder.getRoot();
+        TrajectoryWriter writer = new TrajectoryWriter(directory, header());
+        RawSensorLog log = new RawSensorLog(directory, writer, new RecordingClock(START_NS), false);
+        capture(log, 10);
+        assertTrue(RawSensorLog.hasSegments(directory, START));
+
+        log.discard();
+
+        assertFalse(RawSensorLog.hasSegments(directory, START));
+        assertEquals(0, log.convert());
+        writer.discard();
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void getStartTimestamp_onlyParsesRawSegmentNames() {
+        assertEquals(START, RawSensorLog.getStartTimestamp("raw_" + START + "_3.bin"));
+        assertEquals(-1, RawSensorLog.getStartTimestamp("raw_" + START + ".bin"));
+        assertEquals(-1, RawSensorLog.getStartTimestamp("raw_" + START + "_x.bin"));
+        assertEquals(-1, RawSensorLog.getStartTimestamp("recording_" + START + ".seg"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cloud.sensors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the timestamp conversion of {@link RecordingClock}.
+ */
+public class RecordingClockTest {
+
+    @Test
+    public void toRelative_convertsToMillisecondsSinceStart() {
+        RecordingClock clock = new RecordingClock(123456789000L);
+
+        assertEquals(123456789000L, clock.getStartNanos());
+        assertEquals(0, clock.toRelative(123456789000L));
+        assertEquals(10, clock.toRelative(123466789000L));
+        // Fractions of a millisecond are truncated
+        assertEquals(10, clock.toRelative(123467788999L));
+        assertEquals(3600000, clock.toRelative(123456789000L + 3600000000000L));
+    }
+}
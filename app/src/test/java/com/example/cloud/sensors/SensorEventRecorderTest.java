@@ -0,0 +1,193 @@
+package com.example.cloud.sensors;
+
+import android.hardware.Sensor;
+
+import com.example.cloud.Traj;
+import com.example.cloud.TrajectoryWriter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link SensorEventRecorder}, recording synthetic sensor events into a
+ * {@link TrajectoryWriter} in a temporary folder.
+ */
+public class SensorEventRecorderTest {
+
+    // Start of the recording in the elapsed realtime time base
+    private static final long START_NS = 5000000000L;
+    private static final long MS2NS = 1000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TrajectoryWriter writer;
+    private RecordingClock clock;
+
+    @Before
+    public void setUp() {
+        writer = new TrajectoryWriter(folder.getRoot(), Traj.Trajectory.newBuilder()
+                .setStartTimestamp(1674819807315L).build());
+        clock = new RecordingClock(START_NS);
+    }
+
+    /**
+     * Get the hardware timestamp of an event some time after the start of the recording.
+     */
+    private static long at(long ms) {
+        return START_NS + ms * MS2NS;
+    }
+
+    /**
+     * Finish the recording and parse the trajectory file.
+     */
+    private Traj.Trajectory finish() throws IOException {
+        try (InputStream in = new FileInputStream(writer.finish())) {
+            return Traj.Trajectory.parseFrom(in);
+        }
+    }
+
+    @Test
+    public void record_storesEachAccelerometerEventOnce() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(0), new float[]{0.1f, 0.2f, 0.3f});
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(3), new float[]{1, 2, 3});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(10), new float[]{0.4f, 0.5f, 0.6f});
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(13), new float[]{4, 5, 6});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(20), new float[]{0.7f, 0.8f, 0.9f});
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(2, trajectory.getImuDataCount());
+        Traj.Motion_Sample first = trajectory.getImuData(0);
+        assertEquals(3, first.getRelativeTimestamp());
+        assertEquals(1, first.getAccX(), 0);
+        // Gyroscope value valid at the time of the accelerometer event
+        assertEquals(0.1f, first.getGyrX(), 0);
+        Traj.Motion_Sample second = trajectory.getImuData(1);
+        assertEquals(13, second.getRelativeTimestamp());
+        assertEquals(6, second.getAccZ(), 0);
+        assertEquals(0.6f, second.getGyrZ(), 0);
+    }
+
+    @Test
+    public void record_holdsBackAccelerationUntilGyroscopeCatchesUp() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+
+        // A batched burst delivers the accelerometer events before the gyroscope events
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(10), new float[]{1, 0, 0});
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(20), new float[]{2, 0, 0});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(9), new float[]{0.1f, 0, 0});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(19), new float[]{0.2f, 0, 0});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(29), new float[]{0.3f, 0, 0});
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(2, trajectory.getImuDataCount());
+        assertEquals(0.1f, trajectory.getImuData(0).getGyrX(), 0);
+        assertEquals(0.2f, trajectory.getImuData(1).getGyrX(), 0);
+    }
+
+    @Test
+    public void drain_writesHeldBackEvents() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(0), new float[]{0.1f, 0, 0});
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(5), new float[]{1, 0, 0});
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(15), new float[]{2, 0, 0});
+
+        recorder.drain();
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(2, trajectory.getImuDataCount());
+        assertEquals(15, trajectory.getImuData(1).getRelativeTimestamp());
+        assertEquals(0.1f, trajectory.getImuData(1).getGyrX(), 0);
+    }
+
+    @Test
+    public void record_ignoresEventsBeforeStart() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+
+        recorder.record(Sensor.TYPE_MAGNETIC_FIELD, START_NS - MS2NS, new float[]{1, 2, 3});
+        recorder.record(Sensor.TYPE_LIGHT, START_NS - 1, new float[]{100});
+        recorder.recordStep(START_NS - MS2NS, 1, 0.5f, 0.5f);
+        recorder.record(Sensor.TYPE_MAGNETIC_FIELD, START_NS, new float[]{4, 5, 6});
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(1, trajectory.getPositionDataCount());
+        assertEquals(0, trajectory.getPositionData(0).getRelativeTimestamp());
+        assertEquals(4, trajectory.getPositionData(0).getMagX(), 0);
+        assertEquals(0, trajectory.getLightDataCount());
+        assertEquals(0, trajectory.getPdrDataCount());
+    }
+
+    @Test
+    public void record_storesEnvironmentSensorsWithTheirTimestamps() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+
+        recorder.record(Sensor.TYPE_MAGNETIC_FIELD, at(7), new float[]{20, 0, -40});
+        recorder.record(Sensor.TYPE_LIGHT, at(250), new float[]{320});
+        recorder.record(Sensor.TYPE_PRESSURE, at(1000), new float[]{1000});
+        recorder.record(Sensor.TYPE_PRESSURE, at(2000), new float[]{1010});
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(7, trajectory.getPositionData(0).getRelativeTimestamp());
+        assertEquals(-40, trajectory.getPositionData(0).getMagZ(), 0);
+        assertEquals(250, trajectory.getLightData(0).getRelativeTimestamp());
+        assertEquals(320, trajectory.getLightData(0).getLight(), 0);
+        // Pressure is stored low-pass filtered, starting from the first value
+        assertEquals(2, trajectory.getPressureDataCount());
+        assertEquals(1000, trajectory.getPressureData(0).getPressure(), 0);
+        assertEquals(2000, trajectory.getPressureData(1).getRelativeTimestamp());
+        assertEquals(0.2f * 1000 + 0.8f * 1010, trajectory.getPressureData(1).getPressure(), 1e-3f);
+    }
+
+    @Test
+    public void recordStep_storesPositionAndStepCount() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, false);
+
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(40), new float[]{0, 0, 9.81f});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(45), new float[3]);
+        recorder.recordStep(at(50), 1, 0.3f, 0.6f);
+        recorder.record(Sensor.TYPE_ACCELEROMETER, at(60), new float[]{0, 0, 9.81f});
+        recorder.record(Sensor.TYPE_GYROSCOPE, at(65), new float[3]);
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(1, trajectory.getPdrDataCount());
+        assertEquals(50, trajectory.getPdrData(0).getRelativeTimestamp());
+        assertEquals(0.3f, trajectory.getPdrData(0).getX(), 0);
+        assertEquals(0.6f, trajectory.getPdrData(0).getY(), 0);
+        assertEquals(0, trajectory.getImuData(0).getStepCount());
+        assertEquals(1, trajectory.getImuData(1).getStepCount());
+    }
+
+    @Test
+    public void record_resamplesOntoUniformGrid() throws IOException {
+        SensorEventRecorder recorder = new SensorEventRecorder(writer, clock, true);
+
+        // Acceleration along x equal to the time in milliseconds, so interpolation is exact
+        for (long ms : new long[]{3, 12, 27, 31, 44}) {
+            recorder.record(Sensor.TYPE_ACCELEROMETER, at(ms), new float[]{ms, 0, 0});
+            recorder.record(Sensor.TYPE_GYROSCOPE, at(ms), new float[3]);
+            recorder.record(Sensor.TYPE_MAGNETIC_FIELD, at(ms), new float[]{2 * ms, 0, 0});
+        }
+        recorder.drain();
+
+        Traj.Trajectory trajectory = finish();
+        assertEquals(4, trajectory.getImuDataCount());
+        assertEquals(4, trajectory.getPositionDataCount());
+        for (int i = 0; i < 4; i++) {
+            long expected = (i + 1) * 10L;
+            assertEquals(expected, trajectory.getImuData(i).getRelativeTimestamp());
+            assertEquals(expected, trajectory.getImuData(i).getAccX(), 1e-4f);
+            assertEquals(expected, trajectory.getPositionData(i).getRelativeTimestamp());
+            assertEquals(2 * expected, trajectory.getPositionData(i).getMagX(), 1e-4f);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.cloud.sensors;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link SensorValueRegister}, including a stress test checking that readers
+ * on other threads never observe a torn vector while a producer is writing.
+ */
+public class SensorValueRegisterTest {
+
+    private static final int WRITES = 2_000_000;
+    private static final int READERS = 4;
+
+    @Test
+    public void snapshot_returnsLatestWrite() {
+        SensorValueRegister register = new SensorValueRegister(3);
+        register.write(new float[]{1f, 2f, 3f});
+        assertArrayEquals(new float[]{1f, 2f, 3f}, register.snapshot(), 0f);
+        assertEquals(2, register.getVersion());
+    }
+
+    @Test
+    public void write_shorterSourceKeepsRemainingValues() {
+        SensorValueRegister register = new SensorValueRegister(4);
+        register.write(new float[]{1f, 2f, 3f, 4f});
+        register.write(new float[]{5f, 6f, 7f});
+        assertArrayEquals(new float[]{5f, 6f, 7f, 4f}, register.snapshot(), 0f);
+    }
+
+    @Test
+    public void concurrentReads_neverTorn() throws InterruptedException {
+        SensorValueRegister register = new SensorValueRegister(3);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger tornReads = new AtomicInteger();
+        AtomicInteger backwardsVersions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] readers = new Thread[READERS];
+        for (int r = 0; r < READERS; r++) {
+            readers[r] = new Thread(() -> {
+                float[] values = new float[3];
+                int lastVersion = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running.get()) {
+                    int version = register.read(values);
+                    // Every write stores (n, -n, 2n), any other combination is a torn read
+                    if (values[1] != -values[0] || values[2] != 2 * values[0]) {
+                        tornReads.incrementAndGet();
+                    }
+                    if (version < lastVersion) {
+                        backwardsVersions.incrementAndGet();
+                    }
+                    lastVersion = version;
+                }
+            });
+            readers[r].start();
+        }
+
+        Thread writer = new Thread(() -> {
+            float[] values = new float[3];
+            start.countDown();
+            for (int i = 1; i <= WRITES; i++) {
+                values[0] = i;
+                values[1] = -i;
+                values[2] = 2 * i;
+                register.write(values);
+            }
+        });
+        writer.start();
+        writer.join();
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, tornReads.get());
+        assertEquals(0, backwardsVersions.get());
+        assertArrayEquals(new float[]{WRITES, -WRITES, 2f * WRITES}, register.snapshot(), 0f);
+    }
+}
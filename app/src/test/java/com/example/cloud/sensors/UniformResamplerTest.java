@@ -0,0 +1,171 @@
+package com.example.cloud.sensors;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for {@link UniformResampler}, collecting the emitted grid points.
+ */
+public class UniformResamplerTest {
+
+    private static final long PERIOD = 10;
+
+    // Timestamps and copies of the values of the emitted grid points
+    private final List<Long> timestamps = new ArrayList<>();
+    private final List<float[]> values = new ArrayList<>();
+
+    /**
+     * Create a resampler recording its output.
+     *
+     * @param origin                a timestamp on the grid.
+     * @param interpolatedColumns   number of interpolated values out of two.
+     * @return                      the resampler.
+     */
+    private UniformResampler resampler(long origin, int interpolatedColumns) {
+        return new UniformResampler(origin, PERIOD, 2, interpolatedColumns, (timestamp, sample) -> {
+            timestamps.add(timestamp);
+            values.add(sample.clone());
+        });
+    }
+
+    @Test
+    public void push_interpolatesBetweenSamples() {
+        UniformResampler resampler = resampler(0, 2);
+
+        resampler.push(3, new float[]{3, -3});
+        resampler.push(17, new float[]{17, -17});
+        resampler.push(41, new float[]{41, -41});
+
+        // Grid points 10, 20, 30 and 40, with values of a linear signal reproduced exactly
+        assertEquals(4, timestamps.size());
+        for (int i = 0; i < 4; i++) {
+            long expected = (i + 1) * PERIOD;
+            assertEquals(expected, (long) timestamps.get(i));
+            assertEquals(expected, values.get(i)[0], 1e-4f);
+            assertEquals(-expected, values.get(i)[1], 1e-4f);
+        }
+    }
+
+    @Test
+    public void push_holdsColumnsNotInterpolated() {
+        UniformResampler resampler = resampler(0, 1);
+
+        resampler.push(5, new float[]{0, 1});
+        resampler.push(25, new float[]{20, 2});
+
+        assertEquals(2, timestamps.size());
+        assertEquals(5, values.get(0)[0], 1e-4f);
+        assertEquals(15, values.get(1)[0], 1e-4f);
+        // Counters keep the value of the previous sample
+        assertEquals(1, values.get(0)[1], 0);
+        assertEquals(1, values.get(1)[1], 0);
+    }
+
+    @Test
+    public void push_emitsSampleOnGridAsIs() {
+        UniformResampler resampler = resampler(0, 2);
+
+        resampler.push(10, new float[]{1, 2});
+        resampler.push(20, new float[]{3, 4});
+
+        assertEquals(2, timestamps.size());
+        assertEquals(10, (long) timestamps.get(0));
+        assertArrayEquals(new float[]{1, 2}, values.get(0), 0);
+        assertEquals(20, (long) timestamps.get(1));
+        assertArrayEquals(new float[]{3, 4}, values.get(1), 0);
+    }
+
+    @Test
+    public void push_alignsGridToOrigin() {
+        UniformResampler resampler = resampler(-7, 2);
+
+        resampler.push(0, new float[]{0, 0});
+        resampler.push(30, new float[]{30, 0});
+
+        assertEquals(3, timestamps.size());
+        assertEquals(3, (long) timestamps.get(0));
+        assertEquals(13, (long) timestamps.get(1));
+        assertEquals(23, (long) timestamps.get(2));
+        assertEquals(23, values.get(2)[0], 1e-4f);
+    }
+
+    @Test
+    public void push_bridgesGapUpToMaximum() {
+        UniformResampler resampler = resampler(0, 2);
+
+        resampler.push(0, new float[]{0, 0});
+        resampler.push(UniformResampler.MAX_GAP_PERIODS * PERIOD, new float[]{100, 0});
+
+        assertEquals(UniformResampler.MAX_GAP_PERIODS + 1, timestamps.size());
+        for (int i = 0; i < timestamps.size(); i++) {
+            assertEquals(i * PERIOD, (long) timestamps.get(i));
+        }
+    }
+
+    @Test
+    public void push_skipsGridPointsInLongGaps() {
+        UniformResampler resampler = resampler(0, 2);
+        long resume = (UniformResampler.MAX_GAP_PERIODS + 1) * PERIOD + 4;
+
+        resampler.push(0, new float[]{0, 0});
+        resampler.push(8, new float[]{8, 0});
+        resampler.push(8 + resume, new float[]{1000, 0});
+        resampler.push(8 + resume + 9, new float[]{1009, 0});
+
+        // Nothing is made up between 8 and the first sample after the gap
+        assertEquals(2, timestamps.size());
+        assertEquals(0, (long) timestamps.get(0));
+        long next = ((8 + resume) / PERIOD + 1) * PERIOD;
+        assertEquals(next, (long) timestamps.get(1));
+        assertEquals(1000 + (next - 8 - resume), values.get(1)[0], 1e-3f);
+    }
+
+    @Test
+    public void push_ignoresOlderAndDuplicateSamples() {
+        UniformResampler resampler = resampler(0, 2);
+
+        resampler.push(5, new float[]{5, 0});
+        resampler.push(5, new float[]{500, 0});
+        resampler.push(2, new float[]{200, 0});
+        resampler.push(15, new float[]{15, 0});
+
+        assertEquals(1, timestamps.size());
+        assertEquals(10, values.get(0)[0], 1e-4f);
+    }
+
+    @Test
+    public void reset_startsNewStretch() {
+        UniformResampler resampler = resampler(0, 2);
+        resampler.push(1, new float[]{0, 0});
+        resampler.push(9, new float[]{0, 0});
+
+        resampler.reset();
+        resampler.push(12, new float[]{12, 0});
+        resampler.push(31, new float[]{31, 0});
+
+        // No interpolation across the reset, the grid continues from the new sample
+        assertEquals(2, timestamps.size());
+        assertEquals(20, (long) timestamps.get(0));
+        assertEquals(20, values.get(0)[0], 1e-4f);
+        assertEquals(30, (long) timestamps.get(1));
+    }
+
+    @Test
+    public void push_reusesOutputArray() {
+        List<float[]> arrays = new ArrayList<>();
+        UniformResampler resampler = new UniformResampler(0, PERIOD, 2, 2,
+                (timestamp, sample) -> arrays.add(sample));
+
+        resampler.push(0, new float[]{0, 0});
+        resampler.push(55, new float[]{55, 0});
+
+        assertEquals(6, arrays.size());
+        for (float[] array : arrays) {
+            assertSame(arrays.get(0), array);
+        }
+    }
+}